@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/** Compare evaluating filter and eval expressions by the interpreter and compiled. */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class ExpressionCompilerBenchmark {
+
+  @Param(value = {"false", "true"})
+  private boolean compiled;
+
+  private Expression filter;
+
+  private Expression eval;
+
+  private BindingTuple tuple;
+
+  /** Build expressions and the tuple to evaluate on. */
+  @Setup
+  public void setUp() {
+    // age > 30 AND balance < 1000.0 OR NOT(name = 'John')
+    filter =
+        DSL.or(
+            DSL.and(
+                DSL.greater(ref("age", INTEGER), literal(30)),
+                DSL.less(ref("balance", DOUBLE), literal(1000.0))),
+            DSL.not(DSL.equal(ref("name", STRING), literal("John"))));
+
+    // balance * 2.0 - balance + 1.0
+    eval =
+        DSL.add(
+            DSL.subtract(
+                DSL.multiply(ref("balance", DOUBLE), literal(2.0)), ref("balance", DOUBLE)),
+            literal(1.0));
+
+    if (compiled) {
+      filter = ExpressionCompiler.compile(filter);
+      eval = ExpressionCompiler.compile(eval);
+    }
+    tuple =
+        ExprValueUtils.tupleValue(ImmutableMap.of("age", 35, "balance", 500.0, "name", "John"))
+            .bindingTuples();
+  }
+
+  @Benchmark
+  public ExprValue testFilterExpression() {
+    return filter.valueOf(tuple);
+  }
+
+  @Benchmark
+  public ExprValue testEvalExpression() {
+    return eval.valueOf(tuple);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.datetime;
+
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.function.FunctionProperties;
+
+/**
+ * Format a million timestamps with date_format and a literal format, as a query does for every row
+ * of the result. The day of month with suffix (%D) produces a different Java pattern per day.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class DateFormatBenchmark {
+
+  private static final int TIMESTAMP_COUNT = 1_000_000;
+
+  @Param(value = {"%Y-%m-%d %H:%i:%s", "%W %D %M %Y %r"})
+  private String format;
+
+  private ExprValue[] timestamps;
+
+  private FunctionExpression dateFormat;
+
+  /** Create timestamps a minute apart and the date_format expression of a timestamp field. */
+  @Setup
+  public void setUp() {
+    timestamps = new ExprValue[TIMESTAMP_COUNT];
+    Instant start = Instant.parse("2020-01-01T00:00:00Z");
+    for (int i = 0; i < TIMESTAMP_COUNT; i++) {
+      timestamps[i] = new ExprTimestampValue(start.plusSeconds(60L * i));
+    }
+    ReferenceExpression field = new ReferenceExpression("ts", TIMESTAMP);
+    dateFormat = DSL.date_format(new FunctionProperties(), field, DSL.literal(format));
+  }
+
+  @Benchmark
+  public void testDateFormat(Blackhole blackhole) {
+    for (ExprValue timestamp : timestamps) {
+      blackhole.consume(dateFormat.valueOf(ref -> timestamp));
+    }
+  }
+}
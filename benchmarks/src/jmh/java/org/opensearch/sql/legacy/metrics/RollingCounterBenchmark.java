@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.metrics;
+
+import java.time.Clock;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compare incrementing the ring buffer {@link RollingCounter} with the previous rolling counter
+ * backed by a skip list, under contention from request threads sharing the same counter. The skip
+ * list counts its entries and recomputes the entry of current interval on every increment.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+@Fork(value = 1)
+public class RollingCounterBenchmark {
+
+  @Param(value = {"ring", "skiplist"})
+  private String counterType;
+
+  private Counter<Long> counter;
+
+  /** Create the counter with 60 seconds window and 1 second interval. */
+  @Setup
+  public void setUp() {
+    counter =
+        "ring".equals(counterType)
+            ? new RollingCounter(60, 1, Clock.systemUTC())
+            : new SkipListRollingCounter(60, 1, Clock.systemUTC());
+  }
+
+  @Benchmark
+  public void testIncrement() {
+    counter.increment();
+  }
+
+  /** Rolling counter before ring buffer, kept here as baseline. */
+  private static class SkipListRollingCounter implements Counter<Long> {
+
+    private final long capacity;
+    private final long window;
+    private final long interval;
+    private final Clock clock;
+    private final ConcurrentSkipListMap<Long, Long> time2CountWin = new ConcurrentSkipListMap<>();
+
+    SkipListRollingCounter(long window, long interval, Clock clock) {
+      this.window = window;
+      this.interval = interval;
+      this.clock = clock;
+      this.capacity = window / interval * 2;
+    }
+
+    @Override
+    public void increment() {
+      add(1L);
+    }
+
+    @Override
+    public void add(long n) {
+      if (time2CountWin.size() > capacity) {
+        time2CountWin.headMap(getKey(clock.millis() - window * 1000)).clear();
+      }
+      time2CountWin.compute(getKey(clock.millis()), (k, v) -> (v == null) ? n : v + n);
+    }
+
+    @Override
+    public Long getValue() {
+      return time2CountWin.getOrDefault(getKey(clock.millis()) - 1, 0L);
+    }
+
+    @Override
+    public void reset() {
+      time2CountWin.clear();
+    }
+
+    private long getKey(long millis) {
+      return millis / 1000 / interval;
+    }
+  }
+}
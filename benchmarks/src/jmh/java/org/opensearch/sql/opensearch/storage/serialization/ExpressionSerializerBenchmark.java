@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.serialization;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+
+/**
+ * Compare serializing and deserializing script expressions by JDK serialization and in the compact
+ * format.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class ExpressionSerializerBenchmark {
+
+  @Param(value = {"java", "compact"})
+  private String format;
+
+  private ExpressionSerializer serializer;
+
+  private Expression expression;
+
+  private String code;
+
+  /** Build the serializer and the script expression. */
+  @Setup
+  public void setUp() {
+    serializer =
+        "compact".equals(format)
+            ? new CompactExpressionSerializer()
+            : new DefaultExpressionSerializer();
+
+    // age > 30 AND abs(balance) < 1000.0 OR NOT(name = 'John')
+    expression =
+        DSL.or(
+            DSL.and(
+                DSL.greater(ref("age", INTEGER), literal(30)),
+                DSL.less(DSL.abs(ref("balance", DOUBLE)), literal(1000.0))),
+            DSL.not(DSL.equal(ref("name", STRING), literal("John"))));
+    code = serializer.serialize(expression);
+  }
+
+  @Benchmark
+  public String testSerialize() {
+    return serializer.serialize(expression);
+  }
+
+  @Benchmark
+  public Expression testDeserialize() {
+    return serializer.deserialize(code);
+  }
+}
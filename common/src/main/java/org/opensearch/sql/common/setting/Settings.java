@@ -23,6 +23,7 @@ public abstract class Settings {
     SQL_SLOWLOG("plugins.sql.slowlog"),
     SQL_CURSOR_KEEP_ALIVE("plugins.sql.cursor.keep_alive"),
     SQL_DELETE_ENABLED("plugins.sql.delete.enabled"),
+    SQL_JOIN_MEMORY_LIMIT("plugins.sql.join.memory_limit"),
 
     /** PPL Settings. */
     PPL_ENABLED("plugins.ppl.enabled"),
@@ -30,6 +31,14 @@ public abstract class Settings {
     /** Common Settings for SQL and PPL. */
     QUERY_MEMORY_LIMIT("plugins.query.memory_limit"),
     QUERY_SIZE_LIMIT("plugins.query.size_limit"),
+    QUERY_PREFETCH_DEPTH("plugins.query.prefetch_depth"),
+    QUERY_SCAN_SLICES("plugins.query.scan.slices"),
+    QUERY_POINT_IN_TIME_ENABLED("plugins.query.point_in_time.enabled"),
+    QUERY_DOCVALUE_FIELDS_ENABLED("plugins.query.docvalue_fields.enabled"),
+    QUERY_SORT_MEMORY_LIMIT("plugins.query.sort.memory_limit"),
+    QUERY_AGGREGATION_MEMORY_LIMIT("plugins.query.aggregation.memory_limit"),
+    QUERY_DEDUP_MEMORY_LIMIT("plugins.query.dedup.memory_limit"),
+    QUERY_SCRIPT_SERIALIZATION_FORMAT("plugins.query.script.serialization_format"),
     ENCYRPTION_MASTER_KEY("plugins.query.datasources.encryption.masterkey"),
     DATASOURCES_URI_HOSTS_DENY_LIST("plugins.query.datasources.uri.hosts.denylist"),
     DATASOURCES_LIMIT("plugins.query.datasources.limit"),
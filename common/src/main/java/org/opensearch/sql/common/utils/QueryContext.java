@@ -20,6 +20,9 @@ public class QueryContext {
   /** The key of the request id in the context map. */
   private static final String REQUEST_ID_KEY = "request_id";
 
+  /** The key of the query language in the context map. */
+  private static final String QUERY_LANGUAGE_KEY = "query_language";
+
   /**
    * Generates a random UUID and adds to the {@link ThreadContext} as the request id.
    *
@@ -47,6 +50,30 @@ public class QueryContext {
     return id;
   }
 
+  /**
+   * Adds the language of the query being executed, such as sql or ppl, to the {@link
+   * ThreadContext}.
+   *
+   * @param language query language
+   */
+  public static void setQueryLanguage(String language) {
+    ThreadContext.put(QUERY_LANGUAGE_KEY, language);
+  }
+
+  /** Removes the language of the query executed from the {@link ThreadContext}. */
+  public static void clearQueryLanguage() {
+    ThreadContext.remove(QUERY_LANGUAGE_KEY);
+  }
+
+  /**
+   * Get query language.
+   *
+   * @return the current query language from {@link ThreadContext}, or null if not set.
+   */
+  public static String getQueryLanguage() {
+    return ThreadContext.get(QUERY_LANGUAGE_KEY);
+  }
+
   /**
    * Wraps a given instance of {@link Runnable} into a new one which gets all the entries from
    * current ThreadContext map.
@@ -0,0 +1,22 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.utils;
+
+/** Phases of query execution timed by {@link QueryPhaseTimer}. */
+public enum QueryPhase {
+  /** Parse query text to abstract syntax tree. */
+  PARSE,
+  /** Analyze abstract syntax tree to logical plan. */
+  ANALYZE,
+  /** Optimize logical plan, including push down to storage. */
+  OPTIMIZE,
+  /** Implement logical plan as physical plan. */
+  PLAN,
+  /** Execute physical plan. */
+  EXECUTE,
+  /** Format query result and send the response. */
+  FORMAT
+}
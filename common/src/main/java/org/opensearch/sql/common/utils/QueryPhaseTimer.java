@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.utils;
+
+import java.util.function.Supplier;
+
+/**
+ * Utility class for timing each {@link QueryPhase} of the query being executed. Durations are
+ * handed over to the {@link Recorder} along with the query language in {@link QueryContext}, and
+ * discarded if the language is unknown.
+ */
+public class QueryPhaseTimer {
+
+  /** Recorder of the duration of query phases. */
+  @FunctionalInterface
+  public interface Recorder {
+
+    /**
+     * Record duration of a query phase.
+     *
+     * @param language query language
+     * @param phase query phase
+     * @param nanos duration in nanoseconds
+     */
+    void record(String language, QueryPhase phase, long nanos);
+  }
+
+  private static final Recorder NOOP = (language, phase, nanos) -> {};
+
+  private static volatile Recorder recorder = NOOP;
+
+  /**
+   * Set the recorder of query phase duration.
+   *
+   * @param recorder recorder, or null to discard durations
+   */
+  public static void setRecorder(Recorder recorder) {
+    QueryPhaseTimer.recorder = (recorder == null) ? NOOP : recorder;
+  }
+
+  /**
+   * Run the action and record its duration as the given phase.
+   *
+   * @param phase query phase
+   * @param action action of the phase
+   * @return result of the action
+   */
+  public static <T> T time(QueryPhase phase, Supplier<T> action) {
+    long start = System.nanoTime();
+    try {
+      return action.get();
+    } finally {
+      record(phase, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Record duration of the given phase of the query being executed.
+   *
+   * @param phase query phase
+   * @param nanos duration in nanoseconds
+   */
+  public static void record(QueryPhase phase, long nanos) {
+    String language = QueryContext.getQueryLanguage();
+    if (language != null) {
+      recorder.record(language, phase, nanos);
+    }
+  }
+
+  private QueryPhaseTimer() {
+    throw new AssertionError(
+        getClass().getCanonicalName() + " is a utility class and must not be initialized");
+  }
+}
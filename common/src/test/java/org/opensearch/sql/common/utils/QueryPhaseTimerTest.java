@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.common.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QueryPhaseTimerTest {
+
+  private final List<String> records = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    QueryPhaseTimer.setRecorder(
+        (language, phase, nanos) -> {
+          assertTrue(nanos >= 0L);
+          records.add(language + ":" + phase);
+        });
+  }
+
+  @AfterEach
+  void tearDown() {
+    QueryPhaseTimer.setRecorder(null);
+    ThreadContext.clearMap();
+  }
+
+  @Test
+  void timeActionOfQueryLanguage() {
+    QueryContext.setQueryLanguage("ppl");
+
+    assertEquals("ppl", QueryContext.getQueryLanguage());
+    assertEquals(1, (int) QueryPhaseTimer.time(QueryPhase.PARSE, () -> 1));
+    assertEquals(List.of("ppl:PARSE"), records);
+  }
+
+  @Test
+  void timeActionFailed() {
+    QueryContext.setQueryLanguage("sql");
+
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            QueryPhaseTimer.time(
+                QueryPhase.ANALYZE,
+                () -> {
+                  throw new IllegalStateException("failed");
+                }));
+    assertEquals(List.of("sql:ANALYZE"), records);
+  }
+
+  @Test
+  void discardDurationOfUnknownLanguage() {
+    assertNull(QueryContext.getQueryLanguage());
+
+    QueryPhaseTimer.record(QueryPhase.EXECUTE, 10L);
+    assertTrue(records.isEmpty());
+  }
+
+  @Test
+  void discardDurationAfterQueryLanguageCleared() {
+    QueryContext.setQueryLanguage("sql");
+    QueryContext.clearQueryLanguage();
+
+    assertNull(QueryContext.getQueryLanguage());
+    QueryPhaseTimer.record(QueryPhase.EXECUTE, 10L);
+    assertTrue(records.isEmpty());
+  }
+}
@@ -8,17 +8,26 @@
 
 package org.opensearch.sql.ast.statement;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.opensearch.sql.ast.AbstractNodeVisitor;
 
 /** Explain Statement. */
 @Data
+@AllArgsConstructor
 @EqualsAndHashCode(callSuper = false)
 public class Explain extends Statement {
 
   private final Statement statement;
 
+  /** Execute the statement to explain it with runtime metrics. */
+  private final boolean profile;
+
+  public Explain(Statement statement) {
+    this(statement, false);
+  }
+
   @Override
   public <R, C> R accept(AbstractNodeVisitor<R, C> visitor, C context) {
     return visitor.visitExplain(this, context);
@@ -23,6 +23,13 @@ public class ExprTupleValue extends AbstractExprValue {
 
   private final LinkedHashMap<String, ExprValue> valueMap;
 
+  /**
+   * Create tuple value from a copy of the map. A map built only for the tuple value can be wrapped
+   * by the constructor instead to avoid the copy.
+   *
+   * @param map map of field name to value
+   * @return tuple value
+   */
   public static ExprTupleValue fromExprValueMap(Map<String, ExprValue> map) {
     LinkedHashMap<String, ExprValue> linkedHashMap = new LinkedHashMap<>(map);
     return new ExprTupleValue(linkedHashMap);
@@ -75,6 +75,24 @@ public class ExprValueUtils {
     return new ExprTimestampValue(value);
   }
 
+  /**
+   * Put a value into the value map of a tuple and reject a name already put the same way as an
+   * immutable map, instead of replacing the value silently.
+   *
+   * @param valueMap value map of a tuple
+   * @param name field name
+   * @param value field value
+   * @throws IllegalArgumentException if the name is already in the value map
+   */
+  public static void putUnique(Map<String, ExprValue> valueMap, String name, ExprValue value) {
+    ExprValue previous = valueMap.putIfAbsent(name, value);
+    if (previous != null) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Multiple entries with same key: %s=%s and %s=%s", name, value, name, previous));
+    }
+  }
+
   /** {@link ExprTupleValue} constructor. */
   public static ExprValue tupleValue(Map<String, Object> map) {
     LinkedHashMap<String, ExprValue> valueMap = new LinkedHashMap<>();
@@ -0,0 +1,341 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprByteValue;
+import org.opensearch.sql.data.model.ExprCollectionValue;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprIntervalValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprMissingValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprShortValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimeValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+
+/**
+ * Compact binary encoding of {@link ExprValue}. Each value is written as a one byte tag followed by
+ * its payload. Subclasses of {@link ExprStringValue}, for example text values, are written as class
+ * name and string, and constructed back from the string. Value classes other than these, for
+ * example the data source specific values, fall back to Java serialization so that they are
+ * decoded to the very same class.
+ *
+ * <p>Also provides a rough estimate of the heap size of a value, which is used to decide when rows
+ * buffered in memory have to be spilled.
+ */
+@UtilityClass
+public class ExprValueCodec {
+
+  private static final byte NULL = 0;
+  private static final byte MISSING = 1;
+  private static final byte BOOLEAN = 2;
+  private static final byte BYTE = 3;
+  private static final byte SHORT = 4;
+  private static final byte INTEGER = 5;
+  private static final byte LONG = 6;
+  private static final byte FLOAT = 7;
+  private static final byte DOUBLE = 8;
+  private static final byte STRING = 9;
+  private static final byte DATE = 10;
+  private static final byte TIME = 11;
+  private static final byte TIMESTAMP = 12;
+  private static final byte DURATION = 13;
+  private static final byte PERIOD = 14;
+  private static final byte TUPLE = 15;
+  private static final byte COLLECTION = 16;
+  private static final byte SERIALIZED = 17;
+  private static final byte OTHER = 18;
+  private static final byte STRING_OF_CLASS = 19;
+
+  /** Estimated heap size of an object header plus a reference to it. */
+  private static final long OBJECT_OVERHEAD = 24;
+
+  /** Public constructor from string of a string value subclass, or null if there is none. */
+  private static final ClassValue<Constructor<?>> STRING_CONSTRUCTORS =
+      new ClassValue<>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+          try {
+            return type.getConstructor(String.class);
+          } catch (NoSuchMethodException e) {
+            return null;
+          }
+        }
+      };
+
+  /**
+   * Write a value.
+   *
+   * @param value value to write
+   * @param out output
+   */
+  public static void write(ExprValue value, DataOutput out) throws IOException {
+    Class<?> clazz = value.getClass();
+    if (clazz == ExprNullValue.class) {
+      out.writeByte(NULL);
+    } else if (clazz == ExprMissingValue.class) {
+      out.writeByte(MISSING);
+    } else if (clazz == ExprBooleanValue.class) {
+      out.writeByte(BOOLEAN);
+      out.writeBoolean(value.booleanValue());
+    } else if (clazz == ExprByteValue.class) {
+      out.writeByte(BYTE);
+      out.writeByte(value.byteValue());
+    } else if (clazz == ExprShortValue.class) {
+      out.writeByte(SHORT);
+      out.writeShort(value.shortValue());
+    } else if (clazz == ExprIntegerValue.class) {
+      out.writeByte(INTEGER);
+      out.writeInt(value.integerValue());
+    } else if (clazz == ExprLongValue.class) {
+      out.writeByte(LONG);
+      out.writeLong(value.longValue());
+    } else if (clazz == ExprFloatValue.class) {
+      out.writeByte(FLOAT);
+      out.writeFloat(value.floatValue());
+    } else if (clazz == ExprDoubleValue.class) {
+      out.writeByte(DOUBLE);
+      out.writeDouble(value.doubleValue());
+    } else if (clazz == ExprStringValue.class) {
+      out.writeByte(STRING);
+      writeString(value.stringValue(), out);
+    } else if (value instanceof ExprStringValue && STRING_CONSTRUCTORS.get(clazz) != null) {
+      out.writeByte(STRING_OF_CLASS);
+      writeString(clazz.getName(), out);
+      writeString(value.stringValue(), out);
+    } else if (clazz == ExprDateValue.class) {
+      out.writeByte(DATE);
+      out.writeLong(value.dateValue().toEpochDay());
+    } else if (clazz == ExprTimeValue.class) {
+      out.writeByte(TIME);
+      out.writeLong(value.timeValue().toNanoOfDay());
+    } else if (clazz == ExprTimestampValue.class) {
+      Instant timestamp = value.timestampValue();
+      out.writeByte(TIMESTAMP);
+      out.writeLong(timestamp.getEpochSecond());
+      out.writeInt(timestamp.getNano());
+    } else if (clazz == ExprIntervalValue.class && value.intervalValue() instanceof Duration) {
+      Duration duration = (Duration) value.intervalValue();
+      out.writeByte(DURATION);
+      out.writeLong(duration.getSeconds());
+      out.writeInt(duration.getNano());
+    } else if (clazz == ExprIntervalValue.class && value.intervalValue() instanceof Period) {
+      Period period = (Period) value.intervalValue();
+      out.writeByte(PERIOD);
+      out.writeInt(period.getYears());
+      out.writeInt(period.getMonths());
+      out.writeInt(period.getDays());
+    } else if (clazz == ExprTupleValue.class) {
+      Map<String, ExprValue> tuple = value.tupleValue();
+      out.writeByte(TUPLE);
+      out.writeInt(tuple.size());
+      for (Map.Entry<String, ExprValue> entry : tuple.entrySet()) {
+        writeString(entry.getKey(), out);
+        write(entry.getValue(), out);
+      }
+    } else if (clazz == ExprCollectionValue.class) {
+      List<ExprValue> collection = value.collectionValue();
+      out.writeByte(COLLECTION);
+      out.writeInt(collection.size());
+      for (ExprValue element : collection) {
+        write(element, out);
+      }
+    } else {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+        objectOutput.writeObject(value);
+      }
+      out.writeByte(SERIALIZED);
+      out.writeInt(bytes.size());
+      out.write(bytes.toByteArray());
+    }
+  }
+
+  /**
+   * Write a value as a key to be hashed, which is never read back. Equal values are written the
+   * same regardless of their class, so any string value is written as string and tuple fields are
+   * written in the order of field names. Values of other than core types are written by type name
+   * and string form rather than Java serialization.
+   *
+   * @param value value to write
+   * @param out output
+   */
+  public static void writeKey(ExprValue value, DataOutput out) throws IOException {
+    if (value instanceof ExprStringValue) {
+      out.writeByte(STRING);
+      writeString(value.stringValue(), out);
+    } else if (value instanceof ExprTupleValue) {
+      Map<String, ExprValue> tuple = new TreeMap<>(value.tupleValue());
+      out.writeByte(TUPLE);
+      out.writeInt(tuple.size());
+      for (Map.Entry<String, ExprValue> entry : tuple.entrySet()) {
+        writeString(entry.getKey(), out);
+        writeKey(entry.getValue(), out);
+      }
+    } else if (value instanceof ExprCollectionValue) {
+      List<ExprValue> collection = value.collectionValue();
+      out.writeByte(COLLECTION);
+      out.writeInt(collection.size());
+      for (ExprValue element : collection) {
+        writeKey(element, out);
+      }
+    } else if (value.type() instanceof ExprCoreType) {
+      write(value, out);
+    } else {
+      out.writeByte(OTHER);
+      writeString(value.type().typeName(), out);
+      writeString(String.valueOf(value.value()), out);
+    }
+  }
+
+  /**
+   * Read a value written by {@link #write(ExprValue, DataOutput)}.
+   *
+   * @param in input
+   * @return value read
+   */
+  public static ExprValue read(DataInput in) throws IOException {
+    byte tag = in.readByte();
+    switch (tag) {
+      case NULL:
+        return ExprNullValue.of();
+      case MISSING:
+        return ExprMissingValue.of();
+      case BOOLEAN:
+        return ExprBooleanValue.of(in.readBoolean());
+      case BYTE:
+        return new ExprByteValue(in.readByte());
+      case SHORT:
+        return new ExprShortValue(in.readShort());
+      case INTEGER:
+        return new ExprIntegerValue(in.readInt());
+      case LONG:
+        return new ExprLongValue(in.readLong());
+      case FLOAT:
+        return new ExprFloatValue(in.readFloat());
+      case DOUBLE:
+        return new ExprDoubleValue(in.readDouble());
+      case STRING:
+        return new ExprStringValue(readString(in));
+      case STRING_OF_CLASS:
+        return readStringOfClass(in);
+      case DATE:
+        return new ExprDateValue(LocalDate.ofEpochDay(in.readLong()));
+      case TIME:
+        return new ExprTimeValue(LocalTime.ofNanoOfDay(in.readLong()));
+      case TIMESTAMP:
+        return new ExprTimestampValue(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+      case DURATION:
+        return new ExprIntervalValue(Duration.ofSeconds(in.readLong(), in.readInt()));
+      case PERIOD:
+        return new ExprIntervalValue(Period.of(in.readInt(), in.readInt(), in.readInt()));
+      case TUPLE:
+        int tupleSize = in.readInt();
+        LinkedHashMap<String, ExprValue> tuple = new LinkedHashMap<>();
+        for (int i = 0; i < tupleSize; i++) {
+          String key = readString(in);
+          tuple.put(key, read(in));
+        }
+        return new ExprTupleValue(tuple);
+      case COLLECTION:
+        int collectionSize = in.readInt();
+        List<ExprValue> collection = new ArrayList<>(collectionSize);
+        for (int i = 0; i < collectionSize; i++) {
+          collection.add(read(in));
+        }
+        return new ExprCollectionValue(collection);
+      case SERIALIZED:
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        try (ObjectInputStream objectInput =
+            new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+          return (ExprValue) objectInput.readObject();
+        } catch (ClassNotFoundException e) {
+          throw new IOException("Failed to deserialize expression value", e);
+        }
+      default:
+        throw new IOException("Unknown expression value tag: " + tag);
+    }
+  }
+
+  /**
+   * Estimate the heap size of a value in bytes. The estimate is deliberately rough, it is only
+   * meant to bound the memory used by the values buffered.
+   *
+   * @param value value
+   * @return estimated size in bytes
+   */
+  public static long estimateSize(ExprValue value) {
+    if (value instanceof ExprStringValue) {
+      return 2 * OBJECT_OVERHEAD + 2L * value.stringValue().length();
+    } else if (value instanceof ExprTupleValue) {
+      long size = 2 * OBJECT_OVERHEAD;
+      for (Map.Entry<String, ExprValue> entry : value.tupleValue().entrySet()) {
+        size += 2 * OBJECT_OVERHEAD + 2L * entry.getKey().length();
+        size += estimateSize(entry.getValue());
+      }
+      return size;
+    } else if (value instanceof ExprCollectionValue) {
+      long size = 2 * OBJECT_OVERHEAD;
+      for (ExprValue element : value.collectionValue()) {
+        size += estimateSize(element);
+      }
+      return size;
+    }
+    return 2 * OBJECT_OVERHEAD;
+  }
+
+  private static ExprValue readStringOfClass(DataInput in) throws IOException {
+    String className = readString(in);
+    String string = readString(in);
+    try {
+      return (ExprValue) STRING_CONSTRUCTORS.get(Class.forName(className)).newInstance(string);
+    } catch (ReflectiveOperationException e) {
+      throw new IOException("Failed to construct expression value of class " + className, e);
+    }
+  }
+
+  /** Strings are written as UTF-8 bytes with an int length, which has no 64KB limit. */
+  private static void writeString(String value, DataOutput out) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInput in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.pagination.Cursor;
+
+/**
+ * Query response listener which receives result rows in chunks as soon as they are produced,
+ * instead of a single {@link QueryResponse} with all rows materialized. Callbacks are invoked in
+ * order: {@link #onSchema(Schema)} once, {@link #onChunk(List)} for each chunk and {@link
+ * #onComplete(Cursor)} once after the last chunk. {@link #onFailure(Exception)} may be invoked at
+ * any time instead of the remaining callbacks.
+ */
+public interface ChunkedResponseListener extends ResponseListener<QueryResponse> {
+
+  /**
+   * Handle schema of the query result before any row.
+   *
+   * @param schema schema of the query result
+   */
+  void onSchema(Schema schema);
+
+  /**
+   * Handle next chunk of result rows. The listener must not keep the list after return.
+   *
+   * @param rows result rows
+   */
+  void onChunk(List<ExprValue> rows);
+
+  /**
+   * Handle the end of query result.
+   *
+   * @param cursor cursor to fetch next page, {@link Cursor#None} if no more page
+   */
+  void onComplete(Cursor cursor);
+
+  /**
+   * Handle query response of execution engine which doesn't stream results, all rows in a single
+   * chunk.
+   *
+   * @param response query response
+   */
+  @Override
+  default void onResponse(QueryResponse response) {
+    onSchema(response.getSchema());
+    onChunk(response.getResults());
+    onComplete(response.getCursor());
+  }
+
+  /**
+   * Adapt a query response listener to chunked listener. Chunks are collected and sent to the
+   * given listener in a single {@link QueryResponse} if it is not a chunked listener.
+   *
+   * @param listener query response listener
+   * @return chunked response listener
+   */
+  static ChunkedResponseListener of(ResponseListener<QueryResponse> listener) {
+    if (listener instanceof ChunkedResponseListener) {
+      return (ChunkedResponseListener) listener;
+    }
+
+    return new ChunkedResponseListener() {
+      private Schema schema;
+      private final List<ExprValue> results = new ArrayList<>();
+
+      @Override
+      public void onSchema(Schema schema) {
+        this.schema = schema;
+      }
+
+      @Override
+      public void onChunk(List<ExprValue> rows) {
+        results.addAll(rows);
+      }
+
+      @Override
+      public void onComplete(Cursor cursor) {
+        listener.onResponse(new QueryResponse(schema, results, cursor));
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        listener.onFailure(e);
+      }
+    };
+  }
+}
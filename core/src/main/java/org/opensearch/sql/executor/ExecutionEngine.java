@@ -28,7 +28,11 @@ public interface ExecutionEngine {
    */
   void execute(PhysicalPlan plan, ResponseListener<QueryResponse> listener);
 
-  /** Execute physical plan with {@link ExecutionContext} and call back response listener. */
+  /**
+   * Execute physical plan with {@link ExecutionContext} and call back response listener. Result
+   * rows are streamed in chunks if the listener is a {@link ChunkedResponseListener} and the
+   * execution engine supports it.
+   */
   void execute(
       PhysicalPlan plan, ExecutionContext context, ResponseListener<QueryResponse> listener);
 
@@ -42,6 +46,15 @@ public interface ExecutionEngine {
    */
   void explain(PhysicalPlan plan, ResponseListener<ExplainResponse> listener);
 
+  /**
+   * Execute physical plan and explain it with the runtime metrics of each operator, such as rows
+   * returned and time spent, then call back response listener. Rows are discarded.
+   *
+   * @param plan physical plan to profile
+   * @param listener response listener
+   */
+  void profile(PhysicalPlan plan, ResponseListener<ExplainResponse> listener);
+
   /** Data class that encapsulates ExprValue. */
   @Data
   class QueryResponse {
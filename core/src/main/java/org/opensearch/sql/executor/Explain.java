@@ -7,6 +7,7 @@ package org.opensearch.sql.executor;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -16,6 +17,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.DedupeOperator;
@@ -30,6 +32,7 @@ import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
 import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.TakeOrderedOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.planner.physical.WindowOperator;
 import org.opensearch.sql.storage.TableScanOperator;
@@ -38,6 +41,22 @@ import org.opensearch.sql.storage.TableScanOperator;
 public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object>
     implements Function<PhysicalPlan, ExplainResponse> {
 
+  /** Profile of the plan executed, null if the plan is explained only. */
+  private final QueryProfile profile;
+
+  public Explain() {
+    this(null);
+  }
+
+  /**
+   * Explain a plan executed with the runtime metrics of each operator in the profile.
+   *
+   * @param profile profile of the plan executed, or null to explain the plan only
+   */
+  public Explain(QueryProfile profile) {
+    this.profile = profile;
+  }
+
   @Override
   public ExplainResponse apply(PhysicalPlan plan) {
     return new ExplainResponse(plan.accept(this, null));
@@ -73,6 +92,22 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
                 ImmutableMap.of("sortList", describeSortList(node.getSortList()))));
   }
 
+  @Override
+  public ExplainResponseNode visitTakeOrdered(TakeOrderedOperator node, Object context) {
+    return explain(
+        node,
+        context,
+        explainNode ->
+            explainNode.setDescription(
+                ImmutableMap.of(
+                    "limit",
+                    node.getLimit(),
+                    "offset",
+                    node.getOffset(),
+                    "sortList",
+                    describeSortList(node.getSortList()))));
+  }
+
   @Override
   public ExplainResponseNode visitTableScan(TableScanOperator node, Object context) {
     return explain(
@@ -208,6 +243,11 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
     explainNode.setChildren(children);
 
     doExplain.accept(explainNode);
+    if (profile != null) {
+      Map<String, Object> description = new LinkedHashMap<>(explainNode.getDescription());
+      description.put("profile", profile.metrics(node));
+      explainNode.setDescription(description);
+    }
     return explainNode;
   }
 
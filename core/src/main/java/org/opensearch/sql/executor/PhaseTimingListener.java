@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import static org.opensearch.sql.common.utils.QueryPhase.EXECUTE;
+import static org.opensearch.sql.common.utils.QueryPhase.FORMAT;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.common.utils.QueryPhase;
+import org.opensearch.sql.common.utils.QueryPhaseTimer;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.pagination.Cursor;
+
+/**
+ * Query response listener which times the {@link QueryPhase#EXECUTE} phase from its creation to the
+ * end of query result, and the {@link QueryPhase#FORMAT} phase as the time spent in the listener it
+ * delegates to. Rows may be streamed to the delegate while the plan is still executing, so the time
+ * in the delegate is excluded from execution.
+ */
+@RequiredArgsConstructor
+class PhaseTimingListener implements ChunkedResponseListener {
+
+  private final ChunkedResponseListener delegate;
+
+  private final long start = System.nanoTime();
+
+  private long formatNanos;
+
+  /**
+   * Time the execution of which result is sent to the given listener.
+   *
+   * @param listener query response listener
+   * @return chunked response listener timing query phases
+   */
+  static ChunkedResponseListener of(ResponseListener<QueryResponse> listener) {
+    return new PhaseTimingListener(ChunkedResponseListener.of(listener));
+  }
+
+  @Override
+  public void onSchema(Schema schema) {
+    format(() -> delegate.onSchema(schema));
+  }
+
+  @Override
+  public void onChunk(List<ExprValue> rows) {
+    format(() -> delegate.onChunk(rows));
+  }
+
+  @Override
+  public void onComplete(Cursor cursor) {
+    QueryPhaseTimer.record(EXECUTE, System.nanoTime() - start - formatNanos);
+    try {
+      format(() -> delegate.onComplete(cursor));
+    } finally {
+      QueryPhaseTimer.record(FORMAT, formatNanos);
+    }
+  }
+
+  @Override
+  public void onFailure(Exception e) {
+    delegate.onFailure(e);
+  }
+
+  private void format(Runnable action) {
+    long begin = System.nanoTime();
+    try {
+      action.run();
+    } finally {
+      formatNanos += System.nanoTime() - begin;
+    }
+  }
+}
@@ -8,11 +8,14 @@
 
 package org.opensearch.sql.executor;
 
+import static org.opensearch.sql.common.utils.QueryPhase.ANALYZE;
+
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.analysis.AnalysisContext;
 import org.opensearch.sql.analysis.Analyzer;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.common.utils.QueryPhaseTimer;
 import org.opensearch.sql.planner.PlanContext;
 import org.opensearch.sql.planner.Planner;
 import org.opensearch.sql.planner.logical.LogicalPlan;
@@ -61,10 +64,14 @@ public class QueryService {
       planContext
           .getSplit()
           .ifPresentOrElse(
-              split -> executionEngine.execute(plan(plan), new ExecutionContext(split), listener),
+              split ->
+                  executionEngine.execute(
+                      plan(plan), new ExecutionContext(split), PhaseTimingListener.of(listener)),
               () ->
                   executionEngine.execute(
-                      plan(plan), ExecutionContext.emptyExecutionContext(), listener));
+                      plan(plan),
+                      ExecutionContext.emptyExecutionContext(),
+                      PhaseTimingListener.of(listener)));
     } catch (Exception e) {
       listener.onFailure(e);
     }
@@ -86,9 +93,25 @@ public class QueryService {
     }
   }
 
+  /**
+   * Execute the query in {@link UnresolvedPlan} and explain it with runtime metrics, using {@link
+   * ResponseListener} to get and format explain response.
+   *
+   * @param plan {@link UnresolvedPlan}
+   * @param listener {@link ResponseListener} for explain response
+   */
+  public void profile(
+      UnresolvedPlan plan, ResponseListener<ExecutionEngine.ExplainResponse> listener) {
+    try {
+      executionEngine.profile(plan(analyze(plan)), listener);
+    } catch (Exception e) {
+      listener.onFailure(e);
+    }
+  }
+
   /** Analyze {@link UnresolvedPlan}. */
   public LogicalPlan analyze(UnresolvedPlan plan) {
-    return analyzer.analyze(plan, new AnalysisContext());
+    return QueryPhaseTimer.time(ANALYZE, () -> analyzer.analyze(plan, new AnalysisContext()));
   }
 
   /** Translate {@link LogicalPlan} to {@link PhysicalPlan}. */
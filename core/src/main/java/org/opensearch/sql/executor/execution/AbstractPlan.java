@@ -30,4 +30,11 @@ public abstract class AbstractPlan {
    * @param listener query explain response listener.
    */
   public abstract void explain(ResponseListener<ExecutionEngine.ExplainResponse> listener);
+
+  /**
+   * Execute query and explain it with runtime metrics.
+   *
+   * @param listener query explain response listener.
+   */
+  public abstract void profile(ResponseListener<ExecutionEngine.ExplainResponse> listener);
 }
@@ -49,4 +49,9 @@ public class CommandPlan extends AbstractPlan {
   public void explain(ResponseListener<ExecutionEngine.ExplainResponse> listener) {
     throw new UnsupportedOperationException("CommandPlan does not support explain");
   }
+
+  @Override
+  public void profile(ResponseListener<ExecutionEngine.ExplainResponse> listener) {
+    throw new UnsupportedOperationException("CommandPlan does not support profile");
+  }
 }
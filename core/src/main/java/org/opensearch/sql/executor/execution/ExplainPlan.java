@@ -17,6 +17,9 @@ public class ExplainPlan extends AbstractPlan {
 
   private final AbstractPlan plan;
 
+  /** Execute the plan to explain it with runtime metrics. */
+  private final boolean profile;
+
   private final ResponseListener<ExecutionEngine.ExplainResponse> explainListener;
 
   /** Constructor. */
@@ -24,18 +27,37 @@ public class ExplainPlan extends AbstractPlan {
       QueryId queryId,
       AbstractPlan plan,
       ResponseListener<ExecutionEngine.ExplainResponse> explainListener) {
+    this(queryId, plan, false, explainListener);
+  }
+
+  /** Constructor of explain plan which profiles the plan if required. */
+  public ExplainPlan(
+      QueryId queryId,
+      AbstractPlan plan,
+      boolean profile,
+      ResponseListener<ExecutionEngine.ExplainResponse> explainListener) {
     super(queryId);
     this.plan = plan;
+    this.profile = profile;
     this.explainListener = explainListener;
   }
 
   @Override
   public void execute() {
-    plan.explain(explainListener);
+    if (profile) {
+      plan.profile(explainListener);
+    } else {
+      plan.explain(explainListener);
+    }
   }
 
   @Override
   public void explain(ResponseListener<ExecutionEngine.ExplainResponse> listener) {
     throw new UnsupportedOperationException("explain query can not been explained.");
   }
+
+  @Override
+  public void profile(ResponseListener<ExecutionEngine.ExplainResponse> listener) {
+    throw new UnsupportedOperationException("explain query can not been profiled.");
+  }
 }
@@ -76,4 +76,15 @@ public class QueryPlan extends AbstractPlan {
       queryService.explain(plan, listener);
     }
   }
+
+  @Override
+  public void profile(ResponseListener<ExecutionEngine.ExplainResponse> listener) {
+    if (pageSize.isPresent()) {
+      listener.onFailure(
+          new NotImplementedException(
+              "`profile` feature for paginated requests is not implemented yet."));
+    } else {
+      queryService.profile(plan, listener);
+    }
+  }
 }
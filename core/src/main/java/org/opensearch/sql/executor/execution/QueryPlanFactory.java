@@ -134,6 +134,7 @@ public class QueryPlanFactory
     return new ExplainPlan(
         QueryId.queryId(),
         create(node.getStatement(), Optional.of(NO_CONSUMER_RESPONSE_LISTENER), Optional.empty()),
+        node.isProfile(),
         context.getRight().get());
   }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.profile;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.RowBatch;
+import org.opensearch.sql.storage.split.Split;
+
+/**
+ * A PhysicalPlan which records the rows returned by the delegate plan and the time spent in it.
+ * Time is inclusive of the children of the delegate plan, which are decorated separately.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+public class ProfilePlan extends PhysicalPlan {
+
+  /** Delegated PhysicalPlan. */
+  @ToString.Include private final PhysicalPlan delegate;
+
+  /** Thread MX bean to get CPU time from, null if CPU time of current thread is unsupported. */
+  private final ThreadMXBean threadMXBean;
+
+  /** Number of rows returned. */
+  @Getter private long rows = 0L;
+
+  /** Wall time in nanoseconds spent in open. */
+  @Getter private long openNanos = 0L;
+
+  /** Wall time in nanoseconds spent in hasNext, next and nextBatch. */
+  @Getter private long nextNanos = 0L;
+
+  /** CPU time in nanoseconds spent in all the above. */
+  @Getter private long cpuNanos = 0L;
+
+  private long wallStart;
+
+  private long cpuStart;
+
+  public ProfilePlan(PhysicalPlan delegate) {
+    this(delegate, ManagementFactory.getThreadMXBean());
+  }
+
+  ProfilePlan(PhysicalPlan delegate, ThreadMXBean threadMXBean) {
+    this.delegate = delegate;
+    this.threadMXBean =
+        (threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled())
+            ? threadMXBean
+            : null;
+  }
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    return delegate.accept(visitor, context);
+  }
+
+  @Override
+  public void open() {
+    start();
+    delegate.open();
+    openNanos += stop();
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return delegate.getChild();
+  }
+
+  @Override
+  public boolean hasNext() {
+    start();
+    boolean hasNext = delegate.hasNext();
+    nextNanos += stop();
+    return hasNext;
+  }
+
+  @Override
+  public ExprValue next() {
+    start();
+    ExprValue row = delegate.next();
+    nextNanos += stop();
+    rows++;
+    return row;
+  }
+
+  @Override
+  public RowBatch nextBatch() {
+    start();
+    RowBatch batch = delegate.nextBatch();
+    nextNanos += stop();
+    rows += batch.size();
+    return batch;
+  }
+
+  @Override
+  public void add(Split split) {
+    delegate.add(split);
+  }
+
+  @Override
+  public ExecutionEngine.Schema schema() {
+    return delegate.schema();
+  }
+
+  private void start() {
+    cpuStart = cpuTime();
+    wallStart = System.nanoTime();
+  }
+
+  /** Returns wall time elapsed since start and accumulates CPU time. */
+  private long stop() {
+    long wallTime = System.nanoTime() - wallStart;
+    cpuNanos += cpuTime() - cpuStart;
+    return wallTime;
+  }
+
+  private long cpuTime() {
+    return threadMXBean == null ? 0L : threadMXBean.getCurrentThreadCpuTime();
+  }
+}
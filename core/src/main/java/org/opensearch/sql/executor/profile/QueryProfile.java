@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.profile;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+
+/**
+ * Profile of a query execution. Each operator of the physical plan is decorated by {@link
+ * ProfilePlan} to record its runtime metrics, which are looked up by the operator when the plan is
+ * explained after execution.
+ */
+public class QueryProfile {
+
+  /** Visitor to get the operator a plan is, through any decorator delegating accept. */
+  private static final PhysicalPlanNodeVisitor<PhysicalPlan, Object> OPERATOR =
+      new PhysicalPlanNodeVisitor<>() {
+        @Override
+        public PhysicalPlan visitNode(PhysicalPlan node, Object context) {
+          return node;
+        }
+      };
+
+  /** Profile of each operator by identity, since operators of the same kind may be equal. */
+  private final Map<PhysicalPlan, ProfilePlan> profiles = new IdentityHashMap<>();
+
+  /**
+   * Decorate the plan to profile it.
+   *
+   * @param plan physical plan, which may be decorated already
+   * @return plan decorated
+   */
+  public PhysicalPlan profile(PhysicalPlan plan) {
+    ProfilePlan profilePlan = new ProfilePlan(plan);
+    profiles.put(operatorOf(plan), profilePlan);
+    return profilePlan;
+  }
+
+  /**
+   * Get the runtime metrics of the operator, including those specific to the operator by {@link
+   * PhysicalPlan#profileMetrics()}. Time is in milliseconds and inclusive of the children.
+   *
+   * @param plan physical plan
+   * @return metric name to value, empty if the plan is not profiled
+   */
+  public Map<String, Object> metrics(PhysicalPlan plan) {
+    PhysicalPlan operator = operatorOf(plan);
+    ProfilePlan profile = profiles.get(operator);
+    if (profile == null) {
+      return ImmutableMap.of();
+    }
+
+    ImmutableMap.Builder<String, Object> metrics = ImmutableMap.builder();
+    if (!operator.getChild().isEmpty()) {
+      long rowsIn = 0L;
+      for (PhysicalPlan child : operator.getChild()) {
+        ProfilePlan childProfile = profiles.get(operatorOf(child));
+        rowsIn += (childProfile == null) ? 0L : childProfile.getRows();
+      }
+      metrics.put("rowsIn", rowsIn);
+    }
+    return metrics
+        .put("rowsOut", profile.getRows())
+        .put("openTimeMillis", toMillis(profile.getOpenNanos()))
+        .put("nextTimeMillis", toMillis(profile.getNextNanos()))
+        .put("cpuTimeMillis", toMillis(profile.getCpuNanos()))
+        .putAll(operator.profileMetrics())
+        .build();
+  }
+
+  private static PhysicalPlan operatorOf(PhysicalPlan plan) {
+    return plan.accept(OPERATOR, null);
+  }
+
+  /** Milliseconds rounded to microsecond precision. */
+  private static double toMillis(long nanos) {
+    return Math.round(nanos / 1_000.0) / 1_000.0;
+  }
+}
@@ -27,6 +27,9 @@ public class ReferenceExpression implements Expression {
 
   private final ExprType type;
 
+  /** Paths joined as whole, computed once instead of for every tuple resolved. */
+  @EqualsAndHashCode.Exclude private transient String wholePath;
+
   /**
    * Constructor of ReferenceExpression.
    *
@@ -97,11 +100,18 @@ public class ReferenceExpression implements Expression {
    * </pre>
    */
   public ExprValue resolve(ExprTupleValue value) {
-    return resolve(value, paths);
+    if (wholePath == null) {
+      wholePath = String.join(PATH_SEP, paths);
+    }
+    return resolve(value, paths, wholePath);
   }
 
   private ExprValue resolve(ExprValue value, List<String> paths) {
-    ExprValue wholePathValue = value.keyValue(String.join(PATH_SEP, paths));
+    return resolve(value, paths, String.join(PATH_SEP, paths));
+  }
+
+  private ExprValue resolve(ExprValue value, List<String> paths, String wholePath) {
+    ExprValue wholePathValue = value.keyValue(wholePath);
     // For array types only first index currently supported.
     if (value.type().equals(ExprCoreType.ARRAY)) {
       wholePathValue = value.collectionValue().get(0).keyValue(paths.get(0));
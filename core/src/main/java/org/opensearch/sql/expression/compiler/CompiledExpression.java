@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import java.io.Serializable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.env.Environment;
+
+/**
+ * Expression compiled by {@link ExpressionCompiler}. It evaluates to the same value as the source
+ * expression, which is still the one seen by visitors and by equality.
+ */
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class CompiledExpression implements Expression {
+
+  /** Source expression compiled. */
+  @EqualsAndHashCode.Include @Getter private final Expression source;
+
+  private final Evaluator evaluator;
+
+  @Override
+  public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+    return evaluator.evaluate(valueEnv);
+  }
+
+  @Override
+  public ExprType type() {
+    return source.type();
+  }
+
+  @Override
+  public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
+    return source.accept(visitor, context);
+  }
+
+  @Override
+  public String toString() {
+    return source.toString();
+  }
+
+  /** Compiled evaluation of an expression node. */
+  @FunctionalInterface
+  interface Evaluator extends Serializable {
+    ExprValue evaluate(Environment<Expression, ExprValue> valueEnv);
+  }
+}
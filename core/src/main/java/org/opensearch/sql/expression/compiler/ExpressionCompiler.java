@@ -0,0 +1,319 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.ADD;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.MULTIPLY;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.SUBTRACT;
+import static org.opensearch.sql.expression.function.FunctionDSL.nullMissingHandling;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.Table;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.compiler.CompiledExpression.Evaluator;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.SerializableBiFunction;
+
+/**
+ * Expression compiler which turns an expression tree into a tree of {@link Evaluator} specialized
+ * by function and argument type ahead of evaluation. This saves the function resolution result
+ * dispatch, the argument list and the generic NULL and MISSING handling of the interpreter on every
+ * row.
+ *
+ * <p>Comparison, arithmetic on INTEGER, LONG, FLOAT and DOUBLE, and the logical AND, OR and NOT
+ * are compiled. Numbers are compared on primitive values and AND / OR skip the right operand if
+ * the left one decides the result. Any other expression is evaluated by the interpreter as is, so
+ * the compiled expression always evaluates to the same value as its source.
+ */
+public class ExpressionCompiler extends ExpressionNodeVisitor<Evaluator, Object> {
+
+  private static final ExpressionCompiler INSTANCE = new ExpressionCompiler();
+
+  /** Comparison of numbers of the same type on primitive values. */
+  private static final Map<ExprType, Comparison> NUMBER_COMPARISONS =
+      ImmutableMap.of(
+          INTEGER, (v1, v2) -> Integer.compare(v1.integerValue(), v2.integerValue()),
+          LONG, (v1, v2) -> Long.compare(v1.longValue(), v2.longValue()),
+          FLOAT, (v1, v2) -> Float.compare(v1.floatValue(), v2.floatValue()),
+          DOUBLE, (v1, v2) -> Double.compare(v1.doubleValue(), v2.doubleValue()));
+
+  /** Arithmetic on numbers of the same type, same as the functions in ArithmeticFunction. */
+  private static final Table<
+          BuiltinFunctionName, ExprType, SerializableBiFunction<ExprValue, ExprValue, ExprValue>>
+      ARITHMETIC =
+          new ImmutableTable.Builder<
+                  BuiltinFunctionName,
+                  ExprType,
+                  SerializableBiFunction<ExprValue, ExprValue, ExprValue>>()
+              .put(
+                  ADD,
+                  INTEGER,
+                  (v1, v2) ->
+                      new ExprIntegerValue(Math.addExact(v1.integerValue(), v2.integerValue())))
+              .put(
+                  ADD,
+                  LONG,
+                  (v1, v2) -> new ExprLongValue(Math.addExact(v1.longValue(), v2.longValue())))
+              .put(ADD, FLOAT, (v1, v2) -> new ExprFloatValue(v1.floatValue() + v2.floatValue()))
+              .put(
+                  ADD, DOUBLE, (v1, v2) -> new ExprDoubleValue(v1.doubleValue() + v2.doubleValue()))
+              .put(
+                  SUBTRACT,
+                  INTEGER,
+                  (v1, v2) ->
+                      new ExprIntegerValue(
+                          Math.subtractExact(v1.integerValue(), v2.integerValue())))
+              .put(
+                  SUBTRACT,
+                  LONG,
+                  (v1, v2) ->
+                      new ExprLongValue(Math.subtractExact(v1.longValue(), v2.longValue())))
+              .put(
+                  SUBTRACT,
+                  FLOAT,
+                  (v1, v2) -> new ExprFloatValue(v1.floatValue() - v2.floatValue()))
+              .put(
+                  SUBTRACT,
+                  DOUBLE,
+                  (v1, v2) -> new ExprDoubleValue(v1.doubleValue() - v2.doubleValue()))
+              .put(
+                  MULTIPLY,
+                  INTEGER,
+                  (v1, v2) ->
+                      new ExprIntegerValue(
+                          Math.multiplyExact(v1.integerValue(), v2.integerValue())))
+              .put(
+                  MULTIPLY,
+                  LONG,
+                  (v1, v2) ->
+                      new ExprLongValue(Math.multiplyExact(v1.longValue(), v2.longValue())))
+              .put(
+                  MULTIPLY,
+                  FLOAT,
+                  (v1, v2) -> new ExprFloatValue(v1.floatValue() * v2.floatValue()))
+              .put(
+                  MULTIPLY,
+                  DOUBLE,
+                  (v1, v2) -> new ExprDoubleValue(v1.doubleValue() * v2.doubleValue()))
+              .build();
+
+  private ExpressionCompiler() {}
+
+  /**
+   * Compile the expression.
+   *
+   * @param expression expression
+   * @return {@link CompiledExpression} of the expression, or the expression itself if no part of
+   *     it can be compiled.
+   */
+  public static Expression compile(Expression expression) {
+    Evaluator evaluator = expression.accept(INSTANCE, null);
+    return evaluator == null ? expression : new CompiledExpression(expression, evaluator);
+  }
+
+  @Override
+  public Evaluator visitFunction(FunctionExpression node, Object context) {
+    Optional<BuiltinFunctionName> function =
+        BuiltinFunctionName.of(node.getFunctionName().getFunctionName());
+    if (function.isEmpty()) {
+      return null;
+    }
+
+    List<Expression> arguments = node.getArguments();
+    switch (function.get()) {
+      case NOT:
+        return not(compileArgument(arguments.get(0)));
+      case AND:
+        return and(compileArgument(arguments.get(0)), compileArgument(arguments.get(1)));
+      case OR:
+        return or(compileArgument(arguments.get(0)), compileArgument(arguments.get(1)));
+      case EQUAL:
+      case NOTEQUAL:
+      case LESS:
+      case LTE:
+      case GREATER:
+      case GTE:
+        return binary(
+            compileArgument(arguments.get(0)),
+            compileArgument(arguments.get(1)),
+            comparison(function.get(), arguments.get(0).type()));
+      case ADD:
+      case ADDFUNCTION:
+        return arithmetic(ADD, node);
+      case SUBTRACT:
+      case SUBTRACTFUNCTION:
+        return arithmetic(SUBTRACT, node);
+      case MULTIPLY:
+      case MULTIPLYFUNCTION:
+        return arithmetic(MULTIPLY, node);
+      default:
+        return null;
+    }
+  }
+
+  @Override
+  public Evaluator visitAggregator(Aggregator<?> node, Object context) {
+    return null;
+  }
+
+  @Override
+  public Evaluator visitNamedAggregator(NamedAggregator node, Object context) {
+    return null;
+  }
+
+  /** Compile the argument, or evaluate it by the interpreter if it cannot be compiled. */
+  private Evaluator compileArgument(Expression argument) {
+    Evaluator evaluator = argument.accept(this, null);
+    return evaluator != null ? evaluator : argument::valueOf;
+  }
+
+  private Evaluator arithmetic(BuiltinFunctionName function, FunctionExpression node) {
+    SerializableBiFunction<ExprValue, ExprValue, ExprValue> operator =
+        ARITHMETIC.get(function, node.type());
+    if (operator == null) {
+      return null;
+    }
+    List<Expression> arguments = node.getArguments();
+    return binary(compileArgument(arguments.get(0)), compileArgument(arguments.get(1)), operator);
+  }
+
+  private static Evaluator binary(
+      Evaluator left,
+      Evaluator right,
+      SerializableBiFunction<ExprValue, ExprValue, ExprValue> operator) {
+    SerializableBiFunction<ExprValue, ExprValue, ExprValue> function =
+        nullMissingHandling(operator);
+    return valueEnv -> function.apply(left.evaluate(valueEnv), right.evaluate(valueEnv));
+  }
+
+  private static SerializableBiFunction<ExprValue, ExprValue, ExprValue> comparison(
+      BuiltinFunctionName function, ExprType type) {
+    Comparison primitive = NUMBER_COMPARISONS.get(type);
+    if (primitive == null) {
+      return objectComparison(function);
+    }
+
+    // Value of other number type than declared is compared by its own type like the interpreter
+    Comparison comparison =
+        (v1, v2) -> v1.type() == type ? primitive.compare(v1, v2) : v1.compareTo(v2);
+    switch (function) {
+      case EQUAL:
+        return (v1, v2) -> ExprBooleanValue.of(comparison.compare(v1, v2) == 0);
+      case NOTEQUAL:
+        return (v1, v2) -> ExprBooleanValue.of(comparison.compare(v1, v2) != 0);
+      default:
+        return orderComparison(function, comparison);
+    }
+  }
+
+  private static SerializableBiFunction<ExprValue, ExprValue, ExprValue> objectComparison(
+      BuiltinFunctionName function) {
+    switch (function) {
+      case EQUAL:
+        return (v1, v2) -> ExprBooleanValue.of(v1.equals(v2));
+      case NOTEQUAL:
+        return (v1, v2) -> ExprBooleanValue.of(!v1.equals(v2));
+      default:
+        return orderComparison(function, ExprValue::compareTo);
+    }
+  }
+
+  private static SerializableBiFunction<ExprValue, ExprValue, ExprValue> orderComparison(
+      BuiltinFunctionName function, Comparison comparison) {
+    switch (function) {
+      case LESS:
+        return (v1, v2) -> ExprBooleanValue.of(comparison.compare(v1, v2) < 0);
+      case LTE:
+        return (v1, v2) -> ExprBooleanValue.of(comparison.compare(v1, v2) <= 0);
+      case GREATER:
+        return (v1, v2) -> ExprBooleanValue.of(comparison.compare(v1, v2) > 0);
+      default:
+        return (v1, v2) -> ExprBooleanValue.of(comparison.compare(v1, v2) >= 0);
+    }
+  }
+
+  private static Evaluator not(Evaluator operand) {
+    return valueEnv -> {
+      ExprValue value = operand.evaluate(valueEnv);
+      if (value.isNull() || value.isMissing()) {
+        return value;
+      }
+      return ExprBooleanValue.of(!value.booleanValue());
+    };
+  }
+
+  /** Same result as the AND table in BinaryPredicateOperator. */
+  private static Evaluator and(Evaluator left, Evaluator right) {
+    return valueEnv -> {
+      ExprValue v1 = left.evaluate(valueEnv);
+      if (is(v1, false)) {
+        return LITERAL_FALSE;
+      }
+      ExprValue v2 = right.evaluate(valueEnv);
+      if (is(v2, false)) {
+        return LITERAL_FALSE;
+      } else if (v1.isMissing() || v2.isMissing()) {
+        return LITERAL_MISSING;
+      } else if (v1.isNull() || v2.isNull()) {
+        return LITERAL_NULL;
+      }
+      return LITERAL_TRUE;
+    };
+  }
+
+  /** Same result as the OR table in BinaryPredicateOperator. */
+  private static Evaluator or(Evaluator left, Evaluator right) {
+    return valueEnv -> {
+      ExprValue v1 = left.evaluate(valueEnv);
+      if (is(v1, true)) {
+        return LITERAL_TRUE;
+      }
+      ExprValue v2 = right.evaluate(valueEnv);
+      if (is(v2, true)) {
+        return LITERAL_TRUE;
+      } else if (v1.isNull() || v2.isNull()) {
+        return LITERAL_NULL;
+      } else if (v1.isMissing() || v2.isMissing()) {
+        return LITERAL_MISSING;
+      }
+      return LITERAL_FALSE;
+    };
+  }
+
+  private static boolean is(ExprValue value, boolean bool) {
+    return !value.isNull() && !value.isMissing() && value.booleanValue() == bool;
+  }
+
+  /** Comparison of two values which are neither null nor missing. */
+  @FunctionalInterface
+  private interface Comparison extends Serializable {
+    int compare(ExprValue v1, ExprValue v2);
+  }
+}
@@ -5,6 +5,8 @@
 
 package org.opensearch.sql.expression.datetime;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import java.text.ParsePosition;
 import java.time.Clock;
@@ -18,10 +20,13 @@ import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.ResolverStyle;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
@@ -191,13 +196,32 @@ class DateTimeFormatterUtil {
   private static final Pattern CHARACTERS_WITH_NO_MOD_LITERAL_BEHIND_PATTERN =
       Pattern.compile("(?<!%)[a-zA-Z&&[^aydmshiHIMYDSEL]]+");
   private static final String MOD_LITERAL = "%";
+  private static final Pattern MOD_LITERAL_PATTERN = Pattern.compile(MOD_LITERAL);
+
+  /** Largest number of formats compiled and cached for each kind of format. */
+  private static final int FORMAT_CACHE_SIZE = 1000;
+
+  /** Compiled DATE_FORMAT formats, least recently used evicted. */
+  private static final Cache<String, FormatPlan> DATE_FORMAT_PLANS =
+      CacheBuilder.newBuilder().maximumSize(FORMAT_CACHE_SIZE).build();
+
+  /** Compiled TIME_FORMAT formats, least recently used evicted. */
+  private static final Cache<String, FormatPlan> TIME_FORMAT_PLANS =
+      CacheBuilder.newBuilder().maximumSize(FORMAT_CACHE_SIZE).build();
+
+  /** Java formatters of the patterns produced by format plans, least recently used evicted. */
+  private static final Cache<String, DateTimeFormatter> PATTERN_FORMATTERS =
+      CacheBuilder.newBuilder().maximumSize(FORMAT_CACHE_SIZE).build();
+
+  /** Compiled STR_TO_DATE formats, least recently used evicted. */
+  private static final Cache<String, DateTimeFormatter> STR_TO_DATE_FORMATTERS =
+      CacheBuilder.newBuilder().maximumSize(FORMAT_CACHE_SIZE).build();
 
   private DateTimeFormatterUtil() {}
 
-  static StringBuffer getCleanFormat(ExprValue formatExpr) {
+  static StringBuffer getCleanFormat(String format) {
     final StringBuffer cleanFormat = new StringBuffer();
-    final Matcher m =
-        CHARACTERS_WITH_NO_MOD_LITERAL_BEHIND_PATTERN.matcher(formatExpr.stringValue());
+    final Matcher m = CHARACTERS_WITH_NO_MOD_LITERAL_BEHIND_PATTERN.matcher(format);
 
     while (m.find()) {
       m.appendReplacement(cleanFormat, String.format("'%s'", m.group()));
@@ -208,39 +232,114 @@ class DateTimeFormatterUtil {
   }
 
   /**
-   * Helper function to format a DATETIME according to a provided handler and matcher.
-   *
-   * @param formatExpr ExprValue containing the format expression
-   * @param handler Map of character patterns to their associated datetime format
-   * @param datetime The datetime argument being formatted
-   * @return A formatted string expression
+   * A SQL style format specifier compiled into the Java pattern text between format specifiers and
+   * the handlers of the specifiers. Formatting a datetime only concatenates the handler results and
+   * looks up the Java formatter of the pattern, which is the same for every datetime unless a
+   * handler formats the datetime itself, such as %D or %f.
    */
-  static ExprValue getFormattedString(
-      ExprValue formatExpr, Map<String, DateTimeFormatHandler> handler, LocalDateTime datetime) {
-    StringBuffer cleanFormat = getCleanFormat(formatExpr);
+  static class FormatPlan {
+    private final String[] literals;
+    private final DateTimeFormatHandler[] handlers;
 
-    final Matcher matcher = pattern.matcher(cleanFormat.toString());
-    final StringBuffer format = new StringBuffer();
-    try {
+    /** Formatter of the last pattern, reused if the next pattern is the same. */
+    private volatile Pair<String, DateTimeFormatter> lastFormatter;
+
+    private FormatPlan(List<String> literals, List<DateTimeFormatHandler> handlers) {
+      this.literals = literals.toArray(new String[0]);
+      this.handlers = handlers.toArray(new DateTimeFormatHandler[0]);
+    }
+
+    /**
+     * Compile the format specifier with the handlers of specifiers.
+     *
+     * @param format format specifier
+     * @param handlers Map of character patterns to their associated datetime format
+     * @return format plan
+     */
+    static FormatPlan compile(String format, Map<String, DateTimeFormatHandler> handlers) {
+      final String cleanFormat = getCleanFormat(format).toString();
+      final Matcher matcher = pattern.matcher(cleanFormat);
+      final List<String> literals = new ArrayList<>();
+      final List<DateTimeFormatHandler> plan = new ArrayList<>();
+      int end = 0;
       while (matcher.find()) {
-        matcher.appendReplacement(
-            format,
-            handler
-                .getOrDefault(
-                    matcher.group(),
-                    (d) -> String.format("'%s'", matcher.group().replaceFirst(MOD_LITERAL, "")))
-                .getFormat(datetime));
+        literals.add(cleanFormat.substring(end, matcher.start()));
+        DateTimeFormatHandler handler = handlers.get(matcher.group());
+        plan.add(handler != null ? handler : literalHandler(matcher.group()));
+        end = matcher.end();
       }
-    } catch (Exception e) {
-      return ExprNullValue.of();
+      literals.add(cleanFormat.substring(end));
+      return new FormatPlan(literals, plan);
+    }
+
+    /**
+     * Format the datetime with the plan.
+     *
+     * @param datetime The datetime argument being formatted
+     * @return A formatted string expression, or NULL if any handler does not support the datetime
+     */
+    ExprValue format(LocalDateTime datetime) {
+      final StringBuilder format = new StringBuilder(literals[0]);
+      for (int i = 0; i < handlers.length; i++) {
+        String javaFormat = handlers[i].getFormat(datetime);
+        if (javaFormat == null) {
+          return ExprNullValue.of();
+        }
+        format.append(javaFormat).append(literals[i + 1]);
+      }
+
+      // English Locale matches SQL requirements.
+      // 'AM'/'PM' instead of 'a.m.'/'p.m.'
+      // 'Sat' instead of 'Sat.' etc
+      return new ExprStringValue(datetime.format(formatter(format.toString())));
+    }
+
+    private DateTimeFormatter formatter(String javaPattern) {
+      Pair<String, DateTimeFormatter> last = lastFormatter;
+      if (last == null || !last.getKey().equals(javaPattern)) {
+        DateTimeFormatter formatter = PATTERN_FORMATTERS.getIfPresent(javaPattern);
+        if (formatter == null) {
+          formatter = DateTimeFormatter.ofPattern(javaPattern, Locale.ENGLISH);
+          PATTERN_FORMATTERS.put(javaPattern, formatter);
+        }
+        last = Pair.of(javaPattern, formatter);
+        lastFormatter = last;
+      }
+      return last.getValue();
+    }
+  }
+
+  /**
+   * Handler of a format specifier which has no handler, which quotes the character after % as it
+   * is. The quoted character is resolved as a regex replacement, the same as any other handler
+   * result, so a specifier like %$ that cannot be resolved always formats to NULL.
+   */
+  private static DateTimeFormatHandler literalHandler(String specifier) {
+    final String replacement = String.format("'%s'", specifier.replaceFirst(MOD_LITERAL, ""));
+    try {
+      final String javaFormat = MOD_LITERAL_PATTERN.matcher(MOD_LITERAL).replaceFirst(replacement);
+      return (date) -> javaFormat;
+    } catch (IllegalArgumentException e) {
+      return (date) -> null;
     }
-    matcher.appendTail(format);
+  }
 
-    // English Locale matches SQL requirements.
-    // 'AM'/'PM' instead of 'a.m.'/'p.m.'
-    // 'Sat' instead of 'Sat.' etc
-    return new ExprStringValue(
-        datetime.format(DateTimeFormatter.ofPattern(format.toString(), Locale.ENGLISH)));
+  /**
+   * Get the compiled format plan from cache, or compile it if absent.
+   *
+   * @param format format specifier
+   * @param plans cache of format plans compiled with the handlers
+   * @param handlers Map of character patterns to their associated datetime format
+   * @return format plan
+   */
+  static FormatPlan formatPlan(
+      String format, Cache<String, FormatPlan> plans, Map<String, DateTimeFormatHandler> handlers) {
+    FormatPlan plan = plans.getIfPresent(format);
+    if (plan == null) {
+      plan = FormatPlan.compile(format, handlers);
+      plans.put(format, plan);
+    }
+    return plan;
   }
 
   /**
@@ -252,13 +351,13 @@ class DateTimeFormatterUtil {
    */
   static ExprValue getFormattedDate(ExprValue dateExpr, ExprValue formatExpr) {
     final LocalDateTime date = dateExpr.timestampValue().atZone(ZoneOffset.UTC).toLocalDateTime();
-    return getFormattedString(formatExpr, DATE_HANDLERS, date);
+    return formatPlan(formatExpr.stringValue(), DATE_FORMAT_PLANS, DATE_HANDLERS).format(date);
   }
 
   static ExprValue getFormattedDateOfToday(ExprValue formatExpr, ExprValue time, Clock current) {
     final LocalDateTime date = LocalDateTime.of(LocalDate.now(current), time.timeValue());
 
-    return getFormattedString(formatExpr, DATE_HANDLERS, date);
+    return formatPlan(formatExpr.stringValue(), DATE_FORMAT_PLANS, DATE_HANDLERS).format(date);
   }
 
   /**
@@ -273,7 +372,7 @@ class DateTimeFormatterUtil {
     // The time_format function will only return 0 or null for invalid string format specifiers.
     final LocalDateTime time = LocalDateTime.of(LocalDate.now(), timeExpr.timeValue());
 
-    return getFormattedString(formatExpr, TIME_HANDLERS, time);
+    return formatPlan(formatExpr.stringValue(), TIME_FORMAT_PLANS, TIME_HANDLERS).format(time);
   }
 
   private static boolean canGetDate(TemporalAccessor ta) {
@@ -291,30 +390,14 @@ class DateTimeFormatterUtil {
   static ExprValue parseStringWithDateOrTime(
       FunctionProperties fp, ExprValue datetimeStringExpr, ExprValue formatExpr) {
 
-    // Replace patterns with % for Java DateTimeFormatter
-    StringBuffer cleanFormat = getCleanFormat(formatExpr);
-    final Matcher matcher = pattern.matcher(cleanFormat.toString());
-    final StringBuffer format = new StringBuffer();
-
-    while (matcher.find()) {
-      matcher.appendReplacement(
-          format,
-          STR_TO_DATE_FORMATS.getOrDefault(
-              matcher.group(),
-              String.format("'%s'", matcher.group().replaceFirst(MOD_LITERAL, ""))));
-    }
-    matcher.appendTail(format);
+    final DateTimeFormatter formatter = strToDateFormatter(formatExpr.stringValue());
 
     TemporalAccessor taWithMissingFields;
     // Return NULL for invalid parse in string to align with MySQL
     try {
       // Get Temporal Accessor to initially parse string without default values
       taWithMissingFields =
-          new DateTimeFormatterBuilder()
-              .appendPattern(format.toString())
-              .toFormatter()
-              .withResolverStyle(ResolverStyle.STRICT)
-              .parseUnresolved(datetimeStringExpr.stringValue(), new ParsePosition(0));
+          formatter.parseUnresolved(datetimeStringExpr.stringValue(), new ParsePosition(0));
       if (taWithMissingFields == null) {
         throw new DateTimeException("Input string could not be parsed properly.");
       }
@@ -368,6 +451,39 @@ class DateTimeFormatterUtil {
     return new ExprTimestampValue(output);
   }
 
+  /**
+   * Get the Java formatter of a STR_TO_DATE format from cache, or compile it if absent.
+   *
+   * @param format format specifier
+   * @return Java formatter parsing without resolving fields
+   */
+  private static DateTimeFormatter strToDateFormatter(String format) {
+    DateTimeFormatter formatter = STR_TO_DATE_FORMATTERS.getIfPresent(format);
+    if (formatter == null) {
+      // Replace patterns with % for Java DateTimeFormatter
+      StringBuffer cleanFormat = getCleanFormat(format);
+      final Matcher matcher = pattern.matcher(cleanFormat.toString());
+      final StringBuffer javaFormat = new StringBuffer();
+
+      while (matcher.find()) {
+        matcher.appendReplacement(
+            javaFormat,
+            STR_TO_DATE_FORMATS.getOrDefault(
+                matcher.group(),
+                String.format("'%s'", matcher.group().replaceFirst(MOD_LITERAL, ""))));
+      }
+      matcher.appendTail(javaFormat);
+
+      formatter =
+          new DateTimeFormatterBuilder()
+              .appendPattern(javaFormat.toString())
+              .toFormatter()
+              .withResolverStyle(ResolverStyle.STRICT);
+      STR_TO_DATE_FORMATTERS.put(format, formatter);
+    }
+    return formatter;
+  }
+
   /**
    * Returns English suffix of incoming value.
    *
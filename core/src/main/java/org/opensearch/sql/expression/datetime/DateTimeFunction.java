@@ -140,6 +140,14 @@ public class DateTimeFunction {
           .put("QUARTER", "Q")
           .build();
 
+  // Formatters of the extract function, compiled once from the format of each part
+  private static final Map<String, DateTimeFormatter> extract_formatters =
+      extract_formats.entrySet().stream()
+          .collect(
+              ImmutableMap.toImmutableMap(
+                  Map.Entry::getKey,
+                  entry -> DateTimeFormatter.ofPattern(entry.getValue(), Locale.ENGLISH)));
+
   // Map used to determine format output for the get_format function
   private static final Table<String, String, String> formats =
       ImmutableTable.<String, String, String>builder()
@@ -1433,8 +1441,7 @@ public class DateTimeFunction {
   public ExprLongValue formatExtractFunction(ExprValue part, ExprValue timestamp) {
     String partName = part.stringValue().toUpperCase();
     LocalDateTime arg = timestamp.timestampValue().atZone(ZoneOffset.UTC).toLocalDateTime();
-    String text =
-        arg.format(DateTimeFormatter.ofPattern(extract_formats.get(partName), Locale.ENGLISH));
+    String text = arg.format(extract_formatters.get(partName));
 
     return new ExprLongValue(Long.parseLong(text));
   }
@@ -72,7 +72,8 @@ public class FunctionDSL {
           new FunctionSignature(functionName, Collections.emptyList());
       FunctionBuilder functionBuilder =
           (functionProperties, arguments) ->
-              new FunctionExpression(functionName, Collections.emptyList()) {
+              new FunctionExpressionWithProperties(
+                  functionName, Collections.emptyList(), functionProperties) {
                 @Override
                 public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
                   return function.apply(functionProperties);
@@ -112,7 +113,7 @@ public class FunctionDSL {
           new FunctionSignature(functionName, Collections.singletonList(argsType));
       FunctionBuilder functionBuilder =
           (functionProperties, arguments) ->
-              new FunctionExpression(functionName, arguments) {
+              new FunctionExpressionWithProperties(functionName, arguments, functionProperties) {
                 @Override
                 public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
                   ExprValue value = arguments.get(0).valueOf(valueEnv);
@@ -158,7 +159,7 @@ public class FunctionDSL {
           new FunctionSignature(functionName, Arrays.asList(args1Type, args2Type));
       FunctionBuilder functionBuilder =
           (functionProperties, arguments) ->
-              new FunctionExpression(functionName, arguments) {
+              new FunctionExpressionWithProperties(functionName, arguments, functionProperties) {
                 @Override
                 public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
                   ExprValue arg1 = arguments.get(0).valueOf(valueEnv);
@@ -208,7 +209,7 @@ public class FunctionDSL {
           new FunctionSignature(functionName, Arrays.asList(args1Type, args2Type, args3Type));
       FunctionBuilder functionBuilder =
           (functionProperties, arguments) ->
-              new FunctionExpression(functionName, arguments) {
+              new FunctionExpressionWithProperties(functionName, arguments, functionProperties) {
                 @Override
                 public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
                   ExprValue arg1 = arguments.get(0).valueOf(valueEnv);
@@ -0,0 +1,29 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.function;
+
+import java.util.List;
+import lombok.Getter;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+
+/**
+ * Function expression evaluated with the {@link FunctionProperties} it was built with, such as the
+ * current date and time functions. The properties are exposed so that the expression can be built
+ * again by {@link BuiltinFunctionRepository} with the same properties.
+ */
+public abstract class FunctionExpressionWithProperties extends FunctionExpression {
+
+  @Getter private final FunctionProperties functionProperties;
+
+  public FunctionExpressionWithProperties(
+      FunctionName functionName,
+      List<Expression> arguments,
+      FunctionProperties functionProperties) {
+    super(functionName, arguments);
+    this.functionProperties = functionProperties;
+  }
+}
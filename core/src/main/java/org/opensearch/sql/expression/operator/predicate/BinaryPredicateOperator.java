@@ -9,6 +9,8 @@ import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.model.ExprValueUtils.missingValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.nullValue;
 import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
@@ -18,14 +20,29 @@ import static org.opensearch.sql.expression.function.FunctionDSL.nullMissingHand
 
 import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Table;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.expression.function.DefaultFunctionResolver;
+import org.opensearch.sql.expression.function.FunctionBuilder;
+import org.opensearch.sql.expression.function.FunctionExpressionWithProperties;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.function.FunctionSignature;
+import org.opensearch.sql.expression.function.SerializableFunction;
+import org.opensearch.sql.utils.LikePattern;
 import org.opensearch.sql.utils.OperatorUtils;
 
 /**
@@ -387,24 +404,103 @@ public class BinaryPredicateOperator {
   private static DefaultFunctionResolver like() {
     return define(
         BuiltinFunctionName.LIKE.getName(),
-        impl(nullMissingHandling(OperatorUtils::matches), BOOLEAN, STRING, STRING));
+        patternImpl(
+            pattern -> {
+              LikePattern likePattern = OperatorUtils.likePattern(pattern);
+              return text -> ExprBooleanValue.of(likePattern.matches(text));
+            },
+            BOOLEAN));
   }
 
   private static DefaultFunctionResolver regexp() {
     return define(
         BuiltinFunctionName.REGEXP.getName(),
-        impl(nullMissingHandling(OperatorUtils::matchesRegexp), INTEGER, STRING, STRING));
+        patternImpl(
+            pattern -> {
+              Pattern regexpPattern = OperatorUtils.regexpPattern(pattern);
+              return text -> new ExprIntegerValue(regexpPattern.matcher(text).matches() ? 1 : 0);
+            },
+            INTEGER));
   }
 
   private static DefaultFunctionResolver notLike() {
     return define(
         BuiltinFunctionName.NOT_LIKE.getName(),
-        impl(
-            nullMissingHandling(
-                (v1, v2) -> UnaryPredicateOperator.not(OperatorUtils.matches(v1, v2))),
-            BOOLEAN,
-            STRING,
-            STRING));
+        patternImpl(
+            pattern -> {
+              LikePattern likePattern = OperatorUtils.likePattern(pattern);
+              return text -> ExprBooleanValue.of(!likePattern.matches(text));
+            },
+            BOOLEAN));
+  }
+
+  /**
+   * Implementation of a function matching text against pattern, with default NULL and MISSING
+   * handling. The pattern is compiled once when the function is built if it is a literal, otherwise
+   * it is compiled or looked up in the pattern cache on each evaluation.
+   *
+   * @param compiler compile pattern into the function matching text against it
+   * @param returnType return type
+   * @return Binary Function Implementation.
+   */
+  private static SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>>
+      patternImpl(
+          SerializableFunction<String, SerializableFunction<String, ExprValue>> compiler,
+          ExprType returnType) {
+    return functionName -> {
+      FunctionSignature functionSignature =
+          new FunctionSignature(functionName, Arrays.asList(STRING, STRING));
+      FunctionBuilder functionBuilder =
+          (functionProperties, arguments) -> {
+            SerializableFunction<String, ExprValue> literalMatcher =
+                compileLiteral(compiler, arguments.get(1));
+            return new FunctionExpressionWithProperties(
+                functionName, arguments, functionProperties) {
+              @Override
+              public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+                ExprValue text = arguments.get(0).valueOf(valueEnv);
+                ExprValue pattern = arguments.get(1).valueOf(valueEnv);
+                if (text.isMissing() || pattern.isMissing()) {
+                  return missingValue();
+                } else if (text.isNull() || pattern.isNull()) {
+                  return nullValue();
+                }
+                if (literalMatcher != null) {
+                  return literalMatcher.apply(text.stringValue());
+                }
+                return compiler.apply(pattern.stringValue()).apply(text.stringValue());
+              }
+
+              @Override
+              public ExprType type() {
+                return returnType;
+              }
+
+              @Override
+              public String toString() {
+                return String.format(
+                    "%s(%s)",
+                    functionName,
+                    arguments.stream().map(Object::toString).collect(Collectors.joining(", ")));
+              }
+            };
+          };
+      return Pair.of(functionSignature, functionBuilder);
+    };
+  }
+
+  /** Compile the pattern if it is a literal, otherwise return null. */
+  private static SerializableFunction<String, ExprValue> compileLiteral(
+      SerializableFunction<String, SerializableFunction<String, ExprValue>> compiler,
+      Expression pattern) {
+    if (pattern instanceof LiteralExpression) {
+      try {
+        return compiler.apply(pattern.valueOf().stringValue());
+      } catch (PatternSyntaxException e) {
+        // left to evaluation, which fails with the same error as before
+      }
+    }
+    return null;
   }
 
   private static ExprValue lookupTableFunction(
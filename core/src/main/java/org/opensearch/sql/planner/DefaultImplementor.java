@@ -38,6 +38,7 @@ import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
 import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.TakeOrderedOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.planner.physical.WindowOperator;
 import org.opensearch.sql.storage.read.TableScanBuilder;
@@ -129,7 +130,14 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
 
   @Override
   public PhysicalPlan visitLimit(LogicalLimit node, C context) {
-    return new LimitOperator(visitChild(node, context), node.getLimit(), node.getOffset());
+    PhysicalPlan child = visitChild(node, context);
+    // Fuse sort and limit into take ordered operator which keeps only offset + limit rows
+    if (child instanceof SortOperator) {
+      SortOperator sortChild = (SortOperator) child;
+      return new TakeOrderedOperator(
+          sortChild.getInput(), node.getLimit(), node.getOffset(), sortChild.getSortList());
+    }
+    return new LimitOperator(child, node.getLimit(), node.getOffset());
   }
 
   @Override
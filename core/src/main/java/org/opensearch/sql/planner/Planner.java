@@ -5,8 +5,12 @@
 
 package org.opensearch.sql.planner;
 
+import static org.opensearch.sql.common.utils.QueryPhase.OPTIMIZE;
+import static org.opensearch.sql.common.utils.QueryPhase.PLAN;
+
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.common.utils.QueryPhaseTimer;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
 import org.opensearch.sql.planner.logical.LogicalRelation;
@@ -31,9 +35,10 @@ public class Planner {
   public PhysicalPlan plan(LogicalPlan plan) {
     Table table = findTable(plan);
     if (table == null) {
-      return plan.accept(new DefaultImplementor<>(), null);
+      return QueryPhaseTimer.time(PLAN, () -> plan.accept(new DefaultImplementor<>(), null));
     }
-    return table.implement(table.optimize(optimize(plan)));
+    LogicalPlan optimized = QueryPhaseTimer.time(OPTIMIZE, () -> table.optimize(optimize(plan)));
+    return QueryPhaseTimer.time(PLAN, () -> table.implement(optimized));
   }
 
   private Table findTable(LogicalPlan plan) {
@@ -54,6 +54,7 @@ public class LogicalPlanOptimizer {
             TableScanPushDown.PUSH_DOWN_AGGREGATION,
             TableScanPushDown.PUSH_DOWN_SORT,
             TableScanPushDown.PUSH_DOWN_LIMIT,
+            TableScanPushDown.PUSH_DOWN_DEDUPE,
             new PushDownPageSize(),
             TableScanPushDown.PUSH_DOWN_HIGHLIGHT,
             TableScanPushDown.PUSH_DOWN_NESTED,
@@ -17,6 +17,7 @@ import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.aggregation.Aggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.planner.physical.collector.Collector;
+import org.opensearch.sql.planner.physical.collector.SpillableAggregation;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
@@ -30,11 +31,19 @@ public class AggregationOperator extends PhysicalPlan {
   @Getter private final List<NamedAggregator> aggregatorList;
   @Getter private final List<NamedExpression> groupByExprList;
 
+  /**
+   * Largest estimated size in bytes of the groups held in memory. Rows of new groups beyond are
+   * spilled to disk and aggregated in another pass. No spilling if it is not positive.
+   */
+  @Getter private final long memoryLimit;
+
   /** {@link BindingTuple} Collector. */
   @EqualsAndHashCode.Exclude private final Collector collector;
 
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
 
+  @EqualsAndHashCode.Exclude @ToString.Exclude private SpillableAggregation spillableAggregation;
+
   /**
    * AggregationOperator Constructor.
    *
@@ -46,9 +55,26 @@ public class AggregationOperator extends PhysicalPlan {
       PhysicalPlan input,
       List<NamedAggregator> aggregatorList,
       List<NamedExpression> groupByExprList) {
+    this(input, aggregatorList, groupByExprList, 0L);
+  }
+
+  /**
+   * AggregationOperator Constructor.
+   *
+   * @param input Input {@link PhysicalPlan}
+   * @param aggregatorList List of {@link Aggregator}
+   * @param groupByExprList List of group by {@link Expression}
+   * @param memoryLimit largest estimated size in bytes of the groups held in memory
+   */
+  public AggregationOperator(
+      PhysicalPlan input,
+      List<NamedAggregator> aggregatorList,
+      List<NamedExpression> groupByExprList,
+      long memoryLimit) {
     this.input = input;
     this.aggregatorList = aggregatorList;
     this.groupByExprList = groupByExprList;
+    this.memoryLimit = memoryLimit;
     this.collector = Collector.Builder.build(groupByExprList, this.aggregatorList);
   }
 
@@ -75,9 +101,32 @@ public class AggregationOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
-    while (input.hasNext()) {
-      collector.collect(input.next().bindingTuples());
+    if (memoryLimit > 0 && !groupByExprList.isEmpty()) {
+      spillableAggregation = new SpillableAggregation(groupByExprList, aggregatorList, memoryLimit);
+      for (RowBatch batch = input.nextBatch(); !batch.isEmpty(); batch = input.nextBatch()) {
+        for (int i = 0; i < batch.size(); i++) {
+          spillableAggregation.add(batch.get(i));
+        }
+      }
+      iterator = spillableAggregation.results();
+      return;
+    }
+
+    // Input is consumed by batch, so filter, eval and project below run in a loop per batch
+    for (RowBatch batch = input.nextBatch(); !batch.isEmpty(); batch = input.nextBatch()) {
+      for (int i = 0; i < batch.size(); i++) {
+        collector.collect(batch.get(i).bindingTuples());
+      }
     }
     iterator = collector.results().iterator();
   }
+
+  @Override
+  public void close() {
+    super.close();
+    if (spillableAggregation != null) {
+      spillableAggregation.close();
+      spillableAggregation = null;
+    }
+  }
 }
@@ -5,19 +5,19 @@
 
 package org.opensearch.sql.planner.physical;
 
-import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.BiFunction;
 import java.util.function.Predicate;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.physical.dedupe.KeyCounter;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
@@ -33,14 +33,25 @@ public class DedupeOperator extends PhysicalPlan {
   @Getter private final Boolean keepEmpty;
   @Getter private final Boolean consecutive;
 
-  @EqualsAndHashCode.Exclude private final Deduper<List<ExprValue>> deduper;
+  /**
+   * Largest size in bytes of the dedupe key counts held in memory. Keys beyond are counted
+   * approximately, which may drop a few rows seen for the first time. No limit if it is not
+   * positive.
+   */
+  @Getter private final long memoryLimit;
+
+  @EqualsAndHashCode.Exclude private final Deduper deduper;
   @EqualsAndHashCode.Exclude private ExprValue next;
 
+  /** Dedupe key of the row being tested, reused for every row. */
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  private final ExprValue[] dedupeKey;
+
   private static final Integer ALL_ONE_DUPLICATION = 1;
   private static final Boolean IGNORE_EMPTY = false;
   private static final Boolean NON_CONSECUTIVE = false;
   private static final Predicate<ExprValue> NULL_OR_MISSING = v -> v.isNull() || v.isMissing();
-  private static final Integer SEEN_FIRST_TIME = 1;
 
   @NonNull
   public DedupeOperator(PhysicalPlan input, List<Expression> dedupeList) {
@@ -63,12 +74,36 @@ public class DedupeOperator extends PhysicalPlan {
       Integer allowedDuplication,
       Boolean keepEmpty,
       Boolean consecutive) {
+    this(input, dedupeList, allowedDuplication, keepEmpty, consecutive, 0L);
+  }
+
+  /**
+   * Dedup Constructor.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param dedupeList list of dedupe {@link Expression}
+   * @param allowedDuplication max allowed duplication
+   * @param keepEmpty keep empty
+   * @param consecutive consecutive mode
+   * @param memoryLimit largest size in bytes of the dedupe key counts held in memory
+   */
+  @NonNull
+  public DedupeOperator(
+      PhysicalPlan input,
+      List<Expression> dedupeList,
+      Integer allowedDuplication,
+      Boolean keepEmpty,
+      Boolean consecutive,
+      long memoryLimit) {
     this.input = input;
     this.dedupeList = dedupeList;
     this.allowedDuplication = allowedDuplication;
     this.keepEmpty = keepEmpty;
     this.consecutive = consecutive;
-    this.deduper = this.consecutive ? Deduper.consecutiveDeduper() : Deduper.historicalDeduper();
+    this.memoryLimit = memoryLimit;
+    this.deduper =
+        this.consecutive ? Deduper.consecutiveDeduper() : Deduper.historicalDeduper(memoryLimit);
+    this.dedupeKey = new ExprValue[dedupeList.size()];
   }
 
   @Override
@@ -81,6 +116,11 @@ public class DedupeOperator extends PhysicalPlan {
     return Collections.singletonList(input);
   }
 
+  @Override
+  public Map<String, Object> profileMetrics() {
+    return deduper.metrics();
+  }
+
   @Override
   public boolean hasNext() {
     while (input.hasNext()) {
@@ -109,15 +149,13 @@ public class DedupeOperator extends PhysicalPlan {
    */
   public boolean keep(ExprValue value) {
     BindingTuple bindingTuple = value.bindingTuples();
-    ImmutableList.Builder<ExprValue> dedupeKeyBuilder = new ImmutableList.Builder<>();
-    for (Expression expression : dedupeList) {
-      ExprValue exprValue = expression.valueOf(bindingTuple);
+    for (int i = 0; i < dedupeKey.length; i++) {
+      ExprValue exprValue = dedupeList.get(i).valueOf(bindingTuple);
       if (NULL_OR_MISSING.test(exprValue)) {
         return keepEmpty;
       }
-      dedupeKeyBuilder.add(exprValue);
+      dedupeKey[i] = exprValue;
     }
-    List<ExprValue> dedupeKey = dedupeKeyBuilder.build();
     int seenTimes = deduper.seenTimes(dedupeKey);
     return seenTimes <= allowedDuplication;
   }
@@ -125,42 +163,66 @@ public class DedupeOperator extends PhysicalPlan {
   /**
    * Return how many times the dedupeKey has been seen before. The side effect is the seen times
    * will add 1 times after calling this function.
-   *
-   * @param <K> dedupe key
    */
-  @RequiredArgsConstructor
-  static class Deduper<K> {
-    private final BiFunction<Map<K, Integer>, K, Integer> seenFirstTime;
-    private final Map<K, Integer> seenMap = new ConcurrentHashMap<>();
-
-    /** The Historical Deduper monitor the duplicated element with all the seen value. */
-    public static <K> Deduper<K> historicalDeduper() {
-      return new Deduper<>(
-          (map, key) -> {
-            map.put(key, SEEN_FIRST_TIME);
-            return SEEN_FIRST_TIME;
-          });
+  abstract static class Deduper {
+
+    /**
+     * The Historical Deduper monitor the duplicated element with all the seen value. Keys are
+     * counted by hash and approximately once over the memory limit, see {@link KeyCounter}.
+     *
+     * @param memoryLimit largest size in bytes of the key counts, no limit if it is not positive
+     */
+    public static Deduper historicalDeduper(long memoryLimit) {
+      KeyCounter counter = new KeyCounter(memoryLimit);
+      return new Deduper() {
+        @Override
+        public int seenTimes(ExprValue[] dedupeKey) {
+          return counter.increment(dedupeKey);
+        }
+
+        @Override
+        Map<String, Object> metrics() {
+          return ImmutableMap.of(
+              "distinctKeys", counter.getDistinctKeys(), "approximate", counter.isApproximate());
+        }
+      };
     }
 
     /**
      * The Consecutive Deduper monitor the duplicated element with consecutive seen value. It means
      * only the consecutive duplicated value will be counted.
      */
-    public static <K> Deduper<K> consecutiveDeduper() {
-      return new Deduper<>(
-          (map, key) -> {
-            map.clear();
-            map.put(key, SEEN_FIRST_TIME);
-            return SEEN_FIRST_TIME;
-          });
+    public static Deduper consecutiveDeduper() {
+      return new Deduper() {
+        private ExprValue[] lastKey;
+        private int seenTimes = 0;
+
+        @Override
+        public int seenTimes(ExprValue[] dedupeKey) {
+          if (Arrays.equals(lastKey, dedupeKey)) {
+            return ++seenTimes;
+          }
+          lastKey = dedupeKey.clone();
+          seenTimes = 1;
+          return seenTimes;
+        }
+
+        @Override
+        Map<String, Object> metrics() {
+          return Map.of();
+        }
+      };
     }
 
-    public int seenTimes(K dedupeKey) {
-      if (seenMap.containsKey(dedupeKey)) {
-        return seenMap.computeIfPresent(dedupeKey, (k, v) -> v + 1);
-      } else {
-        return seenFirstTime.apply(seenMap, dedupeKey);
-      }
-    }
+    /**
+     * Count the dedupe key once more.
+     *
+     * @param dedupeKey values of dedupe key, which may be reused by caller after return
+     * @return how many times the key has been seen, including this time
+     */
+    public abstract int seenTimes(ExprValue[] dedupeKey);
+
+    /** Metrics of the keys seen, for profile. */
+    abstract Map<String, Object> metrics();
   }
 }
@@ -8,16 +8,13 @@ package org.opensearch.sql.planner.physical;
 import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 import static org.opensearch.sql.expression.env.Environment.extendEnv;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMap.Builder;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.data.model.ExprTupleValue;
@@ -25,6 +22,7 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
 import org.opensearch.sql.expression.env.Environment;
 
 /**
@@ -35,14 +33,34 @@ import org.opensearch.sql.expression.env.Environment;
  * <p>The {@link EvalOperator#expressionList} are evaluated from left to right. It means you can
  * reference previous evaluated field. e.g. fields velocity = distance/time, doubleVelocity = 2 *
  * velocity
+ *
+ * <p>The expressions are compiled by {@link ExpressionCompiler} once before evaluating any tuple.
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-@RequiredArgsConstructor
 public class EvalOperator extends PhysicalPlan {
   @Getter private final PhysicalPlan input;
   @Getter private final List<Pair<ReferenceExpression, Expression>> expressionList;
 
+  @EqualsAndHashCode.Exclude @ToString.Exclude
+  private final List<Pair<ReferenceExpression, Expression>> compiledExpressionList;
+
+  /**
+   * Constructor of {@link EvalOperator}.
+   *
+   * @param input input plan
+   * @param expressionList list of reference and the expression to evaluate
+   */
+  public EvalOperator(
+      PhysicalPlan input, List<Pair<ReferenceExpression, Expression>> expressionList) {
+    this.input = input;
+    this.expressionList = expressionList;
+    this.compiledExpressionList =
+        expressionList.stream()
+            .map(pair -> Pair.of(pair.getKey(), ExpressionCompiler.compile(pair.getValue())))
+            .collect(Collectors.toList());
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitEval(this, context);
@@ -60,22 +78,23 @@ public class EvalOperator extends PhysicalPlan {
 
   @Override
   public ExprValue next() {
-    ExprValue inputValue = input.next();
+    return evalRow(input.next());
+  }
+
+  @Override
+  public RowBatch nextBatch() {
+    return input.nextBatch().map(this::evalRow);
+  }
+
+  private ExprValue evalRow(ExprValue inputValue) {
     Map<String, ExprValue> evalMap = eval(inputValue.bindingTuples());
 
     if (STRUCT == inputValue.type()) {
-      ImmutableMap.Builder<String, ExprValue> resultBuilder = new Builder<>();
-      Map<String, ExprValue> tupleValue = ExprValueUtils.getTupleValue(inputValue);
-      for (Entry<String, ExprValue> valueEntry : tupleValue.entrySet()) {
-        if (evalMap.containsKey(valueEntry.getKey())) {
-          resultBuilder.put(valueEntry.getKey(), evalMap.get(valueEntry.getKey()));
-          evalMap.remove(valueEntry.getKey());
-        } else {
-          resultBuilder.put(valueEntry);
-        }
-      }
-      resultBuilder.putAll(evalMap);
-      return ExprTupleValue.fromExprValueMap(resultBuilder.build());
+      // Existing fields are overridden in place and new fields are appended in evaluation order
+      LinkedHashMap<String, ExprValue> resultMap =
+          new LinkedHashMap<>(ExprValueUtils.getTupleValue(inputValue));
+      resultMap.putAll(evalMap);
+      return new ExprTupleValue(resultMap);
     } else {
       return inputValue;
     }
@@ -89,7 +108,7 @@ public class EvalOperator extends PhysicalPlan {
    */
   private Map<String, ExprValue> eval(Environment<Expression, ExprValue> env) {
     Map<String, ExprValue> evalResultMap = new LinkedHashMap<>();
-    for (Pair<ReferenceExpression, Expression> pair : expressionList) {
+    for (Pair<ReferenceExpression, Expression> pair : compiledExpressionList) {
       ReferenceExpression var = pair.getKey();
       ExprValue value = pair.getValue().valueOf(env);
       env = extendEnv(env, var, value);
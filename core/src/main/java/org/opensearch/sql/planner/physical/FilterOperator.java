@@ -9,26 +9,39 @@ import java.util.Collections;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
 import org.opensearch.sql.expression.operator.predicate.BinaryPredicateOperator;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * The Filter operator represents WHERE clause and uses the conditions to evaluate the input {@link
  * BindingTuple}. The Filter operator only returns the results that evaluated to true. The NULL and
- * MISSING are handled by the logic defined in {@link BinaryPredicateOperator}.
+ * MISSING are handled by the logic defined in {@link BinaryPredicateOperator}. The conditions are
+ * compiled by {@link ExpressionCompiler} once before evaluating any tuple.
  */
 @EqualsAndHashCode(callSuper = false)
 @ToString
-@RequiredArgsConstructor
 public class FilterOperator extends PhysicalPlan {
   @Getter private final PhysicalPlan input;
   @Getter private final Expression conditions;
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final Expression compiledConditions;
   @ToString.Exclude private ExprValue next = null;
 
+  /**
+   * Constructor of {@link FilterOperator}.
+   *
+   * @param input input plan
+   * @param conditions filter conditions
+   */
+  public FilterOperator(PhysicalPlan input, Expression conditions) {
+    this.input = input;
+    this.conditions = conditions;
+    this.compiledConditions = ExpressionCompiler.compile(conditions);
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitFilter(this, context);
@@ -43,8 +56,7 @@ public class FilterOperator extends PhysicalPlan {
   public boolean hasNext() {
     while (input.hasNext()) {
       ExprValue inputValue = input.next();
-      ExprValue exprValue = conditions.valueOf(inputValue.bindingTuples());
-      if (!(exprValue.isNull() || exprValue.isMissing()) && (exprValue.booleanValue())) {
+      if (matches(inputValue)) {
         next = inputValue;
         return true;
       }
@@ -56,4 +68,29 @@ public class FilterOperator extends PhysicalPlan {
   public ExprValue next() {
     return next;
   }
+
+  /** Rows matched in each input batch are selected without being copied. */
+  @Override
+  public RowBatch nextBatch() {
+    RowBatch batch = input.nextBatch();
+    while (!batch.isEmpty()) {
+      int[] positions = new int[batch.size()];
+      int count = 0;
+      for (int i = 0; i < batch.size(); i++) {
+        if (matches(batch.get(i))) {
+          positions[count++] = i;
+        }
+      }
+      if (count > 0) {
+        return batch.select(positions, count);
+      }
+      batch = input.nextBatch();
+    }
+    return batch;
+  }
+
+  private boolean matches(ExprValue inputValue) {
+    ExprValue exprValue = compiledConditions.valueOf(inputValue.bindingTuples());
+    return !(exprValue.isNull() || exprValue.isMissing()) && (exprValue.booleanValue());
+  }
 }
@@ -5,7 +5,10 @@
 
 package org.opensearch.sql.planner.physical;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.planner.PlanNode;
@@ -14,6 +17,10 @@ import org.opensearch.sql.storage.split.Split;
 /** Physical plan. */
 public abstract class PhysicalPlan
     implements PlanNode<PhysicalPlan>, Iterator<ExprValue>, AutoCloseable {
+
+  /** Largest number of rows in a batch adapted from the row iterator by {@link #nextBatch()}. */
+  public static final int DEFAULT_BATCH_SIZE = 1024;
+
   /**
    * Accept the {@link PhysicalPlanNodeVisitor}.
    *
@@ -33,6 +40,31 @@ public abstract class PhysicalPlan
     getChild().forEach(PhysicalPlan::close);
   }
 
+  /**
+   * Get the next batch of rows, for an operator consuming all rows of its input in a loop. The
+   * default implementation adapts the row iterator, so a plan without batch support can be the
+   * input of one with. The row and batch API should not be mixed on the same plan.
+   *
+   * @return next batch of rows, empty if there are no more rows
+   */
+  public RowBatch nextBatch() {
+    List<ExprValue> rows = new ArrayList<>();
+    while (rows.size() < DEFAULT_BATCH_SIZE && hasNext()) {
+      rows.add(next());
+    }
+    return RowBatch.of(rows);
+  }
+
+  /**
+   * Runtime metrics specific to this operator, such as rows buffered, which are reported by query
+   * profile in addition to the rows and time of every operator.
+   *
+   * @return metric name to value
+   */
+  public Map<String, Object> profileMetrics() {
+    return Map.of();
+  }
+
   public void add(Split split) {
     getChild().forEach(child -> child.add(split));
   }
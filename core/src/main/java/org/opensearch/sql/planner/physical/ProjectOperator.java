@@ -5,12 +5,13 @@
 
 package org.opensearch.sql.planner.physical;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMap.Builder;
+import static org.opensearch.sql.data.model.ExprValueUtils.putUnique;
+
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -25,6 +26,7 @@ import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.parse.ParseExpression;
 import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /** Project the fields specified in {@link ProjectOperator#projectList} from input. */
 @ToString
@@ -52,41 +54,51 @@ public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
 
   @Override
   public ExprValue next() {
-    ExprValue inputValue = input.next();
-    ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
+    return project(input.next());
+  }
+
+  @Override
+  public RowBatch nextBatch() {
+    return input.nextBatch().map(this::project);
+  }
+
+  private ExprValue project(ExprValue inputValue) {
+    BindingTuple bindingTuple = inputValue.bindingTuples();
+    // Row is built in a map owned by the new tuple value, instead of a builder copied again
+    LinkedHashMap<String, ExprValue> valueMap = new LinkedHashMap<>();
 
     // ParseExpression will always override NamedExpression when identifier conflicts
     // TODO needs a better implementation, see https://github.com/opensearch-project/sql/issues/458
     for (NamedExpression expr : projectList) {
-      ExprValue exprValue = expr.valueOf(inputValue.bindingTuples());
+      ExprValue exprValue = expr.valueOf(bindingTuple);
       Optional<NamedExpression> optionalParseExpression =
-          namedParseExpressions.stream()
-              .filter(parseExpr -> parseExpr.getNameOrAlias().equals(expr.getNameOrAlias()))
-              .findFirst();
+          namedParseExpressions.isEmpty()
+              ? Optional.empty()
+              : namedParseExpressions.stream()
+                  .filter(parseExpr -> parseExpr.getNameOrAlias().equals(expr.getNameOrAlias()))
+                  .findFirst();
       if (optionalParseExpression.isEmpty()) {
-        mapBuilder.put(expr.getNameOrAlias(), exprValue);
+        putUnique(valueMap, expr.getNameOrAlias(), exprValue);
         continue;
       }
 
       NamedExpression parseExpression = optionalParseExpression.get();
       ExprValue sourceFieldValue =
-          inputValue
-              .bindingTuples()
-              .resolve(((ParseExpression) parseExpression.getDelegated()).getSourceField());
+          bindingTuple.resolve(((ParseExpression) parseExpression.getDelegated()).getSourceField());
       if (sourceFieldValue.isMissing()) {
         // source field will be missing after stats command, read from inputValue if it exists
         // otherwise do nothing since it should not appear as a field
         ExprValue tupleValue =
             ExprValueUtils.getTupleValue(inputValue).get(parseExpression.getNameOrAlias());
         if (tupleValue != null) {
-          mapBuilder.put(parseExpression.getNameOrAlias(), tupleValue);
+          putUnique(valueMap, parseExpression.getNameOrAlias(), tupleValue);
         }
       } else {
-        ExprValue parsedValue = parseExpression.valueOf(inputValue.bindingTuples());
-        mapBuilder.put(parseExpression.getNameOrAlias(), parsedValue);
+        ExprValue parsedValue = parseExpression.valueOf(bindingTuple);
+        putUnique(valueMap, parseExpression.getNameOrAlias(), parsedValue);
       }
     }
-    return ExprTupleValue.fromExprValueMap(mapBuilder.build());
+    return new ExprTupleValue(valueMap);
   }
 
   @Override
@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.UnaryOperator;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Batch of rows passed between physical operators by {@link PhysicalPlan#nextBatch()}. Rows are
+ * selected by a selection vector over the row array, so filtering a batch doesn't copy any row.
+ */
+public class RowBatch implements Iterable<ExprValue> {
+
+  private static final RowBatch EMPTY = new RowBatch(new ExprValue[0], null, 0);
+
+  private final ExprValue[] rows;
+
+  /** Positions of the rows selected in row array, null if all rows are selected in order. */
+  private final int[] selection;
+
+  private final int size;
+
+  private RowBatch(ExprValue[] rows, int[] selection, int size) {
+    this.rows = rows;
+    this.selection = selection;
+    this.size = size;
+  }
+
+  /**
+   * Create batch of the given rows.
+   *
+   * @param rows rows
+   * @return batch
+   */
+  public static RowBatch of(List<ExprValue> rows) {
+    return rows.isEmpty() ? EMPTY : new RowBatch(rows.toArray(new ExprValue[0]), null, rows.size());
+  }
+
+  /**
+   * Empty batch which means no more rows.
+   *
+   * @return empty batch
+   */
+  public static RowBatch empty() {
+    return EMPTY;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Get row of the batch.
+   *
+   * @param index index of the row in this batch
+   * @return row
+   */
+  public ExprValue get(int index) {
+    return rows[selection == null ? index : selection[index]];
+  }
+
+  /**
+   * Select rows of this batch without copying them. The positions array is owned by the new
+   * batch afterwards.
+   *
+   * @param positions ascending indexes of the rows selected in this batch
+   * @param count number of the rows selected, which are the first in positions
+   * @return batch of the rows selected
+   */
+  public RowBatch select(int[] positions, int count) {
+    if (count == 0) {
+      return EMPTY;
+    }
+    if (selection != null) {
+      for (int i = 0; i < count; i++) {
+        positions[i] = selection[positions[i]];
+      }
+    }
+    return new RowBatch(rows, positions, count);
+  }
+
+  /**
+   * Transform every row of this batch.
+   *
+   * @param mapper function to transform a row
+   * @return batch of the rows transformed
+   */
+  public RowBatch map(UnaryOperator<ExprValue> mapper) {
+    ExprValue[] result = new ExprValue[size];
+    for (int i = 0; i < size; i++) {
+      result[i] = mapper.apply(get(i));
+    }
+    return new RowBatch(result, null, size);
+  }
+
+  @Override
+  public Iterator<ExprValue> iterator() {
+    return new Iterator<>() {
+      private int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+
+      @Override
+      public ExprValue next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return get(index++);
+      }
+    };
+  }
+}
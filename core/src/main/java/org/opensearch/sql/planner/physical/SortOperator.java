@@ -8,10 +8,12 @@ package org.opensearch.sql.planner.physical;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_FIRST;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.ASC;
 
+import com.google.common.collect.ImmutableMap;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -24,6 +26,7 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.utils.ExprValueOrdering;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.planner.physical.SortOperator.Sorter.SorterBuilder;
+import org.opensearch.sql.planner.physical.spill.ExternalSorter;
 
 /**
  * Sort Operator.The input data is sorted by the sort fields in the {@link SortOperator#sortList}.
@@ -36,8 +39,22 @@ public class SortOperator extends PhysicalPlan {
   @Getter private final PhysicalPlan input;
 
   @Getter private final List<Pair<SortOption, Expression>> sortList;
+
+  /**
+   * Largest estimated size in bytes of the rows held in memory. Rows beyond are spilled to disk in
+   * sorted runs and merged on read. No spilling if it is not positive.
+   */
+  @Getter private final long memoryLimit;
+
   @EqualsAndHashCode.Exclude private final Sorter sorter;
   @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
+  @EqualsAndHashCode.Exclude @ToString.Exclude private ExternalSorter externalSorter;
+
+  /** Largest number of rows held in memory, for profile. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private int peakBufferedRows;
+
+  /** Number of sorted runs spilled to disk, for profile. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private int spilledRuns;
 
   /**
    * Sort Operator Constructor.
@@ -47,20 +64,23 @@ public class SortOperator extends PhysicalPlan {
    *     with {@link SortOption}
    */
   public SortOperator(PhysicalPlan input, List<Pair<SortOption, Expression>> sortList) {
+    this(input, sortList, 0L);
+  }
+
+  /**
+   * Sort Operator Constructor.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort sort field. The sort field is specified by the {@link Expression}
+   *     with {@link SortOption}
+   * @param memoryLimit largest estimated size in bytes of the rows held in memory
+   */
+  public SortOperator(
+      PhysicalPlan input, List<Pair<SortOption, Expression>> sortList, long memoryLimit) {
     this.input = input;
     this.sortList = sortList;
-    SorterBuilder sorterBuilder = Sorter.builder();
-    for (Pair<SortOption, Expression> pair : sortList) {
-      SortOption option = pair.getLeft();
-      ExprValueOrdering ordering =
-          ASC.equals(option.getSortOrder())
-              ? ExprValueOrdering.natural()
-              : ExprValueOrdering.natural().reverse();
-      ordering =
-          NULL_FIRST.equals(option.getNullOrder()) ? ordering.nullsFirst() : ordering.nullsLast();
-      sorterBuilder.comparator(Pair.of(pair.getRight(), ordering));
-    }
-    this.sorter = sorterBuilder.build();
+    this.memoryLimit = memoryLimit;
+    this.sorter = Sorter.of(sortList);
   }
 
   @Override
@@ -71,14 +91,41 @@ public class SortOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
+    if (memoryLimit > 0) {
+      externalSorter = new ExternalSorter(sorter, memoryLimit);
+      while (input.hasNext()) {
+        externalSorter.add(input.next());
+      }
+      peakBufferedRows = externalSorter.getPeakBufferedValues();
+      spilledRuns = externalSorter.getSpilledRuns();
+      iterator = externalSorter.sorted();
+      return;
+    }
+
     PriorityQueue<ExprValue> sorted = new PriorityQueue<>(1, sorter::compare);
     while (input.hasNext()) {
       sorted.add(input.next());
     }
+    peakBufferedRows = sorted.size();
+    spilledRuns = 0;
 
     iterator = iterator(sorted);
   }
 
+  @Override
+  public void close() {
+    super.close();
+    if (externalSorter != null) {
+      externalSorter.close();
+      externalSorter = null;
+    }
+  }
+
+  @Override
+  public Map<String, Object> profileMetrics() {
+    return ImmutableMap.of("peakBufferedRows", peakBufferedRows, "spilledRuns", spilledRuns);
+  }
+
   @Override
   public List<PhysicalPlan> getChild() {
     return Collections.singletonList(input);
@@ -98,6 +145,27 @@ public class SortOperator extends PhysicalPlan {
   public static class Sorter implements Comparator<ExprValue> {
     @Singular private final List<Pair<Expression, Comparator<ExprValue>>> comparators;
 
+    /**
+     * Create sorter for the given sort fields.
+     *
+     * @param sortList list of sort field with {@link SortOption}
+     * @return sorter
+     */
+    public static Sorter of(List<Pair<SortOption, Expression>> sortList) {
+      SorterBuilder sorterBuilder = Sorter.builder();
+      for (Pair<SortOption, Expression> pair : sortList) {
+        SortOption option = pair.getLeft();
+        ExprValueOrdering ordering =
+            ASC.equals(option.getSortOrder())
+                ? ExprValueOrdering.natural()
+                : ExprValueOrdering.natural().reverse();
+        ordering =
+            NULL_FIRST.equals(option.getNullOrder()) ? ordering.nullsFirst() : ordering.nullsLast();
+        sorterBuilder.comparator(Pair.of(pair.getRight(), ordering));
+      }
+      return sorterBuilder.build();
+    }
+
     @Override
     public int compare(ExprValue o1, ExprValue o2) {
       for (Pair<Expression, Comparator<ExprValue>> comparator : comparators) {
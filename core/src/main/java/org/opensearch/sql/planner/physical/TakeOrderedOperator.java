@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.physical.SortOperator.Sorter;
+
+/**
+ * TakeOrdered Operator. This operator is the combination of {@link SortOperator} and {@link
+ * LimitOperator}. It sorts the input by the sort fields in {@link TakeOrderedOperator#sortList} and
+ * returns the rows from {offset + 1} to {offset + limit}.
+ *
+ * <p>Only the first {offset + limit} rows are kept in a bounded heap while consuming the input, so
+ * the memory usage is O(offset + limit) instead of O(n) and the sort cost is O(n log(offset +
+ * limit)) instead of O(n log n).
+ */
+@ToString
+@EqualsAndHashCode(callSuper = false)
+public class TakeOrderedOperator extends PhysicalPlan {
+  @Getter private final PhysicalPlan input;
+
+  @Getter private final List<Pair<SortOption, Expression>> sortList;
+  @Getter private final Integer limit;
+  @Getter private final Integer offset;
+  @EqualsAndHashCode.Exclude private final Sorter sorter;
+  @EqualsAndHashCode.Exclude private Iterator<ExprValue> iterator;
+
+  /**
+   * TakeOrdered Operator Constructor.
+   *
+   * @param input input {@link PhysicalPlan}
+   * @param limit the limit value from LimitOperator
+   * @param offset the offset value from LimitOperator
+   * @param sortList list of sort field from SortOperator
+   */
+  public TakeOrderedOperator(
+      PhysicalPlan input,
+      Integer limit,
+      Integer offset,
+      List<Pair<SortOption, Expression>> sortList) {
+    this.input = input;
+    this.sortList = sortList;
+    this.limit = limit;
+    this.offset = offset;
+    this.sorter = Sorter.of(sortList);
+  }
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitTakeOrdered(this, context);
+  }
+
+  @Override
+  public void open() {
+    super.open();
+    if (limit <= 0) {
+      iterator = Collections.emptyIterator();
+      return;
+    }
+    int size = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+
+    // Head of the heap is the largest row kept, which is replaced by any smaller row
+    PriorityQueue<ExprValue> heap = new PriorityQueue<>(sorter.reversed());
+    while (input.hasNext()) {
+      ExprValue row = input.next();
+      if (heap.size() < size) {
+        heap.add(row);
+      } else if (sorter.compare(row, heap.peek()) < 0) {
+        heap.poll();
+        heap.add(row);
+      }
+    }
+
+    ExprValue[] sorted = new ExprValue[heap.size()];
+    for (int i = sorted.length - 1; i >= 0; i--) {
+      sorted[i] = heap.poll();
+    }
+    iterator =
+        Arrays.asList(sorted).subList(Math.min(offset, sorted.length), sorted.length).iterator();
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return ImmutableList.of(input);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return iterator.hasNext();
+  }
+
+  @Override
+  public ExprValue next() {
+    return iterator.next();
+  }
+}
@@ -5,10 +5,12 @@
 
 package org.opensearch.sql.planner.physical;
 
-import com.google.common.collect.ImmutableMap;
+import static org.opensearch.sql.data.model.ExprValueUtils.putUnique;
+
 import com.google.common.collect.Iterators;
 import com.google.common.collect.PeekingIterator;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -82,19 +84,19 @@ public class WindowOperator extends PhysicalPlan {
   }
 
   private ExprValue enrichCurrentRowByWindowFunctionResult() {
-    ImmutableMap.Builder<String, ExprValue> mapBuilder = new ImmutableMap.Builder<>();
-    preserveAllOriginalColumns(mapBuilder);
-    addWindowFunctionResultColumn(mapBuilder);
-    return ExprTupleValue.fromExprValueMap(mapBuilder.build());
+    // Row is built in a map owned by the new tuple value, instead of a builder copied again
+    LinkedHashMap<String, ExprValue> valueMap = new LinkedHashMap<>();
+    preserveAllOriginalColumns(valueMap);
+    addWindowFunctionResultColumn(valueMap);
+    return new ExprTupleValue(valueMap);
   }
 
-  private void preserveAllOriginalColumns(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
+  private void preserveAllOriginalColumns(LinkedHashMap<String, ExprValue> valueMap) {
     ExprValue inputValue = windowFrame.current();
-    inputValue.tupleValue().forEach(mapBuilder::put);
+    valueMap.putAll(inputValue.tupleValue());
   }
 
-  private void addWindowFunctionResultColumn(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
-    ExprValue exprValue = windowFunction.valueOf(windowFrame);
-    mapBuilder.put(windowFunction.getName(), exprValue);
+  private void addWindowFunctionResultColumn(LinkedHashMap<String, ExprValue> valueMap) {
+    putUnique(valueMap, windowFunction.getName(), windowFunction.valueOf(windowFrame));
   }
 }
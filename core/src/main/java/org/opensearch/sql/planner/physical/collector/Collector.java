@@ -5,7 +5,6 @@
 
 package org.opensearch.sql.planner.physical.collector;
 
-import com.google.common.collect.ImmutableList;
 import java.util.List;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.data.model.ExprValue;
@@ -30,7 +29,7 @@ public interface Collector {
    */
   List<ExprValue> results();
 
-  /** {@link Collector} tree builder. */
+  /** {@link Collector} builder. */
   @UtilityClass
   class Builder {
     /** build {@link Collector}. */
@@ -39,9 +38,7 @@ public interface Collector {
       if (buckets.isEmpty()) {
         return new MetricCollector(aggregators);
       } else {
-        return new BucketCollector(
-            buckets.get(0),
-            () -> build(ImmutableList.copyOf(buckets.subList(1, buckets.size())), aggregators));
+        return new HashAggregationCollector(buckets, aggregators);
       }
     }
   }
@@ -0,0 +1,304 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.aggregation.AggregationState;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Aggregation state of one {@link NamedAggregator} for all the groups, indexed by group id. COUNT,
+ * SUM, AVG, MIN and MAX over numbers keep their state in primitive arrays, other aggregators keep
+ * one {@link AggregationState} per group. Either way the result is the same as the one of {@link
+ * NamedAggregator#create()} state.
+ */
+abstract class GroupAccumulator {
+
+  private static final Set<ExprCoreType> NUMBER_TYPES = EnumSet.of(INTEGER, LONG, FLOAT, DOUBLE);
+
+  protected final NamedAggregator aggregator;
+
+  GroupAccumulator(NamedAggregator aggregator) {
+    this.aggregator = aggregator;
+  }
+
+  /**
+   * Create accumulator for the aggregator.
+   *
+   * @param aggregator {@link NamedAggregator}
+   * @return accumulator with primitive state if the aggregator supports it.
+   */
+  static GroupAccumulator of(NamedAggregator aggregator) {
+    if (Boolean.TRUE.equals(aggregator.distinct())) {
+      return new StateAccumulator(aggregator);
+    }
+    FunctionName name = aggregator.getFunctionName();
+    ExprType type = aggregator.type();
+    if (BuiltinFunctionName.COUNT.getName().equals(name)) {
+      return new CountAccumulator(aggregator);
+    } else if (BuiltinFunctionName.AVG.getName().equals(name) && type == DOUBLE) {
+      return new AvgAccumulator(aggregator);
+    } else if (BuiltinFunctionName.SUM.getName().equals(name)) {
+      return new SumAccumulator(aggregator);
+    } else if (BuiltinFunctionName.MIN.getName().equals(name) && NUMBER_TYPES.contains(type)) {
+      return new MinMaxAccumulator(aggregator, -1);
+    } else if (BuiltinFunctionName.MAX.getName().equals(name) && NUMBER_TYPES.contains(type)) {
+      return new MinMaxAccumulator(aggregator, 1);
+    }
+    return new StateAccumulator(aggregator);
+  }
+
+  /**
+   * Let the group aggregate the value of the {@link BindingTuple}.
+   *
+   * @param group group id
+   * @param tuple {@link BindingTuple}
+   */
+  abstract void collect(int group, BindingTuple tuple);
+
+  /**
+   * Make room for the given number of groups.
+   *
+   * @param capacity number of groups
+   */
+  abstract void grow(int capacity);
+
+  /**
+   * Get aggregation result of a group.
+   *
+   * @param group group id
+   * @return aggregation result
+   */
+  abstract ExprValue result(int group);
+
+  /**
+   * Number of values aggregated per group. Values that are missing, null or cannot satisfy the
+   * aggregator condition are filtered out, same as {@link
+   * org.opensearch.sql.expression.aggregation.Aggregator#iterate(BindingTuple, AggregationState)}.
+   */
+  private abstract static class CountingAccumulator extends GroupAccumulator {
+    protected long[] counts = new long[0];
+
+    CountingAccumulator(NamedAggregator aggregator) {
+      super(aggregator);
+    }
+
+    @Override
+    void collect(int group, BindingTuple tuple) {
+      ExprValue value = aggregator.getArguments().get(0).valueOf(tuple);
+      if (value.isNull() || value.isMissing() || !aggregator.conditionValue(tuple)) {
+        return;
+      }
+      add(group, value);
+    }
+
+    /** Aggregate a value which is neither null nor missing. */
+    protected void add(int group, ExprValue value) {
+      counts[group]++;
+    }
+
+    @Override
+    void grow(int capacity) {
+      counts = Arrays.copyOf(counts, capacity);
+    }
+  }
+
+  private static class CountAccumulator extends CountingAccumulator {
+    CountAccumulator(NamedAggregator aggregator) {
+      super(aggregator);
+    }
+
+    @Override
+    ExprValue result(int group) {
+      return ExprValueUtils.integerValue((int) counts[group]);
+    }
+  }
+
+  private static class AvgAccumulator extends CountingAccumulator {
+    private double[] totals = new double[0];
+
+    AvgAccumulator(NamedAggregator aggregator) {
+      super(aggregator);
+    }
+
+    @Override
+    protected void add(int group, ExprValue value) {
+      totals[group] += value.doubleValue();
+      super.add(group, value);
+    }
+
+    @Override
+    void grow(int capacity) {
+      super.grow(capacity);
+      totals = Arrays.copyOf(totals, capacity);
+    }
+
+    @Override
+    ExprValue result(int group) {
+      if (counts[group] == 0) {
+        return ExprNullValue.of();
+      }
+      return ExprValueUtils.doubleValue(totals[group] / counts[group]);
+    }
+  }
+
+  /**
+   * Integral values are kept in a long array and floating point values in a double array. Float is
+   * exactly representable as double, so float arithmetic is preserved by rounding every step.
+   */
+  private abstract static class NumberAccumulator extends CountingAccumulator {
+    protected final ExprType type;
+    protected long[] longs = new long[0];
+    protected double[] doubles = new double[0];
+
+    NumberAccumulator(NamedAggregator aggregator) {
+      super(aggregator);
+      this.type = aggregator.type();
+    }
+
+    protected boolean isIntegral() {
+      return type == INTEGER || type == LONG;
+    }
+
+    @Override
+    void grow(int capacity) {
+      super.grow(capacity);
+      if (isIntegral()) {
+        longs = Arrays.copyOf(longs, capacity);
+      } else {
+        doubles = Arrays.copyOf(doubles, capacity);
+      }
+    }
+
+    @Override
+    ExprValue result(int group) {
+      if (counts[group] == 0) {
+        return ExprNullValue.of();
+      }
+      switch ((ExprCoreType) type) {
+        case INTEGER:
+          return ExprValueUtils.integerValue((int) longs[group]);
+        case LONG:
+          return ExprValueUtils.longValue(longs[group]);
+        case FLOAT:
+          return ExprValueUtils.floatValue((float) doubles[group]);
+        default:
+          return ExprValueUtils.doubleValue(doubles[group]);
+      }
+    }
+  }
+
+  private static class SumAccumulator extends NumberAccumulator {
+    SumAccumulator(NamedAggregator aggregator) {
+      super(aggregator);
+    }
+
+    @Override
+    protected void add(int group, ExprValue value) {
+      switch ((ExprCoreType) type) {
+        case INTEGER:
+          longs[group] = (int) longs[group] + value.integerValue();
+          break;
+        case LONG:
+          longs[group] += value.longValue();
+          break;
+        case FLOAT:
+          doubles[group] = (float) doubles[group] + value.floatValue();
+          break;
+        default:
+          doubles[group] += value.doubleValue();
+      }
+      super.add(group, value);
+    }
+  }
+
+  private static class MinMaxAccumulator extends NumberAccumulator {
+    /** 1 to keep the max value, -1 to keep the min value. */
+    private final int sign;
+
+    MinMaxAccumulator(NamedAggregator aggregator, int sign) {
+      super(aggregator);
+      this.sign = sign;
+    }
+
+    @Override
+    protected void add(int group, ExprValue value) {
+      boolean first = counts[group] == 0;
+      switch ((ExprCoreType) type) {
+        case INTEGER:
+          update(group, value.integerValue(), first);
+          break;
+        case LONG:
+          update(group, value.longValue(), first);
+          break;
+        case FLOAT:
+          float floatValue = value.floatValue();
+          if (first || Float.compare(floatValue, (float) doubles[group]) * sign > 0) {
+            doubles[group] = floatValue;
+          }
+          break;
+        default:
+          double doubleValue = value.doubleValue();
+          if (first || Double.compare(doubleValue, doubles[group]) * sign > 0) {
+            doubles[group] = doubleValue;
+          }
+      }
+      super.add(group, value);
+    }
+
+    private void update(int group, long value, boolean first) {
+      if (first || Long.compare(value, longs[group]) * sign > 0) {
+        longs[group] = value;
+      }
+    }
+  }
+
+  /** Fallback to the {@link AggregationState} of the aggregator. */
+  private static class StateAccumulator extends GroupAccumulator {
+    private AggregationState[] states = new AggregationState[0];
+
+    StateAccumulator(NamedAggregator aggregator) {
+      super(aggregator);
+    }
+
+    @Override
+    void collect(int group, BindingTuple tuple) {
+      aggregator.iterate(tuple, state(group));
+    }
+
+    @Override
+    void grow(int capacity) {
+      states = Arrays.copyOf(states, capacity);
+    }
+
+    @Override
+    ExprValue result(int group) {
+      return state(group).result();
+    }
+
+    private AggregationState state(int group) {
+      if (states[group] == null) {
+        states[group] = aggregator.create();
+      }
+      return states[group];
+    }
+  }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueCodec;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Collect groups from {@link BindingTuple} in a flat hash table. The key of a group is composed of
+ * the values of all the group by expressions, groups are found by open addressing with linear
+ * probing and the aggregation states of the groups are kept by {@link GroupAccumulator}.
+ *
+ * <p>Groups are sorted by key only when getting the results, in the order of group by expressions
+ * with null and missing first.
+ *
+ * <p>If a memory limit is given, the estimated size of the groups is tracked and {@link
+ * #tryCollect(BindingTuple)} refuses tuples of new groups once it exceeds the limit.
+ */
+public class HashAggregationCollector implements Collector {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  /** Estimated size in bytes of a group in the hash table, besides its key values. */
+  private static final long GROUP_OVERHEAD = 64;
+
+  /** Estimated size in bytes of the state of an aggregator in a group. */
+  private static final long STATE_SIZE = 16;
+
+  /** Group keys are compared value by value in the order of group by expressions. */
+  private static final Comparator<ExprValue[]> KEY_ORDER =
+      (left, right) -> {
+        for (int i = 0; i < left.length; i++) {
+          int result = compare(left[i], right[i]);
+          if (result != 0) {
+            return result;
+          }
+        }
+        return 0;
+      };
+
+  private final List<NamedExpression> groupByExprs;
+
+  private final List<NamedAggregator> aggregators;
+
+  private final GroupAccumulator[] accumulators;
+
+  /** Key of groups indexed by group id. */
+  private final List<ExprValue[]> keys = new ArrayList<>();
+
+  /** Hash of group keys indexed by group id. */
+  private int[] hashes = new int[INITIAL_CAPACITY];
+
+  /** Hash table of which each slot holds the group id plus one, or zero if it is empty. */
+  private int[] slots = new int[INITIAL_CAPACITY * 2];
+
+  /** Key of the tuple being collected, which is copied only when a new group is found. */
+  private final ExprValue[] probe;
+
+  /** Largest estimated size in bytes of the groups, no limit if it is not positive. */
+  private final long memoryLimit;
+
+  /** Estimated size in bytes of the groups. */
+  private long memoryUsage = 0;
+
+  /**
+   * Constructor of {@link HashAggregationCollector}.
+   *
+   * @param groupByExprs group by expressions.
+   * @param aggregators aggregators.
+   */
+  public HashAggregationCollector(
+      List<NamedExpression> groupByExprs, List<NamedAggregator> aggregators) {
+    this(groupByExprs, aggregators, 0L);
+  }
+
+  /**
+   * Constructor of {@link HashAggregationCollector} with memory limit.
+   *
+   * @param groupByExprs group by expressions.
+   * @param aggregators aggregators.
+   * @param memoryLimit largest estimated size in bytes of the groups.
+   */
+  public HashAggregationCollector(
+      List<NamedExpression> groupByExprs, List<NamedAggregator> aggregators, long memoryLimit) {
+    this.groupByExprs = groupByExprs;
+    this.aggregators = aggregators;
+    this.accumulators =
+        aggregators.stream().map(GroupAccumulator::of).toArray(GroupAccumulator[]::new);
+    for (GroupAccumulator accumulator : accumulators) {
+      accumulator.grow(INITIAL_CAPACITY);
+    }
+    this.probe = new ExprValue[groupByExprs.size()];
+    this.memoryLimit = memoryLimit;
+  }
+
+  /**
+   * Collect the {@link BindingTuple} into its group. If the group not exist, create a new group.
+   *
+   * @param input {@link BindingTuple}.
+   */
+  @Override
+  public void collect(BindingTuple input) {
+    int hash = probe(input);
+    int group = find(probe, hash);
+    if (group < 0) {
+      group = insert(-group - 1, hash, probe.clone());
+    }
+    aggregate(group, input);
+  }
+
+  /**
+   * Collect the {@link BindingTuple} into its group. If the group not exist, create a new group
+   * only if the groups are still under the memory limit. The first group is always created.
+   *
+   * @param input {@link BindingTuple}.
+   * @return true if collected, false if the tuple belongs to a new group over the memory limit.
+   */
+  public boolean tryCollect(BindingTuple input) {
+    int hash = probe(input);
+    int group = find(probe, hash);
+    if (group < 0) {
+      if (memoryLimit > 0 && !keys.isEmpty() && memoryUsage >= memoryLimit) {
+        return false;
+      }
+      group = insert(-group - 1, hash, probe.clone());
+    }
+    aggregate(group, input);
+    return true;
+  }
+
+  /**
+   * Get result from all the groups sorted by group key.
+   *
+   * @return list of {@link ExprValue}.
+   */
+  @Override
+  public List<ExprValue> results() {
+    return IntStream.range(0, keys.size())
+        .boxed()
+        .sorted(Comparator.comparing(keys::get, KEY_ORDER))
+        .map(this::result)
+        .collect(Collectors.toList());
+  }
+
+  private ExprValue result(int group) {
+    LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>();
+    ExprValue[] key = keys.get(group);
+    for (int i = 0; i < key.length; i++) {
+      map.put(groupByExprs.get(i).getNameOrAlias(), key[i]);
+    }
+    for (int i = 0; i < accumulators.length; i++) {
+      map.put(aggregators.get(i).getName(), accumulators[i].result(group));
+    }
+    return ExprTupleValue.fromExprValueMap(map);
+  }
+
+  /**
+   * Get the order of results by group key.
+   *
+   * @param groupByExprs group by expressions.
+   * @return comparator of the result tuples.
+   */
+  public static Comparator<ExprValue> resultOrder(List<NamedExpression> groupByExprs) {
+    return Comparator.comparing(
+        result ->
+            groupByExprs.stream()
+                .map(expr -> result.tupleValue().get(expr.getNameOrAlias()))
+                .toArray(ExprValue[]::new),
+        KEY_ORDER);
+  }
+
+  /** Evaluate the group key of the tuple into {@link #probe} and return its hash. */
+  private int probe(BindingTuple input) {
+    for (int i = 0; i < probe.length; i++) {
+      probe[i] = groupByExprs.get(i).valueOf(input);
+    }
+    return hash(probe);
+  }
+
+  private void aggregate(int group, BindingTuple input) {
+    for (GroupAccumulator accumulator : accumulators) {
+      accumulator.collect(group, input);
+    }
+  }
+
+  /** Find group of the key, or return -(slot + 1) with the empty slot for the key. */
+  private int find(ExprValue[] key, int hash) {
+    int mask = slots.length - 1;
+    for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+      int group = slots[slot] - 1;
+      if (group < 0) {
+        return -slot - 1;
+      }
+      if (hashes[group] == hash && Arrays.equals(keys.get(group), key)) {
+        return group;
+      }
+    }
+  }
+
+  private int insert(int slot, int hash, ExprValue[] key) {
+    int group = keys.size();
+    if (group == hashes.length) {
+      hashes = Arrays.copyOf(hashes, group * 2);
+      for (GroupAccumulator accumulator : accumulators) {
+        accumulator.grow(group * 2);
+      }
+    }
+    keys.add(key);
+    hashes[group] = hash;
+    slots[slot] = group + 1;
+    memoryUsage += GROUP_OVERHEAD + STATE_SIZE * accumulators.length;
+    for (ExprValue value : key) {
+      memoryUsage += ExprValueCodec.estimateSize(value);
+    }
+
+    // Keep load factor under 0.5 to make probing short
+    if (keys.size() * 2 > slots.length) {
+      rehash(slots.length * 2);
+    }
+    return group;
+  }
+
+  private void rehash(int capacity) {
+    int[] rehashed = new int[capacity];
+    int mask = capacity - 1;
+    for (int group = 0; group < keys.size(); group++) {
+      int slot = hashes[group] & mask;
+      while (rehashed[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      rehashed[slot] = group + 1;
+    }
+    slots = rehashed;
+  }
+
+  static int hash(ExprValue[] key) {
+    int hash = 1;
+    for (ExprValue value : key) {
+      hash = 31 * hash + value.hashCode();
+    }
+    // Spread higher bits to lower bits which are used as slot index
+    return hash ^ (hash >>> 16);
+  }
+
+  private static int compare(ExprValue left, ExprValue right) {
+    boolean leftIsNull = left.isNull() || left.isMissing();
+    boolean rightIsNull = right.isNull() || right.isMissing();
+    if (leftIsNull || rightIsNull) {
+      return Boolean.compare(rightIsNull, leftIsNull);
+    }
+    return left.compareTo(right);
+  }
+}
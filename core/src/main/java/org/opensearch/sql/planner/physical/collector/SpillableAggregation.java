@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import java.util.Iterator;
+import java.util.List;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.planner.physical.spill.ExternalSorter;
+import org.opensearch.sql.planner.physical.spill.SpillFile;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+/**
+ * Hash aggregation bounded by a memory limit. Rows are aggregated by {@link
+ * HashAggregationCollector} until the estimated size of its groups exceeds the limit. After that,
+ * rows of the groups in memory are still aggregated, while rows of new groups are hashed by group
+ * key to {@link #PARTITIONS} partitions spilled to disk.
+ *
+ * <p>When getting the results, each partition is aggregated in a second pass the same way, which
+ * may spill again with a different part of the hash. Partitions hold disjoint groups, so the
+ * results of all the passes are simply merged in the order of group key by {@link
+ * ExternalSorter}.
+ */
+public class SpillableAggregation implements AutoCloseable {
+
+  /** Number of partitions, each pass splits the rows spilled by 4 bits of the key hash. */
+  static final int PARTITIONS = 16;
+
+  /**
+   * Deepest pass that can spill. Beyond that all the 32 bits of the key hash are used, so rows of
+   * a partition have the very same hash and are aggregated in memory regardless of the limit.
+   */
+  static final int MAX_LEVEL = 7;
+
+  private final List<NamedExpression> groupByExprs;
+
+  private final List<NamedAggregator> aggregators;
+
+  /** Largest estimated size in bytes of the groups in memory. */
+  private final long memoryLimit;
+
+  /** Pass of this aggregation, starting from 0. */
+  private final int level;
+
+  private final HashAggregationCollector collector;
+
+  /** Partitions of spilled rows, created on first spill. */
+  private SpillFile[] partitions;
+
+  private ExternalSorter sorter;
+
+  /**
+   * Constructor of {@link SpillableAggregation}.
+   *
+   * @param groupByExprs group by expressions.
+   * @param aggregators aggregators.
+   * @param memoryLimit largest estimated size in bytes of the groups in memory.
+   */
+  public SpillableAggregation(
+      List<NamedExpression> groupByExprs, List<NamedAggregator> aggregators, long memoryLimit) {
+    this(groupByExprs, aggregators, memoryLimit, 0);
+  }
+
+  private SpillableAggregation(
+      List<NamedExpression> groupByExprs,
+      List<NamedAggregator> aggregators,
+      long memoryLimit,
+      int level) {
+    this.groupByExprs = groupByExprs;
+    this.aggregators = aggregators;
+    this.memoryLimit = memoryLimit;
+    this.level = level;
+    this.collector =
+        new HashAggregationCollector(
+            groupByExprs, aggregators, level > MAX_LEVEL ? 0L : memoryLimit);
+  }
+
+  /**
+   * Aggregate a row, or spill it if it belongs to a new group over the memory limit.
+   *
+   * @param row row
+   */
+  public void add(ExprValue row) {
+    BindingTuple tuple = row.bindingTuples();
+    if (!collector.tryCollect(tuple)) {
+      partition(tuple).write(row);
+    }
+  }
+
+  /**
+   * Get the results sorted by group key. No row can be added after.
+   *
+   * @return iterator of results
+   */
+  public Iterator<ExprValue> results() {
+    if (partitions == null) {
+      return collector.results().iterator();
+    }
+
+    sorter = new ExternalSorter(HashAggregationCollector.resultOrder(groupByExprs), memoryLimit);
+    collector.results().forEach(sorter::add);
+    for (int i = 0; i < PARTITIONS; i++) {
+      if (partitions[i] != null) {
+        try (SpillableAggregation next =
+            new SpillableAggregation(groupByExprs, aggregators, memoryLimit, level + 1)) {
+          partitions[i].read().forEachRemaining(next::add);
+          next.results().forEachRemaining(sorter::add);
+        } finally {
+          partitions[i].close();
+          partitions[i] = null;
+        }
+      }
+    }
+    return sorter.sorted();
+  }
+
+  /** Delete all the files spilled. */
+  @Override
+  public void close() {
+    if (partitions != null) {
+      for (SpillFile partition : partitions) {
+        if (partition != null) {
+          partition.close();
+        }
+      }
+      partitions = null;
+    }
+    if (sorter != null) {
+      sorter.close();
+      sorter = null;
+    }
+  }
+
+  /** Higher bits of the hash are used first, as lower bits decide slots of the hash table. */
+  private SpillFile partition(BindingTuple tuple) {
+    if (partitions == null) {
+      partitions = new SpillFile[PARTITIONS];
+    }
+    ExprValue[] key =
+        groupByExprs.stream().map(expr -> expr.valueOf(tuple)).toArray(ExprValue[]::new);
+    int hash = HashAggregationCollector.hash(key);
+    int index = (hash >>> (28 - 4 * level)) & (PARTITIONS - 1);
+    if (partitions[index] == null) {
+      partitions[index] = SpillFile.create();
+    }
+    return partitions[index];
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.dedupe;
+
+/**
+ * Count keys approximately by their 128-bit hash in a fixed size count-min sketch. A key is
+ * counted in one counter of each row, and its count is estimated by the smallest of them. Counters
+ * are updated conservatively, only those below the new estimate are raised. The estimate is never
+ * below the true count, so a key seen for the first time may be taken as a duplicate of another,
+ * but a duplicate is never taken as new.
+ */
+public class CountMinSketch {
+
+  private static final int DEPTH = 4;
+
+  /** Smallest number of counters in a row. */
+  private static final int MIN_WIDTH = 1 << 10;
+
+  /** Largest number of counters in a row, which takes 1GB for all rows. */
+  private static final int MAX_WIDTH = 1 << 26;
+
+  private final int[] counters;
+
+  private final int mask;
+
+  /**
+   * Create the sketch with as many counters as fit in the memory limit.
+   *
+   * @param memoryLimit largest size in bytes of the sketch
+   */
+  public CountMinSketch(long memoryLimit) {
+    long width = Math.min(Math.max(memoryLimit / (Integer.BYTES * DEPTH), MIN_WIDTH), MAX_WIDTH);
+    int rowSize = Integer.highestOneBit((int) width);
+    this.counters = new int[rowSize * DEPTH];
+    this.mask = rowSize - 1;
+  }
+
+  /**
+   * Count the key a number of times more.
+   *
+   * @param high high 64 bits of the key hash
+   * @param low low 64 bits of the key hash
+   * @param count number of times
+   * @return estimated count of the key including this time
+   */
+  public int add(long high, long low, int count) {
+    int estimate = Integer.MAX_VALUE;
+    for (int row = 0; row < DEPTH; row++) {
+      estimate = Math.min(estimate, counters[index(row, high, low)]);
+    }
+    int updated = estimate + count;
+    for (int row = 0; row < DEPTH; row++) {
+      int index = index(row, high, low);
+      counters[index] = Math.max(counters[index], updated);
+    }
+    return updated;
+  }
+
+  /**
+   * Size in bytes of the sketch.
+   *
+   * @return memory usage
+   */
+  public long memoryUsage() {
+    return (long) counters.length * Integer.BYTES;
+  }
+
+  /** Counter of the key in a row, which combines the two halves of the hash by the row. */
+  private int index(int row, long high, long low) {
+    return row * (mask + 1) + ((int) (low + row * high) & mask);
+  }
+}
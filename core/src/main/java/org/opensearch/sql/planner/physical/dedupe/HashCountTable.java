@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.dedupe;
+
+/**
+ * Count keys by their 128-bit hash in a flat hash table with open addressing and linear probing.
+ * Each slot takes two longs of hash and an int of count, no key value is kept. The table does not
+ * grow by itself, the caller checks {@link #isFull()} and decides whether to {@link #grow()}.
+ */
+public class HashCountTable {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  /** Size in bytes of a slot, two longs of hash and an int of count. */
+  private static final long SLOT_SIZE = 20;
+
+  private long[] highs = new long[INITIAL_CAPACITY];
+
+  private long[] lows = new long[INITIAL_CAPACITY];
+
+  /** Count of the key in each slot, zero if the slot is empty. */
+  private int[] counts = new int[INITIAL_CAPACITY];
+
+  private int size = 0;
+
+  /** Consumer of the keys counted. */
+  @FunctionalInterface
+  public interface EntryConsumer {
+    void accept(long high, long low, int count);
+  }
+
+  /**
+   * Count the key once more.
+   *
+   * @param high high 64 bits of the key hash
+   * @param low low 64 bits of the key hash
+   * @return count of the key including this time
+   */
+  public int increment(long high, long low) {
+    int slot = find(highs, lows, counts, high, low);
+    if (counts[slot] == 0) {
+      highs[slot] = high;
+      lows[slot] = low;
+      size++;
+    }
+    return ++counts[slot];
+  }
+
+  /**
+   * Whether the table is loaded two thirds and should grow before the next key is counted.
+   *
+   * @return true if full
+   */
+  public boolean isFull() {
+    return size * 3L >= counts.length * 2L;
+  }
+
+  /** Double the capacity of the table. */
+  public void grow() {
+    long[] newHighs = new long[counts.length * 2];
+    long[] newLows = new long[counts.length * 2];
+    int[] newCounts = new int[counts.length * 2];
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] > 0) {
+        int slot = find(newHighs, newLows, newCounts, highs[i], lows[i]);
+        newHighs[slot] = highs[i];
+        newLows[slot] = lows[i];
+        newCounts[slot] = counts[i];
+      }
+    }
+    highs = newHighs;
+    lows = newLows;
+    counts = newCounts;
+  }
+
+  /**
+   * Visit every key counted.
+   *
+   * @param consumer consumer of the key hash and count
+   */
+  public void forEach(EntryConsumer consumer) {
+    for (int i = 0; i < counts.length; i++) {
+      if (counts[i] > 0) {
+        consumer.accept(highs[i], lows[i], counts[i]);
+      }
+    }
+  }
+
+  /**
+   * Number of distinct keys counted.
+   *
+   * @return number of keys
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Size in bytes of the table.
+   *
+   * @return memory usage
+   */
+  public long memoryUsage() {
+    return counts.length * SLOT_SIZE;
+  }
+
+  /**
+   * Size in bytes of the table after growing.
+   *
+   * @return memory usage after growing
+   */
+  public long grownMemoryUsage() {
+    return memoryUsage() * 2;
+  }
+
+  /** Find the slot holding the key, or the empty slot to put it in. */
+  private static int find(long[] highs, long[] lows, int[] counts, long high, long low) {
+    int mask = counts.length - 1;
+    int slot = (int) low & mask;
+    while (counts[slot] > 0 && (highs[slot] != high || lows[slot] != low)) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.dedupe;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import lombok.Getter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueCodec;
+
+/**
+ * Count how many times each key has been seen. A key is composed of several values, which are
+ * encoded by {@link ExprValueCodec} and hashed into 128 bits, so only the hash is kept instead of
+ * the values. Equal values are hashed the same, see {@link ExprValueCodec#writeKey}.
+ *
+ * <p>Keys are counted exactly by {@link HashCountTable}. If a memory limit is given and the table
+ * would grow over it, the keys counted are moved into a {@link CountMinSketch} of the same size
+ * and counted approximately from then on.
+ */
+public class KeyCounter {
+
+  private static final Logger LOG = LogManager.getLogger(KeyCounter.class);
+
+  private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+
+  /** Largest size in bytes of the key counts, no limit if it is not positive. */
+  private final long memoryLimit;
+
+  private final KeyBuffer buffer = new KeyBuffer();
+
+  private final DataOutputStream output = new DataOutputStream(buffer);
+
+  private HashCountTable table = new HashCountTable();
+
+  private CountMinSketch sketch;
+
+  /** Number of distinct keys counted exactly, before switching to approximate counting. */
+  @Getter private int distinctKeys = 0;
+
+  /**
+   * Constructor of {@link KeyCounter}.
+   *
+   * @param memoryLimit largest size in bytes of the key counts, no limit if it is not positive
+   */
+  public KeyCounter(long memoryLimit) {
+    this.memoryLimit = memoryLimit;
+  }
+
+  /**
+   * Count the key once more.
+   *
+   * @param key values of the key
+   * @return count of the key including this time, which may be over counted if approximate
+   */
+  public int increment(ExprValue[] key) {
+    ByteBuffer hash = ByteBuffer.wrap(hash(key));
+    long high = hash.getLong();
+    long low = hash.getLong();
+    if (sketch != null) {
+      return sketch.add(high, low, 1);
+    }
+    if (table.isFull()) {
+      if (memoryLimit > 0 && table.grownMemoryUsage() > memoryLimit) {
+        LOG.warn(
+            "Dedup keys exceed memory limit of {} bytes after {} distinct keys, counting them"
+                + " approximately, so a few rows may be dropped",
+            memoryLimit,
+            distinctKeys);
+        sketch = new CountMinSketch(memoryLimit);
+        table.forEach(sketch::add);
+        table = null;
+        return sketch.add(high, low, 1);
+      }
+      table.grow();
+    }
+    int count = table.increment(high, low);
+    distinctKeys = table.size();
+    return count;
+  }
+
+  /**
+   * Whether the keys are counted approximately since the memory limit was reached.
+   *
+   * @return true if approximate
+   */
+  public boolean isApproximate() {
+    return sketch != null;
+  }
+
+  private byte[] hash(ExprValue[] key) {
+    buffer.reset();
+    try {
+      for (ExprValue value : key) {
+        ExprValueCodec.writeKey(value, output);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to encode key: " + e.getMessage(), e);
+    }
+    return HASH_FUNCTION.hashBytes(buffer.bytes(), 0, buffer.size()).asBytes();
+  }
+
+  /** Byte array output stream whose bytes are hashed without copying. */
+  private static class KeyBuffer extends ByteArrayOutputStream {
+    byte[] bytes() {
+      return buf;
+    }
+  }
+}
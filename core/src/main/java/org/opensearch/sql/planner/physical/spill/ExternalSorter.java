@@ -0,0 +1,186 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueCodec;
+
+/**
+ * External merge sorter. Values are buffered in memory until their estimated size exceeds the
+ * memory limit, then the buffer is sorted and spilled to a {@link SpillFile} as a sorted run. The
+ * sorted result is produced by a k-way merge of all the runs and the values left in memory. If the
+ * input fits in the memory limit, no file is ever created.
+ */
+public class ExternalSorter implements AutoCloseable {
+
+  /** Largest number of runs merged at a time, more runs are merged into bigger runs first. */
+  static final int MAX_MERGE_WAY = 64;
+
+  private final Comparator<ExprValue> comparator;
+
+  /** Largest estimated size in bytes of the values buffered in memory. */
+  private final long memoryLimit;
+
+  private final int maxMergeWay;
+
+  private final List<ExprValue> buffer = new ArrayList<>();
+
+  private long bufferSize = 0;
+
+  /** Largest number of values buffered in memory at a time. */
+  private int peakBufferedValues = 0;
+
+  /** Sorted runs spilled, in the order of input. */
+  private final List<SpillFile> runs = new ArrayList<>();
+
+  public ExternalSorter(Comparator<ExprValue> comparator, long memoryLimit) {
+    this(comparator, memoryLimit, MAX_MERGE_WAY);
+  }
+
+  ExternalSorter(Comparator<ExprValue> comparator, long memoryLimit, int maxMergeWay) {
+    this.comparator = comparator;
+    this.memoryLimit = memoryLimit;
+    this.maxMergeWay = maxMergeWay;
+  }
+
+  /**
+   * Add a value to sort.
+   *
+   * @param value value
+   */
+  public void add(ExprValue value) {
+    buffer.add(value);
+    bufferSize += ExprValueCodec.estimateSize(value);
+    peakBufferedValues = Math.max(peakBufferedValues, buffer.size());
+    if (bufferSize > memoryLimit) {
+      runs.add(spill(sortedBuffer()));
+      buffer.clear();
+      bufferSize = 0;
+    }
+  }
+
+  /** Number of sorted runs spilled to disk so far. */
+  public int getSpilledRuns() {
+    return runs.size();
+  }
+
+  /** Largest number of values buffered in memory at a time so far. */
+  public int getPeakBufferedValues() {
+    return peakBufferedValues;
+  }
+
+  /**
+   * Get the sorted values. No value can be added after.
+   *
+   * @return iterator of all values added in sorted order
+   */
+  public Iterator<ExprValue> sorted() {
+    if (runs.isEmpty()) {
+      return sortedBuffer();
+    }
+
+    // Merge groups of runs in passes until all runs and the buffer can be merged at once
+    while (runs.size() + 1 > maxMergeWay) {
+      List<SpillFile> merged = new ArrayList<>();
+      try {
+        for (int i = 0; i < runs.size(); i += maxMergeWay) {
+          merged.add(mergeRuns(runs.subList(i, Math.min(i + maxMergeWay, runs.size()))));
+        }
+      } catch (RuntimeException e) {
+        merged.forEach(SpillFile::close);
+        throw e;
+      }
+      runs.clear();
+      runs.addAll(merged);
+    }
+
+    List<Iterator<ExprValue>> iterators = new ArrayList<>();
+    runs.forEach(run -> iterators.add(run.read()));
+    iterators.add(sortedBuffer());
+    return merge(iterators);
+  }
+
+  /** Delete all spilled runs. */
+  @Override
+  public void close() {
+    runs.forEach(SpillFile::close);
+    runs.clear();
+    buffer.clear();
+  }
+
+  private Iterator<ExprValue> sortedBuffer() {
+    buffer.sort(comparator);
+    return buffer.iterator();
+  }
+
+  /** Merge a group of runs into one run, the runs merged are deleted. */
+  private SpillFile mergeRuns(List<SpillFile> group) {
+    if (group.size() == 1) {
+      return group.get(0);
+    }
+    List<Iterator<ExprValue>> iterators = new ArrayList<>();
+    group.forEach(run -> iterators.add(run.read()));
+    SpillFile merged = spill(merge(iterators));
+    group.forEach(SpillFile::close);
+    return merged;
+  }
+
+  private SpillFile spill(Iterator<ExprValue> values) {
+    SpillFile file = SpillFile.create();
+    try {
+      values.forEachRemaining(file::write);
+    } catch (RuntimeException e) {
+      file.close();
+      throw e;
+    }
+    return file;
+  }
+
+  /**
+   * Merge sorted iterators. Equal values are taken from the iterator ahead in the list first, which
+   * keeps the order of input as runs are spilled in order.
+   */
+  private Iterator<ExprValue> merge(List<Iterator<ExprValue>> iterators) {
+    List<PeekingIterator<ExprValue>> sources = new ArrayList<>();
+    iterators.forEach(iterator -> sources.add(Iterators.peekingIterator(iterator)));
+
+    // Index of the source iterators ordered by their next value
+    PriorityQueue<Integer> heads =
+        new PriorityQueue<>(
+            Math.max(1, sources.size()),
+            Comparator.<Integer, ExprValue>comparing(i -> sources.get(i).peek(), comparator)
+                .thenComparing(Comparator.naturalOrder()));
+    for (int i = 0; i < sources.size(); i++) {
+      if (sources.get(i).hasNext()) {
+        heads.add(i);
+      }
+    }
+
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return !heads.isEmpty();
+      }
+
+      @Override
+      public ExprValue next() {
+        int i = heads.remove();
+        ExprValue value = sources.get(i).next();
+        if (sources.get(i).hasNext()) {
+          heads.add(i);
+        }
+        return value;
+      }
+    };
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.utils.ExprValueCodec;
+
+/**
+ * Temporary local file which values are spilled to. Values are written in {@link ExprValueCodec}
+ * encoding and read back in the same order once writing is done. The file is deleted on close.
+ */
+public class SpillFile implements AutoCloseable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Path path;
+
+  private DataOutputStream output;
+
+  private DataInputStream input;
+
+  /** Number of values written. */
+  private long count = 0;
+
+  private SpillFile(Path path, DataOutputStream output) {
+    this.path = path;
+    this.output = output;
+  }
+
+  /** Create an empty spill file in the temporary directory. */
+  public static SpillFile create() {
+    try {
+      Path path = Files.createTempFile("opensearch-sql-spill-", ".bin");
+      OutputStream output = new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE);
+      return new SpillFile(path, new DataOutputStream(output));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to create spill file", e);
+    }
+  }
+
+  /**
+   * Append a value.
+   *
+   * @param value value
+   */
+  public void write(ExprValue value) {
+    try {
+      ExprValueCodec.write(value, output);
+      count++;
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to write spill file: " + path, e);
+    }
+  }
+
+  /**
+   * Finish writing and read the values back. Can be called only once.
+   *
+   * @return iterator of values in the order written
+   */
+  public Iterator<ExprValue> read() {
+    try {
+      output.close();
+      output = null;
+      input =
+          new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read spill file: " + path, e);
+    }
+
+    return new Iterator<>() {
+      private long remaining = count;
+
+      @Override
+      public boolean hasNext() {
+        return remaining > 0;
+      }
+
+      @Override
+      public ExprValue next() {
+        if (remaining <= 0) {
+          throw new NoSuchElementException();
+        }
+        try {
+          remaining--;
+          return ExprValueCodec.read(input);
+        } catch (IOException e) {
+          throw new IllegalStateException("Failed to read spill file: " + path, e);
+        }
+      }
+    };
+  }
+
+  /** Close the file and delete it. */
+  @Override
+  public void close() {
+    try {
+      if (output != null) {
+        output.close();
+      }
+      if (input != null) {
+        input.close();
+      }
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to delete spill file: " + path, e);
+    } finally {
+      output = null;
+      input = null;
+    }
+  }
+}
@@ -7,6 +7,7 @@ package org.opensearch.sql.storage.read;
 
 import java.util.Collections;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalHighlight;
 import org.opensearch.sql.planner.logical.LogicalLimit;
@@ -115,6 +116,17 @@ public abstract class TableScanBuilder extends LogicalPlan {
     return false;
   }
 
+  /**
+   * Can a given dedupe operator be pushed down to table scan builder. Assume no such support by
+   * default unless subclass override this.
+   *
+   * @param dedupe logical dedupe operator
+   * @return true if pushed down, otherwise false
+   */
+  public boolean pushDownDedupe(LogicalDedupe dedupe) {
+    return false;
+  }
+
   public boolean pushDownPageSize(LogicalPaginate paginate) {
     return false;
   }
@@ -0,0 +1,208 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.utils;
+
+import java.io.Serializable;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled wildcard pattern of LIKE, which matches case-insensitively for US-ASCII characters.
+ * Percent (%) matches any characters and underscore (_) matches a single character. Patterns in
+ * the shape of {@code abc}, {@code abc%}, {@code %abc} and {@code %abc%} are matched by comparing
+ * the characters directly rather than by regular expression.
+ */
+public class LikePattern implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final char DEFAULT_ESCAPE = '\\';
+
+  /** Shape of the pattern that decides how to match. */
+  private enum Shape {
+    EXACT,
+    PREFIX,
+    SUFFIX,
+    CONTAINS,
+    REGEX
+  }
+
+  private final Shape shape;
+
+  /** Characters to match directly without the percents around. */
+  private final String literal;
+
+  /** Regular expression equivalent to the pattern, for the texts not matched directly. */
+  private final Pattern regex;
+
+  private LikePattern(Shape shape, String literal, Pattern regex) {
+    this.shape = shape;
+    this.literal = literal;
+    this.regex = regex;
+  }
+
+  /**
+   * Compile the pattern.
+   *
+   * @param pattern wildcard pattern
+   * @return pattern compiled
+   */
+  public static LikePattern compile(String pattern) {
+    Pattern regex = Pattern.compile(patternToRegex(pattern), Pattern.CASE_INSENSITIVE);
+    int start = 0;
+    while (start < pattern.length() && pattern.charAt(start) == '%') {
+      start++;
+    }
+    int end = pattern.length();
+    while (end > start && pattern.charAt(end - 1) == '%') {
+      end--;
+    }
+    String literal = pattern.substring(start, end);
+    if (!isPlain(literal)) {
+      return new LikePattern(Shape.REGEX, literal, regex);
+    }
+
+    Shape shape;
+    if (start > 0 && end < pattern.length()) {
+      shape = Shape.CONTAINS;
+    } else if (start > 0) {
+      shape = Shape.SUFFIX;
+    } else if (end < pattern.length()) {
+      shape = Shape.PREFIX;
+    } else {
+      shape = Shape.EXACT;
+    }
+    return new LikePattern(shape, literal, regex);
+  }
+
+  /**
+   * Check if the whole text matches the pattern.
+   *
+   * @param text text to match
+   * @return true if matched
+   */
+  public boolean matches(String text) {
+    // wildcard doesn't match line terminators, which is left to regular expression
+    if (shape == Shape.REGEX || hasLineTerminator(text)) {
+      return regex.matcher(text).matches();
+    }
+
+    int length = literal.length();
+    switch (shape) {
+      case EXACT:
+        return text.length() == length && regionMatches(text, 0);
+      case PREFIX:
+        return text.length() >= length && regionMatches(text, 0);
+      case SUFFIX:
+        return text.length() >= length && regionMatches(text, text.length() - length);
+      default:
+        for (int i = 0; i <= text.length() - length; i++) {
+          if (regionMatches(text, i)) {
+            return true;
+          }
+        }
+        return false;
+    }
+  }
+
+  /** Literal matches the text region from the offset, ignoring case of US-ASCII characters. */
+  private boolean regionMatches(String text, int offset) {
+    for (int i = 0; i < literal.length(); i++) {
+      char expected = literal.charAt(i);
+      char actual = text.charAt(offset + i);
+      if (expected != actual
+          && (expected >= 128
+              || actual >= 128
+              || Character.toLowerCase(expected) != Character.toLowerCase(actual))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** No wildcard, escape or character with special meaning left in the regular expression. */
+  private static boolean isPlain(String literal) {
+    for (int i = 0; i < literal.length(); i++) {
+      switch (literal.charAt(i)) {
+        case '%':
+        case '_':
+        case DEFAULT_ESCAPE:
+        case '?':
+        case '{':
+        case '}':
+          return false;
+        default:
+      }
+    }
+    return true;
+  }
+
+  private static boolean hasLineTerminator(String text) {
+    for (int i = 0; i < text.length(); i++) {
+      switch (text.charAt(i)) {
+        case '\n':
+        case '\r':
+        case '\u0085':
+        case '\u2028':
+        case '\u2029':
+          return true;
+        default:
+      }
+    }
+    return false;
+  }
+
+  private static String patternToRegex(String patternString) {
+    StringBuilder regex = new StringBuilder(patternString.length() * 2);
+    regex.append('^');
+    boolean escaped = false;
+    for (char currentChar : patternString.toCharArray()) {
+      if (!escaped && currentChar == DEFAULT_ESCAPE) {
+        escaped = true;
+      } else {
+        switch (currentChar) {
+          case '%':
+            if (escaped) {
+              regex.append("%");
+            } else {
+              regex.append(".*");
+            }
+            escaped = false;
+            break;
+          case '_':
+            if (escaped) {
+              regex.append("_");
+            } else {
+              regex.append('.');
+            }
+            escaped = false;
+            break;
+          default:
+            switch (currentChar) {
+              case '\\':
+              case '^':
+              case '$':
+              case '.':
+              case '*':
+              case '[':
+              case ']':
+              case '(':
+              case ')':
+              case '|':
+              case '+':
+                regex.append('\\');
+                break;
+              default:
+            }
+
+            regex.append(currentChar);
+            escaped = false;
+        }
+      }
+    }
+    regex.append('$');
+    return regex.toString();
+  }
+}
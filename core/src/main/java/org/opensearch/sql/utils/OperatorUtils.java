@@ -5,6 +5,8 @@
 
 package org.opensearch.sql.utils;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.util.regex.Pattern;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.data.model.ExprBooleanValue;
@@ -13,6 +15,18 @@ import org.opensearch.sql.data.model.ExprValue;
 
 @UtilityClass
 public class OperatorUtils {
+
+  /** Largest number of patterns compiled and cached for each kind of pattern. */
+  private static final int PATTERN_CACHE_SIZE = 1000;
+
+  /** Compiled LIKE patterns, least recently used evicted. */
+  private static final Cache<String, LikePattern> LIKE_PATTERNS =
+      CacheBuilder.newBuilder().maximumSize(PATTERN_CACHE_SIZE).build();
+
+  /** Compiled REGEXP patterns, least recently used evicted. */
+  private static final Cache<String, Pattern> REGEXP_PATTERNS =
+      CacheBuilder.newBuilder().maximumSize(PATTERN_CACHE_SIZE).build();
+
   /**
    * Wildcard pattern matcher util.<br>
    * Percent (%) character for wildcard,<br>
@@ -22,10 +36,7 @@ public class OperatorUtils {
    * @return if text matches pattern returns true; else return false.
    */
   public static ExprBooleanValue matches(ExprValue text, ExprValue pattern) {
-    return ExprBooleanValue.of(
-        Pattern.compile(patternToRegex(pattern.stringValue()), Pattern.CASE_INSENSITIVE)
-            .matcher(text.stringValue())
-            .matches());
+    return ExprBooleanValue.of(likePattern(pattern.stringValue()).matches(text.stringValue()));
   }
 
   /**
@@ -36,60 +47,36 @@ public class OperatorUtils {
    */
   public static ExprIntegerValue matchesRegexp(ExprValue text, ExprValue pattern) {
     return new ExprIntegerValue(
-        Pattern.compile(pattern.stringValue()).matcher(text.stringValue()).matches() ? 1 : 0);
+        regexpPattern(pattern.stringValue()).matcher(text.stringValue()).matches() ? 1 : 0);
   }
 
-  private static final char DEFAULT_ESCAPE = '\\';
-
-  private static String patternToRegex(String patternString) {
-    StringBuilder regex = new StringBuilder(patternString.length() * 2);
-    regex.append('^');
-    boolean escaped = false;
-    for (char currentChar : patternString.toCharArray()) {
-      if (!escaped && currentChar == DEFAULT_ESCAPE) {
-        escaped = true;
-      } else {
-        switch (currentChar) {
-          case '%':
-            if (escaped) {
-              regex.append("%");
-            } else {
-              regex.append(".*");
-            }
-            escaped = false;
-            break;
-          case '_':
-            if (escaped) {
-              regex.append("_");
-            } else {
-              regex.append('.');
-            }
-            escaped = false;
-            break;
-          default:
-            switch (currentChar) {
-              case '\\':
-              case '^':
-              case '$':
-              case '.':
-              case '*':
-              case '[':
-              case ']':
-              case '(':
-              case ')':
-              case '|':
-              case '+':
-                regex.append('\\');
-                break;
-              default:
-            }
+  /**
+   * Get the compiled wildcard pattern from cache, or compile it if absent.
+   *
+   * @param pattern wildcard pattern
+   * @return pattern compiled
+   */
+  public static LikePattern likePattern(String pattern) {
+    LikePattern compiled = LIKE_PATTERNS.getIfPresent(pattern);
+    if (compiled == null) {
+      compiled = LikePattern.compile(pattern);
+      LIKE_PATTERNS.put(pattern, compiled);
+    }
+    return compiled;
+  }
 
-            regex.append(currentChar);
-            escaped = false;
-        }
-      }
+  /**
+   * Get the compiled regular expression from cache, or compile it if absent.
+   *
+   * @param pattern regular expression
+   * @return pattern compiled
+   */
+  public static Pattern regexpPattern(String pattern) {
+    Pattern compiled = REGEXP_PATTERNS.getIfPresent(pattern);
+    if (compiled == null) {
+      compiled = Pattern.compile(pattern);
+      REGEXP_PATTERNS.put(pattern, compiled);
     }
-    regex.append('$');
-    return regex.toString();
+    return compiled;
   }
 }
@@ -218,6 +218,18 @@ public class ExprValueUtilsTest {
         exception.getMessage());
   }
 
+  @Test
+  public void putUniqueRejectsDuplicateName() {
+    Map<String, ExprValue> valueMap = new LinkedHashMap<>();
+    ExprValueUtils.putUnique(valueMap, "a", integerValue(1));
+    Exception exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ExprValueUtils.putUnique(valueMap, "a", integerValue(2)));
+    assertEquals("Multiple entries with same key: a=2 and a=1", exception.getMessage());
+    assertEquals(Map.of("a", integerValue(1)), valueMap);
+  }
+
   @Test
   public void bindingTuples() {
     for (ExprValue value : allValues) {
@@ -257,5 +269,8 @@ public class ExprValueUtilsTest {
     assertEquals(
         new ExprTimestampValue("2012-08-07 18:00:00").hashCode(),
         new ExprTimestampValue("2012-08-07 18:00:00").hashCode());
+    assertEquals(
+        new ExprIntervalValue(Duration.ofSeconds(1)).hashCode(),
+        new ExprIntervalValue(Duration.ofSeconds(1)).hashCode());
   }
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.data.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.model.ExprValueUtils.byteValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.collectionValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.floatValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.shortValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Period;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprIntervalValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimeValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ExprValueCodecTest {
+
+  private static Stream<ExprValue> values() {
+    return Stream.of(
+        LITERAL_NULL,
+        LITERAL_MISSING,
+        LITERAL_TRUE,
+        LITERAL_FALSE,
+        byteValue((byte) 1),
+        shortValue((short) 2),
+        integerValue(3),
+        longValue(4L),
+        floatValue(5.5f),
+        doubleValue(6.6),
+        stringValue("string with unicode é中"),
+        new ExprDateValue("2023-01-02"),
+        new ExprTimeValue("12:34:56.123456789"),
+        new ExprTimestampValue("2023-01-02 12:34:56.123456789"),
+        new ExprIntervalValue(Duration.ofSeconds(90, 5)),
+        new ExprIntervalValue(Period.of(1, 2, 3)),
+        collectionValue(ImmutableList.of(1, "a", 2.0)),
+        tupleValue(
+            ImmutableMap.of(
+                "name", "John", "age", 20, "address", ImmutableMap.of("city", "Seattle"))));
+  }
+
+  @ParameterizedTest
+  @MethodSource("values")
+  void value_is_the_same_after_round_trip(ExprValue value) throws IOException {
+    assertEquals(value, roundTrip(value));
+  }
+
+  @Test
+  void value_of_other_class_is_the_same_after_round_trip() throws IOException {
+    ExprValue value = new TestStringValue("test");
+    ExprValue actual = roundTrip(value);
+    assertEquals(TestStringValue.class, actual.getClass());
+    assertEquals(value, actual);
+  }
+
+  @Test
+  void string_subclass_is_written_by_class_name_and_string() throws IOException {
+    ExprValue value = new TextValue("text with unicode é中");
+    ExprValue actual = roundTrip(value);
+    assertEquals(TextValue.class, actual.getClass());
+    assertEquals(value, actual);
+    assertTrue(write(value).length < write(new TestStringValue("text with unicode é中")).length);
+  }
+
+  @Test
+  void string_of_unknown_class_fails() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream(bytes);
+    output.writeByte(19);
+    output.writeInt(7);
+    output.writeBytes("Unknown");
+    output.writeInt(0);
+    DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    assertThrows(IOException.class, () -> ExprValueCodec.read(input));
+  }
+
+  @Test
+  void key_of_string_subclass_is_written_as_string() throws IOException {
+    assertArrayEquals(key(stringValue("test")), key(new TestStringValue("test")));
+  }
+
+  @Test
+  void key_of_tuple_is_written_in_order_of_field_names() throws IOException {
+    assertArrayEquals(
+        key(tupleValue(ImmutableMap.of("a", 1, "b", ImmutableList.of("c")))),
+        key(tupleValue(ImmutableMap.of("b", ImmutableList.of("c"), "a", 1))));
+  }
+
+  @Test
+  void key_of_core_type_is_written_by_type() throws IOException {
+    assertArrayEquals(key(integerValue(1)), key(integerValue(1)));
+    assertFalse(Arrays.equals(key(integerValue(1)), key(longValue(1L))));
+  }
+
+  @Test
+  void key_of_other_type_is_written_by_type_name_and_string_form() throws IOException {
+    assertArrayEquals(key(otherValue("1.2.3.4")), key(otherValue("1.2.3.4")));
+    assertFalse(Arrays.equals(key(otherValue("1.2.3.4")), key(otherValue("1.2.3.5"))));
+  }
+
+  @Test
+  void unknown_tag_fails() {
+    DataInputStream input = new DataInputStream(new ByteArrayInputStream(new byte[] {127}));
+    assertThrows(IOException.class, () -> ExprValueCodec.read(input));
+  }
+
+  @Test
+  void estimate_size_grows_with_content() {
+    assertTrue(
+        ExprValueCodec.estimateSize(stringValue("a long string value"))
+            > ExprValueCodec.estimateSize(stringValue("a")));
+    assertEquals(
+        ExprValueCodec.estimateSize(stringValue("a long string value")),
+        ExprValueCodec.estimateSize(new TextValue("a long string value")));
+    assertTrue(
+        ExprValueCodec.estimateSize(tupleValue(ImmutableMap.of("a", 1, "b", 2)))
+            > ExprValueCodec.estimateSize(tupleValue(ImmutableMap.of("a", 1))));
+    assertTrue(
+        ExprValueCodec.estimateSize(collectionValue(ImmutableList.of(1, 2)))
+            > ExprValueCodec.estimateSize(collectionValue(ImmutableList.of(1))));
+  }
+
+  private ExprValue roundTrip(ExprValue value) throws IOException {
+    return ExprValueCodec.read(new DataInputStream(new ByteArrayInputStream(write(value))));
+  }
+
+  private byte[] write(ExprValue value) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ExprValueCodec.write(value, new DataOutputStream(bytes));
+    return bytes.toByteArray();
+  }
+
+  private byte[] key(ExprValue value) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ExprValueCodec.writeKey(value, new DataOutputStream(bytes));
+    return bytes.toByteArray();
+  }
+
+  private static ExprValue otherValue(String value) {
+    ExprType type = mock(ExprType.class);
+    when(type.typeName()).thenReturn("IP");
+    ExprValue exprValue = mock(ExprValue.class);
+    when(exprValue.type()).thenReturn(type);
+    when(exprValue.value()).thenReturn(value);
+    return exprValue;
+  }
+
+  /** String value subclass without public constructor from string. */
+  private static class TestStringValue extends ExprStringValue {
+    TestStringValue(String value) {
+      super(value);
+    }
+  }
+
+  /** String value subclass like text value of OpenSearch. */
+  public static class TextValue extends ExprStringValue {
+    public TextValue(String value) {
+      super(value);
+    }
+  }
+}
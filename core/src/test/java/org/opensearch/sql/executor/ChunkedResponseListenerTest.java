@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.verify;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.pagination.Cursor;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ChunkedResponseListenerTest {
+
+  @Mock private Schema schema;
+
+  @Mock private ResponseListener<QueryResponse> listener;
+
+  @Test
+  void chunked_listener_is_returned_as_is() {
+    ChunkedResponseListener chunkedListener = new CollectingListener();
+    assertSame(chunkedListener, ChunkedResponseListener.of(chunkedListener));
+  }
+
+  @Test
+  void chunks_are_collected_into_single_response() {
+    AtomicReference<QueryResponse> response = new AtomicReference<>();
+    ChunkedResponseListener chunkedListener =
+        ChunkedResponseListener.of(
+            new ResponseListener<>() {
+              @Override
+              public void onResponse(QueryResponse r) {
+                response.set(r);
+              }
+
+              @Override
+              public void onFailure(Exception e) {}
+            });
+
+    chunkedListener.onSchema(schema);
+    chunkedListener.onChunk(List.of(integerValue(1), integerValue(2)));
+    chunkedListener.onChunk(List.of(integerValue(3)));
+    chunkedListener.onComplete(Cursor.None);
+
+    assertEquals(
+        new QueryResponse(
+            schema, List.of(integerValue(1), integerValue(2), integerValue(3)), Cursor.None),
+        response.get());
+  }
+
+  @Test
+  void failure_is_passed_to_adapted_listener() {
+    Exception e = new RuntimeException("error");
+    ChunkedResponseListener.of(listener).onFailure(e);
+    verify(listener).onFailure(e);
+  }
+
+  @Test
+  void query_response_is_dispatched_as_single_chunk() {
+    CollectingListener chunkedListener = new CollectingListener();
+    List<ExprValue> results = List.of(integerValue(1), integerValue(2));
+    chunkedListener.onResponse(new QueryResponse(schema, results, Cursor.None));
+
+    assertSame(schema, chunkedListener.schema);
+    assertEquals(List.of(results), chunkedListener.chunks);
+    assertSame(Cursor.None, chunkedListener.cursor);
+  }
+
+  private static class CollectingListener implements ChunkedResponseListener {
+    private Schema schema;
+    private final List<List<ExprValue>> chunks = new ArrayList<>();
+    private Cursor cursor;
+
+    @Override
+    public void onSchema(Schema schema) {
+      this.schema = schema;
+    }
+
+    @Override
+    public void onChunk(List<ExprValue> rows) {
+      chunks.add(rows);
+    }
+
+    @Override
+    public void onComplete(Cursor cursor) {
+      this.cursor = cursor;
+    }
+
+    @Override
+    public void onFailure(Exception e) {}
+  }
+}
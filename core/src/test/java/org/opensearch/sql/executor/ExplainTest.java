@@ -7,7 +7,9 @@ package org.opensearch.sql.executor;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.opensearch.sql.ast.tree.RareTopN.CommandType.TOP;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
@@ -27,6 +29,7 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rareTopN;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.remove;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rename;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.takeOrdered;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.window;
 
@@ -42,6 +45,7 @@ import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionTestBase;
@@ -220,6 +224,25 @@ class ExplainTest extends ExpressionTestBase {
         explain.apply(plan));
   }
 
+  @Test
+  void can_explain_take_ordered() {
+    Pair<Sort.SortOption, Expression> sort = ImmutablePair.of(DEFAULT_ASC, ref("a", INTEGER));
+    PhysicalPlan plan = takeOrdered(tableScan, 10, 5, sort);
+    assertEquals(
+        new ExplainResponse(
+            new ExplainResponseNode(
+                "TakeOrderedOperator",
+                Map.of(
+                    "limit",
+                    10,
+                    "offset",
+                    5,
+                    "sortList",
+                    Map.of("a", Map.of("sortOrder", "ASC", "nullOrder", "NULL_FIRST"))),
+                singletonList(tableScan.explainNode()))),
+        explain.apply(plan));
+  }
+
   @Test
   void can_explain_nested() {
     Set<String> nestedOperatorArgs = Set.of("message.info", "message");
@@ -235,6 +258,37 @@ class ExplainTest extends ExpressionTestBase {
         explain.apply(plan));
   }
 
+  @Test
+  void can_explain_with_profile() {
+    QueryProfile profile = new QueryProfile();
+    PhysicalPlan plan =
+        profile.profile(
+            limit(
+                profile.profile(
+                    values(List.of(literal(1)), List.of(literal(2)), List.of(literal(3)))),
+                1,
+                1));
+    plan.open();
+    while (plan.hasNext()) {
+      plan.next();
+    }
+    plan.close();
+
+    ExplainResponseNode limitNode = new Explain(profile).apply(plan).getRoot();
+    ExplainResponseNode valuesNode = limitNode.getChildren().get(0);
+    assertAll(
+        () -> assertEquals(1, limitNode.getDescription().get("limit")),
+        () -> assertEquals(2L, profileOf(limitNode).get("rowsIn")),
+        () -> assertEquals(1L, profileOf(limitNode).get("rowsOut")),
+        () -> assertEquals(2L, profileOf(valuesNode).get("rowsOut")),
+        () -> assertFalse(profileOf(valuesNode).containsKey("rowsIn")));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> profileOf(ExplainResponseNode node) {
+    return (Map<String, Object>) node.getDescription().get("profile");
+  }
+
   private static class FakeTableScan extends TableScanOperator {
     @Override
     public boolean hasNext() {
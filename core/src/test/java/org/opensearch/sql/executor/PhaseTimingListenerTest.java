@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.logging.log4j.ThreadContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.common.utils.QueryContext;
+import org.opensearch.sql.common.utils.QueryPhase;
+import org.opensearch.sql.common.utils.QueryPhaseTimer;
+import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.pagination.Cursor;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PhaseTimingListenerTest {
+
+  @Mock private ChunkedResponseListener chunkedListener;
+
+  @Mock private ResponseListener<QueryResponse> listener;
+
+  private final Map<QueryPhase, Long> durations = new EnumMap<>(QueryPhase.class);
+
+  private final Schema schema = new Schema(List.of());
+
+  @BeforeEach
+  void setUp() {
+    QueryContext.setQueryLanguage("sql");
+    QueryPhaseTimer.setRecorder(
+        (language, phase, nanos) -> {
+          assertEquals("sql", language);
+          durations.put(phase, nanos);
+        });
+  }
+
+  @AfterEach
+  void tearDown() {
+    QueryPhaseTimer.setRecorder(null);
+    ThreadContext.clearMap();
+  }
+
+  @Test
+  void stream_chunks_and_record_execute_and_format_time() {
+    ChunkedResponseListener timingListener = PhaseTimingListener.of(chunkedListener);
+    timingListener.onSchema(schema);
+    timingListener.onChunk(List.of(integerValue(1)));
+    timingListener.onComplete(Cursor.None);
+
+    InOrder order = inOrder(chunkedListener);
+    order.verify(chunkedListener).onSchema(schema);
+    order.verify(chunkedListener).onChunk(List.of(integerValue(1)));
+    order.verify(chunkedListener).onComplete(Cursor.None);
+    assertEquals(List.of(QueryPhase.EXECUTE, QueryPhase.FORMAT), List.copyOf(durations.keySet()));
+    assertTrue(durations.get(QueryPhase.EXECUTE) >= 0L);
+    assertTrue(durations.get(QueryPhase.FORMAT) >= 0L);
+  }
+
+  @Test
+  void send_single_response_to_listener_not_chunked() {
+    QueryResponse response = new QueryResponse(schema, List.of(integerValue(1)), Cursor.None);
+    PhaseTimingListener.of(listener).onResponse(response);
+
+    verify(listener).onResponse(response);
+    assertEquals(2, durations.size());
+  }
+
+  @Test
+  void no_time_recorded_on_failure() {
+    IllegalStateException e = new IllegalStateException("failed");
+    PhaseTimingListener.of(listener).onFailure(e);
+
+    verify(listener).onFailure(e);
+    assertTrue(durations.isEmpty());
+  }
+}
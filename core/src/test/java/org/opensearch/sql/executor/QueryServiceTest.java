@@ -80,6 +80,16 @@ class QueryServiceTest {
     queryService().explainFail().handledByExplainOnFailure();
   }
 
+  @Test
+  public void testProfileShouldPass() {
+    queryService().profileSuccess().handledByProfileOnResponse();
+  }
+
+  @Test
+  public void profileWithIllegalQueryShouldBeCaughtByHandler() {
+    queryService().profileFail().handledByProfileOnFailure();
+  }
+
   @Test
   public void analyzeExceptionShouldBeCached() {
     queryService().analyzeFail().handledByOnFailure();
@@ -162,6 +172,30 @@ class QueryServiceTest {
       return this;
     }
 
+    Helper profileSuccess() {
+      doAnswer(
+              invocation -> {
+                ResponseListener<ExecutionEngine.ExplainResponse> listener =
+                    invocation.getArgument(1);
+                listener.onResponse(
+                    new ExecutionEngine.ExplainResponse(
+                        new ExecutionEngine.ExplainResponseNode("test")));
+                return null;
+              })
+          .when(executionEngine)
+          .profile(any(), any());
+
+      return this;
+    }
+
+    Helper profileFail() {
+      doThrow(new IllegalStateException("illegal state exception"))
+          .when(executionEngine)
+          .profile(any(), any());
+
+      return this;
+    }
+
     void handledByOnResponse() {
       ResponseListener<ExecutionEngine.QueryResponse> responseListener =
           new ResponseListener<>() {
@@ -229,5 +263,37 @@ class QueryServiceTest {
             }
           });
     }
+
+    void handledByProfileOnResponse() {
+      queryService.profile(
+          ast,
+          new ResponseListener<>() {
+            @Override
+            public void onResponse(ExecutionEngine.ExplainResponse pplQueryResponse) {
+              assertNotNull(pplQueryResponse);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+              fail();
+            }
+          });
+    }
+
+    void handledByProfileOnFailure() {
+      queryService.profile(
+          ast,
+          new ResponseListener<>() {
+            @Override
+            public void onResponse(ExecutionEngine.ExplainResponse pplQueryResponse) {
+              fail();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+              assertTrue(e instanceof IllegalStateException);
+            }
+          });
+    }
   }
 }
@@ -74,4 +74,23 @@ public class CommandPlanTest {
     verify(explainListener, never()).onResponse(any());
     verify(explainListener, never()).onFailure(any());
   }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void profile_not_supported() {
+    QueryService qs = mock(QueryService.class);
+    ResponseListener listener = mock(ResponseListener.class);
+    ResponseListener explainListener = mock(ResponseListener.class);
+
+    var exception =
+        assertThrows(
+            Throwable.class,
+            () ->
+                new CommandPlan(QueryId.queryId(), mock(UnresolvedPlan.class), qs, listener)
+                    .profile(explainListener));
+    assertEquals("CommandPlan does not support profile", exception.getMessage());
+
+    verify(explainListener, never()).onResponse(any());
+    verify(explainListener, never()).onFailure(any());
+  }
 }
@@ -41,6 +41,16 @@ public class ExplainPlanTest {
     verify(queryPlan, times(1)).explain(explainListener);
   }
 
+  @Test
+  public void executeProfile() {
+    doNothing().when(queryPlan).profile(any());
+
+    ExplainPlan explainPlan = new ExplainPlan(queryId, queryPlan, true, explainListener);
+    explainPlan.execute();
+
+    verify(queryPlan, times(1)).profile(explainListener);
+  }
+
   @Test
   public void explainThrowException() {
     ExplainPlan explainPlan = new ExplainPlan(queryId, queryPlan, explainListener);
@@ -53,4 +63,14 @@ public class ExplainPlanTest {
             });
     assertEquals("explain query can not been explained.", unsupportedExplainException.getMessage());
   }
+
+  @Test
+  public void profileThrowException() {
+    ExplainPlan explainPlan = new ExplainPlan(queryId, queryPlan, explainListener);
+
+    UnsupportedOperationException unsupportedProfileException =
+        assertThrows(
+            UnsupportedOperationException.class, () -> explainPlan.profile(explainListener));
+    assertEquals("explain query can not been profiled.", unsupportedProfileException.getMessage());
+  }
 }
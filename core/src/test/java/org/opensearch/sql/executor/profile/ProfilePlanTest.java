@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.profile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.RowBatch;
+import org.opensearch.sql.storage.split.Split;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ProfilePlanTest {
+
+  @Mock private PhysicalPlan delegate;
+
+  @Mock private ThreadMXBean threadMXBean;
+
+  @Test
+  void count_rows_returned() {
+    when(delegate.hasNext()).thenReturn(true);
+    when(delegate.next()).thenReturn(integerValue(1));
+    when(delegate.nextBatch()).thenReturn(RowBatch.of(List.of(integerValue(2), integerValue(3))));
+
+    ProfilePlan plan = new ProfilePlan(delegate);
+    plan.open();
+    assertTrue(plan.hasNext());
+    assertEquals(integerValue(1), plan.next());
+    assertEquals(2, plan.nextBatch().size());
+    plan.close();
+
+    verify(delegate).open();
+    verify(delegate).close();
+    assertEquals(3L, plan.getRows());
+    assertTrue(plan.getOpenNanos() >= 0L);
+    assertTrue(plan.getNextNanos() >= 0L);
+    assertTrue(plan.getCpuNanos() >= 0L);
+  }
+
+  @Test
+  void accumulate_cpu_time_of_current_thread() {
+    when(threadMXBean.isCurrentThreadCpuTimeSupported()).thenReturn(true);
+    when(threadMXBean.isThreadCpuTimeEnabled()).thenReturn(true);
+    when(threadMXBean.getCurrentThreadCpuTime()).thenReturn(100L, 150L, 200L, 270L);
+    when(delegate.hasNext()).thenReturn(false);
+
+    ProfilePlan plan = new ProfilePlan(delegate, threadMXBean);
+    plan.open();
+    assertFalse(plan.hasNext());
+    assertEquals(120L, plan.getCpuNanos());
+  }
+
+  @Test
+  void no_cpu_time_if_unsupported_or_disabled() {
+    when(threadMXBean.isCurrentThreadCpuTimeSupported()).thenReturn(true, false);
+    when(threadMXBean.isThreadCpuTimeEnabled()).thenReturn(false);
+
+    ProfilePlan disabled = new ProfilePlan(delegate, threadMXBean);
+    disabled.open();
+    ProfilePlan unsupported = new ProfilePlan(delegate, threadMXBean);
+    unsupported.open();
+
+    assertEquals(0L, disabled.getCpuNanos());
+    assertEquals(0L, unsupported.getCpuNanos());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void delegate_plan_methods() {
+    PhysicalPlanNodeVisitor<Object, Object> visitor = mock(PhysicalPlanNodeVisitor.class);
+    Split split = mock(Split.class);
+    ExecutionEngine.Schema schema = new ExecutionEngine.Schema(List.of());
+    PhysicalPlan child = mock(PhysicalPlan.class);
+    when(delegate.accept(visitor, null)).thenReturn("visited");
+    when(delegate.getChild()).thenReturn(List.of(child));
+    when(delegate.schema()).thenReturn(schema);
+
+    ProfilePlan plan = new ProfilePlan(delegate);
+    plan.add(split);
+
+    verify(delegate).add(split);
+    assertEquals("visited", plan.accept(visitor, null));
+    assertEquals(List.of(child), plan.getChild());
+    assertSame(schema, plan.schema());
+  }
+}
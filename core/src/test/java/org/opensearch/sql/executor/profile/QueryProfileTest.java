@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.profile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.limit;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.tree.Sort;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.ValuesOperator;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class QueryProfileTest {
+
+  private final QueryProfile profile = new QueryProfile();
+
+  private final ValuesOperator values =
+      values(List.of(literal(1)), List.of(literal(2)), List.of(literal(3)));
+
+  @Test
+  void metrics_of_operator_profiled() {
+    PhysicalPlan sort =
+        sort(profile.profile(values), Pair.of(Sort.SortOption.DEFAULT_ASC, literal(0)));
+    PhysicalPlan plan = profile.profile(sort);
+    plan.open();
+    while (plan.hasNext()) {
+      plan.next();
+    }
+
+    Map<String, Object> metrics = profile.metrics(plan);
+    assertEquals(
+        ImmutableMap.of("rowsIn", 3L, "rowsOut", 3L, "peakBufferedRows", 3, "spilledRuns", 0),
+        ImmutableMap.of(
+            "rowsIn", metrics.get("rowsIn"),
+            "rowsOut", metrics.get("rowsOut"),
+            "peakBufferedRows", metrics.get("peakBufferedRows"),
+            "spilledRuns", metrics.get("spilledRuns")));
+    assertTrue((double) metrics.get("openTimeMillis") >= 0.0);
+    assertTrue((double) metrics.get("nextTimeMillis") >= 0.0);
+    assertTrue((double) metrics.get("cpuTimeMillis") >= 0.0);
+    assertEquals(profile.metrics(sort), metrics);
+    assertEquals(3L, profile.metrics(values).get("rowsOut"));
+  }
+
+  @Test
+  void no_metrics_of_operator_not_profiled() {
+    PhysicalPlan plan = profile.profile(limit(values, 1, 0));
+    plan.open();
+
+    assertEquals(0L, profile.metrics(plan).get("rowsIn"));
+    assertEquals(Map.of(), profile.metrics(values));
+  }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.floatValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.shortValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.FunctionName;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ExpressionCompilerTest {
+
+  private static final Map<ExprCoreType, List<ExprValue>> VALUES =
+      ImmutableMap.of(
+          INTEGER, Arrays.asList(integerValue(-1), integerValue(0), integerValue(7)),
+          LONG, Arrays.asList(longValue(-1L), longValue(0L), longValue(Long.MAX_VALUE)),
+          FLOAT, Arrays.asList(floatValue(-1.5f), floatValue(0f), floatValue(Float.NaN)),
+          DOUBLE, Arrays.asList(doubleValue(-1.5), doubleValue(-0.0), doubleValue(2.25)),
+          STRING, Arrays.asList(stringValue("a"), stringValue("b")));
+
+  private static final List<ExprValue> BOOLEANS =
+      Arrays.asList(LITERAL_TRUE, LITERAL_FALSE, LITERAL_NULL, LITERAL_MISSING);
+
+  @Test
+  void comparison_is_same_as_interpreter() {
+    List<Function<Expression[], FunctionExpression>> functions =
+        Arrays.asList(DSL::equal, DSL::notequal, DSL::less, DSL::lte, DSL::greater, DSL::gte);
+    VALUES.forEach(
+        (type, values) -> {
+          for (Function<Expression[], FunctionExpression> function : functions) {
+            assertSameAsInterpreter(
+                function.apply(new Expression[] {DSL.ref("a", type), DSL.ref("b", type)}),
+                withNullAndMissing(values));
+          }
+        });
+  }
+
+  @Test
+  void arithmetic_is_same_as_interpreter() {
+    List<Function<Expression[], FunctionExpression>> functions =
+        Arrays.asList(
+            DSL::add,
+            DSL::addFunction,
+            DSL::subtract,
+            DSL::subtractFunction,
+            DSL::multiply,
+            DSL::multiplyFunction);
+    VALUES.forEach(
+        (type, values) -> {
+          if (type == STRING) {
+            return;
+          }
+          List<ExprValue> numbers = new ArrayList<>(withNullAndMissing(values));
+          // Avoid overflow of integral values
+          numbers.remove(longValue(Long.MAX_VALUE));
+          for (Function<Expression[], FunctionExpression> function : functions) {
+            assertSameAsInterpreter(
+                function.apply(new Expression[] {DSL.ref("a", type), DSL.ref("b", type)}),
+                numbers);
+          }
+        });
+  }
+
+  @Test
+  void arithmetic_overflow_throws_same_as_interpreter() {
+    Expression expression = DSL.add(DSL.ref("a", LONG), DSL.ref("b", LONG));
+    Environment<Expression, ExprValue> env = env(longValue(Long.MAX_VALUE), longValue(1L));
+
+    assertThrows(ArithmeticException.class, () -> expression.valueOf(env));
+    assertThrows(
+        ArithmeticException.class, () -> ExpressionCompiler.compile(expression).valueOf(env));
+  }
+
+  @Test
+  void logical_operator_is_same_as_interpreter() {
+    assertSameAsInterpreter(DSL.and(DSL.ref("a", BOOLEAN), DSL.ref("b", BOOLEAN)), BOOLEANS);
+    assertSameAsInterpreter(DSL.or(DSL.ref("a", BOOLEAN), DSL.ref("b", BOOLEAN)), BOOLEANS);
+    assertSameAsInterpreter(DSL.not(DSL.ref("a", BOOLEAN)), BOOLEANS);
+  }
+
+  @Test
+  void right_operand_is_skipped_if_left_operand_decides_result() {
+    Environment<Expression, ExprValue> env =
+        expr -> {
+          throw new AssertionError("Right operand should not be evaluated");
+        };
+
+    assertEquals(
+        LITERAL_FALSE,
+        ExpressionCompiler.compile(DSL.and(DSL.literal(false), DSL.ref("b", BOOLEAN)))
+            .valueOf(env));
+    assertEquals(
+        LITERAL_TRUE,
+        ExpressionCompiler.compile(DSL.or(DSL.literal(true), DSL.ref("b", BOOLEAN)))
+            .valueOf(env));
+  }
+
+  @Test
+  void number_of_other_type_than_declared_is_compared_by_its_own_type() {
+    // Long value out of integer range is compared as long like the interpreter
+    Expression expression = DSL.greater(DSL.ref("a", INTEGER), DSL.ref("b", INTEGER));
+    Environment<Expression, ExprValue> env = env(longValue(1L << 32), integerValue(0));
+
+    assertEquals(LITERAL_TRUE, expression.valueOf(env));
+    assertEquals(LITERAL_TRUE, ExpressionCompiler.compile(expression).valueOf(env));
+  }
+
+  @Test
+  void expression_not_supported_is_interpreted() {
+    Expression reference = DSL.ref("a", INTEGER);
+    Expression function = DSL.abs(DSL.ref("a", INTEGER));
+    Expression shortAdd = DSL.add(DSL.ref("a", SHORT), DSL.ref("b", SHORT));
+    Expression aggregator = DSL.count(DSL.ref("a", INTEGER));
+    Expression namedAggregator = DSL.named("count", DSL.count(DSL.ref("a", INTEGER)));
+    Expression custom = new CustomFunction();
+
+    assertSame(reference, ExpressionCompiler.compile(reference));
+    assertSame(function, ExpressionCompiler.compile(function));
+    assertSame(shortAdd, ExpressionCompiler.compile(shortAdd));
+    assertSame(aggregator, ExpressionCompiler.compile(aggregator));
+    assertSame(namedAggregator, ExpressionCompiler.compile(namedAggregator));
+    assertSame(custom, ExpressionCompiler.compile(custom));
+    assertEquals(
+        shortValue((short) 3),
+        ExpressionCompiler.compile(shortAdd)
+            .valueOf(env(shortValue((short) 1), shortValue((short) 2))));
+  }
+
+  @Test
+  void argument_not_supported_is_interpreted() {
+    Expression expression =
+        DSL.named("abs_a", DSL.equal(DSL.abs(DSL.ref("a", INTEGER)), DSL.literal(1)));
+
+    Expression compiled = ExpressionCompiler.compile(expression);
+    assertInstanceOf(CompiledExpression.class, compiled);
+    assertEquals(LITERAL_TRUE, compiled.valueOf(env(integerValue(-1), LITERAL_NULL)));
+    assertEquals(LITERAL_FALSE, compiled.valueOf(env(integerValue(2), LITERAL_NULL)));
+  }
+
+  @Test
+  void compiled_expression_is_seen_as_source_expression() {
+    Expression source = DSL.equal(DSL.ref("a", INTEGER), DSL.literal(1));
+    CompiledExpression compiled = (CompiledExpression) ExpressionCompiler.compile(source);
+
+    assertSame(source, compiled.getSource());
+    assertEquals(source.type(), compiled.type());
+    assertEquals(source.toString(), compiled.toString());
+    assertEquals(ExpressionCompiler.compile(source), compiled);
+    assertEquals(ExpressionCompiler.compile(source).hashCode(), compiled.hashCode());
+    assertNotEquals(
+        ExpressionCompiler.compile(DSL.equal(DSL.ref("a", INTEGER), DSL.literal(2))), compiled);
+    assertSame(
+        source,
+        compiled.accept(
+            new ExpressionNodeVisitor<Expression, Object>() {
+              @Override
+              public Expression visitFunction(FunctionExpression node, Object context) {
+                return node;
+              }
+            },
+            null));
+  }
+
+  /** Evaluate on all pairs of the values and assert same result as the interpreter. */
+  private static void assertSameAsInterpreter(Expression expression, List<ExprValue> values) {
+    Expression compiled = ExpressionCompiler.compile(expression);
+    assertInstanceOf(CompiledExpression.class, compiled);
+    for (ExprValue a : values) {
+      for (ExprValue b : values) {
+        Environment<Expression, ExprValue> env = env(a, b);
+        assertEquals(
+            expression.valueOf(env),
+            compiled.valueOf(env),
+            String.format("%s with a=%s, b=%s", expression, a, b));
+      }
+    }
+  }
+
+  private static List<ExprValue> withNullAndMissing(List<ExprValue> values) {
+    List<ExprValue> result = new ArrayList<>(values);
+    result.add(LITERAL_NULL);
+    result.add(LITERAL_MISSING);
+    return result;
+  }
+
+  private static Environment<Expression, ExprValue> env(ExprValue a, ExprValue b) {
+    Map<String, ExprValue> tuple = new LinkedHashMap<>();
+    tuple.put("a", a);
+    tuple.put("b", b);
+    return ExprTupleValue.fromExprValueMap(tuple).bindingTuples();
+  }
+
+  private static class CustomFunction extends FunctionExpression {
+    CustomFunction() {
+      super(FunctionName.of("custom"), Arrays.asList(DSL.ref("a", INTEGER)));
+    }
+
+    @Override
+    public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+      return LITERAL_NULL;
+    }
+
+    @Override
+    public ExprType type() {
+      return INTEGER;
+    }
+  }
+}
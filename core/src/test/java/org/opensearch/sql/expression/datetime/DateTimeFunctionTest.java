@@ -1371,6 +1371,30 @@ class DateTimeFunctionTest extends ExpressionTestBase {
     assertEquals(timestampFormatted, eval(expr).stringValue());
   }
 
+  @Test
+  public void date_format_reuses_compiled_format() {
+    String format = "%D %M %Y";
+    assertEquals(
+        "1st January 2020",
+        eval(DSL.date_format(functionProperties, DSL.literal("2020-01-01"), DSL.literal(format)))
+            .stringValue());
+    assertEquals(
+        "2nd January 2020",
+        eval(DSL.date_format(functionProperties, DSL.literal("2020-01-02"), DSL.literal(format)))
+            .stringValue());
+    assertEquals(
+        "1st January 2020",
+        eval(DSL.date_format(functionProperties, DSL.literal("2020-01-01"), DSL.literal(format)))
+            .stringValue());
+  }
+
+  @Test
+  public void date_format_with_unresolvable_specifier() {
+    FunctionExpression expr =
+        DSL.date_format(functionProperties, DSL.literal("2020-01-01"), DSL.literal("%Y %$"));
+    assertEquals(ExprNullValue.of(), eval(expr));
+  }
+
   void testDateFormat(DateFormatTester dft) {
     FunctionExpression expr = dft.getDateFormatExpression();
     assertEquals(STRING, expr.type());
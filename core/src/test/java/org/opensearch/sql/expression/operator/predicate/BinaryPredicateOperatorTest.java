@@ -7,9 +7,12 @@ package org.opensearch.sql.expression.operator.predicate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.config.TestConfig.BOOL_TYPE_MISSING_VALUE_FIELD;
 import static org.opensearch.sql.config.TestConfig.BOOL_TYPE_NULL_VALUE_FIELD;
+import static org.opensearch.sql.config.TestConfig.STRING_TYPE_MISSING_VALUE_FIELD;
+import static org.opensearch.sql.config.TestConfig.STRING_TYPE_NULL_VALUE_FIELD;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
@@ -19,6 +22,7 @@ import static org.opensearch.sql.data.model.ExprValueUtils.fromObjectValue;
 import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
 import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import static org.opensearch.sql.utils.ComparisonUtil.compare;
@@ -39,6 +43,7 @@ import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -584,6 +589,58 @@ class BinaryPredicateOperatorTest extends ExpressionTestBase {
     assertEquals(stringPatternPair.regExpTest(), expression.valueOf(valueEnv()).integerValue());
   }
 
+  @Test
+  void test_like_with_pattern_not_literal() {
+    FunctionExpression like = DSL.like(DSL.literal("str"), DSL.ref("string_value", STRING));
+    assertEquals(LITERAL_TRUE, like.valueOf(valueEnv()));
+
+    FunctionExpression notLike = DSL.notLike(DSL.literal("bob"), DSL.ref("string_value", STRING));
+    assertEquals(LITERAL_TRUE, notLike.valueOf(valueEnv()));
+
+    FunctionExpression regexp = DSL.regexp(DSL.literal("str"), DSL.ref("string_value", STRING));
+    assertEquals(1, regexp.valueOf(valueEnv()).integerValue());
+  }
+
+  @Test
+  void test_like_with_null_or_missing() {
+    assertEquals(
+        LITERAL_NULL,
+        DSL.like(DSL.ref(STRING_TYPE_NULL_VALUE_FIELD, STRING), DSL.literal("a%"))
+            .valueOf(valueEnv()));
+    assertEquals(
+        LITERAL_NULL,
+        DSL.like(DSL.literal("abc"), DSL.ref(STRING_TYPE_NULL_VALUE_FIELD, STRING))
+            .valueOf(valueEnv()));
+    assertEquals(
+        LITERAL_MISSING,
+        DSL.like(DSL.ref(STRING_TYPE_MISSING_VALUE_FIELD, STRING), DSL.literal("a%"))
+            .valueOf(valueEnv()));
+    assertEquals(
+        LITERAL_MISSING,
+        DSL.notLike(DSL.literal("abc"), DSL.ref(STRING_TYPE_MISSING_VALUE_FIELD, STRING))
+            .valueOf(valueEnv()));
+  }
+
+  @Test
+  void test_regexp_with_invalid_pattern() {
+    FunctionExpression regexp = DSL.regexp(DSL.literal("abc"), DSL.literal("a("));
+    assertThrows(PatternSyntaxException.class, () -> regexp.valueOf(valueEnv()));
+  }
+
+  @Test
+  void serialize_like_with_pattern_compiled() throws Exception {
+    Expression expression = DSL.like(DSL.literal("timeout of request"), DSL.literal("%TIMEOUT%"));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+    objectOutput.writeObject(expression);
+    objectOutput.flush();
+
+    ObjectInputStream objectInput =
+        new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()));
+    Expression e = (Expression) objectInput.readObject();
+    assertEquals(LITERAL_TRUE, e.valueOf(valueEnv()));
+  }
+
   /** Todo. remove this test cases after script serilization implemented. */
   @Test
   public void serializationTest() throws Exception {
@@ -179,6 +179,17 @@ class DefaultImplementorTest {
         actual);
   }
 
+  @Test
+  public void visitLimit_over_sort_should_build_TakeOrderedOperator() {
+    Pair<Sort.SortOption, Expression> sortField =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_ASC, ref("name1", STRING));
+    LogicalPlan plan = limit(sort(values(emptyList()), sortField), 10, 5);
+
+    assertEquals(
+        PhysicalPlanDSL.takeOrdered(PhysicalPlanDSL.values(emptyList()), 10, 5, sortField),
+        plan.accept(implementor, null));
+  }
+
   @Test
   public void visitRelation_should_throw_an_exception() {
     assertThrows(
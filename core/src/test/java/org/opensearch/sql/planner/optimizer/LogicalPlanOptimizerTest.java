@@ -15,6 +15,7 @@ import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
 import static org.opensearch.sql.data.type.ExprCoreType.*;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.aggregation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.dedupe;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.highlight;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.limit;
@@ -222,6 +223,15 @@ class LogicalPlanOptimizerTest {
         optimize(highlight(relation("schema", table), DSL.literal("*"), Collections.emptyMap())));
   }
 
+  @Test
+  void table_scan_builder_support_dedupe_push_down_can_apply_its_rule() {
+    when(tableScanBuilder.pushDownDedupe(any())).thenReturn(true);
+
+    assertEquals(
+        tableScanBuilder,
+        optimize(dedupe(relation("schema", table), DSL.ref("string_value", STRING))));
+  }
+
   @Test
   void table_scan_builder_support_nested_push_down_can_apply_its_rule() {
     when(tableScanBuilder.pushDownNested(any())).thenReturn(true);
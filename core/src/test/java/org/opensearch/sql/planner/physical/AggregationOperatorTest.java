@@ -30,6 +30,8 @@ import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
 
 class AggregationOperatorTest extends PhysicalPlanTestBase {
 
@@ -750,6 +752,34 @@ class AggregationOperatorTest extends PhysicalPlanTestBase {
                     "sum", 8))));
   }
 
+  @Test
+  public void avg_with_two_groups_and_memory_limit() {
+    List<NamedAggregator> aggregators =
+        Collections.singletonList(
+            DSL.named("avg(response)", DSL.avg(DSL.ref("response", INTEGER))));
+    List<NamedExpression> groupByExprs =
+        Arrays.asList(
+            DSL.named("action", DSL.ref("action", STRING)), DSL.named("ip", DSL.ref("ip", STRING)));
+
+    assertEquals(
+        execute(new AggregationOperator(new TestScan(), aggregators, groupByExprs)),
+        execute(new AggregationOperator(new TestScan(), aggregators, groupByExprs, 1L)));
+  }
+
+  @Test
+  public void sum_without_groups_and_memory_limit() {
+    PhysicalPlan plan =
+        new AggregationOperator(
+            new TestScan(),
+            Collections.singletonList(
+                DSL.named("sum(response)", DSL.sum(DSL.ref("response", INTEGER)))),
+            Collections.emptyList(),
+            1L);
+    assertThat(
+        execute(plan),
+        containsInAnyOrder(ExprValueUtils.tupleValue(ImmutableMap.of("sum(response)", 1504d))));
+  }
+
   @Test
   public void copyOfAggregationOperatorShouldSame() {
     AggregationOperator plan =
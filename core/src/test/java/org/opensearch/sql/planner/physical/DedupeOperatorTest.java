@@ -8,18 +8,24 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.dedupe;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.planner.physical.DedupeOperator.Deduper;
 
@@ -229,29 +235,52 @@ class DedupeOperatorTest extends PhysicalPlanTestBase {
 
   @Test
   public void historical_deduper() {
-    Deduper<Integer> deduper = Deduper.historicalDeduper();
+    Deduper deduper = Deduper.historicalDeduper(0L);
 
     // first time seen 1
-    assertEquals(1, deduper.seenTimes(1));
+    assertEquals(1, deduper.seenTimes(key(1)));
     // second time seen 1
-    assertEquals(2, deduper.seenTimes(1));
+    assertEquals(2, deduper.seenTimes(key(1)));
     // first time seen 2
-    assertEquals(1, deduper.seenTimes(2));
+    assertEquals(1, deduper.seenTimes(key(2)));
     // third time seen 1
-    assertEquals(3, deduper.seenTimes(1));
+    assertEquals(3, deduper.seenTimes(key(1)));
+    assertEquals(ImmutableMap.of("distinctKeys", 2, "approximate", false), deduper.metrics());
   }
 
   @Test
   public void consecutive_deduper() {
-    Deduper<Integer> deduper = Deduper.consecutiveDeduper();
+    Deduper deduper = Deduper.consecutiveDeduper();
 
     // first time seen 1
-    assertEquals(1, deduper.seenTimes(1));
+    assertEquals(1, deduper.seenTimes(key(1)));
     // consecutive second time seen 1
-    assertEquals(2, deduper.seenTimes(1));
+    assertEquals(2, deduper.seenTimes(key(1)));
     // first time seen 2
-    assertEquals(1, deduper.seenTimes(2));
+    assertEquals(1, deduper.seenTimes(key(2)));
     // first time seen 1
-    assertEquals(1, deduper.seenTimes(1));
+    assertEquals(1, deduper.seenTimes(key(1)));
+    assertEquals(Map.of(), deduper.metrics());
+  }
+
+  @Test
+  public void dedupe_over_memory_limit_counts_approximately() {
+    List<ExprValue> rows =
+        IntStream.range(0, 1000)
+            .mapToObj(i -> tupleValue(ImmutableMap.of("session", "s" + (i % 500))))
+            .collect(Collectors.toList());
+    DedupeOperator plan =
+        new DedupeOperator(
+            testScan(rows), List.of(DSL.ref("session", STRING)), 1, false, false, 1024L);
+
+    List<ExprValue> result = execute(plan);
+    assertTrue(result.size() <= 500);
+    assertEquals(result.size(), result.stream().distinct().count());
+    assertEquals(true, plan.profileMetrics().get("approximate"));
+    assertEquals(1024L, plan.getMemoryLimit());
+  }
+
+  private static ExprValue[] key(int value) {
+    return new ExprValue[] {integerValue(value)};
   }
 }
@@ -9,12 +9,15 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.iterableWithSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.eval;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.List;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -130,4 +133,28 @@ class EvalOperatorTest extends PhysicalPlanTestBase {
 
     assertThat(result, allOf(iterableWithSize(1), hasItems(ExprValueUtils.integerValue(1))));
   }
+
+  @Test
+  public void eval_by_batch() {
+    when(inputPlan.nextBatch())
+        .thenReturn(
+            RowBatch.of(
+                List.of(
+                    ExprValueUtils.tupleValue(ImmutableMap.of("distance", 100, "time", 10)),
+                    ExprValueUtils.tupleValue(ImmutableMap.of("distance", 60, "time", 20)))),
+            RowBatch.empty());
+
+    PhysicalPlan plan =
+        eval(
+            inputPlan,
+            ImmutablePair.of(
+                DSL.ref("velocity", INTEGER),
+                DSL.divide(DSL.ref("distance", INTEGER), DSL.ref("time", INTEGER))));
+    assertEquals(
+        List.of(
+            ExprValueUtils.tupleValue(ImmutableMap.of("distance", 100, "time", 10, "velocity", 10)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("distance", 60, "time", 20, "velocity", 3))),
+        ImmutableList.copyOf(plan.nextBatch()));
+    assertTrue(plan.nextBatch().isEmpty());
+  }
 }
@@ -8,11 +8,13 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -82,4 +84,20 @@ class FilterOperatorTest extends PhysicalPlanTestBase {
     List<ExprValue> result = execute(plan);
     assertEquals(0, result.size());
   }
+
+  @Test
+  public void filter_by_batch() {
+    ExprValue match = ExprValueUtils.tupleValue(ImmutableMap.of("response", 404));
+    ExprValue other = ExprValueUtils.tupleValue(ImmutableMap.of("response", 200));
+    when(inputPlan.nextBatch())
+        .thenReturn(
+            RowBatch.of(List.of(other)),
+            RowBatch.of(List.of(other, match, other, match)),
+            RowBatch.empty());
+
+    FilterOperator plan =
+        new FilterOperator(inputPlan, DSL.equal(DSL.ref("response", INTEGER), DSL.literal(404)));
+    assertEquals(List.of(match, match), ImmutableList.copyOf(plan.nextBatch()));
+    assertTrue(plan.nextBatch().isEmpty());
+  }
 }
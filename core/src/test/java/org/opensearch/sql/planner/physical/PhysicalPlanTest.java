@@ -5,9 +5,13 @@
 
 package org.opensearch.sql.planner.physical;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -15,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.storage.split.Split;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,4 +57,40 @@ class PhysicalPlanTest {
     testPlan.add(split);
     verify(child).add(split);
   }
+
+  @Test
+  void next_batch_from_rows_by_default() {
+    Iterator<ExprValue> rows =
+        IntStream.range(0, PhysicalPlan.DEFAULT_BATCH_SIZE + 1)
+            .mapToObj(ExprValueUtils::integerValue)
+            .iterator();
+    PhysicalPlan plan =
+        new PhysicalPlan() {
+          @Override
+          public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+            throw new UnsupportedOperationException();
+          }
+
+          @Override
+          public boolean hasNext() {
+            return rows.hasNext();
+          }
+
+          @Override
+          public ExprValue next() {
+            return rows.next();
+          }
+
+          @Override
+          public List<PhysicalPlan> getChild() {
+            return List.of();
+          }
+        };
+
+    assertEquals(PhysicalPlan.DEFAULT_BATCH_SIZE, plan.nextBatch().size());
+    RowBatch last = plan.nextBatch();
+    assertEquals(1, last.size());
+    assertEquals(ExprValueUtils.integerValue(PhysicalPlan.DEFAULT_BATCH_SIZE), last.get(0));
+    assertTrue(plan.nextBatch().isEmpty());
+  }
 }
@@ -11,6 +11,8 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.iterableWithSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
@@ -101,6 +103,23 @@ class ProjectOperatorTest extends PhysicalPlanTestBase {
                     ImmutableMap.of("response", LITERAL_MISSING, "action", stringValue("POST"))))));
   }
 
+  @Test
+  public void project_fields_with_same_name_throws() {
+    when(inputPlan.hasNext()).thenReturn(true, false);
+    when(inputPlan.next())
+        .thenReturn(ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200)));
+    PhysicalPlan plan =
+        project(
+            inputPlan,
+            DSL.named("action", DSL.ref("action", STRING)),
+            DSL.named("action", DSL.ref("response", INTEGER)));
+
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> execute(plan));
+    assertEquals(
+        "Multiple entries with same key: action=200 and action=\"GET\"", exception.getMessage());
+  }
+
   @Test
   public void project_schema() {
     PhysicalPlan project =
@@ -259,4 +278,23 @@ class ProjectOperatorTest extends PhysicalPlanTestBase {
     var roundTripPlan = (ProjectOperator) objectInput.readObject();
     assertEquals(project, roundTripPlan);
   }
+
+  @Test
+  public void project_by_batch() {
+    when(inputPlan.nextBatch())
+        .thenReturn(
+            RowBatch.of(
+                List.of(
+                    ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200)),
+                    ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "response", 500)))),
+            RowBatch.empty());
+    PhysicalPlan plan = project(inputPlan, DSL.named("action", DSL.ref("action", STRING)));
+
+    assertEquals(
+        List.of(
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET")),
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST"))),
+        ImmutableList.copyOf(plan.nextBatch()));
+    assertTrue(plan.nextBatch().isEmpty());
+  }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RowBatchTest {
+
+  private final RowBatch batch =
+      RowBatch.of(List.of(integerValue(0), integerValue(1), integerValue(2), integerValue(3)));
+
+  @Test
+  void batch_of_rows() {
+    assertEquals(4, batch.size());
+    assertFalse(batch.isEmpty());
+    assertEquals(integerValue(2), batch.get(2));
+  }
+
+  @Test
+  void batch_of_no_rows_is_empty() {
+    assertSame(RowBatch.empty(), RowBatch.of(List.of()));
+    assertTrue(RowBatch.empty().isEmpty());
+  }
+
+  @Test
+  void select_rows_of_selected_batch() {
+    RowBatch selected = batch.select(new int[] {1, 2, 3, 0}, 3);
+    assertEquals(
+        List.of(integerValue(1), integerValue(2), integerValue(3)),
+        ImmutableList.copyOf(selected));
+
+    RowBatch selectedAgain = selected.select(new int[] {0, 2}, 2);
+    assertEquals(List.of(integerValue(1), integerValue(3)), ImmutableList.copyOf(selectedAgain));
+    assertSame(RowBatch.empty(), selectedAgain.select(new int[2], 0));
+  }
+
+  @Test
+  void map_selected_rows() {
+    RowBatch mapped =
+        batch.select(new int[] {1, 3}, 2).map(row -> integerValue(row.integerValue() * 10));
+    assertEquals(List.of(integerValue(10), integerValue(30)), ImmutableList.copyOf(mapped));
+  }
+
+  @Test
+  void iterate_rows() {
+    Iterator<ExprValue> iterator = RowBatch.of(List.of(integerValue(1))).iterator();
+    assertEquals(integerValue(1), iterator.next());
+    assertFalse(iterator.hasNext());
+    assertThrows(NoSuchElementException.class, iterator::next);
+  }
+}
@@ -16,6 +16,7 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
@@ -56,6 +57,30 @@ class SortOperatorTest extends PhysicalPlanTestBase {
             tupleValue(ImmutableMap.of("size", 399, "response", 503))));
   }
 
+  @Test
+  public void sort_one_field_asc_with_memory_limit() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 503)))
+        .thenReturn(tupleValue(NULL_MAP));
+
+    // Every row exceeds the memory limit and is spilled to disk
+    SortOperator sortOperator =
+        new SortOperator(
+            inputPlan, List.of(Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))), 1L);
+    assertThat(
+        execute(sortOperator),
+        contains(
+            tupleValue(NULL_MAP),
+            tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404)),
+            tupleValue(ImmutableMap.of("size", 399, "response", 503))));
+    assertEquals(
+        ImmutableMap.of("peakBufferedRows", 1, "spilledRuns", 4), sortOperator.profileMetrics());
+  }
+
   @Test
   public void sort_one_field_with_duplication() {
     when(inputPlan.hasNext()).thenReturn(true, true, true, false);
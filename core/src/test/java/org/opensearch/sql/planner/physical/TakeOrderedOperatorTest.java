@@ -0,0 +1,166 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.limit;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.takeOrdered;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+
+@ExtendWith(MockitoExtension.class)
+class TakeOrderedOperatorTest extends PhysicalPlanTestBase {
+  @Mock private PhysicalPlan inputPlan;
+
+  private static final Pair<SortOption, Expression> RESPONSE_ASC =
+      Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER));
+
+  private static final Pair<SortOption, Expression> RESPONSE_DESC =
+      Pair.of(SortOption.DEFAULT_DESC, ref("response", INTEGER));
+
+  /**
+   * construct the map which contain null value, because {@link ImmutableMap} doesn't support null
+   * value.
+   */
+  private static final Map<String, Object> NULL_MAP =
+      new HashMap<String, Object>() {
+        {
+          put("size", 399);
+          put("response", null);
+        }
+      };
+
+  @Test
+  public void take_ordered_one_field_asc() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 503)));
+
+    assertThat(
+        execute(takeOrdered(inputPlan, 2, 0, RESPONSE_ASC)),
+        contains(
+            tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404))));
+  }
+
+  @Test
+  public void take_ordered_one_field_desc_with_offset() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 503)))
+        .thenReturn(tupleValue(NULL_MAP));
+
+    assertThat(
+        execute(takeOrdered(inputPlan, 2, 1, RESPONSE_DESC)),
+        contains(
+            tupleValue(ImmutableMap.of("size", 499, "response", 404)),
+            tupleValue(ImmutableMap.of("size", 320, "response", 200))));
+  }
+
+  @Test
+  public void take_ordered_with_offset_out_of_input() {
+    when(inputPlan.hasNext()).thenReturn(true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)));
+
+    assertThat(
+        execute(takeOrdered(inputPlan, 5, 2, RESPONSE_ASC)),
+        empty());
+  }
+
+  @Test
+  public void take_ordered_with_zero_limit_does_not_read_input() {
+    assertThat(
+        execute(takeOrdered(inputPlan, 0, 0, RESPONSE_ASC)),
+        empty());
+    verify(inputPlan, never()).next();
+  }
+
+  @Test
+  public void take_ordered_with_large_limit_and_offset() {
+    when(inputPlan.hasNext()).thenReturn(true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)));
+
+    assertThat(
+        execute(takeOrdered(inputPlan, Integer.MAX_VALUE, 1, RESPONSE_ASC)),
+        contains(tupleValue(ImmutableMap.of("size", 499, "response", 404))));
+  }
+
+  @Test
+  public void take_ordered_is_same_as_sort_and_limit() {
+    List<Integer> responses = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+    Collections.shuffle(responses, new Random(0));
+    List<ExprValue> rows =
+        responses.stream()
+            .map(response -> tupleValue(ImmutableMap.of("response", response)))
+            .collect(Collectors.toList());
+
+    assertEquals(
+        execute(limit(sort(new TestValues(rows), RESPONSE_DESC), 10, 20)),
+        execute(takeOrdered(new TestValues(rows), 10, 20, RESPONSE_DESC)));
+  }
+
+  private static class TestValues extends PhysicalPlan {
+    private final List<ExprValue> rows;
+    private int index = 0;
+
+    TestValues(List<ExprValue> rows) {
+      this.rows = rows;
+    }
+
+    @Override
+    public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+      return null;
+    }
+
+    @Override
+    public List<PhysicalPlan> getChild() {
+      return List.of();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index < rows.size();
+    }
+
+    @Override
+    public ExprValue next() {
+      return rows.get(index++);
+    }
+  }
+}
@@ -7,6 +7,7 @@ package org.opensearch.sql.planner.physical;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -213,6 +214,21 @@ class WindowOperatorTest extends PhysicalPlanTestBase {
         .done();
   }
 
+  @Test
+  void test_window_function_with_same_name_as_column() {
+    WindowDefinition definition =
+        new WindowDefinition(List.of(), List.of(Pair.of(DEFAULT_ASC, ref("response", INTEGER))));
+    WindowOperator windowOperator =
+        new WindowOperator(
+            new SortOperator(new TestScan(), definition.getAllSortItems()),
+            DSL.named("action", DSL.rank()),
+            definition);
+    windowOperator.open();
+
+    assertTrue(windowOperator.hasNext());
+    assertThrows(IllegalArgumentException.class, windowOperator::next);
+  }
+
   private WindowOperatorAssertion window(Expression windowFunction) {
     return new WindowOperatorAssertion(windowFunction);
   }
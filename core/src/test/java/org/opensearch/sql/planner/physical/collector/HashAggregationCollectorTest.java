@@ -0,0 +1,205 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.floatValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.type.ExprCoreType.DATE;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class HashAggregationCollectorTest {
+
+  private static final List<NamedExpression> GROUP_BY =
+      Arrays.asList(
+          DSL.named("name", DSL.ref("name", STRING)), DSL.named("id", DSL.ref("id", INTEGER)));
+
+  @Test
+  void results_are_same_as_aggregating_each_group() {
+    List<NamedAggregator> aggregators =
+        Arrays.asList(
+            DSL.named("count", DSL.count(DSL.ref("int", INTEGER))),
+            DSL.named("distinct_count", DSL.distinctCount(DSL.ref("int", INTEGER))),
+            DSL.named("avg_double", DSL.avg(DSL.ref("double", DOUBLE))),
+            DSL.named("avg_date", DSL.avg(DSL.ref("date", DATE))),
+            DSL.named("sum_int", DSL.sum(DSL.ref("int", INTEGER))),
+            DSL.named("sum_long", DSL.sum(DSL.ref("long", LONG))),
+            DSL.named("sum_float", DSL.sum(DSL.ref("float", FLOAT))),
+            DSL.named("sum_double", DSL.sum(DSL.ref("double", DOUBLE))),
+            DSL.named("min_int", DSL.min(DSL.ref("int", INTEGER))),
+            DSL.named("min_long", DSL.min(DSL.ref("long", LONG))),
+            DSL.named("min_float", DSL.min(DSL.ref("float", FLOAT))),
+            DSL.named("min_double", DSL.min(DSL.ref("double", DOUBLE))),
+            DSL.named("min_string", DSL.min(DSL.ref("name", STRING))),
+            DSL.named("max_int", DSL.max(DSL.ref("int", INTEGER))),
+            DSL.named("max_long", DSL.max(DSL.ref("long", LONG))),
+            DSL.named("max_float", DSL.max(DSL.ref("float", FLOAT))),
+            DSL.named("max_double", DSL.max(DSL.ref("double", DOUBLE))),
+            DSL.named("max_string", DSL.max(DSL.ref("name", STRING))),
+            DSL.named("stddev", DSL.stddevPop(DSL.ref("double", DOUBLE))),
+            DSL.named(
+                "filtered_sum",
+                DSL.sum(DSL.ref("int", INTEGER))
+                    .condition(DSL.greater(DSL.ref("int", INTEGER), DSL.literal(50)))));
+
+    List<ExprValue> rows = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      Map<String, ExprValue> row = new LinkedHashMap<>();
+      row.put("name", stringValue("name" + (i % 37)));
+      row.put("id", integerValue(i % 3));
+      row.put("int", i % 10 == 0 ? LITERAL_NULL : integerValue((i * 7919) % 101));
+      row.put("long", i % 11 == 0 ? LITERAL_MISSING : longValue((i * 104729L) % 1009));
+      row.put("float", floatValue((i * 31 % 97) / 3f));
+      row.put("double", doubleValue((i * 17 % 89) / 7d));
+      row.put("date", new ExprDateValue(LocalDate.of(2020, 1, 1).plusDays(i % 365)));
+      rows.add(ExprTupleValue.fromExprValueMap(row));
+    }
+
+    // Expected result of each group is aggregated by a metric collector, ordered by group key
+    Map<List<ExprValue>, Collector> groups =
+        new TreeMap<>(
+            (left, right) -> {
+              int result = left.get(0).compareTo(right.get(0));
+              return result != 0 ? result : left.get(1).compareTo(right.get(1));
+            });
+    Collector collector = new HashAggregationCollector(GROUP_BY, aggregators);
+    for (ExprValue row : rows) {
+      collector.collect(row.bindingTuples());
+      groups
+          .computeIfAbsent(
+              Arrays.asList(row.tupleValue().get("name"), row.tupleValue().get("id")),
+              key -> new MetricCollector(aggregators))
+          .collect(row.bindingTuples());
+    }
+
+    List<ExprValue> expected = new ArrayList<>();
+    groups.forEach(
+        (key, metrics) -> {
+          LinkedHashMap<String, ExprValue> map = new LinkedHashMap<>();
+          map.put("name", key.get(0));
+          map.put("id", key.get(1));
+          map.putAll(metrics.results().get(0).tupleValue());
+          expected.add(ExprTupleValue.fromExprValueMap(map));
+        });
+    assertEquals(111, expected.size());
+    assertEquals(expected, collector.results());
+  }
+
+  @Test
+  void results_are_sorted_with_null_and_missing_first() {
+    Collector collector =
+        new HashAggregationCollector(
+            GROUP_BY,
+            Arrays.asList(DSL.named("count", DSL.count(DSL.ref("count_field", INTEGER)))));
+    collector.collect(row(stringValue("b"), integerValue(1)));
+    collector.collect(row(LITERAL_NULL, integerValue(1)));
+    collector.collect(row(stringValue("a"), LITERAL_MISSING));
+    collector.collect(row(stringValue("a"), integerValue(0)));
+    collector.collect(row(LITERAL_NULL, integerValue(1)));
+    collector.collect(row(stringValue("a"), LITERAL_NULL));
+
+    assertThat(
+        collector.results(),
+        contains(
+            result(LITERAL_NULL, integerValue(1), 2),
+            result(stringValue("a"), LITERAL_MISSING, 1),
+            result(stringValue("a"), LITERAL_NULL, 1),
+            result(stringValue("a"), integerValue(0), 1),
+            result(stringValue("b"), integerValue(1), 1)));
+  }
+
+  @Test
+  void keys_with_same_hash_are_different_groups() {
+    // "Aa" and "BB" have the same hash code
+    Collector collector =
+        new HashAggregationCollector(
+            GROUP_BY,
+            Arrays.asList(DSL.named("count", DSL.count(DSL.ref("count_field", INTEGER)))));
+    collector.collect(row(stringValue("Aa"), integerValue(1)));
+    collector.collect(row(stringValue("BB"), integerValue(1)));
+    collector.collect(row(stringValue("BB"), integerValue(1)));
+
+    assertThat(
+        collector.results(),
+        contains(
+            result(stringValue("Aa"), integerValue(1), 1),
+            result(stringValue("BB"), integerValue(1), 2)));
+  }
+
+  @Test
+  void aggregate_no_value_in_group() {
+    Collector collector =
+        new HashAggregationCollector(
+            GROUP_BY,
+            Arrays.asList(
+                DSL.named("avg", DSL.avg(DSL.ref("null_field", DOUBLE))),
+                DSL.named("sum", DSL.sum(DSL.ref("null_field", DOUBLE))),
+                DSL.named("max", DSL.max(DSL.ref("null_field", DOUBLE)))));
+    collector.collect(row(stringValue("a"), integerValue(1)));
+
+    assertThat(
+        collector.results(),
+        contains(
+            ExprTupleValue.fromExprValueMap(
+                new LinkedHashMap<>(
+                    ImmutableMap.of(
+                        "name",
+                        stringValue("a"),
+                        "id",
+                        integerValue(1),
+                        "avg",
+                        LITERAL_NULL,
+                        "sum",
+                        LITERAL_NULL,
+                        "max",
+                        LITERAL_NULL)))));
+  }
+
+  private static BindingTuple row(ExprValue name, ExprValue id) {
+    Map<String, ExprValue> row = new LinkedHashMap<>();
+    row.put("name", name);
+    row.put("id", id);
+    row.put("count_field", integerValue(1));
+    row.put("null_field", LITERAL_NULL);
+    return ExprTupleValue.fromExprValueMap(row).bindingTuples();
+  }
+
+  private static ExprValue result(ExprValue name, ExprValue id, int count) {
+    return ExprTupleValue.fromExprValueMap(
+        new LinkedHashMap<>(ImmutableMap.of("name", name, "id", id, "count", integerValue(count))));
+  }
+}
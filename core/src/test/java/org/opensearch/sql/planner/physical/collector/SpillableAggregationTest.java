@@ -0,0 +1,149 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.collector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SpillableAggregationTest {
+
+  private static final List<NamedExpression> GROUP_BY =
+      Arrays.asList(
+          DSL.named("name", DSL.ref("name", STRING)), DSL.named("id", DSL.ref("id", INTEGER)));
+
+  private static final List<NamedAggregator> AGGREGATORS =
+      Arrays.asList(
+          DSL.named("count", DSL.count(DSL.ref("value", DOUBLE))),
+          DSL.named("avg", DSL.avg(DSL.ref("value", DOUBLE))),
+          DSL.named("stddev", DSL.stddevPop(DSL.ref("value", DOUBLE))));
+
+  @Test
+  void results_are_same_as_aggregating_in_memory() {
+    List<ExprValue> rows = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      rows.add(
+          row(
+              i % 50 == 0 ? LITERAL_NULL : stringValue("name" + (i % 37)),
+              integerValue(i % 3),
+              doubleValue(i % 13)));
+    }
+
+    assertEquals(aggregateInMemory(rows), aggregate(rows, 1L));
+    assertEquals(aggregateInMemory(rows), aggregate(rows, 4096L));
+    assertEquals(aggregateInMemory(rows), aggregate(rows, Long.MAX_VALUE));
+  }
+
+  @Test
+  void keys_of_same_hash_are_aggregated_in_memory_at_last() {
+    // "Aa" and "BB" have the same hash code, so do all the names made of 4 of them, which are
+    // always spilled to the same partition until the last level
+    List<ExprValue> rows = new ArrayList<>();
+    for (int i = 0; i < 32; i++) {
+      StringBuilder name = new StringBuilder();
+      for (int bit = 0; bit < 4; bit++) {
+        name.append((i >> bit & 1) == 0 ? "Aa" : "BB");
+      }
+      rows.add(row(stringValue(name.toString()), integerValue(1), doubleValue(1)));
+    }
+
+    List<ExprValue> results = aggregate(rows, 1L);
+    assertEquals(aggregateInMemory(rows), results);
+    assertEquals(16, results.size());
+    assertEquals(result("AaAaAaAa", 2), results.get(0));
+  }
+
+  @Test
+  void text_keys_are_the_same_after_spill() {
+    List<ExprValue> rows = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      rows.add(row(new TextValue("text" + (i % 37)), integerValue(i % 3), doubleValue(i % 13)));
+    }
+
+    List<ExprValue> results = aggregate(rows, 1L);
+    assertEquals(aggregateInMemory(rows), results);
+    results.forEach(
+        result -> assertEquals(TextValue.class, result.tupleValue().get("name").getClass()));
+  }
+
+  @Test
+  void close_deletes_partitions_not_read() {
+    SpillableAggregation aggregation = new SpillableAggregation(GROUP_BY, AGGREGATORS, 1L);
+    aggregation.add(row(stringValue("a"), integerValue(1), doubleValue(1)));
+    aggregation.add(row(stringValue("b"), integerValue(1), doubleValue(1)));
+    aggregation.close();
+    aggregation.close();
+  }
+
+  private List<ExprValue> aggregate(List<ExprValue> rows, long memoryLimit) {
+    try (SpillableAggregation aggregation =
+        new SpillableAggregation(GROUP_BY, AGGREGATORS, memoryLimit)) {
+      rows.forEach(aggregation::add);
+      List<ExprValue> results = new ArrayList<>();
+      aggregation.results().forEachRemaining(results::add);
+      return results;
+    }
+  }
+
+  private List<ExprValue> aggregateInMemory(List<ExprValue> rows) {
+    Collector collector = new HashAggregationCollector(GROUP_BY, AGGREGATORS);
+    rows.forEach(row -> collector.collect(row.bindingTuples()));
+    return collector.results();
+  }
+
+  private static ExprValue row(ExprValue name, ExprValue id, ExprValue value) {
+    Map<String, ExprValue> row = new LinkedHashMap<>();
+    row.put("name", name);
+    row.put("id", id);
+    row.put("value", value);
+    return ExprTupleValue.fromExprValueMap(row);
+  }
+
+  private static ExprValue result(String name, int count) {
+    return ExprTupleValue.fromExprValueMap(
+        new LinkedHashMap<>(
+            ImmutableMap.of(
+                "name",
+                stringValue(name),
+                "id",
+                integerValue(1),
+                "count",
+                integerValue(count),
+                "avg",
+                doubleValue(1),
+                "stddev",
+                doubleValue(0))));
+  }
+
+  /** String value subclass like text value of OpenSearch. */
+  public static class TextValue extends ExprStringValue {
+    public TextValue(String value) {
+      super(value);
+    }
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.dedupe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CountMinSketchTest {
+
+  @Test
+  void count_keys_approximately() {
+    CountMinSketch sketch = new CountMinSketch(1024 * 1024);
+    assertEquals(1, sketch.add(1L, 2L, 1));
+    assertEquals(3, sketch.add(1L, 2L, 2));
+    assertEquals(1, sketch.add(3L, 4L, 1));
+    assertEquals(4, sketch.add(1L, 2L, 1));
+  }
+
+  @Test
+  void never_count_below_true_count() {
+    CountMinSketch sketch = new CountMinSketch(0);
+    for (long i = 0; i < 10000; i++) {
+      sketch.add(i * 31, i * 17, 1);
+    }
+    for (long i = 0; i < 10000; i++) {
+      assertTrue(sketch.add(i * 31, i * 17, 1) >= 2);
+    }
+  }
+
+  @Test
+  void size_within_bounds() {
+    assertEquals(16 * 1024L, new CountMinSketch(0).memoryUsage());
+    assertEquals(1024 * 1024L, new CountMinSketch(1536 * 1024).memoryUsage());
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.dedupe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class HashCountTableTest {
+
+  private final HashCountTable table = new HashCountTable();
+
+  @Test
+  void count_keys_by_hash() {
+    assertEquals(1, table.increment(1L, 2L));
+    assertEquals(2, table.increment(1L, 2L));
+    // same slot as the first key, found by probing
+    assertEquals(1, table.increment(3L, 2L));
+    assertEquals(1, table.increment(1L, 66L));
+    assertEquals(3, table.increment(1L, 2L));
+    assertEquals(2, table.increment(3L, 2L));
+    assertEquals(3, table.size());
+  }
+
+  @Test
+  void grow_with_counts_kept() {
+    assertEquals(1280L, table.memoryUsage());
+    for (long i = 0; i < 42; i++) {
+      table.increment(i, i);
+    }
+    assertFalse(table.isFull());
+    table.increment(42L, 42L);
+    assertTrue(table.isFull());
+    assertEquals(2560L, table.grownMemoryUsage());
+
+    table.grow();
+    assertFalse(table.isFull());
+    assertEquals(2560L, table.memoryUsage());
+    assertEquals(43, table.size());
+    for (long i = 0; i < 43; i++) {
+      assertEquals(2, table.increment(i, i));
+    }
+  }
+
+  @Test
+  void visit_every_key() {
+    table.increment(1L, 2L);
+    table.increment(3L, 4L);
+    table.increment(3L, 4L);
+
+    Map<Long, Integer> counts = new HashMap<>();
+    table.forEach((high, low, count) -> counts.put(high * 10 + low, count));
+    assertEquals(Map.of(12L, 1, 34L, 2), counts);
+  }
+}
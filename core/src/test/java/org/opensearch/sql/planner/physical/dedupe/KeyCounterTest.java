@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.dedupe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class KeyCounterTest {
+
+  @Test
+  void count_keys_exactly() {
+    KeyCounter counter = new KeyCounter(0L);
+    assertEquals(1, counter.increment(key(stringValue("a"), integerValue(1))));
+    assertEquals(1, counter.increment(key(stringValue("a"), integerValue(2))));
+    assertEquals(1, counter.increment(key(stringValue("a"), longValue(1L))));
+    assertEquals(2, counter.increment(key(stringValue("a"), integerValue(1))));
+    assertEquals(3, counter.getDistinctKeys());
+    assertFalse(counter.isApproximate());
+  }
+
+  @Test
+  void grow_without_memory_limit() {
+    KeyCounter counter = new KeyCounter(0L);
+    for (int i = 0; i < 1000; i++) {
+      counter.increment(key(integerValue(i)));
+    }
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(2, counter.increment(key(integerValue(i))));
+    }
+    assertEquals(1000, counter.getDistinctKeys());
+    assertFalse(counter.isApproximate());
+  }
+
+  @Test
+  void grow_within_memory_limit() {
+    KeyCounter counter = new KeyCounter(1024 * 1024L);
+    for (int i = 0; i < 1000; i++) {
+      counter.increment(key(integerValue(i)));
+    }
+    assertEquals(1000, counter.getDistinctKeys());
+    assertFalse(counter.isApproximate());
+  }
+
+  @Test
+  void count_approximately_over_memory_limit() {
+    KeyCounter counter = new KeyCounter(2048L);
+    assertEquals(1, counter.increment(key(integerValue(-1))));
+    assertEquals(2, counter.increment(key(integerValue(-1))));
+    for (int i = 0; i < 100; i++) {
+      counter.increment(key(integerValue(i)));
+    }
+    assertTrue(counter.isApproximate());
+    assertEquals(43, counter.getDistinctKeys());
+    assertTrue(counter.increment(key(integerValue(-1))) >= 3);
+    for (int i = 0; i < 100; i++) {
+      assertTrue(counter.increment(key(integerValue(i))) >= 2);
+    }
+  }
+
+  @Test
+  void count_equal_tuples_as_same_key() {
+    KeyCounter counter = new KeyCounter(0L);
+    counter.increment(key(tupleValue(ImmutableMap.of("a", 1, "b", "x"))));
+    assertEquals(2, counter.increment(key(tupleValue(ImmutableMap.of("b", "x", "a", 1)))));
+  }
+
+  @Test
+  void fail_to_encode_key() {
+    KeyCounter counter = new KeyCounter(0L);
+    ExprValue value = mock(ExprValue.class);
+    when(value.type()).thenReturn(INTEGER);
+    assertThrows(IllegalStateException.class, () -> counter.increment(key(value)));
+  }
+
+  private static ExprValue[] key(ExprValue... values) {
+    return values;
+  }
+}
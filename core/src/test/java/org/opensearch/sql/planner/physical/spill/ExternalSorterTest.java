@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical.spill;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ExternalSorterTest {
+
+  private final Comparator<ExprValue> byKey =
+      Comparator.comparing(value -> value.tupleValue().get("key").integerValue());
+
+  @Test
+  void sort_in_memory_if_under_memory_limit() {
+    List<ExprValue> input = input(100);
+    try (ExternalSorter sorter = new ExternalSorter(byKey, Long.MAX_VALUE)) {
+      input.forEach(sorter::add);
+      assertEquals(sortedCopy(input), ImmutableList.copyOf(sorter.sorted()));
+      assertEquals(0, sorter.getSpilledRuns());
+      assertEquals(100, sorter.getPeakBufferedValues());
+    }
+  }
+
+  @Test
+  void sort_with_spilled_runs() {
+    List<ExprValue> input = input(1000);
+    try (ExternalSorter sorter = new ExternalSorter(byKey, 2048)) {
+      input.forEach(sorter::add);
+      assertTrue(sorter.getSpilledRuns() > 0);
+      assertEquals(sortedCopy(input), ImmutableList.copyOf(sorter.sorted()));
+    }
+  }
+
+  @Test
+  void sort_with_more_runs_than_merge_way() {
+    List<ExprValue> input = input(1000);
+    try (ExternalSorter sorter = new ExternalSorter(byKey, 512, 4)) {
+      input.forEach(sorter::add);
+      assertEquals(sortedCopy(input), ImmutableList.copyOf(sorter.sorted()));
+    }
+  }
+
+  @Test
+  void equal_values_keep_input_order() {
+    List<ExprValue> input = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      input.add(tupleValue(ImmutableMap.of("key", i % 3, "seq", i)));
+    }
+    try (ExternalSorter sorter = new ExternalSorter(byKey, 1024, 4)) {
+      input.forEach(sorter::add);
+      assertEquals(sortedCopy(input), ImmutableList.copyOf(sorter.sorted()));
+    }
+  }
+
+  @Test
+  void sort_empty_input() {
+    try (ExternalSorter sorter = new ExternalSorter(byKey, 1)) {
+      assertEquals(List.of(), ImmutableList.copyOf(sorter.sorted()));
+    }
+  }
+
+  private List<ExprValue> input(int size) {
+    List<Integer> keys = IntStream.range(0, size).boxed().collect(Collectors.toList());
+    Collections.shuffle(keys, new Random(0));
+    return keys.stream()
+        .map(key -> tupleValue(ImmutableMap.of("key", key, "name", "name" + key)))
+        .collect(Collectors.toList());
+  }
+
+  /** Stable sort as the expected result. */
+  private List<ExprValue> sortedCopy(List<ExprValue> input) {
+    List<ExprValue> sorted = new ArrayList<>(input);
+    sorted.sort(byKey);
+    return sorted;
+  }
+}
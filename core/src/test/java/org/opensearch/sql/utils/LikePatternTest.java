@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class LikePatternTest {
+
+  private static Stream<Arguments> textAndPattern() {
+    return Stream.of(
+        // exact
+        Arguments.of("timeout", "timeout", true),
+        Arguments.of("TimeOut", "timeout", true),
+        Arguments.of("timeouts", "timeout", false),
+        // prefix
+        Arguments.of("timeout of request", "time%", true),
+        Arguments.of("TIMEOUT", "time%%", true),
+        Arguments.of("tim", "time%", false),
+        Arguments.of("lifetime", "time%", false),
+        // suffix
+        Arguments.of("request timeout", "%timeout", true),
+        Arguments.of("out", "%timeout", false),
+        Arguments.of("anything", "%%", true),
+        Arguments.of("", "%", true),
+        // contains
+        Arguments.of("request timeout of 10s", "%timeout%", true),
+        Arguments.of("request time out", "%timeout%", false),
+        Arguments.of("to", "%timeout%", false),
+        // case of non US-ASCII characters is not ignored
+        Arguments.of("\u00C4PFEL", "%\u00E4pfel%", false),
+        Arguments.of("\u00E4pfel", "%\u00E4pfel%", true),
+        Arguments.of("\u212Aelvin", "kelvin%", false),
+        Arguments.of("kelvin", "\u212Aelvin%", false),
+        // wildcard doesn't match line terminators
+        Arguments.of("request\ntimeout", "%timeout", false),
+        Arguments.of("request\rtimeout", "%timeout", false),
+        Arguments.of("request\u0085timeout", "%timeout", false),
+        Arguments.of("request\u2028timeout", "%timeout", false),
+        Arguments.of("request\u2029timeout", "%timeout", false),
+        Arguments.of("timeout\n", "timeout%", false),
+        // matched by regular expression, where ?, { and } are not escaped
+        Arguments.of("timeout", "time%t", true),
+        Arguments.of("timeout", "%time_ut%", true),
+        Arguments.of("time_out", "%time\\_out", true),
+        Arguments.of("timeout", "timeout?", true),
+        Arguments.of("timeouttimeout", "timeout{2}", false),
+        Arguments.of("timeoutt", "timeout{2}", true),
+        Arguments.of("a}", "%}", true));
+  }
+
+  @ParameterizedTest(name = "{0} like {1}")
+  @MethodSource("textAndPattern")
+  void match_text(String text, String pattern, boolean expected) {
+    assertEquals(expected, LikePattern.compile(pattern).matches(text));
+  }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.utils;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class OperatorUtilsTest {
+
+  @Test
+  void compile_like_pattern_once() {
+    assertSame(OperatorUtils.likePattern("%abc%"), OperatorUtils.likePattern("%abc%"));
+  }
+
+  @Test
+  void compile_regexp_pattern_once() {
+    assertSame(OperatorUtils.regexpPattern("a.*c"), OperatorUtils.regexpPattern("a.*c"));
+  }
+}
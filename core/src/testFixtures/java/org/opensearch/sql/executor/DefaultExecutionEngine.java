@@ -45,4 +45,9 @@ public class DefaultExecutionEngine implements ExecutionEngine {
   public void explain(PhysicalPlan plan, ResponseListener<ExplainResponse> listener) {
     throw new UnsupportedOperationException();
   }
+
+  @Override
+  public void profile(PhysicalPlan plan, ResponseListener<ExplainResponse> listener) {
+    throw new UnsupportedOperationException();
+  }
 }
@@ -149,8 +149,14 @@ public class StandaloneIT extends PPLIntegTestCase {
 
   private Settings defaultSettings() {
     return new Settings() {
-      private final Map<Key, Integer> defaultSettings =
-          new ImmutableMap.Builder<Key, Integer>().put(Key.QUERY_SIZE_LIMIT, 200).build();
+      private final Map<Key, Object> defaultSettings =
+          new ImmutableMap.Builder<Key, Object>()
+              .put(Key.QUERY_SIZE_LIMIT, 200)
+              .put(Key.QUERY_PREFETCH_DEPTH, 0)
+              .put(Key.QUERY_SCAN_SLICES, 1)
+              .put(Key.QUERY_POINT_IN_TIME_ENABLED, false)
+              .put(Key.QUERY_DOCVALUE_FIELDS_ENABLED, false)
+              .build();
 
       @Override
       public <T> T getSettingValue(Key key) {
@@ -165,6 +165,10 @@ public class StandalonePaginationIT extends SQLIntegTestCase {
       private final Map<Key, Object> defaultSettings =
           new ImmutableMap.Builder<Key, Object>()
               .put(Key.QUERY_SIZE_LIMIT, 200)
+              .put(Key.QUERY_PREFETCH_DEPTH, 0)
+              .put(Key.QUERY_SCAN_SLICES, 1)
+              .put(Key.QUERY_POINT_IN_TIME_ENABLED, false)
+              .put(Key.QUERY_DOCVALUE_FIELDS_ENABLED, false)
               .put(Key.SQL_CURSOR_KEEP_ALIVE, TimeValue.timeValueMinutes(1))
               .build();
 
@@ -56,6 +56,18 @@ public class HashJoinComparisonStructure {
     return comparisonHash.get(comparisonKey);
   }
 
+  public Map<String, SearchHitsResult> getComparisonHash(String comparisonID) {
+    return this.comparisonIDtoComparisonHash.get(comparisonID);
+  }
+
+  /** Remove the hits of all comparisons, for example once they are spilled to disk. */
+  public void clear() {
+    for (HashMap<String, SearchHitsResult> comparisonHash :
+        this.comparisonIDtoComparisonHash.values()) {
+      comparisonHash.clear();
+    }
+  }
+
   public List<SearchHitsResult> getAllSearchHits() {
     List<SearchHitsResult> allSearchHits = new ArrayList<>();
 
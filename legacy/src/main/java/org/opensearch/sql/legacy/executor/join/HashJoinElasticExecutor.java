@@ -8,42 +8,90 @@ package org.opensearch.sql.legacy.executor.join;
 import com.alibaba.druid.sql.ast.statement.SQLJoinTableSource;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import org.opensearch.action.search.SearchRequestBuilder;
+import java.util.function.Predicate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.Client;
+import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.document.DocumentField;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
+import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.legacy.domain.Field;
 import org.opensearch.sql.legacy.domain.Select;
 import org.opensearch.sql.legacy.domain.Where;
+import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.exception.SqlParseException;
 import org.opensearch.sql.legacy.query.join.HashJoinElasticRequestBuilder;
 import org.opensearch.sql.legacy.query.join.TableInJoinRequestBuilder;
 import org.opensearch.sql.legacy.query.maker.QueryMaker;
 
-/** Created by Eliran on 22/8/2015. */
+/**
+ * Created by Eliran on 22/8/2015.
+ *
+ * <p>Hits of the first table are hashed by join key in memory, and the next page of each table is
+ * fetched while the current one is handled. Once the hash table exceeds {@code
+ * plugins.sql.join.memory_limit}, hits of both tables are hashed to partition files on local disk
+ * instead and each pair of partitions is joined in memory. Without the limit, at most {@code
+ * MAX_RESULTS_FOR_FIRST_TABLE} hits of the first table are joined as before.
+ */
 public class HashJoinElasticExecutor extends ElasticJoinExecutor {
+  private static final Logger LOG = LogManager.getLogger();
+
+  /** Largest number of first table hits held in memory if the hash table is never spilled. */
+  static final int MAX_RESULTS_FOR_FIRST_TABLE = 100000;
+
+  /** Largest number of terms to filter second table by, the default max terms count of index. */
+  static final int MAX_TERMS_FILTER_VALUES = 65536;
+
+  /** Number of partitions hits of each comparison are hashed to once spilled. */
+  static final int PARTITIONS = 16;
+
+  /** Estimated heap size of a hit in the hash table besides its source. */
+  private static final long HIT_OVERHEAD_BYTES = 256;
+
   private HashJoinElasticRequestBuilder requestBuilder;
 
   private Client client;
   private boolean useQueryTermsFilterOptimization = false;
-  private final int MAX_RESULTS_FOR_FIRST_TABLE = 100000;
   HashJoinComparisonStructure hashJoinComparisonStructure;
   private Set<String> alreadyMatched;
 
+  /** Heap size in bytes the hash table may take before spilled, no limit if not positive. */
+  private final long memoryLimit;
+
+  /** Estimated heap size in bytes of the hits in hash table. */
+  private long hashTableSize = 0;
+
+  /** Partitions of first table hits by comparison id, or null if the hits are in memory. */
+  private Map<String, SearchHitSpillFile[]> firstTablePartitions;
+
+  /** First table hits not matched in the partitions, for left outer join. */
+  private SearchHitSpillFile unmatchedFirstTableHits;
+
+  /** Number of first table values collected to filter second table by. */
+  private int termsFilterValues = 0;
+
   public HashJoinElasticExecutor(Client client, HashJoinElasticRequestBuilder requestBuilder) {
+    this(client, requestBuilder, memoryLimit());
+  }
+
+  HashJoinElasticExecutor(
+      Client client, HashJoinElasticRequestBuilder requestBuilder, long memoryLimit) {
     super(requestBuilder);
     this.client = client;
     this.requestBuilder = requestBuilder;
@@ -51,35 +99,68 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
     this.hashJoinComparisonStructure =
         new HashJoinComparisonStructure(requestBuilder.getT1ToT2FieldsComparison());
     this.alreadyMatched = new HashSet<>();
+    this.memoryLimit = memoryLimit;
   }
 
   public List<SearchHit> innerRun() throws IOException, SqlParseException {
+    try {
+      return join();
+    } finally {
+      closePartitions(firstTablePartitions);
+      if (unmatchedFirstTableHits != null) {
+        unmatchedFirstTableHits.close();
+      }
+    }
+  }
 
+  private List<SearchHit> join() throws SqlParseException {
     Map<String, Map<String, List<Object>>> optimizationTermsFilterStructure =
         initOptimizationStructure();
 
     updateFirstTableLimitIfNeeded();
     TableInJoinRequestBuilder firstTableRequest = requestBuilder.getFirstTable();
+    TableInJoinRequestBuilder secondTableRequest = requestBuilder.getSecondTable();
+
+    // Search second table meanwhile if first table is fetched in one page, unless it is filtered
+    // by the keys of first table. Otherwise, hashing all pages of first table may take longer
+    // than the scroll of second table is kept alive.
+    ActionFuture<SearchResponse> secondTableFirstPage =
+        useQueryTermsFilterOptimization || isScrolling(firstTableRequest)
+            ? null
+            : searchFirstPage(secondTableRequest);
     createKeyToResultsAndFillOptimizationStructure(
         optimizationTermsFilterStructure, firstTableRequest);
 
-    TableInJoinRequestBuilder secondTableRequest = requestBuilder.getSecondTable();
     if (needToOptimize(optimizationTermsFilterStructure)) {
       updateRequestWithTermsFilter(optimizationTermsFilterStructure, secondTableRequest);
     }
+    if (secondTableFirstPage == null) {
+      secondTableFirstPage = searchFirstPage(secondTableRequest);
+    }
 
-    List<SearchHit> combinedResult = createCombinedResults(secondTableRequest);
+    boolean leftOuterJoin =
+        requestBuilder.getJoinType() == SQLJoinTableSource.JoinType.LEFT_OUTER_JOIN;
+    List<SearchHit> combinedResult;
+    if (firstTablePartitions == null) {
+      combinedResult = createCombinedResults(secondTableRequest, secondTableFirstPage.actionGet());
+    } else {
+      if (leftOuterJoin) {
+        unmatchedFirstTableHits = SearchHitSpillFile.create();
+      }
+      combinedResult =
+          createCombinedResultsOfPartitions(
+              firstTableRequest, secondTableRequest, secondTableFirstPage.actionGet());
+    }
 
     int currentNumOfResults = combinedResult.size();
     int totalLimit = requestBuilder.getTotalLimit();
-    if (requestBuilder.getJoinType() == SQLJoinTableSource.JoinType.LEFT_OUTER_JOIN
-        && currentNumOfResults < totalLimit) {
+    if (leftOuterJoin && currentNumOfResults < totalLimit) {
       String t1Alias = requestBuilder.getFirstTable().getAlias();
       String t2Alias = requestBuilder.getSecondTable().getAlias();
       // todo: for each till Limit
       addUnmatchedResults(
           combinedResult,
-          this.hashJoinComparisonStructure.getAllSearchHits(),
+          getUnmatchedFirstTableHits(firstTableRequest, totalLimit - currentNumOfResults),
           requestBuilder.getSecondTable().getReturnedFields(),
           currentNumOfResults,
           totalLimit,
@@ -99,6 +180,12 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
     return combinedResult;
   }
 
+  private static long memoryLimit() {
+    ByteSizeValue limit =
+        LocalClusterState.state().getSettingValue(Settings.Key.SQL_JOIN_MEMORY_LIMIT);
+    return limit == null ? 0 : limit.getBytes();
+  }
+
   private Map<String, Map<String, List<Object>>> initOptimizationStructure() {
     Map<String, Map<String, List<Object>>> optimizationTermsFilterStructure = new HashMap<>();
     for (String comparisonId : this.hashJoinComparisonStructure.getComparisons().keySet()) {
@@ -117,116 +204,235 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
     }
   }
 
-  private List<SearchHit> createCombinedResults(TableInJoinRequestBuilder secondTableRequest) {
-    List<SearchHit> combinedResult = new ArrayList<>();
-    int resultIds = 0;
-    int totalLimit = this.requestBuilder.getTotalLimit();
-    Integer hintLimit = secondTableRequest.getHintLimit();
-    SearchResponse searchResponse;
-    boolean finishedScrolling;
+  private boolean isScrolling(TableInJoinRequestBuilder tableRequest) {
+    Integer hintLimit = tableRequest.getHintLimit();
+    return hintLimit == null || hintLimit >= MAX_RESULTS_ON_ONE_FETCH;
+  }
+
+  private ActionFuture<SearchResponse> searchFirstPage(TableInJoinRequestBuilder tableRequest) {
+    Integer hintLimit = tableRequest.getHintLimit();
     if (hintLimit != null && hintLimit < MAX_RESULTS_ON_ONE_FETCH) {
-      searchResponse = secondTableRequest.getRequestBuilder().setSize(hintLimit).get();
-      finishedScrolling = true;
-    } else {
-      searchResponse =
-          secondTableRequest
-              .getRequestBuilder()
-              .setScroll(new TimeValue(60000))
-              .setSize(MAX_RESULTS_ON_ONE_FETCH)
-              .get();
-      // es5.0 no need to scroll again!
-      //            searchResponse = client.prepareSearchScroll(searchResponse.getScrollId())
-      //            .setScroll(new TimeValue(600000)).get();
-      finishedScrolling = false;
+      return tableRequest.getRequestBuilder().setSize(hintLimit).execute();
     }
+    return tableRequest
+        .getRequestBuilder()
+        .setScroll(new TimeValue(60000))
+        .setSize(MAX_RESULTS_ON_ONE_FETCH)
+        .execute();
+  }
+
+  /**
+   * Scroll the second table page by page. The next page is fetched while the hits of current page
+   * are handled.
+   *
+   * @param pageHandler handles hits of a page and returns false to stop scrolling
+   */
+  private void scrollSecondTable(
+      TableInJoinRequestBuilder secondTableRequest,
+      SearchResponse firstPage,
+      Predicate<SearchHit[]> pageHandler) {
+    Integer hintLimit = secondTableRequest.getHintLimit();
+    boolean finishedScrolling = hintLimit != null && hintLimit < MAX_RESULTS_ON_ONE_FETCH;
+    SearchResponse searchResponse = firstPage;
     updateMetaSearchResults(searchResponse);
 
-    boolean limitReached = false;
     int fetchedSoFarFromSecondTable = 0;
-    while (!limitReached) {
+    while (true) {
       SearchHit[] secondTableHits = searchResponse.getHits().getHits();
       fetchedSoFarFromSecondTable += secondTableHits.length;
-      for (SearchHit secondTableHit : secondTableHits) {
-        if (limitReached) {
-          break;
-        }
-        // todo: need to run on comparisons. for each comparison check if exists and add.
-        HashMap<String, List<Map.Entry<Field, Field>>> comparisons =
-            this.hashJoinComparisonStructure.getComparisons();
-
-        for (Map.Entry<String, List<Map.Entry<Field, Field>>> comparison : comparisons.entrySet()) {
-          String comparisonID = comparison.getKey();
-          List<Map.Entry<Field, Field>> t1ToT2FieldsComparison = comparison.getValue();
-          String key = getComparisonKey(t1ToT2FieldsComparison, secondTableHit, false, null);
-
-          SearchHitsResult searchHitsResult =
-              this.hashJoinComparisonStructure.searchForMatchingSearchHits(comparisonID, key);
-
-          if (searchHitsResult != null && searchHitsResult.getSearchHits().size() > 0) {
-            searchHitsResult.setMatchedWithOtherTable(true);
-            List<SearchHit> searchHits = searchHitsResult.getSearchHits();
-            for (SearchHit matchingHit : searchHits) {
-              String combinedId = matchingHit.getId() + "|" + secondTableHit.getId();
-              // in order to prevent same matching when using OR on hashJoins.
-              if (this.alreadyMatched.contains(combinedId)) {
-                continue;
-              } else {
-                this.alreadyMatched.add(combinedId);
+      ActionFuture<SearchResponse> nextPage = null;
+      if (!finishedScrolling
+          && secondTableHits.length > 0
+          && (hintLimit == null || fetchedSoFarFromSecondTable >= hintLimit)) {
+        nextPage =
+            client
+                .prepareSearchScroll(searchResponse.getScrollId())
+                .setScroll(new TimeValue(600000))
+                .execute();
+      }
+      if (!pageHandler.test(secondTableHits) || nextPage == null) {
+        break;
+      }
+      searchResponse = nextPage.actionGet();
+    }
+  }
+
+  private List<SearchHit> createCombinedResults(
+      TableInJoinRequestBuilder secondTableRequest, SearchResponse firstPage) {
+    List<SearchHit> combinedResult = new ArrayList<>();
+    scrollSecondTable(
+        secondTableRequest,
+        firstPage,
+        secondTableHits -> {
+          for (SearchHit secondTableHit : secondTableHits) {
+            // todo: need to run on comparisons. for each comparison check if exists and add.
+            HashMap<String, List<Map.Entry<Field, Field>>> comparisons =
+                this.hashJoinComparisonStructure.getComparisons();
+
+            for (Map.Entry<String, List<Map.Entry<Field, Field>>> comparison :
+                comparisons.entrySet()) {
+              String comparisonID = comparison.getKey();
+              List<Map.Entry<Field, Field>> t1ToT2FieldsComparison = comparison.getValue();
+              String key = getComparisonKey(t1ToT2FieldsComparison, secondTableHit, false, null);
+
+              SearchHitsResult searchHitsResult =
+                  this.hashJoinComparisonStructure.searchForMatchingSearchHits(comparisonID, key);
+              if (combineMatchingHits(
+                  combinedResult, searchHitsResult, secondTableHit, secondTableRequest)) {
+                return false;
+              }
+            }
+          }
+          return true;
+        });
+    return combinedResult;
+  }
+
+  /**
+   * Hash hits of second table to partitions as the first table, and join each pair of partitions
+   * in memory. Unmatched hits of first table are written to a file for left outer join.
+   */
+  private List<SearchHit> createCombinedResultsOfPartitions(
+      TableInJoinRequestBuilder firstTableRequest,
+      TableInJoinRequestBuilder secondTableRequest,
+      SearchResponse firstPage) {
+    Map<String, SearchHitSpillFile[]> secondTablePartitions = new HashMap<>();
+    try {
+      HashMap<String, List<Map.Entry<Field, Field>>> comparisons =
+          this.hashJoinComparisonStructure.getComparisons();
+      scrollSecondTable(
+          secondTableRequest,
+          firstPage,
+          secondTableHits -> {
+            for (SearchHit secondTableHit : secondTableHits) {
+              for (Map.Entry<String, List<Map.Entry<Field, Field>>> comparison :
+                  comparisons.entrySet()) {
+                String key = getComparisonKey(comparison.getValue(), secondTableHit, false, null);
+                partitionOf(secondTablePartitions, comparison.getKey(), key)
+                    .write(key, secondTableHit);
+              }
+            }
+            return true;
+          });
+
+      List<SearchHit> combinedResult = new ArrayList<>();
+      for (String comparisonID : comparisons.keySet()) {
+        SearchHitSpillFile[] firstTableFiles = firstTablePartitions.get(comparisonID);
+        SearchHitSpillFile[] secondTableFiles = secondTablePartitions.get(comparisonID);
+        for (int i = 0; firstTableFiles != null && i < PARTITIONS; i++) {
+          if (firstTableFiles[i] == null) {
+            continue;
+          }
+          Map<String, SearchHitsResult> hashTable = new HashMap<>();
+          Iterator<Map.Entry<String, SearchHit>> firstTableHits = firstTableFiles[i].read();
+          while (firstTableHits.hasNext()) {
+            Map.Entry<String, SearchHit> keyAndHit = firstTableHits.next();
+            hashTable
+                .computeIfAbsent(keyAndHit.getKey(), key -> new SearchHitsResult())
+                .getSearchHits()
+                .add(withReturnedFields(firstTableRequest, keyAndHit.getValue()));
+          }
+
+          if (secondTableFiles != null && secondTableFiles[i] != null) {
+            Iterator<Map.Entry<String, SearchHit>> secondTableHits = secondTableFiles[i].read();
+            while (secondTableHits.hasNext()) {
+              Map.Entry<String, SearchHit> keyAndHit = secondTableHits.next();
+              if (combineMatchingHits(
+                  combinedResult,
+                  hashTable.get(keyAndHit.getKey()),
+                  keyAndHit.getValue(),
+                  secondTableRequest)) {
+                return combinedResult;
               }
+            }
+          }
 
-              Map<String, Object> copiedSource = new HashMap<String, Object>();
-              copyMaps(copiedSource, secondTableHit.getSourceAsMap());
-              onlyReturnedFields(
-                  copiedSource,
-                  secondTableRequest.getReturnedFields(),
-                  secondTableRequest.getOriginalSelect().isSelectAll());
-
-              Map<String, DocumentField> documentFields = new HashMap<>();
-              Map<String, DocumentField> metaFields = new HashMap<>();
-              matchingHit
-                  .getFields()
-                  .forEach(
-                      (fieldName, docField) ->
-                          (MapperService.META_FIELDS_BEFORE_7DOT8.contains(fieldName)
-                                  ? metaFields
-                                  : documentFields)
-                              .put(fieldName, docField));
-              SearchHit searchHit =
-                  new SearchHit(matchingHit.docId(), combinedId, documentFields, metaFields);
-              searchHit.sourceRef(matchingHit.getSourceRef());
-              searchHit.getSourceAsMap().clear();
-              searchHit.getSourceAsMap().putAll(matchingHit.getSourceAsMap());
-              String t1Alias = requestBuilder.getFirstTable().getAlias();
-              String t2Alias = requestBuilder.getSecondTable().getAlias();
-              mergeSourceAndAddAliases(copiedSource, searchHit, t1Alias, t2Alias);
-
-              combinedResult.add(searchHit);
-              resultIds++;
-              if (resultIds >= totalLimit) {
-                limitReached = true;
-                break;
+          if (unmatchedFirstTableHits != null) {
+            for (SearchHitsResult searchHitsResult : hashTable.values()) {
+              if (!searchHitsResult.isMatchedWithOtherTable()) {
+                for (SearchHit hit : searchHitsResult.getSearchHits()) {
+                  unmatchedFirstTableHits.write("", hit);
+                }
               }
             }
           }
         }
       }
-      if (!finishedScrolling) {
-        if (secondTableHits.length > 0
-            && (hintLimit == null || fetchedSoFarFromSecondTable >= hintLimit)) {
-          searchResponse =
-              client
-                  .prepareSearchScroll(searchResponse.getScrollId())
-                  .setScroll(new TimeValue(600000))
-                  .execute()
-                  .actionGet();
-        } else {
-          break;
-        }
+      return combinedResult;
+    } finally {
+      closePartitions(secondTablePartitions);
+    }
+  }
+
+  /**
+   * Combine the hit of second table with each matching hit of first table.
+   *
+   * @return true if total limit is reached
+   */
+  private boolean combineMatchingHits(
+      List<SearchHit> combinedResult,
+      SearchHitsResult searchHitsResult,
+      SearchHit secondTableHit,
+      TableInJoinRequestBuilder secondTableRequest) {
+    if (searchHitsResult == null || searchHitsResult.getSearchHits().isEmpty()) {
+      return false;
+    }
+    searchHitsResult.setMatchedWithOtherTable(true);
+    int totalLimit = this.requestBuilder.getTotalLimit();
+    for (SearchHit matchingHit : searchHitsResult.getSearchHits()) {
+      String combinedId = matchingHit.getId() + "|" + secondTableHit.getId();
+      // in order to prevent same matching when using OR on hashJoins.
+      if (this.alreadyMatched.contains(combinedId)) {
+        continue;
       } else {
-        break;
+        this.alreadyMatched.add(combinedId);
+      }
+
+      Map<String, Object> copiedSource = new HashMap<String, Object>();
+      copyMaps(copiedSource, secondTableHit.getSourceAsMap());
+      onlyReturnedFields(
+          copiedSource,
+          secondTableRequest.getReturnedFields(),
+          secondTableRequest.getOriginalSelect().isSelectAll());
+
+      Map<String, DocumentField> documentFields = new HashMap<>();
+      Map<String, DocumentField> metaFields = new HashMap<>();
+      matchingHit
+          .getFields()
+          .forEach(
+              (fieldName, docField) ->
+                  (MapperService.META_FIELDS_BEFORE_7DOT8.contains(fieldName)
+                          ? metaFields
+                          : documentFields)
+                      .put(fieldName, docField));
+      SearchHit searchHit =
+          new SearchHit(matchingHit.docId(), combinedId, documentFields, metaFields);
+      searchHit.sourceRef(matchingHit.getSourceRef());
+      searchHit.getSourceAsMap().clear();
+      searchHit.getSourceAsMap().putAll(matchingHit.getSourceAsMap());
+      String t1Alias = requestBuilder.getFirstTable().getAlias();
+      String t2Alias = requestBuilder.getSecondTable().getAlias();
+      mergeSourceAndAddAliases(copiedSource, searchHit, t1Alias, t2Alias);
+
+      combinedResult.add(searchHit);
+      if (combinedResult.size() >= totalLimit) {
+        return true;
       }
     }
-    return combinedResult;
+    return false;
+  }
+
+  private Collection<SearchHitsResult> getUnmatchedFirstTableHits(
+      TableInJoinRequestBuilder firstTableRequest, int limit) {
+    if (unmatchedFirstTableHits == null) {
+      return this.hashJoinComparisonStructure.getAllSearchHits();
+    }
+    List<SearchHit> hits = new ArrayList<>();
+    Iterator<Map.Entry<String, SearchHit>> iterator = unmatchedFirstTableHits.read();
+    while (iterator.hasNext() && hits.size() < limit) {
+      hits.add(withReturnedFields(firstTableRequest, iterator.next().getValue()));
+    }
+    return List.of(new SearchHitsResult(hits, false));
   }
 
   private void copyMaps(Map<String, Object> into, Map<String, Object> from) {
@@ -238,88 +444,162 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
   private void createKeyToResultsAndFillOptimizationStructure(
       Map<String, Map<String, List<Object>>> optimizationTermsFilterStructure,
       TableInJoinRequestBuilder firstTableRequest) {
-    List<SearchHit> firstTableHits = fetchAllHits(firstTableRequest);
+    Integer hintLimit = firstTableRequest.getHintLimit();
+    boolean scrolling = isScrolling(firstTableRequest);
+    SearchResponse searchResponse =
+        scrolling
+            ? scrollOneTimeWithMax(client, firstTableRequest)
+            : firstTableRequest.getRequestBuilder().setSize(hintLimit).get();
+    updateMetaSearchResults(searchResponse);
 
+    // Hits are only unlimited if they can be spilled
+    int limit = hintLimit != null ? hintLimit : Integer.MAX_VALUE;
+    if (memoryLimit <= 0) {
+      limit = Math.min(limit, MAX_RESULTS_FOR_FIRST_TABLE);
+    }
     int resultIds = 1;
-    for (SearchHit hit : firstTableHits) {
-      HashMap<String, List<Map.Entry<Field, Field>>> comparisons =
-          this.hashJoinComparisonStructure.getComparisons();
-      for (Map.Entry<String, List<Map.Entry<Field, Field>>> comparison : comparisons.entrySet()) {
-        String comparisonID = comparison.getKey();
-        List<Map.Entry<Field, Field>> t1ToT2FieldsComparison = comparison.getValue();
-
-        String key =
-            getComparisonKey(
-                t1ToT2FieldsComparison,
-                hit,
-                true,
-                optimizationTermsFilterStructure.get(comparisonID));
-
-        // int docid , id
-        Map<String, DocumentField> documentFields = new HashMap<>();
-        Map<String, DocumentField> metaFields = new HashMap<>();
-        hit.getFields()
-            .forEach(
-                (fieldName, docField) ->
-                    (MapperService.META_FIELDS_BEFORE_7DOT8.contains(fieldName)
-                            ? metaFields
-                            : documentFields)
-                        .put(fieldName, docField));
-        SearchHit searchHit = new SearchHit(resultIds, hit.getId(), documentFields, metaFields);
-        searchHit.sourceRef(hit.getSourceRef());
-
-        onlyReturnedFields(
-            searchHit.getSourceAsMap(),
-            firstTableRequest.getReturnedFields(),
-            firstTableRequest.getOriginalSelect().isSelectAll());
-        resultIds++;
-        this.hashJoinComparisonStructure.insertIntoComparisonHash(comparisonID, key, searchHit);
+    int fetchedSoFar = 0;
+    SearchHit[] hits = searchResponse.getHits().getHits();
+    while (hits.length != 0) {
+      fetchedSoFar += hits.length;
+      // fetch next page while hits of this page are hashed
+      ActionFuture<SearchResponse> nextPage = null;
+      if (scrolling && fetchedSoFar < limit) {
+        nextPage =
+            client
+                .prepareSearchScroll(searchResponse.getScrollId())
+                .setScroll(new TimeValue(600000))
+                .execute();
+      }
+      for (SearchHit hit : hits) {
+        resultIds =
+            hashFirstTableHit(optimizationTermsFilterStructure, firstTableRequest, hit, resultIds);
+      }
+      if (nextPage == null) {
+        if (scrolling && fetchedSoFar >= limit && (hintLimit == null || hintLimit > limit)) {
+          LOG.warn("Too many results for first table of hash join, stopping at {}", fetchedSoFar);
+        }
+        break;
       }
+      searchResponse = nextPage.actionGet();
+      hits = searchResponse.getHits().getHits();
     }
   }
 
-  private List<SearchHit> fetchAllHits(TableInJoinRequestBuilder tableInJoinRequest) {
-    Integer hintLimit = tableInJoinRequest.getHintLimit();
-    SearchRequestBuilder requestBuilder = tableInJoinRequest.getRequestBuilder();
-    if (hintLimit != null && hintLimit < MAX_RESULTS_ON_ONE_FETCH) {
-      requestBuilder.setSize(hintLimit);
-      SearchResponse searchResponse = requestBuilder.get();
-      updateMetaSearchResults(searchResponse);
-      return Arrays.asList(searchResponse.getHits().getHits());
+  /**
+   * Insert the hit of first table into the hash of each comparison.
+   *
+   * @return next result id
+   */
+  private int hashFirstTableHit(
+      Map<String, Map<String, List<Object>>> optimizationTermsFilterStructure,
+      TableInJoinRequestBuilder firstTableRequest,
+      SearchHit hit,
+      int resultIds) {
+    HashMap<String, List<Map.Entry<Field, Field>>> comparisons =
+        this.hashJoinComparisonStructure.getComparisons();
+    for (Map.Entry<String, List<Map.Entry<Field, Field>>> comparison : comparisons.entrySet()) {
+      String comparisonID = comparison.getKey();
+      List<Map.Entry<Field, Field>> t1ToT2FieldsComparison = comparison.getValue();
+
+      String key =
+          getComparisonKey(
+              t1ToT2FieldsComparison,
+              hit,
+              true,
+              optimizationTermsFilterStructure.get(comparisonID));
+
+      // int docid , id
+      Map<String, DocumentField> documentFields = new HashMap<>();
+      Map<String, DocumentField> metaFields = new HashMap<>();
+      hit.getFields()
+          .forEach(
+              (fieldName, docField) ->
+                  (MapperService.META_FIELDS_BEFORE_7DOT8.contains(fieldName)
+                          ? metaFields
+                          : documentFields)
+                      .put(fieldName, docField));
+      SearchHit searchHit = new SearchHit(resultIds, hit.getId(), documentFields, metaFields);
+      searchHit.sourceRef(hit.getSourceRef());
+
+      onlyReturnedFields(
+          searchHit.getSourceAsMap(),
+          firstTableRequest.getReturnedFields(),
+          firstTableRequest.getOriginalSelect().isSelectAll());
+      resultIds++;
+      insertIntoHashTable(comparisonID, key, searchHit);
     }
-    return scrollTillLimit(tableInJoinRequest, hintLimit);
+    if (useQueryTermsFilterOptimization && termsFilterValues > MAX_TERMS_FILTER_VALUES) {
+      // Too many terms to filter by, so second table is searched without the filter
+      useQueryTermsFilterOptimization = false;
+      optimizationTermsFilterStructure.values().forEach(Map::clear);
+    }
+    return resultIds;
   }
 
-  private List<SearchHit> scrollTillLimit(
-      TableInJoinRequestBuilder tableInJoinRequest, Integer hintLimit) {
-    SearchResponse scrollResp = scrollOneTimeWithMax(client, tableInJoinRequest);
+  private void insertIntoHashTable(String comparisonID, String key, SearchHit hit) {
+    if (firstTablePartitions != null) {
+      partitionOf(firstTablePartitions, comparisonID, key).write(key, hit);
+      return;
+    }
+
+    this.hashJoinComparisonStructure.insertIntoComparisonHash(comparisonID, key, hit);
+    // source is held both in bytes and parsed
+    hashTableSize +=
+        HIT_OVERHEAD_BYTES + (hit.getSourceRef() == null ? 0 : 3L * hit.getSourceRef().length());
+    if (memoryLimit > 0 && hashTableSize > memoryLimit) {
+      spillHashTable();
+    }
+  }
 
-    updateMetaSearchResults(scrollResp);
-    List<SearchHit> hitsWithScan = new ArrayList<>();
-    int curentNumOfResults = 0;
-    SearchHit[] hits = scrollResp.getHits().getHits();
+  /** Move hits in the hash table to partitions on disk, which new hits are hashed to as well. */
+  private void spillHashTable() {
+    firstTablePartitions = new HashMap<>();
+    for (String comparisonID : this.hashJoinComparisonStructure.getComparisons().keySet()) {
+      for (Map.Entry<String, SearchHitsResult> keyAndHits :
+          this.hashJoinComparisonStructure.getComparisonHash(comparisonID).entrySet()) {
+        SearchHitSpillFile partition =
+            partitionOf(firstTablePartitions, comparisonID, keyAndHits.getKey());
+        for (SearchHit hit : keyAndHits.getValue().getSearchHits()) {
+          partition.write(keyAndHits.getKey(), hit);
+        }
+      }
+    }
+    this.hashJoinComparisonStructure.clear();
+    hashTableSize = 0;
+  }
 
-    if (hintLimit == null) {
-      hintLimit = MAX_RESULTS_FOR_FIRST_TABLE;
+  private static SearchHitSpillFile partitionOf(
+      Map<String, SearchHitSpillFile[]> partitions, String comparisonID, String key) {
+    SearchHitSpillFile[] files =
+        partitions.computeIfAbsent(comparisonID, id -> new SearchHitSpillFile[PARTITIONS]);
+    int index = Math.floorMod(key.hashCode(), PARTITIONS);
+    if (files[index] == null) {
+      files[index] = SearchHitSpillFile.create();
     }
+    return files[index];
+  }
 
-    while (hits.length != 0 && curentNumOfResults < hintLimit) {
-      curentNumOfResults += hits.length;
-      Collections.addAll(hitsWithScan, hits);
-      if (curentNumOfResults >= MAX_RESULTS_FOR_FIRST_TABLE) {
-        // todo: log or exception?
-        System.out.println("too many results for first table, stoping at:" + curentNumOfResults);
-        break;
+  private static void closePartitions(Map<String, SearchHitSpillFile[]> partitions) {
+    if (partitions == null) {
+      return;
+    }
+    for (SearchHitSpillFile[] files : partitions.values()) {
+      for (SearchHitSpillFile file : files) {
+        if (file != null) {
+          file.close();
+        }
       }
-      scrollResp =
-          client
-              .prepareSearchScroll(scrollResp.getScrollId())
-              .setScroll(new TimeValue(600000))
-              .execute()
-              .actionGet();
-      hits = scrollResp.getHits().getHits();
-    }
-    return hitsWithScan;
+    }
+  }
+
+  /** Filter the source of a first table hit read from disk, which is spilled unfiltered. */
+  private SearchHit withReturnedFields(TableInJoinRequestBuilder firstTableRequest, SearchHit hit) {
+    onlyReturnedFields(
+        hit.getSourceAsMap(),
+        firstTableRequest.getReturnedFields(),
+        firstTableRequest.getOriginalSelect().isSelectAll());
+    return hit;
   }
 
   private boolean needToOptimize(
@@ -412,6 +692,7 @@ public class HashJoinElasticExecutor extends ElasticJoinExecutor {
     }
     if (data != null) {
       values.add(data);
+      termsFilterValues++;
     }
   }
 }
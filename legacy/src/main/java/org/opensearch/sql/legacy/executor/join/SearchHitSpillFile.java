@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.executor.join;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.search.SearchHit;
+
+/**
+ * Temporary local file which search hits of a hash join partition are spilled to, each along with
+ * its join key. Hits are written in transport format and read back in the same order once writing
+ * is done. The file is deleted on close.
+ */
+public class SearchHitSpillFile implements AutoCloseable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Path path;
+
+  private StreamOutput output;
+
+  private StreamInput input;
+
+  /** Number of hits written. */
+  private long count = 0;
+
+  private SearchHitSpillFile(Path path, StreamOutput output) {
+    this.path = path;
+    this.output = output;
+  }
+
+  /** Create an empty spill file in the temporary directory. */
+  public static SearchHitSpillFile create() {
+    try {
+      Path path = Files.createTempFile("opensearch-sql-join-", ".bin");
+      return new SearchHitSpillFile(
+          path,
+          new OutputStreamStreamOutput(
+              new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE)));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to create spill file", e);
+    }
+  }
+
+  /**
+   * Append a hit with its join key. Doc id of the hit is kept, which is not in transport format.
+   *
+   * @param key join key
+   * @param hit search hit
+   */
+  public void write(String key, SearchHit hit) {
+    try {
+      output.writeString(key);
+      output.writeInt(hit.docId());
+      hit.writeTo(output);
+      count++;
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to write spill file: " + path, e);
+    }
+  }
+
+  /** Number of hits written. */
+  public long size() {
+    return count;
+  }
+
+  /**
+   * Finish writing and read the hits back. Can be called only once.
+   *
+   * @return iterator of join key and hit in the order written
+   */
+  public Iterator<Map.Entry<String, SearchHit>> read() {
+    try {
+      output.close();
+      output = null;
+      input =
+          new InputStreamStreamInput(
+              new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read spill file: " + path, e);
+    }
+
+    return new Iterator<>() {
+      private long remaining = count;
+
+      @Override
+      public boolean hasNext() {
+        return remaining > 0;
+      }
+
+      @Override
+      public Map.Entry<String, SearchHit> next() {
+        if (remaining <= 0) {
+          throw new NoSuchElementException();
+        }
+        try {
+          remaining--;
+          String key = input.readString();
+          int docId = input.readInt();
+          return new AbstractMap.SimpleEntry<>(key, withDocId(docId, new SearchHit(input)));
+        } catch (IOException e) {
+          throw new IllegalStateException("Failed to read spill file: " + path, e);
+        }
+      }
+    };
+  }
+
+  /** Close the file and delete it. */
+  @Override
+  public void close() {
+    try {
+      if (output != null) {
+        output.close();
+      }
+      if (input != null) {
+        input.close();
+      }
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to delete spill file: " + path, e);
+    } finally {
+      output = null;
+      input = null;
+    }
+  }
+
+  private static SearchHit withDocId(int docId, SearchHit hit) {
+    Map<String, DocumentField> documentFields = new HashMap<>();
+    Map<String, DocumentField> metaFields = new HashMap<>();
+    hit.getFields()
+        .forEach(
+            (fieldName, docField) ->
+                (MapperService.META_FIELDS_BEFORE_7DOT8.contains(fieldName)
+                        ? metaFields
+                        : documentFields)
+                    .put(fieldName, docField));
+    SearchHit searchHit = new SearchHit(docId, hit.getId(), documentFields, metaFields);
+    searchHit.sourceRef(hit.getSourceRef());
+    return searchHit;
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of non-negative long values in log-linear buckets. Values below {@link #SUB_BUCKETS}
+ * are counted exactly, and each power of two above is split into {@link #SUB_BUCKETS} buckets of
+ * equal width, so any value is reported with relative error below 1/{@link #SUB_BUCKETS}.
+ * Recording is lock-free and takes constant time.
+ */
+public class Histogram implements java.io.Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final int SUB_BUCKET_BITS = 5;
+
+  static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  /** Buckets for values up to {@link Long#MAX_VALUE}. */
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Record a value.
+   *
+   * @param value value, negative value is recorded as 0
+   */
+  public void record(long value) {
+    long v = Math.max(value, 0L);
+    counts.incrementAndGet(indexOf(v));
+    max.accumulateAndGet(v, Math::max);
+  }
+
+  /** Get number of values recorded. */
+  public long getCount() {
+    long count = 0L;
+    for (int i = 0; i < BUCKETS; i++) {
+      count += counts.get(i);
+    }
+    return count;
+  }
+
+  /** Get max value recorded, or 0 if none. */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Get the value at the given percentile, which is the highest value of the bucket it falls in
+   * and no more than the max value recorded.
+   *
+   * @param percentile percentile in (0, 100]
+   * @return value at the percentile, or 0 if none recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    long count = getCount();
+    if (count == 0L) {
+      return 0L;
+    }
+
+    long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+    long seen = 0L;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += counts.get(i);
+      if (seen >= rank) {
+        return Math.min(highestValueOf(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  /** Clear all values recorded. */
+  public void reset() {
+    for (int i = 0; i < BUCKETS; i++) {
+      counts.set(i, 0L);
+    }
+    max.set(0L);
+  }
+
+  static int indexOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+    return (shift + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  static long highestValueOf(int index) {
+    int bucket = index / SUB_BUCKETS;
+    if (bucket == 0) {
+      return index;
+    }
+    int shift = bucket - 1;
+    long lowest = ((long) (SUB_BUCKETS + index % SUB_BUCKETS)) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+}
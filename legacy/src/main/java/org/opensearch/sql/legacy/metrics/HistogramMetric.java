@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.metrics;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+
+/**
+ * Histogram metric of latency. Durations are recorded in nanoseconds since the node started, and
+ * reported as count along with p50, p90, p99 and max in milliseconds.
+ */
+public class HistogramMetric extends Metric<Map<String, Object>> {
+
+  private static final long serialVersionUID = 1L;
+
+  private final Histogram histogram = new Histogram();
+
+  public HistogramMetric(String name) {
+    super(name);
+  }
+
+  public void record(long nanos) {
+    histogram.record(nanos);
+  }
+
+  @Override
+  public Map<String, Object> getValue() {
+    return ImmutableMap.of(
+        "count", histogram.getCount(),
+        "p50", toMillis(histogram.getValueAtPercentile(50)),
+        "p90", toMillis(histogram.getValueAtPercentile(90)),
+        "p99", toMillis(histogram.getValueAtPercentile(99)),
+        "max", toMillis(histogram.getMax()));
+  }
+
+  public void clear() {
+    histogram.reset();
+  }
+
+  /** Milliseconds rounded to microsecond precision. */
+  private static double toMillis(long nanos) {
+    return Math.round(nanos / 1_000.0) / 1_000.0;
+  }
+}
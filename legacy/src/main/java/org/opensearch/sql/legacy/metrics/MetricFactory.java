@@ -41,6 +41,19 @@ public class MetricFactory {
       case EMR_STREAMING_QUERY_JOBS_CREATION_COUNT:
       case EMR_INTERACTIVE_QUERY_JOBS_CREATION_COUNT:
         return new NumericMetric<>(name.getName(), new RollingCounter());
+      case SQL_PARSE_LATENCY:
+      case SQL_ANALYZE_LATENCY:
+      case SQL_OPTIMIZE_LATENCY:
+      case SQL_PLAN_LATENCY:
+      case SQL_EXECUTE_LATENCY:
+      case SQL_FORMAT_LATENCY:
+      case PPL_PARSE_LATENCY:
+      case PPL_ANALYZE_LATENCY:
+      case PPL_OPTIMIZE_LATENCY:
+      case PPL_PLAN_LATENCY:
+      case PPL_EXECUTE_LATENCY:
+      case PPL_FORMAT_LATENCY:
+        return new HistogramMetric(name.getName());
       default:
         return new NumericMetric<>(name.getName(), new BasicCounter());
     }
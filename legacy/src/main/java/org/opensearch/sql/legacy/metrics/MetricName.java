@@ -8,8 +8,10 @@ package org.opensearch.sql.legacy.metrics;
 import com.google.common.collect.ImmutableSet;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.opensearch.sql.common.utils.QueryPhase;
 
 public enum MetricName {
   REQ_TOTAL("request_total"),
@@ -48,7 +50,20 @@ public enum MetricName {
   EMR_STREAMING_QUERY_JOBS_CREATION_COUNT("emr_streaming_jobs_creation_count"),
   EMR_INTERACTIVE_QUERY_JOBS_CREATION_COUNT("emr_interactive_jobs_creation_count"),
   EMR_BATCH_QUERY_JOBS_CREATION_COUNT("emr_batch_jobs_creation_count"),
-  STREAMING_JOB_HOUSEKEEPER_TASK_FAILURE_COUNT("streaming_job_housekeeper_task_failure_count");
+  STREAMING_JOB_HOUSEKEEPER_TASK_FAILURE_COUNT("streaming_job_housekeeper_task_failure_count"),
+
+  SQL_PARSE_LATENCY("sql_parse_latency"),
+  SQL_ANALYZE_LATENCY("sql_analyze_latency"),
+  SQL_OPTIMIZE_LATENCY("sql_optimize_latency"),
+  SQL_PLAN_LATENCY("sql_plan_latency"),
+  SQL_EXECUTE_LATENCY("sql_execute_latency"),
+  SQL_FORMAT_LATENCY("sql_format_latency"),
+  PPL_PARSE_LATENCY("ppl_parse_latency"),
+  PPL_ANALYZE_LATENCY("ppl_analyze_latency"),
+  PPL_OPTIMIZE_LATENCY("ppl_optimize_latency"),
+  PPL_PLAN_LATENCY("ppl_plan_latency"),
+  PPL_EXECUTE_LATENCY("ppl_execute_latency"),
+  PPL_FORMAT_LATENCY("ppl_format_latency");
 
   private String name;
 
@@ -64,6 +79,17 @@ public enum MetricName {
     return Arrays.stream(MetricName.values()).map(v -> v.name).collect(Collectors.toList());
   }
 
+  /**
+   * Get the latency metric of the query phase.
+   *
+   * @param language query language, sql or ppl
+   * @param phase query phase
+   * @return latency metric name
+   */
+  public static MetricName latencyOf(String language, QueryPhase phase) {
+    return valueOf(language.toUpperCase(Locale.ROOT) + "_" + phase.name() + "_LATENCY");
+  }
+
   private static Set<MetricName> NUMERICAL_METRIC =
       new ImmutableSet.Builder<MetricName>()
           .add(PPL_REQ_TOTAL)
@@ -6,7 +6,7 @@
 package org.opensearch.sql.legacy.metrics;
 
 import java.time.Clock;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.LongAdder;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
@@ -14,14 +14,25 @@ import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 /**
  * Rolling counter. The count is refreshed every interval. In every interval the count is
  * cumulative.
+ *
+ * <p>Counts are kept in a ring buffer with a slot per interval. Each slot is a single long tagged
+ * with the low bits of its interval in the high {@link #TAG_BITS} bits and the count in the rest,
+ * so a slot of an expired interval is recycled by a compare-and-set without lock or allocation.
  */
 public class RollingCounter implements Counter<Long> {
 
-  private final long capacity;
-  private final long window;
+  private static final int TAG_BITS = 24;
+
+  private static final int COUNT_BITS = Long.SIZE - TAG_BITS;
+
+  private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+  private static final long TAG_MASK = (1L << TAG_BITS) - 1;
+
+  private final int capacity;
   private final long interval;
   private final Clock clock;
-  private final ConcurrentSkipListMap<Long, Long> time2CountWin;
+  private final AtomicLongArray slots;
   private final LongAdder count;
 
   public RollingCounter() {
@@ -31,12 +42,11 @@ public class RollingCounter implements Counter<Long> {
   }
 
   public RollingCounter(long window, long interval, Clock clock) {
-    this.window = window;
     this.interval = interval;
     this.clock = clock;
-    time2CountWin = new ConcurrentSkipListMap<>();
+    capacity = (int) Math.max(2, window / interval * 2);
+    slots = new AtomicLongArray(capacity);
     count = new LongAdder();
-    capacity = window / interval * 2;
   }
 
   public RollingCounter(long window, long interval) {
@@ -50,8 +60,16 @@ public class RollingCounter implements Counter<Long> {
 
   @Override
   public void add(long n) {
-    trim();
-    time2CountWin.compute(getKey(clock.millis()), (k, v) -> (v == null) ? n : v + n);
+    long key = getKey(clock.millis());
+    int index = indexOf(key);
+    long tag = key & TAG_MASK;
+    long slot;
+    long next;
+    do {
+      slot = slots.get(index);
+      next = (tagOf(slot) == tag) ? slot + n : (tag << COUNT_BITS) | n;
+    } while (!slots.compareAndSet(index, slot, next));
+    count.add(n);
   }
 
   @Override
@@ -60,24 +78,18 @@ public class RollingCounter implements Counter<Long> {
   }
 
   public long getValue(long key) {
-    Long res = time2CountWin.get(key);
-    if (res == null) {
+    long slot = slots.get(indexOf(key));
+    if (tagOf(slot) != (key & TAG_MASK)) {
       return 0;
     }
 
-    return res;
+    return slot & COUNT_MASK;
   }
 
   public long getSum() {
     return count.longValue();
   }
 
-  private void trim() {
-    if (time2CountWin.size() > capacity) {
-      time2CountWin.headMap(getKey(clock.millis() - window * 1000)).clear();
-    }
-  }
-
   private long getKey(long millis) {
     return millis / 1000 / this.interval;
   }
@@ -86,11 +98,30 @@ public class RollingCounter implements Counter<Long> {
     return getKey(millis) - 1;
   }
 
+  private int indexOf(long key) {
+    return (int) Math.floorMod(key, (long) capacity);
+  }
+
+  private static long tagOf(long slot) {
+    return slot >>> COUNT_BITS;
+  }
+
+  /** Number of intervals with count in the ring buffer, within two windows of now. */
   public int size() {
-    return time2CountWin.size();
+    long key = getKey(clock.millis());
+    int size = 0;
+    for (long k = key - capacity + 1; k <= key; k++) {
+      if (getValue(k) > 0) {
+        size++;
+      }
+    }
+    return size;
   }
 
   public void reset() {
-    time2CountWin.clear();
+    for (int i = 0; i < capacity; i++) {
+      slots.set(i, 0L);
+    }
+    count.reset();
   }
 }
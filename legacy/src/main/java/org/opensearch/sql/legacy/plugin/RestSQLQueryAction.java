@@ -23,12 +23,18 @@ import org.opensearch.rest.RestRequest;
 import org.opensearch.sql.common.antlr.SyntaxCheckException;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.utils.QueryContext;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.UnsupportedCursorRequestException;
+import org.opensearch.sql.executor.ChunkedResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.opensearch.security.SecurityAccess;
 import org.opensearch.sql.protocol.response.QueryResult;
+import org.opensearch.sql.protocol.response.format.ChunkedFormattingListener;
+import org.opensearch.sql.protocol.response.format.ChunkedResponseFormatter;
 import org.opensearch.sql.protocol.response.format.CommandResponseFormatter;
 import org.opensearch.sql.protocol.response.format.CsvResponseFormatter;
 import org.opensearch.sql.protocol.response.format.Format;
@@ -109,7 +115,7 @@ public class RestSQLQueryAction extends BaseRestHandler {
       return channel ->
           sqlService.execute(
               request,
-              fallBackListener(
+              chunkedFallBackListener(
                   channel,
                   createQueryResponseListener(channel, request, executionErrorHandler),
                   fallbackHandler));
@@ -129,15 +135,51 @@ public class RestSQLQueryAction extends BaseRestHandler {
 
       @Override
       public void onFailure(Exception e) {
-        if (e instanceof SyntaxCheckException || e instanceof UnsupportedCursorRequestException) {
-          fallBackHandler.accept(channel, e);
-        } else {
-          next.onFailure(e);
-        }
+        fallBackOrFail(channel, e, next, fallBackHandler);
       }
     };
   }
 
+  private ChunkedResponseListener chunkedFallBackListener(
+      RestChannel channel,
+      ChunkedResponseListener next,
+      BiConsumer<RestChannel, Exception> fallBackHandler) {
+    return new ChunkedResponseListener() {
+      @Override
+      public void onSchema(Schema schema) {
+        LOG.info("[{}] Request is handled by new SQL query engine", QueryContext.getRequestId());
+        next.onSchema(schema);
+      }
+
+      @Override
+      public void onChunk(List<ExprValue> rows) {
+        next.onChunk(rows);
+      }
+
+      @Override
+      public void onComplete(Cursor cursor) {
+        next.onComplete(cursor);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        fallBackOrFail(channel, e, next, fallBackHandler);
+      }
+    };
+  }
+
+  private void fallBackOrFail(
+      RestChannel channel,
+      Exception e,
+      ResponseListener<?> next,
+      BiConsumer<RestChannel, Exception> fallBackHandler) {
+    if (e instanceof SyntaxCheckException || e instanceof UnsupportedCursorRequestException) {
+      fallBackHandler.accept(channel, e);
+    } else {
+      next.onFailure(e);
+    }
+  }
+
   private ResponseListener<ExplainResponse> createExplainResponseListener(
       RestChannel channel, BiConsumer<RestChannel, Exception> errorHandler) {
     return new ResponseListener<>() {
@@ -160,7 +202,7 @@ public class RestSQLQueryAction extends BaseRestHandler {
     };
   }
 
-  private ResponseListener<QueryResponse> createQueryResponseListener(
+  private ChunkedResponseListener createQueryResponseListener(
       RestChannel channel,
       SQLQueryRequest request,
       BiConsumer<RestChannel, Exception> errorHandler) {
@@ -176,22 +218,40 @@ public class RestSQLQueryAction extends BaseRestHandler {
     } else {
       formatter = new JdbcResponseFormatter(PRETTY);
     }
-    return new ResponseListener<QueryResponse>() {
-      @Override
-      public void onResponse(QueryResponse response) {
-        sendResponse(
-            channel,
-            OK,
-            formatter.format(
-                new QueryResult(response.getSchema(), response.getResults(), response.getCursor())),
-            formatter.contentType());
-      }
 
-      @Override
-      public void onFailure(Exception e) {
-        errorHandler.accept(channel, e);
-      }
-    };
+    if (formatter instanceof ChunkedResponseFormatter) {
+      return new ChunkedFormattingListener(
+          (ChunkedResponseFormatter) formatter,
+          new ResponseListener<String>() {
+            @Override
+            public void onResponse(String content) {
+              sendResponse(channel, OK, content, formatter.contentType());
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+              errorHandler.accept(channel, e);
+            }
+          });
+    }
+    return ChunkedResponseListener.of(
+        new ResponseListener<QueryResponse>() {
+          @Override
+          public void onResponse(QueryResponse response) {
+            sendResponse(
+                channel,
+                OK,
+                formatter.format(
+                    new QueryResult(
+                        response.getSchema(), response.getResults(), response.getCursor())),
+                formatter.contentType());
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            errorHandler.accept(channel, e);
+          }
+        });
   }
 
   private void sendResponse(
@@ -6,6 +6,7 @@
 package org.opensearch.sql.legacy.query.planner.physical.node.join;
 
 import static java.util.Collections.emptyList;
+import static org.opensearch.sql.legacy.query.planner.core.ExecuteParams.ExecuteParamType.RESOURCE_MANAGER;
 
 import com.alibaba.druid.sql.ast.statement.SQLJoinTableSource.JoinType;
 import com.google.common.collect.Sets;
@@ -21,7 +22,9 @@ import org.opensearch.sql.legacy.query.planner.logical.node.Join.JoinCondition;
 import org.opensearch.sql.legacy.query.planner.physical.PhysicalOperator;
 import org.opensearch.sql.legacy.query.planner.physical.Row;
 import org.opensearch.sql.legacy.query.planner.physical.node.BatchPhysicalOperator;
+import org.opensearch.sql.legacy.query.planner.resource.ResourceManager;
 import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize.BlockUsage;
 
 /**
  * Join algorithm base class
@@ -56,6 +59,15 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
   /** Execute params to reset right side for each left block */
   protected ExecuteParams params;
 
+  /** Resource manager to observe resource usage of each block */
+  private ResourceManager resourceMgr;
+
+  /** Resource usage of building current block, probe time excluded */
+  private BlockUsage buildUsage;
+
+  /** Start time (ns) of probing current block */
+  private long probeStartNanos;
+
   JoinAlgorithm(
       PhysicalOperator<T> left,
       PhysicalOperator<T> right,
@@ -81,6 +93,7 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
     super.open(params);
     left.open(params);
     this.params = params;
+    this.resourceMgr = params.get(RESOURCE_MANAGER);
   }
 
   @Override
@@ -203,7 +216,11 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
 
   /** Building phase: Build hash table from data block. */
   private void buildHashTableByNextBlock() {
-    List<Row<T>> block = loadNextBlockFromLeft(blockSize.size());
+    int size = blockSize.size();
+    long memoryHeadroomBefore = resourceMgr.memoryHeadroom();
+    long loadStartNanos = System.nanoTime();
+    List<Row<T>> block = loadNextBlockFromLeft(size);
+    long loadMillis = (System.nanoTime() - loadStartNanos) / 1_000_000;
     if (LOG.isTraceEnabled()) {
       LOG.trace("Build hash table on conditions with block: {}, {}", condition, block);
     }
@@ -215,6 +232,17 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
     if (type == JoinType.LEFT_OUTER_JOIN) {
       leftMismatch.addAll(block);
     }
+
+    long memoryHeadroom = resourceMgr.memoryHeadroom();
+    buildUsage =
+        new BlockUsage(
+            size,
+            block.size(),
+            memoryHeadroomBefore - memoryHeadroom,
+            memoryHeadroom,
+            loadMillis,
+            0);
+    probeStartNanos = System.nanoTime();
   }
 
   private void cleanUpAndCloseRight() {
@@ -222,6 +250,25 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
     hashTable.clear();
     leftMismatch.clear();
     right.close();
+    adjustBlockSize();
+  }
+
+  /** Adjust block size for next block by the resource usage of the block just joined. */
+  private void adjustBlockSize() {
+    if (buildUsage == null) {
+      return;
+    }
+    BlockUsage usage =
+        new BlockUsage(
+            buildUsage.getSize(),
+            buildUsage.getRows(),
+            buildUsage.getMemoryUsed(),
+            buildUsage.getMemoryHeadroom(),
+            buildUsage.getLoadMillis(),
+            (System.nanoTime() - probeStartNanos) / 1_000_000);
+    blockSize.adjust(usage);
+    LOG.debug("Block size adjusted to {} by usage of last block", blockSize.size());
+    buildUsage = null;
   }
 
   private List<Row<T>> loadNextBlockFromLeft(int blockSize) {
@@ -14,6 +14,7 @@ import org.apache.logging.log4j.Logger;
 import org.opensearch.sql.legacy.executor.join.MetaSearchResult;
 import org.opensearch.sql.legacy.query.join.BackOffRetryStrategy;
 import org.opensearch.sql.legacy.query.planner.core.Config;
+import org.opensearch.sql.legacy.query.planner.resource.Stats.MemStats;
 import org.opensearch.sql.legacy.query.planner.resource.monitor.Monitor;
 import org.opensearch.sql.legacy.query.planner.resource.monitor.TotalMemoryMonitor;
 
@@ -25,6 +26,12 @@ public class ResourceManager {
   /** Actual resource monitor list */
   private final List<Monitor> monitors = new ArrayList<>();
 
+  /** Statistic collector */
+  private final Stats stats;
+
+  /** Upper limit for memory usage percentage */
+  private final int memoryLimit;
+
   /** Time out for the execution */
   private final int timeout;
 
@@ -35,6 +42,8 @@ public class ResourceManager {
 
   public ResourceManager(Stats stats, Config config) {
     this.monitors.add(new TotalMemoryMonitor(stats, config));
+    this.stats = stats;
+    this.memoryLimit = config.circuitBreakLimit();
     this.timeout = config.timeout();
     this.startTime = Instant.now();
     this.metaResult = new MetaSearchResult();
@@ -58,6 +67,17 @@ public class ResourceManager {
     return Duration.between(startTime, Instant.now()).getSeconds() >= timeout;
   }
 
+  /**
+   * Memory that can still be used before the memory usage reaches the circuit breaker limit.
+   *
+   * @return memory in bytes, negative if the limit is exceeded already
+   */
+  public long memoryHeadroom() {
+    MemStats memStats = stats.collectMemStats();
+    long used = memStats.getTotal() - memStats.getFree();
+    return memStats.getTotal() / 100 * memoryLimit - used;
+  }
+
   public MetaSearchResult getMetaResult() {
     return metaResult;
   }
@@ -5,19 +5,75 @@
 
 package org.opensearch.sql.legacy.query.planner.resource.blocksize;
 
-/** Adaptive block size calculator based on resource usage dynamically. */
+import org.opensearch.sql.legacy.query.planner.core.Config;
+
+/**
+ * Adaptive block size calculator based on resource usage dynamically. The join starts with the
+ * default block size and after each block:
+ *
+ * <ol>
+ *   <li>Shrinks the block by half if the memory left before circuit breaker trips cannot hold
+ *       another block of the same size.
+ *   <li>Otherwise grows the block if it was full and the memory left can hold the bigger block,
+ *       because each block has to scroll the right side all over again. It is doubled if probing
+ *       the right takes longer than loading the block from left, otherwise grown by half.
+ * </ol>
+ */
 public class AdaptiveBlockSize implements BlockSize {
 
+  /** Smallest block size to shrink to */
+  static final int MIN_BLOCK_SIZE = 100;
+
+  /** Largest block size to grow to if no upper limit specified */
+  static final int MAX_BLOCK_SIZE = 1_000_000;
+
+  /** Ratio of the memory left that a block may take */
+  private static final double MEMORY_HEADROOM_RATIO = 0.5;
+
   private int upperLimit;
 
+  /** Block size for next block */
+  private int size;
+
+  /** Average memory (bytes) taken by a row in hash table, 0 if not observed yet */
+  private double bytesPerRow = 0;
+
+  /**
+   * Create adaptive block size.
+   *
+   * @param upperLimit largest block size, or unlimited if not positive
+   */
   public AdaptiveBlockSize(int upperLimit) {
-    this.upperLimit = upperLimit;
+    this.upperLimit = (upperLimit > 0) ? upperLimit : MAX_BLOCK_SIZE;
+    this.size = Math.max(Math.min(Config.DEFAULT_BLOCK_SIZE, this.upperLimit), 1);
   }
 
   @Override
   public int size() {
-    // TODO: calculate dynamically on each call
-    return upperLimit;
+    return size;
+  }
+
+  @Override
+  public void adjust(BlockUsage usage) {
+    if (usage.getRows() == 0) {
+      return;
+    }
+    if (usage.getMemoryUsed() > 0) {
+      double observed = (double) usage.getMemoryUsed() / usage.getRows();
+      bytesPerRow = (bytesPerRow == 0) ? observed : (bytesPerRow + observed) / 2;
+    }
+
+    long memoryAvailable = (long) (usage.getMemoryHeadroom() * MEMORY_HEADROOM_RATIO);
+    if (memoryAvailable <= 0 || memoryAvailable < bytesPerRow * size) {
+      size = Math.max(Math.min(MIN_BLOCK_SIZE, upperLimit), size / 2);
+    } else if (usage.getRows() >= usage.getSize()) {
+      long grown =
+          (usage.getProbeMillis() > usage.getLoadMillis()) ? size * 2L : size + size / 2L;
+      if (bytesPerRow > 0) {
+        grown = Math.min(grown, (long) (memoryAvailable / bytesPerRow));
+      }
+      size = (int) Math.max(size, Math.min(grown, upperLimit));
+    }
   }
 
   @Override
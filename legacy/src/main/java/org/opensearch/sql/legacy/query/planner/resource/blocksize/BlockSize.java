@@ -15,6 +15,75 @@ public interface BlockSize {
    */
   int size();
 
+  /**
+   * Adjust block size by the resource usage observed when a block was joined. Block size configured
+   * is fixed and ignores it by default.
+   *
+   * @param usage resource usage of the block
+   */
+  default void adjust(BlockUsage usage) {}
+
+  /** Resource usage observed when a block was built into hash table and probed by the right. */
+  class BlockUsage {
+
+    /** Block size requested */
+    private final int size;
+
+    /** Number of rows loaded into the block, less than size if no more rows from left */
+    private final int rows;
+
+    /** Memory (bytes) taken by building hash table, not accurate if GC happened meanwhile */
+    private final long memoryUsed;
+
+    /** Memory (bytes) can still be used before circuit breaker trips after hash table built */
+    private final long memoryHeadroom;
+
+    /** Time (ms) taken by scrolling left to load the block */
+    private final long loadMillis;
+
+    /** Time (ms) taken by scrolling right to probe the block */
+    private final long probeMillis;
+
+    public BlockUsage(
+        int size,
+        int rows,
+        long memoryUsed,
+        long memoryHeadroom,
+        long loadMillis,
+        long probeMillis) {
+      this.size = size;
+      this.rows = rows;
+      this.memoryUsed = memoryUsed;
+      this.memoryHeadroom = memoryHeadroom;
+      this.loadMillis = loadMillis;
+      this.probeMillis = probeMillis;
+    }
+
+    public int getSize() {
+      return size;
+    }
+
+    public int getRows() {
+      return rows;
+    }
+
+    public long getMemoryUsed() {
+      return memoryUsed;
+    }
+
+    public long getMemoryHeadroom() {
+      return memoryHeadroom;
+    }
+
+    public long getLoadMillis() {
+      return loadMillis;
+    }
+
+    public long getProbeMillis() {
+      return probeMillis;
+    }
+  }
+
   /** Default implementation with fixed block size */
   class FixedBlockSize implements BlockSize {
 
@@ -3,6 +3,7 @@ package org.opensearch.sql.legacy.utils;
 import lombok.experimental.UtilityClass;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.sql.common.utils.QueryPhase;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
 
@@ -19,4 +20,19 @@ public class MetricUtils {
       LOG.error("Error while adding metric: {}", throwable.getMessage());
     }
   }
+
+  /**
+   * Record duration of the query phase in its latency metric.
+   *
+   * @param language query language
+   * @param phase query phase
+   * @param nanos duration in nanoseconds
+   */
+  public static void recordLatency(String language, QueryPhase phase, long nanos) {
+    try {
+      Metrics.getInstance().getHistogramMetric(MetricName.latencyOf(language, phase)).record(nanos);
+    } catch (Throwable throwable) {
+      LOG.error("Error while recording metric: {}", throwable.getMessage());
+    }
+  }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.executor.join;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.alibaba.druid.sql.ast.statement.SQLJoinTableSource;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.TotalHits.Relation;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.opensearch.action.search.SearchRequestBuilder;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequestBuilder;
+import org.opensearch.client.Client;
+import org.opensearch.common.action.ActionFuture;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.sql.legacy.domain.Field;
+import org.opensearch.sql.legacy.domain.Select;
+import org.opensearch.sql.legacy.query.join.HashJoinElasticRequestBuilder;
+import org.opensearch.sql.legacy.query.join.TableInJoinRequestBuilder;
+
+public class HashJoinElasticExecutorTest {
+
+  private static final SearchHit[] NO_HITS = new SearchHit[0];
+
+  private Client client;
+
+  private SearchRequestBuilder firstTable;
+
+  private SearchRequestBuilder secondTable;
+
+  private SearchScrollRequestBuilder firstTableScroll;
+
+  private HashJoinElasticRequestBuilder requestBuilder;
+
+  @Before
+  public void setUp() {
+    client = mock(Client.class);
+    firstTable = mock(SearchRequestBuilder.class, RETURNS_SELF);
+    secondTable = mock(SearchRequestBuilder.class, RETURNS_SELF);
+    firstTableScroll = mock(SearchScrollRequestBuilder.class, RETURNS_SELF);
+    when(client.prepareSearchScroll("t1")).thenReturn(firstTableScroll);
+
+    requestBuilder = new HashJoinElasticRequestBuilder();
+    setUpTable(requestBuilder.getFirstTable(), "a", firstTable);
+    setUpTable(requestBuilder.getSecondTable(), "b", secondTable);
+    requestBuilder.setJoinType(SQLJoinTableSource.JoinType.JOIN);
+    requestBuilder.setTotalLimit(200);
+    requestBuilder.setT1ToT2FieldsComparison(
+        List.of(List.of(new AbstractMap.SimpleEntry<>(field("id"), field("id")))));
+  }
+
+  @Test
+  public void joinInMemory() throws Exception {
+    firstTablePages(hits("a", 1, 2, 3));
+    secondTablePages(hits("b", 1, 3, 4));
+
+    assertThat(run(0), containsInAnyOrder("a1|b1", "a3|b3"));
+  }
+
+  @Test
+  public void joinPartitionsOnceHashTableSpilled() throws Exception {
+    firstTablePages(hits("a", 1, 2), hits("a", 3, 4));
+    secondTablePages(hits("b", 1, 3, 5), hits("b", 4));
+
+    assertThat(run(1), containsInAnyOrder("a1|b1", "a3|b3", "a4|b4"));
+  }
+
+  @Test
+  public void leftJoinUnmatchedHitsOnceHashTableSpilled() throws Exception {
+    requestBuilder.setJoinType(SQLJoinTableSource.JoinType.LEFT_OUTER_JOIN);
+    SearchResponse firstTablePage = page("t1", hits("a", 1, 2, 3));
+    when(firstTable.get()).thenReturn(firstTablePage);
+    secondTablePages(hits("b", 1));
+
+    assertThat(run(1), containsInAnyOrder("a1|b1", "a2|0", "a3|0"));
+  }
+
+  @Test
+  public void searchSecondTableWhileFirstTableFetchedInOnePage() throws Exception {
+    requestBuilder.getFirstTable().setHintLimit(10);
+    SearchResponse firstTablePage = page("t1", hits("a", 1));
+    when(firstTable.get()).thenReturn(firstTablePage);
+    secondTablePages(hits("b", 1));
+
+    assertThat(run(0), containsInAnyOrder("a1|b1"));
+    InOrder inOrder = inOrder(firstTable, secondTable);
+    inOrder.verify(secondTable).execute();
+    inOrder.verify(firstTable).get();
+  }
+
+  @Test
+  public void searchSecondTableAfterFirstTableScrolled() throws Exception {
+    firstTablePages(hits("a", 1));
+    secondTablePages(hits("b", 1));
+
+    assertThat(run(0), containsInAnyOrder("a1|b1"));
+    InOrder inOrder = inOrder(firstTable, firstTableScroll, secondTable);
+    inOrder.verify(firstTable).get();
+    inOrder.verify(firstTableScroll).execute();
+    inOrder.verify(secondTable).execute();
+  }
+
+  @Test
+  public void stopScrollingFirstTableAtMaxResultsWithoutMemoryLimit() throws Exception {
+    SearchResponse fullPage = page("t1", hits("a", new int[10000]));
+    ActionFuture<SearchResponse> nextPage = future(fullPage);
+    when(firstTable.get()).thenReturn(fullPage);
+    when(firstTableScroll.execute()).thenReturn(nextPage);
+    secondTablePages(NO_HITS);
+
+    run(0);
+    verify(client, times(9)).prepareSearchScroll("t1");
+  }
+
+  @Test
+  public void filterSecondTableByTermsOfFirstTable() throws Exception {
+    requestBuilder.setUseTermFiltersOptimization(true);
+    firstTablePages(hits("a", 1, 2));
+    secondTablePages(hits("b", 1));
+
+    assertThat(run(0), containsInAnyOrder("a1|b1"));
+    verify(secondTable).setQuery(any());
+  }
+
+  @Test
+  public void searchSecondTableWithoutTermsFilterIfTooManyTerms() throws Exception {
+    requestBuilder.setUseTermFiltersOptimization(true);
+    SearchHit[] fullPage = hits("a", new int[10000]);
+    firstTablePages(fullPage, fullPage, fullPage, fullPage, fullPage, fullPage, fullPage);
+    secondTablePages(NO_HITS);
+
+    run(0);
+    verify(secondTable, never()).setQuery(any());
+  }
+
+  private static Field field(String name) {
+    return new Field(name, null);
+  }
+
+  private List<String> run(long memoryLimit) throws Exception {
+    HashJoinElasticExecutor executor =
+        new HashJoinElasticExecutor(client, requestBuilder, memoryLimit);
+    return executor.innerRun().stream().map(SearchHit::getId).collect(Collectors.toList());
+  }
+
+  private void setUpTable(
+      TableInJoinRequestBuilder table, String alias, SearchRequestBuilder searchRequest) {
+    table.setAlias(alias);
+    table.setOriginalSelect(new Select());
+    table.setReturnedFields(new ArrayList<>());
+    table.setRequestBuilder(searchRequest);
+  }
+
+  /** Return the pages on first search and scrolls of first table, followed by an empty page. */
+  private void firstTablePages(SearchHit[]... pages) {
+    SearchResponse firstPage = page("t1", pages[0]);
+    when(firstTable.get()).thenReturn(firstPage);
+    scrollPages(firstTableScroll, "t1", pages);
+  }
+
+  /** Return the pages on first search and scrolls of second table, followed by an empty page. */
+  private void secondTablePages(SearchHit[]... pages) {
+    ActionFuture<SearchResponse> firstPage = future(page("t2", pages[0]));
+    when(secondTable.execute()).thenReturn(firstPage);
+    SearchScrollRequestBuilder scroll = mock(SearchScrollRequestBuilder.class, RETURNS_SELF);
+    when(client.prepareSearchScroll("t2")).thenReturn(scroll);
+    scrollPages(scroll, "t2", pages);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void scrollPages(
+      SearchScrollRequestBuilder scroll, String scrollId, SearchHit[][] pages) {
+    List<ActionFuture<SearchResponse>> nextPages = new ArrayList<>();
+    for (int i = 1; i < pages.length; i++) {
+      nextPages.add(future(page(scrollId, pages[i])));
+    }
+    nextPages.add(future(page(scrollId, NO_HITS)));
+    when(scroll.execute())
+        .thenReturn(
+            nextPages.get(0), nextPages.subList(1, nextPages.size()).toArray(new ActionFuture[0]));
+  }
+
+  private SearchResponse page(String scrollId, SearchHit[] hits) {
+    SearchHits searchHits =
+        new SearchHits(hits, new TotalHits(hits.length, Relation.EQUAL_TO), 1.0f);
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getHits()).thenReturn(searchHits);
+    when(response.getScrollId()).thenReturn(scrollId);
+    return response;
+  }
+
+  @SuppressWarnings("unchecked")
+  private ActionFuture<SearchResponse> future(SearchResponse response) {
+    ActionFuture<SearchResponse> future = mock(ActionFuture.class);
+    when(future.actionGet()).thenReturn(response);
+    return future;
+  }
+
+  private SearchHit[] hits(String prefix, int... ids) {
+    SearchHit[] hits = new SearchHit[ids.length];
+    for (int i = 0; i < ids.length; i++) {
+      hits[i] =
+          new SearchHit(ids[i], prefix + ids[i], Collections.emptyMap(), Collections.emptyMap());
+      hits[i].sourceRef(new BytesArray("{\"id\": " + ids[i] + "}"));
+    }
+    return hits;
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.unittest.executor.join;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.junit.Test;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.search.SearchHit;
+import org.opensearch.sql.legacy.executor.join.SearchHitSpillFile;
+
+public class SearchHitSpillFileTest {
+
+  @Test
+  public void readHitsWrittenInOrder() {
+    try (SearchHitSpillFile file = SearchHitSpillFile.create()) {
+      file.write("|1|", hit(3, "a", "{\"id\": 1}"));
+      file.write("|2|", hit(1, "b", "{\"id\": 2, \"name\": \"x\"}"));
+      assertThat(file.size(), is(2L));
+
+      Iterator<Map.Entry<String, SearchHit>> hits = file.read();
+      Map.Entry<String, SearchHit> first = hits.next();
+      assertThat(first.getKey(), is("|1|"));
+      assertThat(first.getValue().docId(), is(3));
+      assertThat(first.getValue().getId(), is("a"));
+      assertThat(first.getValue().getSourceAsMap(), is(Map.of("id", 1)));
+
+      Map.Entry<String, SearchHit> second = hits.next();
+      assertThat(second.getKey(), is("|2|"));
+      assertThat(second.getValue().docId(), is(1));
+      assertThat(second.getValue().getId(), is("b"));
+      assertThat(second.getValue().getSourceAsMap(), is(Map.of("id", 2, "name", "x")));
+      assertThat(hits.hasNext(), is(false));
+    }
+  }
+
+  @Test(expected = NoSuchElementException.class)
+  public void readPastLastHit() {
+    try (SearchHitSpillFile file = SearchHitSpillFile.create()) {
+      file.read().next();
+    }
+  }
+
+  private SearchHit hit(int docId, String id, String source) {
+    SearchHit hit = new SearchHit(docId, id, Collections.emptyMap(), Collections.emptyMap());
+    hit.sourceRef(new BytesArray(source));
+    return hit;
+  }
+}
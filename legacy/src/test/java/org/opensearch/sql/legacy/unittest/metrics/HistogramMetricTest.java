@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.unittest.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+import com.google.common.collect.ImmutableMap;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.opensearch.sql.common.utils.QueryPhase;
+import org.opensearch.sql.legacy.metrics.HistogramMetric;
+import org.opensearch.sql.legacy.metrics.MetricFactory;
+import org.opensearch.sql.legacy.metrics.MetricName;
+import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.legacy.utils.MetricUtils;
+
+public class HistogramMetricTest {
+
+  @Test
+  public void getValue() {
+    HistogramMetric metric = new HistogramMetric("test");
+    metric.record(1_500_000L);
+    metric.record(2_000_000L);
+
+    assertThat(
+        metric.getValue(),
+        equalTo(ImmutableMap.of("count", 2L, "p50", 1.507, "p90", 2.0, "p99", 2.0, "max", 2.0)));
+
+    metric.clear();
+    assertThat(metric.getValue().get("count"), equalTo(0L));
+  }
+
+  @Test
+  public void latencyOfQueryPhase() {
+    assertThat(
+        MetricName.latencyOf("sql", QueryPhase.PARSE), equalTo(MetricName.SQL_PARSE_LATENCY));
+    assertThat(
+        MetricName.latencyOf("ppl", QueryPhase.FORMAT), equalTo(MetricName.PPL_FORMAT_LATENCY));
+    assertThat(
+        MetricFactory.createMetric(MetricName.PPL_EXECUTE_LATENCY),
+        instanceOf(HistogramMetric.class));
+  }
+
+  @Test
+  public void recordLatency() {
+    Metrics.getInstance().clear();
+    Metrics.getInstance()
+        .registerMetric(MetricFactory.createMetric(MetricName.SQL_EXECUTE_LATENCY));
+    MetricUtils.recordLatency("sql", QueryPhase.EXECUTE, 3_000_000L);
+    MetricUtils.recordLatency("unknown", QueryPhase.EXECUTE, 3_000_000L);
+
+    JSONObject json = new JSONObject(Metrics.getInstance().collectToJSON());
+    assertThat(json.getJSONObject("sql_execute_latency").getLong("count"), equalTo(1L));
+    assertThat(json.getJSONObject("sql_execute_latency").getDouble("p99"), equalTo(3.0));
+  }
+}
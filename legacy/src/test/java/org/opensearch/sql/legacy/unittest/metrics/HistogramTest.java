@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.unittest.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.opensearch.sql.legacy.metrics.Histogram;
+
+public class HistogramTest {
+
+  @Test
+  public void emptyHistogram() {
+    Histogram histogram = new Histogram();
+
+    assertThat(histogram.getCount(), equalTo(0L));
+    assertThat(histogram.getMax(), equalTo(0L));
+    assertThat(histogram.getValueAtPercentile(99), equalTo(0L));
+  }
+
+  @Test
+  public void smallValuesAreExact() {
+    Histogram histogram = new Histogram();
+    for (long i = 1; i <= 10; i++) {
+      histogram.record(i);
+    }
+    histogram.record(-1);
+
+    assertThat(histogram.getCount(), equalTo(11L));
+    assertThat(histogram.getValueAtPercentile(50), equalTo(5L));
+    assertThat(histogram.getValueAtPercentile(90), equalTo(9L));
+    assertThat(histogram.getValueAtPercentile(100), equalTo(10L));
+    assertThat(histogram.getMax(), equalTo(10L));
+  }
+
+  @Test
+  public void largeValuesWithinRelativeError() {
+    Histogram histogram = new Histogram();
+    List<Long> values = new ArrayList<>();
+    for (long i = 1; i <= 1000; i++) {
+      values.add(i * 1_234_567L);
+      histogram.record(i * 1_234_567L);
+    }
+
+    assertThat(histogram.getCount(), equalTo(1000L));
+    assertWithinError(histogram.getValueAtPercentile(50), values.get(499));
+    assertWithinError(histogram.getValueAtPercentile(90), values.get(899));
+    assertWithinError(histogram.getValueAtPercentile(99), values.get(989));
+    assertThat(histogram.getValueAtPercentile(100), equalTo(values.get(999)));
+    assertThat(histogram.getMax(), equalTo(values.get(999)));
+  }
+
+  @Test
+  public void maxLongValue() {
+    Histogram histogram = new Histogram();
+    histogram.record(Long.MAX_VALUE);
+
+    assertThat(histogram.getValueAtPercentile(50), equalTo(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void reset() {
+    Histogram histogram = new Histogram();
+    histogram.record(100L);
+    histogram.reset();
+
+    assertThat(histogram.getCount(), equalTo(0L));
+    assertThat(histogram.getMax(), equalTo(0L));
+  }
+
+  private void assertWithinError(long actual, long expected) {
+    assertThat(actual, allOf(greaterThanOrEqualTo(expected), lessThan(expected + expected / 32)));
+  }
+}
@@ -11,6 +11,8 @@ import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.Mockito.when;
 
 import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -62,15 +64,43 @@ public class RollingCounterTest {
   }
 
   @Test
-  public void trim() {
+  public void recycleSlotOfExpiredInterval() {
     RollingCounter counter = new RollingCounter(2, 1, clock);
 
     for (int i = 1; i < 6; ++i) {
       counter.increment();
-      assertThat(counter.size(), equalTo(i));
+      assertThat(counter.size(), equalTo(Math.min(i, 4)));
       when(clock.millis()).thenReturn(i * 1000L); // i seconds passed
     }
-    counter.increment();
-    assertThat(counter.size(), lessThanOrEqualTo(3));
+    assertThat(counter.getValue(0), equalTo(0L)); // slot of 1st second is recycled in 5th second
+    assertThat(counter.getValue(4), equalTo(1L));
+    assertThat(counter.getSum(), equalTo(5L));
+
+    counter.reset();
+    assertThat(counter.size(), equalTo(0));
+    assertThat(counter.getSum(), equalTo(0L));
+  }
+
+  @Test
+  public void addConcurrently() throws InterruptedException {
+    RollingCounter counter =
+        new RollingCounter(3, 1, Clock.fixed(Instant.ofEpochSecond(10), ZoneOffset.UTC));
+    Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] =
+          new Thread(
+              () -> {
+                for (int j = 0; j < 1000; j++) {
+                  counter.increment();
+                }
+              });
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(counter.getValue(10), equalTo(4000L));
+    assertThat(counter.getSum(), equalTo(4000L));
   }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.legacy.unittest.planner;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.Test;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.AdaptiveBlockSize;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize.BlockUsage;
+
+/** Adaptive block size test */
+public class AdaptiveBlockSizeTest {
+
+  private static final long MB = 1024 * 1024;
+
+  @Test
+  public void startWithDefaultBlockSize() {
+    assertThat(new AdaptiveBlockSize(0).size(), is(10000));
+    assertThat(new AdaptiveBlockSize(500).size(), is(500));
+  }
+
+  @Test
+  public void doubleBlockSizeIfProbingIsSlowerThanLoading() {
+    AdaptiveBlockSize blockSize = new AdaptiveBlockSize(0);
+    blockSize.adjust(new BlockUsage(10000, 10000, 10 * MB, 1000 * MB, 100, 500));
+    assertThat(blockSize.size(), is(20000));
+  }
+
+  @Test
+  public void growBlockSizeByHalfIfLoadingIsSlowerThanProbing() {
+    AdaptiveBlockSize blockSize = new AdaptiveBlockSize(0);
+    blockSize.adjust(new BlockUsage(10000, 10000, 10 * MB, 1000 * MB, 500, 100));
+    assertThat(blockSize.size(), is(15000));
+  }
+
+  @Test
+  public void growBlockSizeWithinUpperLimit() {
+    AdaptiveBlockSize blockSize = new AdaptiveBlockSize(12000);
+    blockSize.adjust(new BlockUsage(10000, 10000, 10 * MB, 1000 * MB, 100, 500));
+    assertThat(blockSize.size(), is(12000));
+  }
+
+  @Test
+  public void growBlockSizeWithinMemoryHeadroom() {
+    AdaptiveBlockSize blockSize = new AdaptiveBlockSize(0);
+    // 1KB per row and half of 30MB headroom can hold 15360 rows
+    blockSize.adjust(new BlockUsage(10000, 10000, 10000 * 1024, 30 * MB, 100, 500));
+    assertThat(blockSize.size(), is(15360));
+  }
+
+  @Test
+  public void keepBlockSizeIfNoMoreRowsFromLeft() {
+    AdaptiveBlockSize blockSize = new AdaptiveBlockSize(0);
+    blockSize.adjust(new BlockUsage(10000, 300, MB, 1000 * MB, 100, 500));
+    assertThat(blockSize.size(), is(10000));
+  }
+
+  @Test
+  public void shrinkBlockSizeIfMemoryHeadroomCannotHoldAnotherBlock() {
+    AdaptiveBlockSize blockSize = new AdaptiveBlockSize(0);
+    blockSize.adjust(new BlockUsage(10000, 10000, 10000 * 1024, 10 * MB, 100, 500));
+    assertThat(blockSize.size(), is(5000));
+  }
+
+  @Test
+  public void shrinkBlockSizeIfMemoryLimitExceeded() {
+    AdaptiveBlockSize blockSize = new AdaptiveBlockSize(0);
+    for (int i = 0; i < 10; i++) {
+      blockSize.adjust(new BlockUsage(blockSize.size(), blockSize.size(), 0, -MB, 100, 500));
+    }
+    assertThat(blockSize.size(), is(100));
+  }
+}
@@ -7,7 +7,10 @@ package org.opensearch.sql.opensearch.client;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import org.opensearch.action.search.CreatePitRequest;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -60,6 +63,14 @@ public interface OpenSearchClient {
    */
   OpenSearchResponse search(OpenSearchRequest request);
 
+  /**
+   * Create point in time for the search requests to search against.
+   *
+   * @param request create point in time request
+   * @return point in time id
+   */
+  String createPit(CreatePitRequest request);
+
   /**
    * Get the combination of the indices and the alias.
    *
@@ -75,7 +86,7 @@ public interface OpenSearchClient {
   Map<String, String> meta();
 
   /**
-   * Clean up resources related to the search request, for example scroll context.
+   * Clean up resources related to the search request, for example scroll context or point in time.
    *
    * @param request search request
    */
@@ -88,5 +99,19 @@ public interface OpenSearchClient {
    */
   void schedule(Runnable task);
 
+  /**
+   * Get the executor to fetch search result batches ahead of the consumer.
+   *
+   * @return executor
+   */
+  Executor getPrefetchExecutor();
+
+  /**
+   * Get the registry to read named writeables, such as queries of a search source in cursor.
+   *
+   * @return named writeable registry
+   */
+  NamedWriteableRegistry getNamedWriteableRegistry();
+
   NodeClient getNodeClient();
 }
@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -21,14 +22,21 @@ import org.opensearch.action.admin.indices.exists.indices.IndicesExistsResponse;
 import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.admin.indices.mapping.get.GetMappingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.opensearch.action.search.CreatePitAction;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitAction;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.metadata.AliasMetadata;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.request.OpenSearchPointInTimeRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.threadpool.ThreadPool;
 
 /** OpenSearch connection by node client. */
 public class OpenSearchNodeClient implements OpenSearchClient {
@@ -130,6 +138,11 @@ public class OpenSearchNodeClient implements OpenSearchClient {
         req -> client.search(req).actionGet(), req -> client.searchScroll(req).actionGet());
   }
 
+  @Override
+  public String createPit(CreatePitRequest request) {
+    return client.execute(CreatePitAction.INSTANCE, request).actionGet().getId();
+  }
+
   /**
    * Get the combination of the indices and the alias.
    *
@@ -161,9 +174,13 @@ public class OpenSearchNodeClient implements OpenSearchClient {
   @Override
   public void cleanup(OpenSearchRequest request) {
     request.clean(
-        scrollId -> {
+        id -> {
           try {
-            client.prepareClearScroll().addScrollId(scrollId).get();
+            if (request instanceof OpenSearchPointInTimeRequest) {
+              client.execute(DeletePitAction.INSTANCE, new DeletePitRequest(id)).actionGet();
+            } else {
+              client.prepareClearScroll().addScrollId(id).get();
+            }
           } catch (Exception e) {
             throw new IllegalStateException(
                 "Failed to clean up resources for search request " + request, e);
@@ -177,6 +194,21 @@ public class OpenSearchNodeClient implements OpenSearchClient {
     task.run();
   }
 
+  /**
+   * Batches are fetched in generic ThreadPool rather than sql-worker, so a query waiting for its
+   * next batch can never starve the fetch task. Thread context is preserved by the executor.
+   */
+  @Override
+  public Executor getPrefetchExecutor() {
+    return client.threadPool().executor(ThreadPool.Names.GENERIC);
+  }
+
+  /** Registry of the node, which has the named writeables of all plugins installed. */
+  @Override
+  public NamedWriteableRegistry getNamedWriteableRegistry() {
+    return client.getNamedWriteableRegistry();
+  }
+
   @Override
   public NodeClient getNodeClient() {
     return client;
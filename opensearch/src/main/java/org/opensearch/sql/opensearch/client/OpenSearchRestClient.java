@@ -7,12 +7,14 @@ package org.opensearch.sql.opensearch.client;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +22,8 @@ import org.opensearch.action.admin.cluster.settings.ClusterGetSettingsRequest;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsRequest;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
 import org.opensearch.action.search.ClearScrollRequest;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.indices.CreateIndexRequest;
@@ -30,7 +34,10 @@ import org.opensearch.client.indices.GetMappingsResponse;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.metadata.AliasMetadata;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.search.SearchModule;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.request.OpenSearchPointInTimeRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 
@@ -42,6 +49,9 @@ import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 @RequiredArgsConstructor
 public class OpenSearchRestClient implements OpenSearchClient {
 
+  private static final NamedWriteableRegistry NAMED_WRITEABLE_REGISTRY =
+      new NamedWriteableRegistry(new SearchModule(Settings.EMPTY, List.of()).getNamedWriteables());
+
   /** OpenSearch high level REST client. */
   private final RestHighLevelClient client;
 
@@ -130,6 +140,15 @@ public class OpenSearchRestClient implements OpenSearchClient {
         });
   }
 
+  @Override
+  public String createPit(CreatePitRequest request) {
+    try {
+      return client.createPit(request, RequestOptions.DEFAULT).getId();
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to create point in time with request " + request, e);
+    }
+  }
+
   /**
    * Get the combination of the indices and the alias.
    *
@@ -175,11 +194,15 @@ public class OpenSearchRestClient implements OpenSearchClient {
   @Override
   public void cleanup(OpenSearchRequest request) {
     request.clean(
-        scrollId -> {
+        id -> {
           try {
-            ClearScrollRequest clearRequest = new ClearScrollRequest();
-            clearRequest.addScrollId(scrollId);
-            client.clearScroll(clearRequest, RequestOptions.DEFAULT);
+            if (request instanceof OpenSearchPointInTimeRequest) {
+              client.deletePit(new DeletePitRequest(id), RequestOptions.DEFAULT);
+            } else {
+              ClearScrollRequest clearRequest = new ClearScrollRequest();
+              clearRequest.addScrollId(id);
+              client.clearScroll(clearRequest, RequestOptions.DEFAULT);
+            }
           } catch (IOException e) {
             throw new IllegalStateException(
                 "Failed to clean up resources for search request " + request, e);
@@ -192,6 +215,18 @@ public class OpenSearchRestClient implements OpenSearchClient {
     task.run();
   }
 
+  /** Batches are fetched in the caller thread, the same as {@link #schedule(Runnable)}. */
+  @Override
+  public Executor getPrefetchExecutor() {
+    return MoreExecutors.directExecutor();
+  }
+
+  /** Registry of core search module only, as named writeables of remote plugins are unknown. */
+  @Override
+  public NamedWriteableRegistry getNamedWriteableRegistry() {
+    return NAMED_WRITEABLE_REGISTRY;
+  }
+
   @Override
   public NodeClient getNodeClient() {
     throw new UnsupportedOperationException("Unsupported method.");
@@ -11,6 +11,7 @@ import static org.opensearch.sql.data.type.ExprCoreType.DATE;
 import static org.opensearch.sql.data.type.ExprCoreType.TIME;
 import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 
+import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.TemporalAccessor;
@@ -147,11 +148,29 @@ public class OpenSearchDateType extends OpenSearchDataType {
           .map(DateFormatter::forPattern)
           .toList();
 
+  /** Longest digits parsed as epoch time directly without overflow. */
+  private static final int MAX_EPOCH_DIGITS = 18;
+
   @EqualsAndHashCode.Exclude private final List<String> formats;
 
+  /** First named format, which is tried first to parse a value, or null if none. */
+  @EqualsAndHashCode.Exclude private final FormatNames firstNamedFormat;
+
+  /** Whether a numeric value is epoch time rather than parsed by custom formats. */
+  @EqualsAndHashCode.Exclude private final boolean epochNumeric;
+
+  /** Whether a numeric value is epoch time in seconds. */
+  @EqualsAndHashCode.Exclude private final boolean epochSecond;
+
+  /** Named formatters followed by custom formatters, resolved on first use. */
+  @EqualsAndHashCode.Exclude private transient volatile List<DateFormatter> formatters;
+
   private OpenSearchDateType() {
     super(MappingType.Date);
     this.formats = List.of();
+    this.firstNamedFormat = null;
+    this.epochNumeric = true;
+    this.epochSecond = false;
   }
 
   private OpenSearchDateType(ExprCoreType exprCoreType) {
@@ -167,6 +186,16 @@ public class OpenSearchDateType extends OpenSearchDataType {
   private OpenSearchDateType(String format) {
     super(MappingType.Date);
     this.formats = getFormatList(format);
+    List<FormatNames> namedFormats =
+        formats.stream()
+            .map(FormatNames::forName)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    this.firstNamedFormat = namedFormats.isEmpty() ? null : namedFormats.get(0);
+    this.epochNumeric =
+        formats.isEmpty()
+            || namedFormats.stream().anyMatch(SUPPORTED_NAMED_NUMERIC_FORMATS::contains);
+    this.epochSecond = namedFormats.contains(FormatNames.EPOCH_SECOND);
     this.exprCoreType = getExprTypeFromFormatString(format);
   }
 
@@ -253,9 +282,7 @@ public class OpenSearchDateType extends OpenSearchDataType {
    * @return A ZonedDateTime representing the parsed date/time in UTC, or null if parsing fails.
    */
   public ZonedDateTime getParsedDateTime(String dateTime) {
-    List<DateFormatter> dateFormatters =
-        Stream.concat(this.getAllNamedFormatters().stream(), this.getAllCustomFormatters().stream())
-            .collect(Collectors.toList());
+    List<DateFormatter> dateFormatters = getFormatters();
     ZonedDateTime zonedDateTime = null;
 
     // check if dateFormatters are empty, then set default ones
@@ -275,6 +302,82 @@ public class OpenSearchDateType extends OpenSearchDataType {
     return zonedDateTime;
   }
 
+  /**
+   * Parse a date/time value of the field with the named and custom formatters, tried in the order
+   * of the mapping formats so that a value matching several formats is parsed the same way by all
+   * queries. Digits are parsed as epoch time directly if the first named format is numeric.
+   *
+   * @param dateTime The date/time string to parse.
+   * @return A ZonedDateTime parsed, or null if no formatter can parse it.
+   */
+  public ZonedDateTime parse(String dateTime) {
+    List<DateFormatter> dateFormatters = getFormatters();
+    if (dateFormatters.isEmpty()) {
+      return null;
+    }
+    if (firstNamedFormat != null
+        && SUPPORTED_NAMED_NUMERIC_FORMATS.contains(firstNamedFormat)
+        && isDigits(dateTime)) {
+      long epoch = Long.parseLong(dateTime);
+      return Instant.ofEpochMilli(
+              firstNamedFormat == FormatNames.EPOCH_SECOND ? epoch * 1000 : epoch)
+          .atZone(ZoneOffset.UTC);
+    }
+
+    for (DateFormatter formatter : dateFormatters) {
+      try {
+        return DateFormatters.from(formatter.parse(dateTime));
+      } catch (IllegalArgumentException ignored) {
+        // nothing to do, try another format
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Whether a numeric value of the field is epoch time, which is the case if there is a numeric
+   * named format or no format at all. Otherwise it is parsed by custom formats.
+   *
+   * @return true if numeric value is epoch time
+   */
+  public boolean isEpochNumeric() {
+    return epochNumeric;
+  }
+
+  /**
+   * Convert a numeric value of the field into epoch millis, which is in seconds if the format is
+   * epoch_second.
+   *
+   * @param value numeric value
+   * @return epoch millis
+   */
+  public long toEpochMillis(long value) {
+    return epochSecond ? value * 1000 : value;
+  }
+
+  private List<DateFormatter> getFormatters() {
+    List<DateFormatter> dateFormatters = formatters;
+    if (dateFormatters == null) {
+      dateFormatters =
+          Stream.concat(getAllNamedFormatters().stream(), getAllCustomFormatters().stream())
+              .collect(Collectors.toUnmodifiableList());
+      formatters = dateFormatters;
+    }
+    return dateFormatters;
+  }
+
+  private static boolean isDigits(String value) {
+    if (value.isEmpty() || value.length() > MAX_EPOCH_DIGITS) {
+      return false;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * Returns a formatted date string using the internal formatter, if available.
    *
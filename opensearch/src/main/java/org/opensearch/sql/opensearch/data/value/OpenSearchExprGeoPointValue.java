@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.data.value;
 
+import java.io.Serializable;
 import java.util.Objects;
 import lombok.Data;
 import org.opensearch.sql.data.model.AbstractExprValue;
@@ -51,8 +52,9 @@ public class OpenSearchExprGeoPointValue extends AbstractExprValue {
     return Objects.hashCode(geoPoint);
   }
 
+  /** Serializable so that the value is written by Java serialization when spilled. */
   @Data
-  public static class GeoPoint {
+  public static class GeoPoint implements Serializable {
 
     private final Double lat;
 
@@ -20,28 +20,37 @@ import static org.opensearch.sql.utils.DateTimeFormatters.DATE_TIME_FORMATTER;
 import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_HOUR_MINUTE_SECOND_FORMATTER;
 import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_YEAR_MONTH_DAY_FORMATTER;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
-import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 import lombok.Getter;
 import lombok.Setter;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.document.DocumentField;
 import org.opensearch.common.time.DateFormatter;
 import org.opensearch.common.time.DateFormatters;
-import org.opensearch.common.time.FormatNames;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprByteValue;
 import org.opensearch.sql.data.model.ExprCollectionValue;
@@ -96,6 +105,27 @@ public class OpenSearchExprValueFactory {
 
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+  /** Format of date doc values requested, which keeps the nanoseconds of date_nanos field. */
+  public static final String DOC_VALUE_DATE_FORMAT = "strict_date_optional_time_nanos";
+
+  private static final DateFormatter DOC_VALUE_DATE_FORMATTER =
+      DateFormatter.forPattern(DOC_VALUE_DATE_FORMAT);
+
+  /**
+   * Mapping types of which the doc value is the same as the value in source. For example, the doc
+   * value of half_float or scaled_float field is rounded, and text field has no doc value.
+   */
+  private static final Set<OpenSearchDataType.MappingType> DOC_VALUE_MAPPING_TYPES =
+      EnumSet.of(
+          OpenSearchDataType.MappingType.Keyword,
+          OpenSearchDataType.MappingType.Byte,
+          OpenSearchDataType.MappingType.Short,
+          OpenSearchDataType.MappingType.Integer,
+          OpenSearchDataType.MappingType.Long,
+          OpenSearchDataType.MappingType.Float,
+          OpenSearchDataType.MappingType.Double,
+          OpenSearchDataType.MappingType.Boolean);
+
   private static final Map<ExprType, BiFunction<Content, ExprType, ExprValue>> typeActionMap =
       new ImmutableMap.Builder<ExprType, BiFunction<Content, ExprType, ExprValue>>()
           .put(
@@ -163,17 +193,133 @@ public class OpenSearchExprValueFactory {
    *  </pre>
    */
   public ExprValue construct(String jsonString, boolean supportArrays) {
-    try {
-      return parse(
-          new OpenSearchJsonContent(OBJECT_MAPPER.readTree(jsonString)),
-          TOP_PATH,
-          Optional.of(STRUCT),
-          supportArrays);
-    } catch (JsonProcessingException e) {
+    try (JsonParser parser = OBJECT_MAPPER.createParser(jsonString)) {
+      return parseSource(parser, supportArrays);
+    } catch (IOException e) {
       throw new IllegalStateException(String.format("invalid json: %s.", jsonString), e);
     }
   }
 
+  /**
+   * Construct ExprValue from the source bytes of search hit, without converting it to string
+   * first. Same assumption as {@link #construct(String, boolean)}. Source indexed as other content
+   * type than JSON, such as SMILE or CBOR, is converted to JSON string first.
+   *
+   * @param source source bytes of search hit
+   * @param supportArrays Parsing the whole array if array is type nested.
+   * @return ExprValue
+   */
+  public ExprValue constructFromSource(BytesReference source, boolean supportArrays) {
+    MediaType mediaType = MediaTypeRegistry.xContentType(source);
+    if (mediaType != null && mediaType != XContentType.JSON) {
+      try {
+        return construct(XContentHelper.convertToJson(source, false, mediaType), supportArrays);
+      } catch (IOException e) {
+        throw new IllegalStateException(
+            String.format("invalid %s source.", mediaType.subtype()), e);
+      }
+    }
+    BytesRef bytes = source.toBytesRef();
+    try (JsonParser parser = OBJECT_MAPPER.createParser(bytes.bytes, bytes.offset, bytes.length)) {
+      return parseSource(parser, supportArrays);
+    } catch (IOException e) {
+      throw new IllegalStateException(String.format("invalid json: %s.", source.utf8ToString()), e);
+    }
+  }
+
+  /**
+   * Construct ExprValue from the doc value fields of search hit, which are requested instead of
+   * source if all fields projected are {@link #isDocValueField(String)}. The first value of
+   * multi-valued field is taken as from source, though in the order of doc values.
+   *
+   * @param fields doc value fields of search hit
+   * @return ExprValue
+   */
+  public ExprValue constructFromDocValues(Map<String, DocumentField> fields) {
+    LinkedHashMap<String, ExprValue> result = new LinkedHashMap<>();
+    for (DocumentField field : fields.values()) {
+      Object value = field.getValue();
+      if (value == null) {
+        continue;
+      }
+      OpenSearchDataType type = typeMapping.get(field.getName());
+      if (type instanceof OpenSearchDateType) {
+        result.put(
+            field.getName(),
+            createDateValue(
+                DateFormatters.from(DOC_VALUE_DATE_FORMATTER.parse(value.toString())).toInstant(),
+                type.getExprCoreType()));
+      } else {
+        result.put(
+            field.getName(),
+            parse(new ObjectContent(value), field.getName(), Optional.ofNullable(type), false));
+      }
+    }
+    return new ExprTupleValue(result);
+  }
+
+  /**
+   * Is the value of field read from doc values the same as from source. Only top level field of
+   * date type or {@link #DOC_VALUE_MAPPING_TYPES} is, because the value of inner field of object
+   * would not be in the same struct as from source.
+   *
+   * @param field field name
+   * @return true if the field can be requested as doc value field
+   */
+  public boolean isDocValueField(String field) {
+    OpenSearchDataType type = typeMapping.get(field);
+    return type != null
+        && !field.contains(".")
+        && (type instanceof OpenSearchDateType
+            || DOC_VALUE_MAPPING_TYPES.contains(type.getMappingType()));
+  }
+
+  /**
+   * Format of the doc value field to request.
+   *
+   * @param field field name
+   * @return {@link #DOC_VALUE_DATE_FORMAT} for date field, otherwise null for default format
+   */
+  public String docValueFormat(String field) {
+    return typeMapping.get(field) instanceof OpenSearchDateType ? DOC_VALUE_DATE_FORMAT : null;
+  }
+
+  private ExprValue parseSource(JsonParser parser, boolean supportArrays) throws IOException {
+    parser.nextToken();
+    return parseValue(parser, TOP_PATH, Optional.of(STRUCT), supportArrays);
+  }
+
+  /**
+   * Parse the value at current token of parser. Objects of struct type are parsed field by field
+   * from the token stream, and the value of field not in mapping is skipped without being read.
+   * Any other value is read into a json tree and parsed as before, so arrays and nested values
+   * have the same semantic as {@link #construct(String, boolean)}.
+   */
+  private ExprValue parseValue(
+      JsonParser parser, String field, Optional<ExprType> fieldType, boolean supportArrays)
+      throws IOException {
+    if (fieldType.isEmpty()) {
+      parser.skipChildren();
+      return ExprNullValue.of();
+    }
+
+    if (parser.currentToken() == JsonToken.START_OBJECT && isStruct(fieldType.get())) {
+      LinkedHashMap<String, ExprValue> result = new LinkedHashMap<>();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.currentName();
+        String path = makeField(field, name);
+        parser.nextToken();
+        result.put(name, parseValue(parser, path, type(path), supportArrays));
+      }
+      return new ExprTupleValue(result);
+    }
+    return parse(
+        new OpenSearchJsonContent(OBJECT_MAPPER.readTree(parser)),
+        field,
+        fieldType,
+        supportArrays);
+  }
+
   /**
    * Construct ExprValue from field and its value object. Throw exception if trying to construct
    * from field of unsupported type.<br>
@@ -197,8 +343,7 @@ public class OpenSearchExprValueFactory {
     if (type.equals(OpenSearchDataType.of(OpenSearchDataType.MappingType.Nested))
         || content.isArray()) {
       return parseArray(content, field, type, supportArrays);
-    } else if (type.equals(OpenSearchDataType.of(OpenSearchDataType.MappingType.Object))
-        || type == STRUCT) {
+    } else if (isStruct(type)) {
       return parseStruct(content, field, supportArrays);
     } else {
       if (typeActionMap.containsKey(type)) {
@@ -211,6 +356,11 @@ public class OpenSearchExprValueFactory {
     }
   }
 
+  private static boolean isStruct(ExprType type) {
+    return type.equals(OpenSearchDataType.of(OpenSearchDataType.MappingType.Object))
+        || type == STRUCT;
+  }
+
   /**
    * In OpenSearch, it is possible field doesn't have type definition in mapping. but has empty
    * value. For example, {"empty_field": []}.
@@ -228,25 +378,18 @@ public class OpenSearchExprValueFactory {
    * @return Parsed value
    */
   private static ExprValue parseDateTimeString(String value, OpenSearchDateType dataType) {
-    List<DateFormatter> formatters = dataType.getAllNamedFormatters();
-    formatters.addAll(dataType.getAllCustomFormatters());
     ExprCoreType returnFormat = dataType.getExprCoreType();
 
-    for (DateFormatter formatter : formatters) {
-      try {
-        TemporalAccessor accessor = formatter.parse(value);
-        ZonedDateTime zonedDateTime = DateFormatters.from(accessor);
-        switch (returnFormat) {
-          case TIME:
-            return new ExprTimeValue(zonedDateTime.withZoneSameLocal(ZoneOffset.UTC).toLocalTime());
-          case DATE:
-            return new ExprDateValue(zonedDateTime.withZoneSameLocal(ZoneOffset.UTC).toLocalDate());
-          default:
-            return new ExprTimestampValue(
-                zonedDateTime.withZoneSameLocal(ZoneOffset.UTC).toInstant());
-        }
-      } catch (IllegalArgumentException ignored) {
-        // nothing to do, try another format
+    ZonedDateTime zonedDateTime = dataType.parse(value);
+    if (zonedDateTime != null) {
+      zonedDateTime = zonedDateTime.withZoneSameLocal(ZoneOffset.UTC);
+      switch (returnFormat) {
+        case TIME:
+          return new ExprTimeValue(zonedDateTime.toLocalTime());
+        case DATE:
+          return new ExprDateValue(zonedDateTime.toLocalDate());
+        default:
+          return new ExprTimestampValue(zonedDateTime.toInstant());
       }
     }
 
@@ -275,25 +418,9 @@ public class OpenSearchExprValueFactory {
     OpenSearchDateType dt = (OpenSearchDateType) type;
     ExprCoreType returnFormat = dt.getExprCoreType();
     if (value.isNumber()) { // isNumber
-      var numFormatters = dt.getNumericNamedFormatters();
-      if (numFormatters.size() > 0 || !dt.hasFormats()) {
-        long epochMillis = 0;
-        if (numFormatters.contains(
-            DateFormatter.forPattern(FormatNames.EPOCH_SECOND.getSnakeCaseName()))) {
-          // no CamelCase for `EPOCH_*` formats
-          epochMillis = value.longValue() * 1000;
-        } else /* EPOCH_MILLIS */ {
-          epochMillis = value.longValue();
-        }
-        Instant instant = Instant.ofEpochMilli(epochMillis);
-        switch (returnFormat) {
-          case TIME:
-            return new ExprTimeValue(LocalTime.from(instant.atZone(ZoneOffset.UTC)));
-          case DATE:
-            return new ExprDateValue(LocalDate.ofInstant(instant, ZoneOffset.UTC));
-          default:
-            return new ExprTimestampValue(instant);
-        }
+      if (dt.isEpochNumeric()) {
+        return createDateValue(
+            Instant.ofEpochMilli(dt.toEpochMillis(value.longValue())), returnFormat);
       } else {
         // custom format
         return parseDateTimeString(value.stringValue(), dt);
@@ -306,6 +433,17 @@ public class OpenSearchExprValueFactory {
     return new ExprTimestampValue((Instant) value.objectValue());
   }
 
+  private static ExprValue createDateValue(Instant instant, ExprCoreType returnFormat) {
+    switch (returnFormat) {
+      case TIME:
+        return new ExprTimeValue(LocalTime.from(instant.atZone(ZoneOffset.UTC)));
+      case DATE:
+        return new ExprDateValue(LocalDate.ofInstant(instant, ZoneOffset.UTC));
+      default:
+        return new ExprTimestampValue(instant);
+    }
+  }
+
   /**
    * Parse struct content.
    *
@@ -11,10 +11,12 @@ import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ChunkedResponseListener;
 import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.Explain;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
@@ -24,6 +26,9 @@ import org.opensearch.sql.storage.TableScanOperator;
 @RequiredArgsConstructor
 public class OpenSearchExecutionEngine implements ExecutionEngine {
 
+  /** Number of rows sent to {@link ChunkedResponseListener} at a time. */
+  private static final int CHUNK_SIZE = 1000;
+
   private final OpenSearchClient client;
 
   private final ExecutionProtector executionProtector;
@@ -40,24 +45,29 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
       ExecutionContext context,
       ResponseListener<QueryResponse> listener) {
     PhysicalPlan plan = executionProtector.protect(physicalPlan);
+    ChunkedResponseListener chunkedListener = ChunkedResponseListener.of(listener);
     client.schedule(
         () -> {
           try {
-            List<ExprValue> result = new ArrayList<>();
-
             context.getSplit().ifPresent(plan::add);
             plan.open();
+            chunkedListener.onSchema(physicalPlan.schema());
 
+            List<ExprValue> chunk = new ArrayList<>(CHUNK_SIZE);
             while (plan.hasNext()) {
-              result.add(plan.next());
+              chunk.add(plan.next());
+              if (chunk.size() == CHUNK_SIZE) {
+                chunkedListener.onChunk(chunk);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+              }
+            }
+            if (!chunk.isEmpty()) {
+              chunkedListener.onChunk(chunk);
             }
 
-            QueryResponse response =
-                new QueryResponse(
-                    physicalPlan.schema(), result, planSerializer.convertToCursor(plan));
-            listener.onResponse(response);
+            chunkedListener.onComplete(planSerializer.convertToCursor(plan));
           } catch (Exception e) {
-            listener.onFailure(e);
+            chunkedListener.onFailure(e);
           } finally {
             plan.close();
           }
@@ -69,24 +79,49 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
     client.schedule(
         () -> {
           try {
-            Explain openSearchExplain =
-                new Explain() {
-                  @Override
-                  public ExplainResponseNode visitTableScan(
-                      TableScanOperator node, Object context) {
-                    return explain(
-                        node,
-                        context,
-                        explainNode -> {
-                          explainNode.setDescription(Map.of("request", node.explain()));
-                        });
-                  }
-                };
+            listener.onResponse(explain(plan, null));
+          } catch (Exception e) {
+            listener.onFailure(e);
+          }
+        });
+  }
 
-            listener.onResponse(openSearchExplain.apply(plan));
+  /** Plan is executed to the end with every operator profiled, then explained with the metrics. */
+  @Override
+  public void profile(PhysicalPlan physicalPlan, ResponseListener<ExplainResponse> listener) {
+    QueryProfile profile = new QueryProfile();
+    PhysicalPlan plan = executionProtector.protect(physicalPlan, profile);
+    client.schedule(
+        () -> {
+          try {
+            try {
+              plan.open();
+              while (plan.hasNext()) {
+                plan.next();
+              }
+            } finally {
+              plan.close();
+            }
+            listener.onResponse(explain(plan, profile));
           } catch (Exception e) {
             listener.onFailure(e);
           }
         });
   }
+
+  private ExplainResponse explain(PhysicalPlan plan, QueryProfile profile) {
+    Explain openSearchExplain =
+        new Explain(profile) {
+          @Override
+          public ExplainResponseNode visitTableScan(TableScanOperator node, Object context) {
+            return explain(
+                node,
+                context,
+                explainNode -> {
+                  explainNode.setDescription(Map.of("request", node.explain()));
+                });
+          }
+        };
+    return openSearchExplain.apply(plan);
+  }
 }
@@ -13,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.ThreadContext;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sql.common.utils.QueryContext;
 import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.execution.AbstractPlan;
@@ -42,7 +43,12 @@ public class OpenSearchQueryManager implements QueryManager {
     final Map<String, String> currentContext = ThreadContext.getImmutableContext();
     return () -> {
       ThreadContext.putAll(currentContext);
-      task.run();
+      try {
+        task.run();
+      } finally {
+        // Not to record the phases of other tasks run on the worker thread later
+        QueryContext.clearQueryLanguage();
+      }
     };
   }
 }
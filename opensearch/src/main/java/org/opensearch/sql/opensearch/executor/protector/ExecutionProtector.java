@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.executor.protector;
 
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
 
@@ -13,4 +14,7 @@ public abstract class ExecutionProtector extends PhysicalPlanNodeVisitor<Physica
 
   /** Decorated the PhysicalPlan to run in resource sensitive mode. */
   public abstract PhysicalPlan protect(PhysicalPlan physicalPlan);
+
+  /** Decorated the PhysicalPlan as {@link #protect} and to record runtime metrics in profile. */
+  public abstract PhysicalPlan protect(PhysicalPlan physicalPlan, QueryProfile profile);
 }
@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.executor.protector;
 
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 
 /** No operation execution protector. */
@@ -14,4 +15,10 @@ public class NoopExecutionProtector extends ExecutionProtector {
   public PhysicalPlan protect(PhysicalPlan physicalPlan) {
     return physicalPlan;
   }
+
+  /** Only the plan as a whole is profiled, because operators are not rebuilt. */
+  @Override
+  public PhysicalPlan protect(PhysicalPlan physicalPlan, QueryProfile profile) {
+    return profile.profile(physicalPlan);
+  }
 }
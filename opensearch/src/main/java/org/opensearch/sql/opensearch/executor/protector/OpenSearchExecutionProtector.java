@@ -6,6 +6,9 @@
 package org.opensearch.sql.opensearch.executor.protector;
 
 import lombok.RequiredArgsConstructor;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.planner.physical.ADOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLCommonsOperator;
@@ -23,6 +26,7 @@ import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
 import org.opensearch.sql.planner.physical.RenameOperator;
 import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.TakeOrderedOperator;
 import org.opensearch.sql.planner.physical.ValuesOperator;
 import org.opensearch.sql.planner.physical.WindowOperator;
 import org.opensearch.sql.storage.TableScanOperator;
@@ -34,10 +38,27 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   /** OpenSearch resource monitor. */
   private final ResourceMonitor resourceMonitor;
 
+  /**
+   * Settings to get the sort, aggregation and dedupe memory limits from, they are unbounded if
+   * absent.
+   */
+  private final Settings settings;
+
+  /** Create protector which never spills sort or aggregation to disk. */
+  public OpenSearchExecutionProtector(ResourceMonitor resourceMonitor) {
+    this(resourceMonitor, null);
+  }
+
   public PhysicalPlan protect(PhysicalPlan physicalPlan) {
     return physicalPlan.accept(this, null);
   }
 
+  /** Every operator rebuilt is decorated by the profile, which is passed down as context. */
+  @Override
+  public PhysicalPlan protect(PhysicalPlan physicalPlan, QueryProfile profile) {
+    return profile.profile(physicalPlan.accept(this, profile));
+  }
+
   /**
    * Don't protect {@link CursorCloseOperator} and entire nested tree, because {@link
    * CursorCloseOperator} as designed as no-op.
@@ -52,10 +73,14 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
     return new FilterOperator(visitInput(node.getInput(), context), node.getConditions());
   }
 
+  /** Aggregation is bounded by the aggregation memory limit so that it spills to disk. */
   @Override
   public PhysicalPlan visitAggregation(AggregationOperator node, Object context) {
     return new AggregationOperator(
-        visitInput(node.getInput(), context), node.getAggregatorList(), node.getGroupByExprList());
+        visitInput(node.getInput(), context),
+        node.getAggregatorList(),
+        node.getGroupByExprList(),
+        memoryLimit(Settings.Key.QUERY_AGGREGATION_MEMORY_LIMIT));
   }
 
   @Override
@@ -106,6 +131,7 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
             node.getGroupedPathsAndFields()));
   }
 
+  /** Dedupe is bounded by the dedupe memory limit so that it counts keys approximately past it. */
   @Override
   public PhysicalPlan visitDedupe(DedupeOperator node, Object context) {
     return new DedupeOperator(
@@ -113,7 +139,8 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
         node.getDedupeList(),
         node.getAllowedDuplication(),
         node.getKeepEmpty(),
-        node.getConsecutive());
+        node.getConsecutive(),
+        memoryLimit(Settings.Key.QUERY_DEDUP_MEMORY_LIMIT));
   }
 
   @Override
@@ -124,10 +151,28 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
         node.getWindowDefinition());
   }
 
-  /** Decorate with {@link ResourceMonitorPlan}. */
+  /**
+   * Decorate with {@link ResourceMonitorPlan}. Sort is also bounded by the sort memory limit so
+   * that it spills to disk before the resource monitor terminates the query.
+   */
   @Override
   public PhysicalPlan visitSort(SortOperator node, Object context) {
-    return doProtect(new SortOperator(visitInput(node.getInput(), context), node.getSortList()));
+    return doProtect(
+        new SortOperator(
+            visitInput(node.getInput(), context),
+            node.getSortList(),
+            memoryLimit(Settings.Key.QUERY_SORT_MEMORY_LIMIT)));
+  }
+
+  /** Decorate with {@link ResourceMonitorPlan}. */
+  @Override
+  public PhysicalPlan visitTakeOrdered(TakeOrderedOperator node, Object context) {
+    return doProtect(
+        new TakeOrderedOperator(
+            visitInput(node.getInput(), context),
+            node.getLimit(),
+            node.getOffset(),
+            node.getSortList()));
   }
 
   /**
@@ -178,9 +223,20 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   PhysicalPlan visitInput(PhysicalPlan node, Object context) {
     if (null == node) {
       return node;
-    } else {
-      return node.accept(this, context);
     }
+    PhysicalPlan input = node.accept(this, context);
+    if (context instanceof QueryProfile) {
+      return ((QueryProfile) context).profile(input);
+    }
+    return input;
+  }
+
+  private long memoryLimit(Settings.Key key) {
+    if (settings == null) {
+      return 0L;
+    }
+    ByteSizeValue limit = settings.getSettingValue(key);
+    return limit.getBytes();
   }
 
   protected PhysicalPlan doProtect(PhysicalPlan node) {
@@ -17,6 +17,7 @@ import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.planner.SerializablePlan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.RowBatch;
 
 /** A PhysicalPlan which will run the delegate plan in resource protection manner. */
 @ToString
@@ -33,7 +34,7 @@ public class ResourceMonitorPlan extends PhysicalPlan implements SerializablePla
   /** ResourceMonitor. */
   @ToString.Exclude private final ResourceMonitor monitor;
 
-  /** Count how many calls to delegate's next() already. */
+  /** Count how many rows are loaded by calls to delegate's next() and nextBatch() already. */
   @EqualsAndHashCode.Exclude private long nextCallCount = 0L;
 
   @Override
@@ -73,6 +74,24 @@ public class ResourceMonitorPlan extends PhysicalPlan implements SerializablePla
     return delegate.next();
   }
 
+  /**
+   * Rows of each batch are counted the same as calls to next(), so resource is checked once the
+   * count passes every {@link #NUMBER_OF_NEXT_CALL_TO_CHECK} rows however the rows are batched.
+   */
+  @Override
+  public RowBatch nextBatch() {
+    RowBatch batch = delegate.nextBatch();
+    long previousCount = nextCallCount;
+    nextCallCount += batch.size();
+    boolean shouldCheck =
+        (nextCallCount / NUMBER_OF_NEXT_CALL_TO_CHECK
+            > previousCount / NUMBER_OF_NEXT_CALL_TO_CHECK);
+    if (shouldCheck && !this.monitor.isHealthy()) {
+      throw new IllegalStateException("resource is not enough to load next batch, quit.");
+    }
+    return batch;
+  }
+
   @Override
   public SerializablePlan getPlanForSerialization() {
     return (SerializablePlan) delegate;
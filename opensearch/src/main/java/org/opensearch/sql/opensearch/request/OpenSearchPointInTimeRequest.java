@@ -0,0 +1,184 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+
+/**
+ * OpenSearch point in time search request. Pages are requested by search_after the sort values of
+ * the last hit returned, against a point in time created before the first page. Unlike scroll, a
+ * point in time only keeps the index readers open between pages rather than a search context per
+ * request, so it is cheaper to keep for a paginated query. The sort of the search source must end
+ * with a unique key, otherwise hits with the same sort values may be skipped between pages.
+ */
+@EqualsAndHashCode
+@Getter
+@ToString
+public class OpenSearchPointInTimeRequest implements OpenSearchRequest {
+
+  /** Point in time keep alive, extended by every page search. */
+  private final TimeValue keepAlive;
+
+  /** {@link OpenSearchRequest.IndexName}. */
+  private final IndexName indexName;
+
+  /** Search source of every page, without point in time and search after set. */
+  private final SearchSourceBuilder sourceBuilder;
+
+  /** Factory to build values from search hits. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude
+  private final OpenSearchExprValueFactory exprValueFactory;
+
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final List<String> includes;
+
+  /** Point in time id which is set once created. */
+  @Setter private String pitId;
+
+  /** Sort values of the last hit returned, null before first page. */
+  @Setter private Object[] searchAfter;
+
+  @EqualsAndHashCode.Exclude private boolean needClean = true;
+
+  /** Constructor. */
+  public OpenSearchPointInTimeRequest(
+      IndexName indexName,
+      TimeValue keepAlive,
+      SearchSourceBuilder sourceBuilder,
+      OpenSearchExprValueFactory exprValueFactory,
+      List<String> includes) {
+    this.indexName = indexName;
+    this.keepAlive = keepAlive;
+    this.sourceBuilder = sourceBuilder;
+    this.exprValueFactory = exprValueFactory;
+    this.includes = includes;
+  }
+
+  /**
+   * Create point in time by the given action if not created yet, for example deserialized from
+   * cursor.
+   *
+   * @param createAction action to create point in time and return its id
+   */
+  public void createPit(Function<CreatePitRequest, String> createAction) {
+    if (pitId == null) {
+      pitId = createAction.apply(new CreatePitRequest(keepAlive, false, indexName.getIndexNames()));
+    }
+  }
+
+  @Override
+  public OpenSearchResponse search(
+      Function<SearchRequest, SearchResponse> searchAction,
+      Function<SearchScrollRequest, SearchResponse> scrollAction) {
+    if (pitId == null) {
+      throw new IllegalStateException("Point in time is not created for request " + this);
+    }
+    SearchResponse openSearchResponse = searchAction.apply(searchRequest());
+
+    var response =
+        new OpenSearchResponse(
+            openSearchResponse,
+            exprValueFactory,
+            includes,
+            OpenSearchRequest.requestsDocValueFields(sourceBuilder));
+    needClean = response.isEmpty();
+    if (!needClean) {
+      SearchHit[] hits = openSearchResponse.getHits().getHits();
+      searchAfter = hits[hits.length - 1].getSortValues();
+      if (openSearchResponse.pointInTimeId() != null) {
+        pitId = openSearchResponse.pointInTimeId();
+      }
+    }
+    return response;
+  }
+
+  /**
+   * Generate OpenSearch search request of next page. Offset is only applied to the first page.
+   *
+   * @return search request
+   */
+  public SearchRequest searchRequest() {
+    SearchSourceBuilder pageSource =
+        sourceBuilder
+            .shallowCopy()
+            .pointInTimeBuilder(new PointInTimeBuilder(pitId).setKeepAlive(keepAlive));
+    if (searchAfter != null) {
+      pageSource.from(0).searchAfter(searchAfter);
+    }
+    return new SearchRequest().source(pageSource);
+  }
+
+  @Override
+  public void clean(Consumer<String> cleanAction) {
+    try {
+      // clean on the last page only, to keep the point in time in the middle of paging.
+      if (needClean && pitId != null) {
+        cleanAction.accept(pitId);
+      }
+    } finally {
+      pitId = null;
+      searchAfter = null;
+    }
+  }
+
+  @Override
+  public boolean hasAnotherBatch() {
+    return !needClean && pitId != null;
+  }
+
+  @Override
+  public void writeTo(StreamOutput out) throws IOException {
+    out.writeTimeValue(keepAlive);
+    out.writeString(pitId);
+    sourceBuilder.writeTo(out);
+    out.writeGenericValue(searchAfter);
+    out.writeStringCollection(includes);
+    indexName.writeTo(out);
+  }
+
+  /**
+   * Constructs OpenSearchPointInTimeRequest from serialized representation.
+   *
+   * @param in stream to read data from.
+   * @param engine OpenSearchSqlEngine to get node-specific context.
+   * @throws IOException thrown if reading from input {@code in} fails.
+   */
+  public OpenSearchPointInTimeRequest(StreamInput in, OpenSearchStorageEngine engine)
+      throws IOException {
+    // Queries of plugins in search source are read by the registry of client
+    StreamInput input =
+        new NamedWriteableAwareStreamInput(in, engine.getClient().getNamedWriteableRegistry());
+    keepAlive = input.readTimeValue();
+    pitId = input.readString();
+    sourceBuilder = new SearchSourceBuilder(input);
+    searchAfter = (Object[]) input.readGenericValue();
+    includes = input.readStringList();
+    indexName = new IndexName(input);
+    OpenSearchIndex index = (OpenSearchIndex) engine.getTable(null, indexName.toString());
+    exprValueFactory = new OpenSearchExprValueFactory(index.getFieldOpenSearchTypes());
+  }
+}
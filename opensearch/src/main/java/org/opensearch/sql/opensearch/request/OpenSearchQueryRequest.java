@@ -90,7 +90,8 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
           searchAction.apply(
               new SearchRequest().indices(indexName.getIndexNames()).source(sourceBuilder)),
           exprValueFactory,
-          includes);
+          includes,
+          OpenSearchRequest.requestsDocValueFields(sourceBuilder));
     }
   }
 
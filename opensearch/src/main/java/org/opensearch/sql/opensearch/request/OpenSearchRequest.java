@@ -16,6 +16,7 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 
@@ -58,6 +59,16 @@ public interface OpenSearchRequest extends Writeable {
    */
   boolean hasAnotherBatch();
 
+  /**
+   * Check if doc value fields are requested instead of source, so hits are read from them.
+   *
+   * @param sourceBuilder search request source builder.
+   * @return True if any doc value field is requested.
+   */
+  static boolean requestsDocValueFields(SearchSourceBuilder sourceBuilder) {
+    return sourceBuilder.docValueFields() != null && !sourceBuilder.docValueFields().isEmpty();
+  }
+
   /** OpenSearch Index Name. Indices are separated by ",". */
   @EqualsAndHashCode
   class IndexName implements Writeable {
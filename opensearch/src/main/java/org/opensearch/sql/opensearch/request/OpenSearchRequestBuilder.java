@@ -11,6 +11,8 @@ import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
 import static org.opensearch.index.query.QueryBuilders.nestedQuery;
 import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
 import static org.opensearch.search.sort.SortOrder.ASC;
+import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATAFIELD_TYPE_MAP;
+import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIELD_ID;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -20,6 +22,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -34,8 +37,10 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.search.sort.SortBuilder;
 import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.sql.ast.expression.Literal;
@@ -67,10 +72,22 @@ public class OpenSearchRequestBuilder {
 
   private int startFrom = 0;
 
+  /** Is projected fields requested as doc value fields instead of source if possible. */
+  private final boolean docValueFieldsEnabled;
+
   /** Constructor. */
   public OpenSearchRequestBuilder(
       int requestedTotalSize, OpenSearchExprValueFactory exprValueFactory) {
+    this(requestedTotalSize, exprValueFactory, false);
+  }
+
+  /** Constructor with doc value fields enabled or not. */
+  public OpenSearchRequestBuilder(
+      int requestedTotalSize,
+      OpenSearchExprValueFactory exprValueFactory,
+      boolean docValueFieldsEnabled) {
     this.requestedTotalSize = requestedTotalSize;
+    this.docValueFieldsEnabled = docValueFieldsEnabled;
     this.sourceBuilder =
         new SearchSourceBuilder()
             .from(startFrom)
@@ -86,17 +103,50 @@ public class OpenSearchRequestBuilder {
    */
   public OpenSearchRequest build(
       OpenSearchRequest.IndexName indexName, int maxResultWindow, TimeValue scrollTimeout) {
+    return build(indexName, maxResultWindow, scrollTimeout, 1, false);
+  }
+
+  /**
+   * Build DSL request. A scroll request of non-paginated query without sort and offset is split
+   * into the given number of slices to be searched concurrently. Otherwise, a point in time request
+   * is built instead of scroll request if enabled.
+   *
+   * @return query request, scroll request, sliced scroll request or point in time request
+   */
+  public OpenSearchRequest build(
+      OpenSearchRequest.IndexName indexName,
+      int maxResultWindow,
+      TimeValue scrollTimeout,
+      int slices,
+      boolean pointInTime) {
     int size = requestedTotalSize;
     FetchSourceContext fetchSource = this.sourceBuilder.fetchSource();
     List<String> includes = fetchSource != null ? Arrays.asList(fetchSource.includes()) : List.of();
     if (pageSize == null) {
-      if (startFrom + size > maxResultWindow) {
+      // Collapsed hits cannot be scrolled, so at most max result window of them are searched
+      if (startFrom + size > maxResultWindow && sourceBuilder.collapse() == null) {
         sourceBuilder.size(maxResultWindow - startFrom);
+        if (slices > 1 && startFrom == 0 && (sourceBuilder.sorts() == null || isSortByDocOnly())) {
+          return new OpenSearchSlicedScrollRequest(
+              IntStream.range(0, slices)
+                  .mapToObj(
+                      id ->
+                          new OpenSearchScrollRequest(
+                              indexName,
+                              scrollTimeout,
+                              sourceBuilder.copyWithNewSlice(new SliceBuilder(id, slices)),
+                              exprValueFactory,
+                              includes))
+                  .collect(Collectors.toList()));
+        }
+        if (pointInTime) {
+          return buildPointInTimeRequest(indexName, scrollTimeout, includes);
+        }
         return new OpenSearchScrollRequest(
             indexName, scrollTimeout, sourceBuilder, exprValueFactory, includes);
       } else {
         sourceBuilder.from(startFrom);
-        sourceBuilder.size(requestedTotalSize);
+        sourceBuilder.size(Math.min(requestedTotalSize, maxResultWindow - startFrom));
         return new OpenSearchQueryRequest(indexName, sourceBuilder, exprValueFactory, includes);
       }
     } else {
@@ -104,11 +154,32 @@ public class OpenSearchRequestBuilder {
         throw new UnsupportedOperationException("Non-zero offset is not supported with pagination");
       }
       sourceBuilder.size(pageSize);
+      if (pointInTime) {
+        return buildPointInTimeRequest(indexName, scrollTimeout, includes);
+      }
       return new OpenSearchScrollRequest(
           indexName, scrollTimeout, sourceBuilder, exprValueFactory, includes);
     }
   }
 
+  /**
+   * Search after the last hit requires sort ending with a key unique across shards, so _id is
+   * appended. _doc alone is unique only within a shard, and hits of other shards tied with the last
+   * hit of a page would be skipped.
+   */
+  private OpenSearchPointInTimeRequest buildPointInTimeRequest(
+      OpenSearchRequest.IndexName indexName, TimeValue keepAlive, List<String> includes) {
+    if (sourceBuilder.sorts() == null) {
+      sourceBuilder.sort(DOC_FIELD_NAME, ASC);
+    }
+    List<SortBuilder<?>> sorts = sourceBuilder.sorts();
+    if (!sorts.get(sorts.size() - 1).equals(SortBuilders.fieldSort(METADATA_FIELD_ID))) {
+      sourceBuilder.sort(METADATA_FIELD_ID, ASC);
+    }
+    return new OpenSearchPointInTimeRequest(
+        indexName, keepAlive, sourceBuilder, exprValueFactory, includes);
+  }
+
   boolean isBoolFilterQuery(QueryBuilder current) {
     return (current instanceof BoolQueryBuilder);
   }
@@ -171,6 +242,17 @@ public class OpenSearchRequestBuilder {
     sourceBuilder.from(offset).size(limit);
   }
 
+  /**
+   * Push down field collapsing to DSL request, which keeps the first hit of each value of the
+   * field. Hits without the field are filtered out instead of being collapsed together.
+   *
+   * @param field name of keyword or numeric field
+   */
+  public void pushDownCollapse(String field) {
+    pushDownFilter(QueryBuilders.existsQuery(field));
+    sourceBuilder.collapse(new CollapseBuilder(field));
+  }
+
   public void pushDownTrackedScore(boolean trackScores) {
     sourceBuilder.trackScores(trackScores);
   }
@@ -217,11 +299,27 @@ public class OpenSearchRequestBuilder {
     }
   }
 
-  /** Push down project list to DSL requests. */
+  /**
+   * Push down project list to DSL requests. If enabled and all fields projected except metadata
+   * fields have doc values, they are requested as doc value fields and source is not fetched.
+   */
   public void pushDownProjects(Set<ReferenceExpression> projects) {
-    sourceBuilder.fetchSource(
-        projects.stream().map(ReferenceExpression::getAttr).distinct().toArray(String[]::new),
-        new String[0]);
+    String[] includes =
+        projects.stream().map(ReferenceExpression::getAttr).distinct().toArray(String[]::new);
+    List<String> docValueFields =
+        Arrays.stream(includes)
+            .filter(field -> !METADATAFIELD_TYPE_MAP.containsKey(field))
+            .collect(Collectors.toList());
+    if (docValueFieldsEnabled
+        && !docValueFields.isEmpty()
+        && docValueFields.stream().allMatch(exprValueFactory::isDocValueField)) {
+      // Includes are kept to build metadata fields of response
+      sourceBuilder.fetchSource(new FetchSourceContext(false, includes, new String[0]));
+      docValueFields.forEach(
+          field -> sourceBuilder.docValueField(field, exprValueFactory.docValueFormat(field)));
+    } else {
+      sourceBuilder.fetchSource(includes, new String[0]);
+    }
   }
 
   public void pushTypeMapping(Map<String, OpenSearchDataType> typeMapping) {
@@ -102,7 +102,14 @@ public class OpenSearchScrollRequest implements OpenSearchRequest {
       openSearchResponse = searchAction.apply(initialSearchRequest);
     }
 
-    var response = new OpenSearchResponse(openSearchResponse, exprValueFactory, includes);
+    // Doc value fields are only pushed down to a scan without pagination, which is never serialized
+    var response =
+        new OpenSearchResponse(
+            openSearchResponse,
+            exprValueFactory,
+            includes,
+            initialSearchRequest != null
+                && OpenSearchRequest.requestsDocValueFields(initialSearchRequest.source()));
     needClean = response.isEmpty();
     if (!needClean) {
       setScrollId(openSearchResponse.getScrollId());
@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+
+/**
+ * OpenSearch sliced scroll search request. The search is split into independent scroll requests,
+ * one per slice, which are searched concurrently by the index scan and their results are merged in
+ * no particular order. So it is only built for a scan without sort requested. Searched as a whole,
+ * the slices are used up one after another instead.
+ */
+@EqualsAndHashCode
+@Getter
+@ToString
+public class OpenSearchSlicedScrollRequest implements OpenSearchRequest {
+
+  /** Scroll request of each slice. */
+  private final List<OpenSearchScrollRequest> slices;
+
+  /** Slice searched by {@link #search}, all slices before it are used up. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private int current = 0;
+
+  /** Constructor. */
+  public OpenSearchSlicedScrollRequest(List<OpenSearchScrollRequest> slices) {
+    this.slices = slices;
+  }
+
+  /**
+   * Constructs OpenSearchSlicedScrollRequest from serialized representation.
+   *
+   * @param in stream to read data from.
+   * @param engine OpenSearchSqlEngine to get node-specific context.
+   * @throws IOException thrown if reading from input {@code in} fails.
+   */
+  public OpenSearchSlicedScrollRequest(StreamInput in, OpenSearchStorageEngine engine)
+      throws IOException {
+    current = in.readVInt();
+    slices = in.readList(slice -> new OpenSearchScrollRequest(slice, engine));
+  }
+
+  /**
+   * Search the current slice, moving on to the next one once it is used up. The index scan
+   * searches the slices concurrently on its own instead.
+   */
+  @Override
+  public OpenSearchResponse search(
+      Function<SearchRequest, SearchResponse> searchAction,
+      Function<SearchScrollRequest, SearchResponse> scrollAction) {
+    OpenSearchResponse response = slices.get(current).search(searchAction, scrollAction);
+    while (response.isEmpty() && current < slices.size() - 1) {
+      current++;
+      response = slices.get(current).search(searchAction, scrollAction);
+    }
+    return response;
+  }
+
+  @Override
+  public void clean(Consumer<String> cleanAction) {
+    slices.forEach(slice -> slice.clean(cleanAction));
+  }
+
+  @Override
+  public OpenSearchExprValueFactory getExprValueFactory() {
+    return slices.get(0).getExprValueFactory();
+  }
+
+  @Override
+  public boolean hasAnotherBatch() {
+    return slices.stream().anyMatch(OpenSearchScrollRequest::hasAnotherBatch);
+  }
+
+  /**
+   * Writes the current slice followed by all slices. Sliced scroll is not built for paginated
+   * query, so it is never written to a cursor by the index scan.
+   */
+  @Override
+  public void writeTo(StreamOutput out) throws IOException {
+    out.writeVInt(current);
+    out.writeCollection(slices);
+  }
+}
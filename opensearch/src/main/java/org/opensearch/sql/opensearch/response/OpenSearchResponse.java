@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.opensearch.response;
 
+import static org.opensearch.sql.data.model.ExprValueUtils.putUnique;
 import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATAFIELD_TYPE_MAP;
 import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIELD_ID;
 import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIELD_INDEX;
@@ -13,15 +14,16 @@ import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIE
 import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIELD_SCORE;
 import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIELD_SORT;
 
-import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.text.Text;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
@@ -51,15 +53,32 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
   /** OpenSearchExprValueFactory used to build ExprValue from search result. */
   @EqualsAndHashCode.Exclude private final OpenSearchExprValueFactory exprValueFactory;
 
+  /** Time OpenSearch took to execute the search, null if unknown. */
+  @EqualsAndHashCode.Exclude @ToString.Exclude private final TimeValue took;
+
+  /** Are doc value fields requested instead of source, so hits are read from them. */
+  @EqualsAndHashCode.Exclude private final boolean docValueFields;
+
   /** Constructor of OpenSearchResponse. */
   public OpenSearchResponse(
       SearchResponse searchResponse,
       OpenSearchExprValueFactory exprValueFactory,
       List<String> includes) {
+    this(searchResponse, exprValueFactory, includes, false);
+  }
+
+  /** Constructor of OpenSearchResponse to a request with doc value fields requested or not. */
+  public OpenSearchResponse(
+      SearchResponse searchResponse,
+      OpenSearchExprValueFactory exprValueFactory,
+      List<String> includes,
+      boolean docValueFields) {
     this.hits = searchResponse.getHits();
     this.aggregations = searchResponse.getAggregations();
     this.exprValueFactory = exprValueFactory;
     this.includes = includes;
+    this.took = searchResponse.getTook();
+    this.docValueFields = docValueFields;
   }
 
   /** Constructor of OpenSearchResponse with SearchHits. */
@@ -69,6 +88,8 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     this.aggregations = null;
     this.exprValueFactory = exprValueFactory;
     this.includes = includes;
+    this.took = null;
+    this.docValueFields = false;
   }
 
   /**
@@ -81,6 +102,30 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     return (hits.getHits() == null) || (hits.getHits().length == 0) && aggregations == null;
   }
 
+  /**
+   * Get time in milliseconds OpenSearch took to execute the search.
+   *
+   * @return took time, 0 if unknown
+   */
+  public long getTookMillis() {
+    return took == null ? 0L : took.millis();
+  }
+
+  /**
+   * Get size in bytes of the source of all hits.
+   *
+   * @return source size
+   */
+  public long getSourceBytes() {
+    long bytes = 0L;
+    if (hits.getHits() != null) {
+      for (SearchHit hit : hits.getHits()) {
+        bytes += (hit.getSourceRef() == null) ? 0 : hit.getSourceRef().length();
+      }
+    }
+    return bytes;
+  }
+
   public boolean isAggregationResponse() {
     return aggregations != null;
   }
@@ -94,89 +139,98 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     if (isAggregationResponse()) {
       return handleAggregationResponse();
     } else {
+      List<String> metaDataFieldSet =
+          includes.stream()
+              .filter(METADATAFIELD_TYPE_MAP::containsKey)
+              .collect(Collectors.toList());
+      // Each row is built in one map owned by the tuple value, instead of a builder copied again
       return Arrays.stream(hits.getHits())
           .map(
               hit -> {
-                ImmutableMap.Builder<String, ExprValue> builder = new ImmutableMap.Builder<>();
-                addParsedHitsToBuilder(builder, hit);
-                addMetaDataFieldsToBuilder(builder, hit);
-                addHighlightsToBuilder(builder, hit);
-                return (ExprValue) ExprTupleValue.fromExprValueMap(builder.build());
+                LinkedHashMap<String, ExprValue> valueMap = new LinkedHashMap<>();
+                addParsedHitsToBuilder(valueMap, hit);
+                addMetaDataFieldsToBuilder(valueMap, hit, metaDataFieldSet);
+                addHighlightsToBuilder(valueMap, hit);
+                return (ExprValue) new ExprTupleValue(valueMap);
               })
           .iterator();
     }
   }
 
   /**
-   * Parse response for all hits to add to builder. Inner_hits supports arrays of objects with
-   * nested type.
+   * Parse response for all hits to add to map. Inner_hits supports arrays of objects with
+   * nested type. Doc value fields are parsed instead if they are requested and source is not
+   * fetched.
    *
-   * @param builder builder to build values from response.
+   * @param valueMap map to build values from response.
    * @param hit Search hit from response.
    */
-  private void addParsedHitsToBuilder(
-      ImmutableMap.Builder<String, ExprValue> builder, SearchHit hit) {
-    builder.putAll(
+  private void addParsedHitsToBuilder(Map<String, ExprValue> valueMap, SearchHit hit) {
+    if (docValueFields && hit.getSourceRef() == null) {
+      valueMap.putAll(
+          exprValueFactory.constructFromDocValues(hit.getDocumentFields()).tupleValue());
+      return;
+    }
+    valueMap.putAll(
         exprValueFactory
-            .construct(
-                hit.getSourceAsString(),
+            .constructFromSource(
+                hit.getSourceRef(),
                 !(hit.getInnerHits() == null || hit.getInnerHits().isEmpty()))
             .tupleValue());
   }
 
   /**
-   * If highlight fields are present in response add the fields to the builder.
+   * If highlight fields are present in response add the fields to the map.
    *
-   * @param builder builder to build values from response.
+   * @param valueMap map to build values from response.
    * @param hit Search hit from response.
    */
-  private void addHighlightsToBuilder(
-      ImmutableMap.Builder<String, ExprValue> builder, SearchHit hit) {
+  private void addHighlightsToBuilder(Map<String, ExprValue> valueMap, SearchHit hit) {
     if (!hit.getHighlightFields().isEmpty()) {
-      var hlBuilder = ImmutableMap.<String, ExprValue>builder();
+      LinkedHashMap<String, ExprValue> hlMap = new LinkedHashMap<>();
       for (var es : hit.getHighlightFields().entrySet()) {
-        hlBuilder.put(
+        hlMap.put(
             es.getKey(),
             ExprValueUtils.collectionValue(
                 Arrays.stream(es.getValue().fragments())
                     .map(Text::toString)
                     .collect(Collectors.toList())));
       }
-      builder.put("_highlight", ExprTupleValue.fromExprValueMap(hlBuilder.build()));
+      putUnique(valueMap, "_highlight", new ExprTupleValue(hlMap));
     }
   }
 
   /**
-   * Add metadata fields to builder from response.
+   * Add metadata fields to map from response.
    *
-   * @param builder builder to build values from response.
+   * @param valueMap map to build values from response.
    * @param hit Search hit from response.
+   * @param metaDataFieldSet metadata fields requested.
    */
   private void addMetaDataFieldsToBuilder(
-      ImmutableMap.Builder<String, ExprValue> builder, SearchHit hit) {
-    List<String> metaDataFieldSet =
-        includes.stream().filter(METADATAFIELD_TYPE_MAP::containsKey).collect(Collectors.toList());
+      Map<String, ExprValue> valueMap, SearchHit hit, List<String> metaDataFieldSet) {
     ExprFloatValue maxScore =
         Float.isNaN(hits.getMaxScore()) ? null : new ExprFloatValue(hits.getMaxScore());
 
     metaDataFieldSet.forEach(
         metaDataField -> {
           if (metaDataField.equals(METADATA_FIELD_INDEX)) {
-            builder.put(METADATA_FIELD_INDEX, new ExprStringValue(hit.getIndex()));
+            putUnique(valueMap, METADATA_FIELD_INDEX, new ExprStringValue(hit.getIndex()));
           } else if (metaDataField.equals(METADATA_FIELD_ID)) {
-            builder.put(METADATA_FIELD_ID, new ExprStringValue(hit.getId()));
+            putUnique(valueMap, METADATA_FIELD_ID, new ExprStringValue(hit.getId()));
           } else if (metaDataField.equals(METADATA_FIELD_SCORE)) {
             if (!Float.isNaN(hit.getScore())) {
-              builder.put(METADATA_FIELD_SCORE, new ExprFloatValue(hit.getScore()));
+              putUnique(valueMap, METADATA_FIELD_SCORE, new ExprFloatValue(hit.getScore()));
             }
           } else if (metaDataField.equals(METADATA_FIELD_MAXSCORE)) {
             if (maxScore != null) {
-              builder.put(METADATA_FIELD_MAXSCORE, maxScore);
+              putUnique(valueMap, METADATA_FIELD_MAXSCORE, maxScore);
             }
           } else if (metaDataField.equals(METADATA_FIELD_SORT)) {
-            builder.put(METADATA_FIELD_SORT, new ExprLongValue(hit.getSeqNo()));
+            putUnique(valueMap, METADATA_FIELD_SORT, new ExprLongValue(hit.getSeqNo()));
           } else { // if (metaDataField.equals(METADATA_FIELD_ROUTING)){
-            builder.put(METADATA_FIELD_ROUTING, new ExprStringValue(hit.getShard().toString()));
+            putUnique(
+                valueMap, METADATA_FIELD_ROUTING, new ExprStringValue(hit.getShard().toString()));
           }
         });
   }
@@ -190,13 +244,13 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     return exprValueFactory.getParser().parse(aggregations).stream()
         .map(
             entry -> {
-              ImmutableMap.Builder<String, ExprValue> builder = new ImmutableMap.Builder<>();
+              LinkedHashMap<String, ExprValue> valueMap = new LinkedHashMap<>();
               for (Map.Entry<String, Object> value : entry.entrySet()) {
-                builder.put(
+                valueMap.put(
                     value.getKey(),
                     exprValueFactory.construct(value.getKey(), value.getValue(), false));
               }
-              return (ExprValue) ExprTupleValue.fromExprValueMap(builder.build());
+              return (ExprValue) new ExprTupleValue(valueMap);
             })
         .iterator();
   }
@@ -70,6 +70,13 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> SQL_JOIN_MEMORY_LIMIT_SETTING =
+      Setting.memorySizeSetting(
+          Key.SQL_JOIN_MEMORY_LIMIT.getKeyValue(),
+          "5%",
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> PPL_ENABLED_SETTING =
       Setting.boolSetting(
           Key.PPL_ENABLED.getKeyValue(),
@@ -95,6 +102,71 @@ public class OpenSearchSettings extends Settings {
           Setting.Property.NodeScope,
           Setting.Property.Dynamic);
 
+  public static final Setting<?> QUERY_PREFETCH_DEPTH_SETTING =
+      Setting.intSetting(
+          Key.QUERY_PREFETCH_DEPTH.getKeyValue(),
+          0,
+          0,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_SLICES_SETTING =
+      Setting.intSetting(
+          Key.QUERY_SCAN_SLICES.getKeyValue(),
+          1,
+          1,
+          1024,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_POINT_IN_TIME_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.QUERY_POINT_IN_TIME_ENABLED.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_DOCVALUE_FIELDS_ENABLED_SETTING =
+      Setting.boolSetting(
+          Key.QUERY_DOCVALUE_FIELDS_ENABLED.getKeyValue(),
+          false,
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SORT_MEMORY_LIMIT_SETTING =
+      Setting.memorySizeSetting(
+          Key.QUERY_SORT_MEMORY_LIMIT.getKeyValue(),
+          "5%",
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_AGGREGATION_MEMORY_LIMIT_SETTING =
+      Setting.memorySizeSetting(
+          Key.QUERY_AGGREGATION_MEMORY_LIMIT.getKeyValue(),
+          "5%",
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_DEDUP_MEMORY_LIMIT_SETTING =
+      Setting.memorySizeSetting(
+          Key.QUERY_DEDUP_MEMORY_LIMIT.getKeyValue(),
+          "0",
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
+  public static final Setting<String> QUERY_SCRIPT_SERIALIZATION_FORMAT_SETTING =
+      Setting.simpleString(
+          Key.QUERY_SCRIPT_SERIALIZATION_FORMAT.getKeyValue(),
+          "java",
+          value -> {
+            if (!"java".equals(value) && !"compact".equals(value)) {
+              throw new IllegalArgumentException(
+                  "Script serialization format must be java or compact, but was " + value);
+            }
+          },
+          Setting.Property.NodeScope,
+          Setting.Property.Dynamic);
+
   public static final Setting<?> METRICS_ROLLING_WINDOW_SETTING =
       Setting.longSetting(
           Key.METRICS_ROLLING_WINDOW.getKeyValue(),
@@ -236,6 +308,12 @@ public class OpenSearchSettings extends Settings {
         Key.SQL_DELETE_ENABLED,
         SQL_DELETE_ENABLED_SETTING,
         new Updater(Key.SQL_DELETE_ENABLED));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.SQL_JOIN_MEMORY_LIMIT,
+        SQL_JOIN_MEMORY_LIMIT_SETTING,
+        new Updater(Key.SQL_JOIN_MEMORY_LIMIT));
     register(
         settingBuilder,
         clusterSettings,
@@ -254,6 +332,54 @@ public class OpenSearchSettings extends Settings {
         Key.QUERY_SIZE_LIMIT,
         QUERY_SIZE_LIMIT_SETTING,
         new Updater(Key.QUERY_SIZE_LIMIT));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_PREFETCH_DEPTH,
+        QUERY_PREFETCH_DEPTH_SETTING,
+        new Updater(Key.QUERY_PREFETCH_DEPTH));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SCAN_SLICES,
+        QUERY_SCAN_SLICES_SETTING,
+        new Updater(Key.QUERY_SCAN_SLICES));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_POINT_IN_TIME_ENABLED,
+        QUERY_POINT_IN_TIME_ENABLED_SETTING,
+        new Updater(Key.QUERY_POINT_IN_TIME_ENABLED));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_DOCVALUE_FIELDS_ENABLED,
+        QUERY_DOCVALUE_FIELDS_ENABLED_SETTING,
+        new Updater(Key.QUERY_DOCVALUE_FIELDS_ENABLED));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SORT_MEMORY_LIMIT,
+        QUERY_SORT_MEMORY_LIMIT_SETTING,
+        new Updater(Key.QUERY_SORT_MEMORY_LIMIT));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_AGGREGATION_MEMORY_LIMIT,
+        QUERY_AGGREGATION_MEMORY_LIMIT_SETTING,
+        new Updater(Key.QUERY_AGGREGATION_MEMORY_LIMIT));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_DEDUP_MEMORY_LIMIT,
+        QUERY_DEDUP_MEMORY_LIMIT_SETTING,
+        new Updater(Key.QUERY_DEDUP_MEMORY_LIMIT));
+    register(
+        settingBuilder,
+        clusterSettings,
+        Key.QUERY_SCRIPT_SERIALIZATION_FORMAT,
+        QUERY_SCRIPT_SERIALIZATION_FORMAT_SETTING,
+        new Updater(Key.QUERY_SCRIPT_SERIALIZATION_FORMAT));
     register(
         settingBuilder,
         clusterSettings,
@@ -396,9 +522,18 @@ public class OpenSearchSettings extends Settings {
         .add(SQL_SLOWLOG_SETTING)
         .add(SQL_CURSOR_KEEP_ALIVE_SETTING)
         .add(SQL_DELETE_ENABLED_SETTING)
+        .add(SQL_JOIN_MEMORY_LIMIT_SETTING)
         .add(PPL_ENABLED_SETTING)
         .add(QUERY_MEMORY_LIMIT_SETTING)
         .add(QUERY_SIZE_LIMIT_SETTING)
+        .add(QUERY_PREFETCH_DEPTH_SETTING)
+        .add(QUERY_SCAN_SLICES_SETTING)
+        .add(QUERY_POINT_IN_TIME_ENABLED_SETTING)
+        .add(QUERY_DOCVALUE_FIELDS_ENABLED_SETTING)
+        .add(QUERY_SORT_MEMORY_LIMIT_SETTING)
+        .add(QUERY_AGGREGATION_MEMORY_LIMIT_SETTING)
+        .add(QUERY_DEDUP_MEMORY_LIMIT_SETTING)
+        .add(QUERY_SCRIPT_SERIALIZATION_FORMAT_SETTING)
         .add(METRICS_ROLLING_WINDOW_SETTING)
         .add(METRICS_ROLLING_INTERVAL_SETTING)
         .add(DATASOURCE_URI_HOSTS_DENY_LIST)
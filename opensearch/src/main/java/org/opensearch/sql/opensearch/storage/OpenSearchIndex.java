@@ -26,6 +26,9 @@ import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.request.system.OpenSearchDescribeIndexRequest;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScanBuilder;
+import org.opensearch.sql.opensearch.storage.serialization.CompactExpressionSerializer;
+import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 import org.opensearch.sql.planner.DefaultImplementor;
 import org.opensearch.sql.planner.logical.LogicalAD;
 import org.opensearch.sql.planner.logical.LogicalML;
@@ -163,14 +166,27 @@ public class OpenSearchIndex implements Table {
     final int querySizeLimit = settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT);
 
     final TimeValue cursorKeepAlive = settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE);
-    var builder = new OpenSearchRequestBuilder(querySizeLimit, createExprValueFactory());
+    final int prefetchDepth = settings.getSettingValue(Settings.Key.QUERY_PREFETCH_DEPTH);
+    final int slices = settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES);
+    final boolean pointInTime = settings.getSettingValue(Settings.Key.QUERY_POINT_IN_TIME_ENABLED);
+    final boolean docValueFields =
+        settings.getSettingValue(Settings.Key.QUERY_DOCVALUE_FIELDS_ENABLED);
+    var builder =
+        new OpenSearchRequestBuilder(querySizeLimit, createExprValueFactory(), docValueFields);
+    final ExpressionSerializer serializer =
+        "compact".equals(settings.getSettingValue(Settings.Key.QUERY_SCRIPT_SERIALIZATION_FORMAT))
+            ? new CompactExpressionSerializer()
+            : new DefaultExpressionSerializer();
     Function<OpenSearchRequestBuilder, OpenSearchIndexScan> createScanOperator =
         requestBuilder ->
             new OpenSearchIndexScan(
                 client,
                 requestBuilder.getMaxResponseSize(),
-                requestBuilder.build(indexName, getMaxResultWindow(), cursorKeepAlive));
-    return new OpenSearchIndexScanBuilder(builder, createScanOperator);
+                requestBuilder.build(
+                    indexName, getMaxResultWindow(), cursorKeepAlive, slices, pointInTime),
+                prefetchDepth);
+    return new OpenSearchIndexScanBuilder(
+        builder, serializer, this::getMaxResultWindow, createScanOperator);
   }
 
   private OpenSearchExprValueFactory createExprValueFactory() {
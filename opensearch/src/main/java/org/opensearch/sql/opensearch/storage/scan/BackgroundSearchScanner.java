@@ -0,0 +1,193 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * Fetches search result batches ahead of the consumer. Scroll pages have to be requested one after
+ * another since each page depends on the scroll id returned by the previous one, so the fetches
+ * are chained on the executor and at most {@code prefetchDepth} batches are requested or buffered
+ * at any time.
+ *
+ * <p>Fetching stops as soon as {@code maxResponseSize} rows have been fetched. This guarantees the
+ * request is never advanced past the rows handed out to the consumer when it is serialized into a
+ * cursor. Scanners sharing the same counter of fetched rows stop once {@code maxResponseSize}
+ * rows have been fetched by all of them together.
+ */
+public class BackgroundSearchScanner {
+
+  /** OpenSearch client. */
+  private final OpenSearchClient client;
+
+  /** Search request. */
+  private final OpenSearchRequest request;
+
+  /** Executor the batches are fetched on. */
+  private final Executor executor;
+
+  /** Largest number of batches requested or buffered ahead of the consumer. */
+  private final int prefetchDepth;
+
+  /** Largest number of rows allowed in the response. */
+  private final int maxResponseSize;
+
+  /** Metrics to record the responses fetched in. */
+  private final SearchMetrics metrics;
+
+  /** Batches requested so far, in the order they are consumed. */
+  private final Deque<CompletableFuture<List<ExprValue>>> batches = new ArrayDeque<>();
+
+  /** Last batch requested, the next fetch has to wait for it to complete. */
+  private CompletableFuture<List<ExprValue>> lastBatch;
+
+  /** Number of rows fetched so far, possibly shared with the scanners of other slices. */
+  private final AtomicInteger fetchedRows;
+
+  /**
+   * No more batch to fetch. Only accessed by fetch tasks which never run concurrently as each of
+   * them waits for the previous one.
+   */
+  private boolean exhausted = false;
+
+  /** Stop fetching, set by the consumer on close. */
+  private volatile boolean stopped = false;
+
+  /** Constructor. */
+  public BackgroundSearchScanner(
+      OpenSearchClient client,
+      OpenSearchRequest request,
+      Executor executor,
+      int prefetchDepth,
+      int maxResponseSize) {
+    this(client, request, executor, prefetchDepth, maxResponseSize, new SearchMetrics());
+  }
+
+  /** Constructor with metrics to record the responses fetched in. */
+  public BackgroundSearchScanner(
+      OpenSearchClient client,
+      OpenSearchRequest request,
+      Executor executor,
+      int prefetchDepth,
+      int maxResponseSize,
+      SearchMetrics metrics) {
+    this(client, request, executor, prefetchDepth, maxResponseSize, metrics, new AtomicInteger());
+  }
+
+  /** Constructor with counter of the rows fetched by all scanners sharing it. */
+  public BackgroundSearchScanner(
+      OpenSearchClient client,
+      OpenSearchRequest request,
+      Executor executor,
+      int prefetchDepth,
+      int maxResponseSize,
+      SearchMetrics metrics,
+      AtomicInteger fetchedRows) {
+    this.client = client;
+    this.request = request;
+    this.executor = executor;
+    this.prefetchDepth = prefetchDepth;
+    this.maxResponseSize = maxResponseSize;
+    this.metrics = metrics;
+    this.fetchedRows = fetchedRows;
+  }
+
+  /** Start fetching batches in background, counting the rows fetched from the constructor on. */
+  public void open() {
+    stopped = false;
+    exhausted = false;
+    lastBatch = null;
+    batches.clear();
+    scheduleFetches();
+  }
+
+  /**
+   * Get the next batch, blocking until it is fetched.
+   *
+   * @return iterator of the rows in next batch, empty iterator if there is no more batch
+   */
+  public Iterator<ExprValue> fetchNextBatch() {
+    CompletableFuture<List<ExprValue>> batch = batches.poll();
+    if (batch == null) {
+      return Collections.emptyIterator();
+    }
+
+    List<ExprValue> rows;
+    try {
+      rows = batch.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+
+    if (rows.isEmpty()) {
+      // All batches after an empty one are empty as well
+      batches.clear();
+      return Collections.emptyIterator();
+    }
+    scheduleFetches();
+    return rows.iterator();
+  }
+
+  /**
+   * Stop fetching and wait for the batch being fetched if any, so that the request is not being
+   * changed once this method returns.
+   */
+  public void close() {
+    stopped = true;
+    if (lastBatch != null) {
+      try {
+        lastBatch.handle((rows, e) -> null).join();
+      } finally {
+        batches.clear();
+        lastBatch = null;
+      }
+    }
+  }
+
+  private void scheduleFetches() {
+    while (batches.size() < prefetchDepth) {
+      lastBatch =
+          (lastBatch == null)
+              ? CompletableFuture.supplyAsync(this::fetch, executor)
+              : lastBatch.thenApplyAsync(rows -> fetch(), executor);
+      batches.add(lastBatch);
+    }
+  }
+
+  private List<ExprValue> fetch() {
+    if (stopped || exhausted || fetchedRows.get() >= maxResponseSize) {
+      return List.of();
+    }
+
+    OpenSearchResponse response = client.search(request);
+    metrics.record(response);
+    if (response.isEmpty()) {
+      exhausted = true;
+      return List.of();
+    }
+
+    List<ExprValue> rows = ImmutableList.copyOf(response.iterator());
+    exhausted =
+        fetchedRows.addAndGet(rows.size()) >= maxResponseSize || !request.hasAnotherBatch();
+    return rows;
+  }
+}
@@ -8,8 +8,11 @@ package org.opensearch.sql.opensearch.storage.scan;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.opensearch.common.io.stream.BytesStreamOutput;
@@ -18,11 +21,14 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.exception.NoCursorException;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchPointInTimeRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchSlicedScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
 import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.planner.physical.RowBatch;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /** OpenSearch index scan operator. */
@@ -45,12 +51,31 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
   /** Search response for current batch. */
   private Iterator<ExprValue> iterator;
 
+  /** Number of batches fetched ahead in background, 0 to fetch on demand. */
+  private int prefetchDepth;
+
+  /** Fetches batches in background if prefetch enabled. */
+  private BackgroundSearchScanner bgScanner;
+
+  /** Fetches slices concurrently if the request is sliced. */
+  private SlicedSearchScanner slicedScanner;
+
+  /** Metrics of the search responses fetched, for profile. */
+  private final SearchMetrics searchMetrics = new SearchMetrics();
+
   /** Creates index scan based on a provided OpenSearchRequestBuilder. */
   public OpenSearchIndexScan(
       OpenSearchClient client, int maxResponseSize, OpenSearchRequest request) {
+    this(client, maxResponseSize, request, 0);
+  }
+
+  /** Creates index scan which fetches up to prefetchDepth batches ahead in background. */
+  public OpenSearchIndexScan(
+      OpenSearchClient client, int maxResponseSize, OpenSearchRequest request, int prefetchDepth) {
     this.client = client;
     this.maxResponseSize = maxResponseSize;
     this.request = request;
+    this.prefetchDepth = prefetchDepth;
   }
 
   @Override
@@ -58,6 +83,30 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
     super.open();
     iterator = Collections.emptyIterator();
     queryCount = 0;
+    if (request instanceof OpenSearchPointInTimeRequest) {
+      ((OpenSearchPointInTimeRequest) request).createPit(client::createPit);
+    }
+    if (request instanceof OpenSearchSlicedScrollRequest) {
+      slicedScanner =
+          new SlicedSearchScanner(
+              client,
+              (OpenSearchSlicedScrollRequest) request,
+              client.getPrefetchExecutor(),
+              prefetchDepth,
+              maxResponseSize,
+              searchMetrics);
+      slicedScanner.open();
+    } else if (prefetchDepth > 0) {
+      bgScanner =
+          new BackgroundSearchScanner(
+              client,
+              request,
+              client.getPrefetchExecutor(),
+              prefetchDepth,
+              maxResponseSize,
+              searchMetrics);
+      bgScanner.open();
+    }
     fetchNextBatch();
   }
 
@@ -77,20 +126,58 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
     return iterator.next();
   }
 
+  /** Rows of the current search response are returned as a batch. */
+  @Override
+  public RowBatch nextBatch() {
+    List<ExprValue> rows = new ArrayList<>();
+    if (hasNext()) {
+      while (queryCount < maxResponseSize && iterator.hasNext()) {
+        rows.add(next());
+      }
+    }
+    return RowBatch.of(rows);
+  }
+
   private void fetchNextBatch() {
+    if (slicedScanner != null) {
+      iterator = slicedScanner.fetchNextBatch();
+      return;
+    }
+    if (bgScanner != null) {
+      iterator = bgScanner.fetchNextBatch();
+      return;
+    }
+
     OpenSearchResponse response = client.search(request);
+    searchMetrics.record(response);
     if (!response.isEmpty()) {
       iterator = response.iterator();
     }
   }
 
+  /** Wait for the batch being fetched in background, so request state is stable afterwards. */
+  private void stopBackgroundScan() {
+    if (slicedScanner != null) {
+      slicedScanner.close();
+    }
+    if (bgScanner != null) {
+      bgScanner.close();
+    }
+  }
+
   @Override
   public void close() {
     super.close();
 
+    stopBackgroundScan();
     client.cleanup(request);
   }
 
+  @Override
+  public Map<String, Object> profileMetrics() {
+    return searchMetrics.toMap();
+  }
+
   @Override
   public String explain() {
     return request.toString();
@@ -107,6 +194,9 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
   @Override
   public void readExternal(ObjectInput in) throws IOException {
     int reqSize = in.readInt();
+    // Size is negated for point in time request, see writeExternal
+    boolean pointInTime = reqSize < 0;
+    reqSize = Math.abs(reqSize);
     byte[] requestStream = new byte[reqSize];
     int read = 0;
     do {
@@ -122,7 +212,10 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
             ((PlanSerializer.CursorDeserializationStream) in).resolveObject("engine");
 
     try (BytesStreamInput bsi = new BytesStreamInput(requestStream)) {
-      request = new OpenSearchScrollRequest(bsi, engine);
+      request =
+          pointInTime
+              ? new OpenSearchPointInTimeRequest(bsi, engine)
+              : new OpenSearchScrollRequest(bsi, engine);
     }
     maxResponseSize = in.readInt();
 
@@ -131,6 +224,7 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
 
   @Override
   public void writeExternal(ObjectOutput out) throws IOException {
+    stopBackgroundScan();
     if (!request.hasAnotherBatch()) {
       throw new NoCursorException();
     }
@@ -143,8 +237,9 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
     // 2. Extract byte[] from the opensearch byte stream
     var reqAsBytes = reqOut.bytes().toBytesRef().bytes;
 
-    // 3. Write out the byte[] to object output stream.
-    out.writeInt(reqOut.size());
+    // 3. Write out the byte[] to object output stream. Size of point in time request is negated
+    // to tell it from scroll request, which keeps the cursors of scroll request compatible.
+    out.writeInt(request instanceof OpenSearchPointInTimeRequest ? -reqOut.size() : reqOut.size());
     out.write(reqAsBytes, 0, reqOut.size());
 
     out.writeInt(maxResponseSize);
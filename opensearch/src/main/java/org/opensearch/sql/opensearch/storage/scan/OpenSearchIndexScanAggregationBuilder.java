@@ -20,6 +20,7 @@ import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
 import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalSort;
@@ -40,17 +41,27 @@ class OpenSearchIndexScanAggregationBuilder implements PushDownQueryBuilder {
   /** Sorting items pushed down. */
   private List<Pair<Sort.SortOption, Expression>> sortList;
 
+  /** Serializer of the script expressions pushed down. */
+  @EqualsAndHashCode.Exclude private final ExpressionSerializer serializer;
+
   OpenSearchIndexScanAggregationBuilder(
       OpenSearchRequestBuilder requestBuilder, LogicalAggregation aggregation) {
+    this(requestBuilder, aggregation, new DefaultExpressionSerializer());
+  }
+
+  OpenSearchIndexScanAggregationBuilder(
+      OpenSearchRequestBuilder requestBuilder,
+      LogicalAggregation aggregation,
+      ExpressionSerializer serializer) {
     this.requestBuilder = requestBuilder;
+    this.serializer = serializer;
     aggregatorList = aggregation.getAggregatorList();
     groupByList = aggregation.getGroupByList();
   }
 
   @Override
   public OpenSearchRequestBuilder build() {
-    AggregationQueryBuilder builder =
-        new AggregationQueryBuilder(new DefaultExpressionSerializer());
+    AggregationQueryBuilder builder = new AggregationQueryBuilder(serializer);
     Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder =
         builder.buildAggregationBuilder(aggregatorList, groupByList, sortList);
     requestBuilder.pushDownAggregation(aggregationBuilder);
@@ -8,10 +8,14 @@ package org.opensearch.sql.opensearch.storage.scan;
 import static org.opensearch.sql.analysis.NestedAnalyzer.isNestedFunction;
 
 import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.EqualsAndHashCode;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalHighlight;
 import org.opensearch.sql.planner.logical.LogicalLimit;
@@ -31,25 +35,54 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
 
   private final Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory;
 
+  /** Serializer of the script expressions pushed down. */
+  private final ExpressionSerializer serializer;
+
   /** Delegated index scan builder for non-aggregate or aggregate query. */
   @EqualsAndHashCode.Include private PushDownQueryBuilder delegate;
 
   /** Is limit operator pushed down. */
   private boolean isLimitPushedDown = false;
 
+  /** Is dedupe operator pushed down as field collapsing. */
+  private boolean isDedupePushedDown = false;
+
   /** Constructor used during query execution. */
   public OpenSearchIndexScanBuilder(
       OpenSearchRequestBuilder requestBuilder,
       Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory) {
-    this.delegate = new OpenSearchIndexScanQueryBuilder(requestBuilder);
+    this(requestBuilder, new DefaultExpressionSerializer(), scanFactory);
+  }
+
+  /** Constructor used during query execution with the serializer of script expressions. */
+  public OpenSearchIndexScanBuilder(
+      OpenSearchRequestBuilder requestBuilder,
+      ExpressionSerializer serializer,
+      Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory) {
+    this.delegate = new OpenSearchIndexScanQueryBuilder(requestBuilder, serializer);
+    this.serializer = serializer;
+    this.scanFactory = scanFactory;
+  }
+
+  /** Constructor used during query execution with the max result window of the index. */
+  public OpenSearchIndexScanBuilder(
+      OpenSearchRequestBuilder requestBuilder,
+      ExpressionSerializer serializer,
+      Supplier<Integer> maxResultWindow,
+      Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory) {
+    this.delegate =
+        new OpenSearchIndexScanQueryBuilder(requestBuilder, serializer, maxResultWindow);
+    this.serializer = serializer;
     this.scanFactory = scanFactory;
   }
 
   /** Constructor used for unit tests. */
   protected OpenSearchIndexScanBuilder(
       PushDownQueryBuilder translator,
+      ExpressionSerializer serializer,
       Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory) {
     this.delegate = translator;
+    this.serializer = serializer;
     this.scanFactory = scanFactory;
   }
 
@@ -60,18 +93,24 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
 
   @Override
   public boolean pushDownFilter(LogicalFilter filter) {
+    // Filter after dedupe cannot be applied before collapsing
+    if (isDedupePushedDown) {
+      return false;
+    }
     return delegate.pushDownFilter(filter);
   }
 
   @Override
   public boolean pushDownAggregation(LogicalAggregation aggregation) {
-    if (isLimitPushedDown) {
+    // Aggregations are computed over all hits, not over the collapsed ones
+    if (isLimitPushedDown || isDedupePushedDown) {
       return false;
     }
 
     // Switch to builder for aggregate query which has different push down logic
     //  for later filter, sort and limit operator.
-    delegate = new OpenSearchIndexScanAggregationBuilder(delegate.build(), aggregation);
+    delegate =
+        new OpenSearchIndexScanAggregationBuilder(delegate.build(), aggregation, serializer);
     return true;
   }
 
@@ -82,7 +121,8 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
 
   @Override
   public boolean pushDownSort(LogicalSort sort) {
-    if (!sortByFieldsOnly(sort)) {
+    // Sort after dedupe would change which hit of each key is kept by collapsing
+    if (isDedupePushedDown || !sortByFieldsOnly(sort)) {
       return false;
     }
     return delegate.pushDownSort(sort);
@@ -90,9 +130,21 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
 
   @Override
   public boolean pushDownLimit(LogicalLimit limit) {
-    // Assume limit push down happening on OpenSearchIndexScanQueryBuilder
+    if (!delegate.pushDownLimit(limit)) {
+      return false;
+    }
     isLimitPushedDown = true;
-    return delegate.pushDownLimit(limit);
+    return true;
+  }
+
+  @Override
+  public boolean pushDownDedupe(LogicalDedupe dedupe) {
+    // Dedupe after limit only applies to the limited documents, and hits are collapsed only once
+    if (isLimitPushedDown || isDedupePushedDown) {
+      return false;
+    }
+    isDedupePushedDown = delegate.pushDownDedupe(dedupe);
+    return isDedupePushedDown;
   }
 
   @Override
@@ -5,27 +5,37 @@
 
 package org.opensearch.sql.opensearch.storage.scan;
 
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.common.utils.StringUtils;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.FunctionExpression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.function.OpenSearchFunctions;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.storage.script.filter.FilterQueryBuilder;
 import org.opensearch.sql.opensearch.storage.script.sort.SortQueryBuilder;
 import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalHighlight;
 import org.opensearch.sql.planner.logical.LogicalLimit;
@@ -44,13 +54,39 @@ class OpenSearchIndexScanQueryBuilder implements PushDownQueryBuilder {
 
   OpenSearchRequestBuilder requestBuilder;
 
+  /** Serializer of the script expressions pushed down. */
+  @EqualsAndHashCode.Exclude private final ExpressionSerializer serializer;
+
+  /** Max result window of the index, beyond which collapsed hits cannot be searched. */
+  @EqualsAndHashCode.Exclude private final Supplier<Integer> maxResultWindow;
+
+  /** Is dedupe pushed down as field collapsing. */
+  @EqualsAndHashCode.Exclude private boolean isCollapsed = false;
+
   public OpenSearchIndexScanQueryBuilder(OpenSearchRequestBuilder requestBuilder) {
+    this(requestBuilder, new DefaultExpressionSerializer());
+  }
+
+  public OpenSearchIndexScanQueryBuilder(
+      OpenSearchRequestBuilder requestBuilder, ExpressionSerializer serializer) {
+    this(
+        requestBuilder,
+        serializer,
+        () -> IndexSettings.MAX_RESULT_WINDOW_SETTING.getDefault(Settings.EMPTY));
+  }
+
+  public OpenSearchIndexScanQueryBuilder(
+      OpenSearchRequestBuilder requestBuilder,
+      ExpressionSerializer serializer,
+      Supplier<Integer> maxResultWindow) {
     this.requestBuilder = requestBuilder;
+    this.serializer = serializer;
+    this.maxResultWindow = maxResultWindow;
   }
 
   @Override
   public boolean pushDownFilter(LogicalFilter filter) {
-    FilterQueryBuilder queryBuilder = new FilterQueryBuilder(new DefaultExpressionSerializer());
+    FilterQueryBuilder queryBuilder = new FilterQueryBuilder(serializer);
     Expression queryCondition = filter.getCondition();
     QueryBuilder query = queryBuilder.build(queryCondition);
     requestBuilder.pushDownFilter(query);
@@ -71,10 +107,49 @@ class OpenSearchIndexScanQueryBuilder implements PushDownQueryBuilder {
 
   @Override
   public boolean pushDownLimit(LogicalLimit limit) {
+    // Collapsed hits beyond max result window are not returned, so such limit is applied on top
+    if (isCollapsed && limit.getOffset() + limit.getLimit() > maxResultWindow.get()) {
+      return false;
+    }
     requestBuilder.pushDownLimit(limit.getLimit(), limit.getOffset());
     return true;
   }
 
+  @Override
+  public boolean pushDownDedupe(LogicalDedupe dedupe) {
+    // Hits are not collapsed if more of them can be requested than max result window
+    if (!isCollapsible(dedupe)
+        || requestBuilder.getStartFrom() + requestBuilder.getRequestedTotalSize()
+            > maxResultWindow.get()) {
+      return false;
+    }
+    ReferenceExpression field = (ReferenceExpression) dedupe.getDedupeList().get(0);
+    requestBuilder.pushDownCollapse(
+        OpenSearchTextType.convertTextToKeyword(field.getAttr(), field.type()));
+    isCollapsed = true;
+    return true;
+  }
+
+  /**
+   * Dedupe can be done by field collapsing only if it keeps the first document of each value of a
+   * single field and drops documents without the field. Collapsing requires keyword or numeric
+   * field, or text field with keyword sub-field.
+   */
+  private boolean isCollapsible(LogicalDedupe dedupe) {
+    if (dedupe.getAllowedDuplication() != 1
+        || dedupe.getKeepEmpty()
+        || dedupe.getConsecutive()
+        || dedupe.getDedupeList().size() != 1
+        || !(dedupe.getDedupeList().get(0) instanceof ReferenceExpression)) {
+      return false;
+    }
+    ExprType type = dedupe.getDedupeList().get(0).type();
+    return type == STRING
+        || ExprCoreType.numberTypes().contains(type)
+        || (type instanceof OpenSearchTextType
+            && !((OpenSearchTextType) type).getFields().isEmpty());
+  }
+
   @Override
   public boolean pushDownProject(LogicalProject project) {
     requestBuilder.pushDownProjects(findReferenceExpressions(project.getProjectList()));
@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * Metrics of the search responses fetched by an index scan, for query profile. Responses may be
+ * recorded concurrently by the scanners fetching in background.
+ */
+public class SearchMetrics {
+
+  private final LongAdder pages = new LongAdder();
+
+  private final LongAdder tookMillis = new LongAdder();
+
+  private final AtomicLong maxTookMillis = new AtomicLong();
+
+  private final LongAdder sourceBytes = new LongAdder();
+
+  /**
+   * Record a search response fetched.
+   *
+   * @param response search response
+   */
+  public void record(OpenSearchResponse response) {
+    long took = response.getTookMillis();
+    pages.increment();
+    tookMillis.add(took);
+    maxTookMillis.accumulateAndGet(took, Math::max);
+    sourceBytes.add(response.getSourceBytes());
+  }
+
+  /**
+   * Get metrics recorded so far.
+   *
+   * @return metric name to value
+   */
+  public Map<String, Object> toMap() {
+    return ImmutableMap.of(
+        "pages", pages.sum(),
+        "tookMillis", tookMillis.sum(),
+        "maxTookMillis", maxTookMillis.get(),
+        "sourceBytes", sourceBytes.sum());
+  }
+}
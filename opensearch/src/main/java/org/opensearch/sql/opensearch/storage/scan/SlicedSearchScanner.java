@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchSlicedScrollRequest;
+
+/**
+ * Fetches the slices of a sliced scroll request concurrently. Each slice is fetched ahead by its
+ * own {@link BackgroundSearchScanner}, and batches are taken from the slices in turn until all of
+ * them are used up. So rows are returned in no particular order. The slices share one count of
+ * fetched rows, so no more than {@code maxResponseSize} rows are fetched from all of them.
+ */
+public class SlicedSearchScanner {
+
+  /** Scanner of each slice not used up yet. */
+  private final List<BackgroundSearchScanner> scanners = new ArrayList<>();
+
+  /** Scanners of all slices, to close. */
+  private List<BackgroundSearchScanner> allScanners = List.of();
+
+  /** Slice to take next batch from. */
+  private int next = 0;
+
+  /** OpenSearch client. */
+  private final OpenSearchClient client;
+
+  /** Sliced scroll request. */
+  private final OpenSearchSlicedScrollRequest request;
+
+  /** Executor the batches of all slices are fetched on. */
+  private final Executor executor;
+
+  /** Largest number of batches requested or buffered ahead for each slice. */
+  private final int prefetchDepth;
+
+  /** Largest number of rows allowed in the response of all slices. */
+  private final int maxResponseSize;
+
+  /** Metrics to record the responses of all slices in. */
+  private final SearchMetrics metrics;
+
+  /** Constructor. */
+  public SlicedSearchScanner(
+      OpenSearchClient client,
+      OpenSearchSlicedScrollRequest request,
+      Executor executor,
+      int prefetchDepth,
+      int maxResponseSize) {
+    this(client, request, executor, prefetchDepth, maxResponseSize, new SearchMetrics());
+  }
+
+  /** Constructor with metrics to record the responses of all slices in. */
+  public SlicedSearchScanner(
+      OpenSearchClient client,
+      OpenSearchSlicedScrollRequest request,
+      Executor executor,
+      int prefetchDepth,
+      int maxResponseSize,
+      SearchMetrics metrics) {
+    this.client = client;
+    this.request = request;
+    this.executor = executor;
+    this.prefetchDepth = Math.max(1, prefetchDepth);
+    this.maxResponseSize = maxResponseSize;
+    this.metrics = metrics;
+  }
+
+  /** Start fetching all slices in background, with a fresh count of fetched rows. */
+  public void open() {
+    AtomicInteger fetchedRows = new AtomicInteger();
+    List<BackgroundSearchScanner> sliceScanners = new ArrayList<>();
+    for (OpenSearchScrollRequest slice : request.getSlices()) {
+      sliceScanners.add(
+          new BackgroundSearchScanner(
+              client, slice, executor, prefetchDepth, maxResponseSize, metrics, fetchedRows));
+    }
+    allScanners = Collections.unmodifiableList(sliceScanners);
+    scanners.clear();
+    scanners.addAll(allScanners);
+    next = 0;
+    scanners.forEach(BackgroundSearchScanner::open);
+  }
+
+  /**
+   * Get the next batch of any slice, blocking until it is fetched.
+   *
+   * @return iterator of the rows in next batch, empty iterator if all slices are used up
+   */
+  public Iterator<ExprValue> fetchNextBatch() {
+    while (!scanners.isEmpty()) {
+      if (next >= scanners.size()) {
+        next = 0;
+      }
+      Iterator<ExprValue> batch = scanners.get(next).fetchNextBatch();
+      if (batch.hasNext()) {
+        next++;
+        return batch;
+      }
+      scanners.remove(next);
+    }
+    return Collections.emptyIterator();
+  }
+
+  /** Stop fetching all slices and wait for the batches being fetched. */
+  public void close() {
+    allScanners.forEach(BackgroundSearchScanner::close);
+    scanners.clear();
+  }
+}
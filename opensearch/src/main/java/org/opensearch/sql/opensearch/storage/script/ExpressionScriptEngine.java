@@ -5,40 +5,71 @@
 
 package org.opensearch.sql.opensearch.storage.script;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.script.AggregationScript;
 import org.opensearch.script.FilterScript;
 import org.opensearch.script.ScriptContext;
 import org.opensearch.script.ScriptEngine;
-import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.opensearch.storage.script.aggregation.ExpressionAggregationScriptFactory;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 import org.opensearch.sql.opensearch.storage.script.filter.ExpressionFilterScriptFactory;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
 /**
  * Custom expression script engine that supports using core engine expression code in DSL as a new
  * script language just like built-in Painless language.
+ *
+ * <p>Deserialized expressions are cached by script code along with the fields and value factory
+ * of {@link ExpressionScript}, so the same script pushed down to many shards or by many queries is
+ * only deserialized once. The cache is bounded by the total length of script code cached.
  */
-@RequiredArgsConstructor
 public class ExpressionScriptEngine implements ScriptEngine {
 
   /** Expression script language name. */
   public static final String EXPRESSION_LANG_NAME = "opensearch_query_expression";
 
   /** All supported script contexts and function to create factory from expression. */
-  private static final Map<ScriptContext<?>, Function<Expression, Object>> CONTEXTS =
-      new ImmutableMap.Builder<ScriptContext<?>, Function<Expression, Object>>()
+  private static final Map<ScriptContext<?>, Function<ExpressionScript, Object>> CONTEXTS =
+      new ImmutableMap.Builder<ScriptContext<?>, Function<ExpressionScript, Object>>()
           .put(FilterScript.CONTEXT, ExpressionFilterScriptFactory::new)
           .put(AggregationScript.CONTEXT, ExpressionAggregationScriptFactory::new)
           .build();
 
+  /** Largest total length of script code cached by default. */
+  static final long DEFAULT_CACHE_MAX_WEIGHT = 16 * 1024 * 1024;
+
   /** Expression serializer that (de-)serializes expression. */
   private final ExpressionSerializer serializer;
 
+  /** Expression script of deserialized expression by script code. */
+  private final Cache<String, ExpressionScript> cache;
+
+  public ExpressionScriptEngine(ExpressionSerializer serializer) {
+    this(serializer, DEFAULT_CACHE_MAX_WEIGHT);
+  }
+
+  /**
+   * Constructor of {@link ExpressionScriptEngine}.
+   *
+   * @param serializer expression serializer
+   * @param cacheMaxWeight largest total length of script code cached
+   */
+  ExpressionScriptEngine(ExpressionSerializer serializer, long cacheMaxWeight) {
+    this.serializer = serializer;
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumWeight(cacheMaxWeight)
+            .weigher((String code, ExpressionScript script) -> code.length())
+            .recordStats()
+            .build();
+  }
+
   @Override
   public String getType() {
     return EXPRESSION_LANG_NAME;
@@ -47,21 +78,34 @@ public class ExpressionScriptEngine implements ScriptEngine {
   @Override
   public <T> T compile(
       String scriptName, String scriptCode, ScriptContext<T> context, Map<String, String> params) {
+    if (!CONTEXTS.containsKey(context)) {
+      throw new IllegalStateException(
+          String.format(
+              "Script context is currently not supported: "
+                  + "all supported contexts [%s], given context [%s] ",
+              CONTEXTS, context));
+    }
+
     /*
      * Note that in fact the expression source is already compiled in query engine.
      * The "code" is actually a serialized expression tree by our serializer.
      * Therefore the compilation here is simply to deserialize the expression tree.
      */
-    Expression expression = serializer.deserialize(scriptCode);
-
-    if (CONTEXTS.containsKey(context)) {
-      return context.factoryClazz.cast(CONTEXTS.get(context).apply(expression));
+    ExpressionScript script = cache.getIfPresent(scriptCode);
+    if (script == null) {
+      script = new ExpressionScript(serializer.deserialize(scriptCode));
+      cache.put(scriptCode, script);
     }
-    throw new IllegalStateException(
-        String.format(
-            "Script context is currently not supported: "
-                + "all supported contexts [%s], given context [%s] ",
-            CONTEXTS, context));
+    return context.factoryClazz.cast(CONTEXTS.get(context).apply(script));
+  }
+
+  /**
+   * Get statistics of the expression script cache.
+   *
+   * @return hit and miss count of the cache
+   */
+  public CacheStats getCacheStats() {
+    return cache.stats();
   }
 
   @Override
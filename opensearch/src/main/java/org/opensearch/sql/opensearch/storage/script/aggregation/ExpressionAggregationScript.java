@@ -30,12 +30,12 @@ public class ExpressionAggregationScript extends AggregationScript {
 
   /** Constructor of ExpressionAggregationScript. */
   public ExpressionAggregationScript(
-      Expression expression,
+      ExpressionScript expressionScript,
       SearchLookup lookup,
       LeafReaderContext context,
       Map<String, Object> params) {
     super(params, lookup, context);
-    this.expressionScript = new ExpressionScript(expression);
+    this.expressionScript = expressionScript;
   }
 
   @Override
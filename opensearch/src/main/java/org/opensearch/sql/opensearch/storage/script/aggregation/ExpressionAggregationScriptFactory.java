@@ -9,16 +9,17 @@ import java.util.Map;
 import lombok.EqualsAndHashCode;
 import org.opensearch.script.AggregationScript;
 import org.opensearch.search.lookup.SearchLookup;
-import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /** Aggregation Expression script factory that generates leaf factory. */
 @EqualsAndHashCode
 public class ExpressionAggregationScriptFactory implements AggregationScript.Factory {
 
-  private final Expression expression;
+  /** Expression script to execute. */
+  private final ExpressionScript expressionScript;
 
-  public ExpressionAggregationScriptFactory(Expression expression) {
-    this.expression = expression;
+  public ExpressionAggregationScriptFactory(ExpressionScript expressionScript) {
+    this.expressionScript = expressionScript;
   }
 
   @Override
@@ -29,6 +30,6 @@ public class ExpressionAggregationScriptFactory implements AggregationScript.Fac
 
   @Override
   public AggregationScript.LeafFactory newFactory(Map<String, Object> params, SearchLookup lookup) {
-    return new ExpressionAggregationScriptLeafFactory(expression, params, lookup);
+    return new ExpressionAggregationScriptLeafFactory(expressionScript, params, lookup);
   }
 }
@@ -25,6 +25,7 @@ import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
 import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.parse.ParseExpression;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
@@ -33,7 +34,8 @@ import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 
 /**
  * Expression script executor that executes the expression on each document and determine if the
- * document is supposed to be filtered out or not.
+ * document is supposed to be filtered out or not. It is immutable once created, so the same
+ * instance is shared by the scripts executed on all segments.
  */
 @EqualsAndHashCode(callSuper = false)
 public class ExpressionScript {
@@ -41,6 +43,9 @@ public class ExpressionScript {
   /** Expression to execute. */
   private final Expression expression;
 
+  /** Expression compiled once and executed on each document. */
+  @EqualsAndHashCode.Exclude private final Expression compiledExpression;
+
   /** ElasticsearchExprValueFactory. */
   @EqualsAndHashCode.Exclude private final OpenSearchExprValueFactory valueFactory;
 
@@ -50,6 +55,7 @@ public class ExpressionScript {
   /** Expression constructor. */
   public ExpressionScript(Expression expression) {
     this.expression = expression;
+    this.compiledExpression = ExpressionCompiler.compile(expression);
     this.fields =
         AccessController.doPrivileged(
             (PrivilegedAction<Set<ReferenceExpression>>) () -> extractFields(expression));
@@ -73,7 +79,7 @@ public class ExpressionScript {
             () -> {
               Environment<Expression, ExprValue> valueEnv =
                   buildValueEnv(fields, valueFactory, docProvider);
-              ExprValue result = evaluator.apply(expression, valueEnv);
+              ExprValue result = evaluator.apply(compiledExpression, valueEnv);
               return result;
             });
   }
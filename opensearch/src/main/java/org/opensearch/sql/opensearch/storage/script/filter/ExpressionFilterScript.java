@@ -28,12 +28,12 @@ class ExpressionFilterScript extends FilterScript {
   private final ExpressionScript expressionScript;
 
   public ExpressionFilterScript(
-      Expression expression,
+      ExpressionScript expressionScript,
       SearchLookup lookup,
       LeafReaderContext context,
       Map<String, Object> params) {
     super(params, lookup, context);
-    this.expressionScript = new ExpressionScript(expression);
+    this.expressionScript = expressionScript;
   }
 
   @Override
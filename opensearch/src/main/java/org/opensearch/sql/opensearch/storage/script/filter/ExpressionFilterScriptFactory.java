@@ -9,17 +9,17 @@ import java.util.Map;
 import lombok.EqualsAndHashCode;
 import org.opensearch.script.FilterScript;
 import org.opensearch.search.lookup.SearchLookup;
-import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /** Expression script factory that generates leaf factory. */
 @EqualsAndHashCode
 public class ExpressionFilterScriptFactory implements FilterScript.Factory {
 
-  /** Expression to execute. */
-  private final Expression expression;
+  /** Expression script to execute. */
+  private final ExpressionScript expressionScript;
 
-  public ExpressionFilterScriptFactory(Expression expression) {
-    this.expression = expression;
+  public ExpressionFilterScriptFactory(ExpressionScript expressionScript) {
+    this.expressionScript = expressionScript;
   }
 
   @Override
@@ -30,6 +30,6 @@ public class ExpressionFilterScriptFactory implements FilterScript.Factory {
 
   @Override
   public FilterScript.LeafFactory newFactory(Map<String, Object> params, SearchLookup lookup) {
-    return new ExpressionFilterScriptLeafFactory(expression, params, lookup);
+    return new ExpressionFilterScriptLeafFactory(expressionScript, params, lookup);
   }
 }
@@ -0,0 +1,259 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.serialization;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.data.utils.ExprValueCodec;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.function.FunctionExpressionWithProperties;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.function.FunctionProperties;
+
+/**
+ * Serializer that (de-)serialize expressions in a compact binary format. Literals, references and
+ * built-in functions are written as tagged nodes, and functions are built again by {@link
+ * BuiltinFunctionRepository} from their name and arguments when deserialized. Any other expression
+ * is written by JDK serialization as a whole subtree.
+ *
+ * <p>The code starts with a magic header and a format version. Code without the header is
+ * deserialized by {@link DefaultExpressionSerializer}, so this serializer reads both formats.
+ */
+public class CompactExpressionSerializer implements ExpressionSerializer {
+
+  /** Header of the compact format, never the beginning of a JDK serialization stream. */
+  private static final byte[] MAGIC = {'O', 'S', 'X'};
+
+  private static final byte VERSION = 1;
+
+  private static final byte JAVA = 0;
+
+  private static final byte LITERAL = 1;
+
+  private static final byte REFERENCE = 2;
+
+  private static final byte FUNCTION = 3;
+
+  private static final byte CORE_TYPE = 0;
+
+  private static final byte JAVA_TYPE = 1;
+
+  private final ExpressionSerializer javaSerializer = new DefaultExpressionSerializer();
+
+  @Override
+  public String serialize(Expression expr) {
+    try {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      DataOutputStream dataOutput = new DataOutputStream(output);
+      dataOutput.write(MAGIC);
+      dataOutput.writeByte(VERSION);
+      write(expr, dataOutput);
+      dataOutput.flush();
+      return Base64.getEncoder().encodeToString(output.toByteArray());
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to serialize expression: " + expr, e);
+    }
+  }
+
+  @Override
+  public Expression deserialize(String code) {
+    byte[] bytes;
+    try {
+      bytes = Base64.getDecoder().decode(code);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalStateException("Failed to deserialize expression code: " + code, e);
+    }
+    if (!hasMagic(bytes)) {
+      return javaSerializer.deserialize(code);
+    }
+    if (bytes[MAGIC.length] != VERSION) {
+      throw new IllegalStateException(
+          String.format(
+              "Failed to deserialize expression code of unknown version %d: %s",
+              bytes[MAGIC.length], code));
+    }
+    try {
+      DataInputStream input =
+          new DataInputStream(
+              new ByteArrayInputStream(bytes, MAGIC.length + 1, bytes.length - MAGIC.length - 1));
+      return read(input);
+    } catch (Exception e) {
+      throw new IllegalStateException("Failed to deserialize expression code: " + code, e);
+    }
+  }
+
+  private static boolean hasMagic(byte[] bytes) {
+    if (bytes.length <= MAGIC.length) {
+      return false;
+    }
+    for (int i = 0; i < MAGIC.length; i++) {
+      if (bytes[i] != MAGIC[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static void write(Expression expr, DataOutput out) throws IOException {
+    if (expr.getClass() == LiteralExpression.class) {
+      out.writeByte(LITERAL);
+      ExprValueCodec.write(expr.valueOf(), out);
+    } else if (expr.getClass() == ReferenceExpression.class) {
+      ReferenceExpression ref = (ReferenceExpression) expr;
+      out.writeByte(REFERENCE);
+      out.writeUTF(ref.getAttr());
+      out.writeInt(ref.getPaths().size());
+      for (String path : ref.getPaths()) {
+        out.writeUTF(path);
+      }
+      writeType(ref.type(), out);
+    } else if (expr instanceof FunctionExpression && isRebuilt((FunctionExpression) expr)) {
+      FunctionExpression function = (FunctionExpression) expr;
+      out.writeByte(FUNCTION);
+      out.writeUTF(function.getFunctionName().getFunctionName());
+      writeProperties(function, out);
+      out.writeInt(function.getArguments().size());
+      for (Expression argument : function.getArguments()) {
+        write(argument, out);
+      }
+    } else {
+      out.writeByte(JAVA);
+      writeJava(expr, out);
+    }
+  }
+
+  private static Expression read(DataInput in) throws IOException, ClassNotFoundException {
+    byte tag = in.readByte();
+    switch (tag) {
+      case LITERAL:
+        return new LiteralExpression(ExprValueCodec.read(in));
+      case REFERENCE:
+        String attr = in.readUTF();
+        int pathCount = in.readInt();
+        List<String> paths = new ArrayList<>(pathCount);
+        for (int i = 0; i < pathCount; i++) {
+          paths.add(in.readUTF());
+        }
+        return new ReferenceExpression(attr, paths, readType(in));
+      case FUNCTION:
+        FunctionName name = FunctionName.of(in.readUTF());
+        FunctionProperties properties = readProperties(in);
+        int argumentCount = in.readInt();
+        List<Expression> arguments = new ArrayList<>(argumentCount);
+        for (int i = 0; i < argumentCount; i++) {
+          arguments.add(read(in));
+        }
+        return build(name, properties, arguments);
+      case JAVA:
+        return (Expression) readJava(in);
+      default:
+        throw new IllegalStateException("Unknown expression tag " + tag);
+    }
+  }
+
+  /**
+   * Only a function which is built again into an equal expression by {@link
+   * BuiltinFunctionRepository} can be written as function node, for example not the data source
+   * specific functions.
+   */
+  private static boolean isRebuilt(FunctionExpression function) {
+    try {
+      FunctionExpression rebuilt =
+          build(function.getFunctionName(), properties(function), function.getArguments());
+      return rebuilt.equals(function) && rebuilt.getClass() == function.getClass();
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+  private static FunctionExpression build(
+      FunctionName name, FunctionProperties properties, List<Expression> arguments) {
+    return (FunctionExpression)
+        BuiltinFunctionRepository.getInstance().compile(properties, name, arguments);
+  }
+
+  private static FunctionProperties properties(FunctionExpression function) {
+    if (function instanceof FunctionExpressionWithProperties) {
+      return ((FunctionExpressionWithProperties) function).getFunctionProperties();
+    }
+    return FunctionProperties.None;
+  }
+
+  private static void writeProperties(FunctionExpression function, DataOutput out)
+      throws IOException {
+    FunctionProperties properties = properties(function);
+    if (properties == FunctionProperties.None) {
+      out.writeBoolean(false);
+    } else {
+      Clock clock = properties.getQueryStartClock();
+      out.writeBoolean(true);
+      out.writeLong(clock.instant().getEpochSecond());
+      out.writeInt(clock.instant().getNano());
+      out.writeUTF(clock.getZone().getId());
+    }
+  }
+
+  private static FunctionProperties readProperties(DataInput in) throws IOException {
+    if (!in.readBoolean()) {
+      return FunctionProperties.None;
+    }
+    Instant instant = Instant.ofEpochSecond(in.readLong(), in.readInt());
+    return new FunctionProperties(instant, ZoneId.of(in.readUTF()));
+  }
+
+  private static void writeType(ExprType type, DataOutput out) throws IOException {
+    if (type instanceof ExprCoreType) {
+      out.writeByte(CORE_TYPE);
+      out.writeUTF(((ExprCoreType) type).name());
+    } else {
+      out.writeByte(JAVA_TYPE);
+      writeJava(type, out);
+    }
+  }
+
+  private static ExprType readType(DataInput in) throws IOException, ClassNotFoundException {
+    if (in.readByte() == CORE_TYPE) {
+      return ExprCoreType.valueOf(in.readUTF());
+    }
+    return (ExprType) readJava(in);
+  }
+
+  private static void writeJava(Object object, DataOutput out) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutput = new ObjectOutputStream(bytes)) {
+      objectOutput.writeObject(object);
+    }
+    out.writeInt(bytes.size());
+    out.write(bytes.toByteArray());
+  }
+
+  private static Object readJava(DataInput in) throws IOException, ClassNotFoundException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return objectInput.readObject();
+    }
+  }
+}
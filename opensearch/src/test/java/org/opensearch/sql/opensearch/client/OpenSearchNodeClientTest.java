@@ -10,11 +10,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -31,6 +33,7 @@ import java.net.URL;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -40,6 +43,7 @@ import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -52,6 +56,11 @@ import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.admin.indices.mapping.get.GetMappingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
 import org.opensearch.action.search.ClearScrollRequestBuilder;
+import org.opensearch.action.search.CreatePitAction;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitAction;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.metadata.AliasMetadata;
@@ -60,6 +69,8 @@ import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
@@ -74,9 +85,11 @@ import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.request.OpenSearchPointInTimeRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.threadpool.ThreadPool;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -294,9 +307,9 @@ class OpenSearchNodeClientTest {
         .thenReturn(
             new SearchHits(
                 new SearchHit[] {searchHit}, new TotalHits(1L, TotalHits.Relation.EQUAL_TO), 1.0F));
-    when(searchHit.getSourceAsString()).thenReturn("{\"id\", 1}");
+    when(searchHit.getSourceRef()).thenReturn(new BytesArray("{\"id\", 1}"));
     when(searchHit.getInnerHits()).thenReturn(null);
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleValue);
+    when(factory.constructFromSource(any(), anyBoolean())).thenReturn(exprTupleValue);
 
     // Mock second scroll request followed
     SearchResponse scrollResponse = mock(SearchResponse.class);
@@ -335,6 +348,22 @@ class OpenSearchNodeClientTest {
     assertTrue(isRun.get());
   }
 
+  @Test
+  void get_prefetch_executor() {
+    ExecutorService executor = mock(ExecutorService.class);
+    when(nodeClient.threadPool().executor(ThreadPool.Names.GENERIC)).thenReturn(executor);
+
+    assertEquals(executor, client.getPrefetchExecutor());
+  }
+
+  @Test
+  void get_named_writeable_registry() {
+    NamedWriteableRegistry registry = new NamedWriteableRegistry(List.of());
+    when(nodeClient.getNamedWriteableRegistry()).thenReturn(registry);
+
+    assertSame(registry, client.getNamedWriteableRegistry());
+  }
+
   @Test
   @SneakyThrows
   void cleanup() {
@@ -393,6 +422,34 @@ class OpenSearchNodeClientTest {
     assertThrows(IllegalStateException.class, () -> client.cleanup(request));
   }
 
+  @Test
+  void create_pit() {
+    CreatePitResponse response = mock(CreatePitResponse.class);
+    when(response.getId()).thenReturn("pit1");
+    CreatePitRequest request = new CreatePitRequest(TimeValue.timeValueMinutes(1), false, "test");
+    when(nodeClient.execute(CreatePitAction.INSTANCE, request).actionGet()).thenReturn(response);
+
+    assertEquals("pit1", client.createPit(request));
+  }
+
+  @Test
+  void cleanup_point_in_time() {
+    OpenSearchPointInTimeRequest request =
+        new OpenSearchPointInTimeRequest(
+            new OpenSearchRequest.IndexName("test"),
+            TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder(),
+            factory,
+            List.of());
+    request.setPitId("pit1");
+    client.cleanup(request);
+
+    ArgumentCaptor<DeletePitRequest> captor = ArgumentCaptor.forClass(DeletePitRequest.class);
+    verify(nodeClient).execute(eq(DeletePitAction.INSTANCE), captor.capture());
+    assertEquals(List.of("pit1"), captor.getValue().getPitIds());
+    verify(nodeClient, never()).prepareClearScroll();
+  }
+
   @Test
   void get_indices() {
     AliasMetadata aliasMetadata = mock(AliasMetadata.class);
@@ -8,6 +8,7 @@ package org.opensearch.sql.opensearch.client;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -38,11 +39,15 @@ import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.admin.cluster.settings.ClusterGetSettingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsRequest;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
@@ -56,9 +61,12 @@ import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.xcontent.DeprecationHandler;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -69,6 +77,7 @@ import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.request.OpenSearchPointInTimeRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
@@ -281,9 +290,9 @@ class OpenSearchRestClientTest {
         .thenReturn(
             new SearchHits(
                 new SearchHit[] {searchHit}, new TotalHits(1L, TotalHits.Relation.EQUAL_TO), 1.0F));
-    when(searchHit.getSourceAsString()).thenReturn("{\"id\", 1}");
+    when(searchHit.getSourceRef()).thenReturn(new BytesArray("{\"id\", 1}"));
     when(searchHit.getInnerHits()).thenReturn(null);
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleValue);
+    when(factory.constructFromSource(any(), anyBoolean())).thenReturn(exprTupleValue);
 
     // Mock second scroll request followed
     SearchResponse scrollResponse = mock(SearchResponse.class);
@@ -362,6 +371,19 @@ class OpenSearchRestClientTest {
     assertTrue(isRun.get());
   }
 
+  @Test
+  void get_prefetch_executor() {
+    AtomicBoolean isRun = new AtomicBoolean(false);
+    client.getPrefetchExecutor().execute(() -> isRun.set(true));
+    assertTrue(isRun.get());
+  }
+
+  @Test
+  void get_named_writeable_registry() {
+    assertNotNull(
+        client.getNamedWriteableRegistry().getReader(QueryBuilder.class, TermQueryBuilder.NAME));
+  }
+
   @Test
   @SneakyThrows
   void cleanup() {
@@ -411,6 +433,42 @@ class OpenSearchRestClientTest {
     assertThrows(IllegalStateException.class, () -> client.cleanup(request));
   }
 
+  @Test
+  void create_pit() throws IOException {
+    CreatePitResponse response = mock(CreatePitResponse.class);
+    when(response.getId()).thenReturn("pit1");
+    CreatePitRequest request = new CreatePitRequest(TimeValue.timeValueMinutes(1), false, "test");
+    when(restClient.createPit(request, RequestOptions.DEFAULT)).thenReturn(response);
+
+    assertEquals("pit1", client.createPit(request));
+  }
+
+  @Test
+  void create_pit_with_IOException() throws IOException {
+    when(restClient.createPit(any(), any())).thenThrow(new IOException());
+    assertThrows(
+        IllegalStateException.class,
+        () -> client.createPit(new CreatePitRequest(TimeValue.timeValueMinutes(1), false, "test")));
+  }
+
+  @Test
+  void cleanup_point_in_time() throws IOException {
+    OpenSearchPointInTimeRequest request =
+        new OpenSearchPointInTimeRequest(
+            new OpenSearchRequest.IndexName("test"),
+            TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder(),
+            factory,
+            List.of());
+    request.setPitId("pit1");
+    client.cleanup(request);
+
+    ArgumentCaptor<DeletePitRequest> captor = ArgumentCaptor.forClass(DeletePitRequest.class);
+    verify(restClient).deletePit(captor.capture(), any());
+    assertEquals(List.of("pit1"), captor.getValue().getPitIds());
+    verify(restClient, never()).clearScroll(any(), any());
+  }
+
   @Test
   void get_indices() throws IOException {
     when(restClient.indices().get(any(GetIndexRequest.class), any(RequestOptions.class)))
@@ -17,6 +17,10 @@ import static org.opensearch.sql.opensearch.data.type.OpenSearchDateType.SUPPORT
 import static org.opensearch.sql.opensearch.data.type.OpenSearchDateType.isDateTypeCompatible;
 
 import com.google.common.collect.Lists;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
@@ -430,4 +434,73 @@ class OpenSearchDateTypeTest {
     assertEquals(expectedTime, parsedTime);
     assertEquals("12:10:30.000", dateType.getFormattedDate(parsedTime));
   }
+
+  @Test
+  void parse_with_formatters_in_order() {
+    OpenSearchDateType dateType = OpenSearchDateType.of("yyyy-MM-dd || dd/MM/yyyy");
+
+    assertEquals(LocalDate.of(2021, 11, 8), dateType.parse("08/11/2021").toLocalDate());
+    assertEquals(LocalDate.of(2022, 1, 2), dateType.parse("02/01/2022").toLocalDate());
+    assertEquals(LocalDate.of(2023, 3, 4), dateType.parse("2023-03-04").toLocalDate());
+    assertNull(dateType.parse("2023.03.04"));
+  }
+
+  @Test
+  void parse_ambiguous_value_by_first_format_regardless_of_last_value() {
+    OpenSearchDateType dateType = OpenSearchDateType.of("dd/MM/yyyy || MM/dd/yyyy");
+
+    assertEquals(LocalDate.of(2021, 1, 13), dateType.parse("01/13/2021").toLocalDate());
+    assertEquals(LocalDate.of(2021, 2, 1), dateType.parse("01/02/2021").toLocalDate());
+  }
+
+  @Test
+  void parse_without_formatter() {
+    assertNull(defaultDateType.parse("2023-03-04"));
+    assertNull(OpenSearchDateType.of(TIMESTAMP).parse("2023-03-04"));
+  }
+
+  @Test
+  void parse_digits_as_epoch_time() {
+    OpenSearchDateType epochMillis = OpenSearchDateType.of("epoch_millis || yyyyMMdd");
+    OpenSearchDateType epochSecond = OpenSearchDateType.of("yyyyMMdd || epoch_second");
+
+    assertEquals(Instant.ofEpochMilli(20230304L), epochMillis.parse("20230304").toInstant());
+    assertEquals(Instant.ofEpochSecond(1678000000L), epochSecond.parse("1678000000").toInstant());
+    assertEquals(
+        LocalDate.of(2023, 3, 4),
+        OpenSearchDateType.of("date || dd/MM/yyyy").parse("04/03/2023").toLocalDate());
+    assertNull(epochMillis.parse(""));
+    assertNull(epochMillis.parse("2023-03-04T00:00:00"));
+    assertNull(epochMillis.parse("2023-03-04"));
+    assertNull(epochMillis.parse("2023:03:04"));
+  }
+
+  @Test
+  void numeric_value_as_epoch_time() {
+    assertAll(
+        () -> assertTrue(defaultDateType.isEpochNumeric()),
+        () -> assertTrue(OpenSearchDateType.of("epoch_millis").isEpochNumeric()),
+        () -> assertTrue(OpenSearchDateType.of("date || epoch_second").isEpochNumeric()),
+        () -> assertFalse(OpenSearchDateType.of("date || yyyyMMdd").isEpochNumeric()),
+        () -> assertEquals(1000L, defaultDateType.toEpochMillis(1000L)),
+        () -> assertEquals(1000L, OpenSearchDateType.of("epoch_millis").toEpochMillis(1000L)),
+        () -> assertEquals(1000L, OpenSearchDateType.of("epoch_second").toEpochMillis(1L)));
+  }
+
+  @Test
+  void parse_after_deserialization() throws Exception {
+    OpenSearchDateType dateType = OpenSearchDateType.of("yyyy-MM-dd || dd/MM/yyyy");
+    dateType.parse("08/11/2021");
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+      objectOutput.writeObject(dateType);
+    }
+    try (ObjectInputStream objectInput =
+        new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+      OpenSearchDateType deserialized = (OpenSearchDateType) objectInput.readObject();
+      assertEquals(dateType, deserialized);
+      assertEquals(LocalDate.of(2021, 11, 8), deserialized.parse("08/11/2021").toLocalDate());
+    }
+  }
 }
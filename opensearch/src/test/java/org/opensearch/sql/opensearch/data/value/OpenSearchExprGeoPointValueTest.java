@@ -9,7 +9,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.utils.ExprValueCodec;
 import org.opensearch.sql.opensearch.data.type.OpenSearchGeoPointType;
 
 class OpenSearchExprGeoPointValueTest {
@@ -37,6 +43,15 @@ class OpenSearchExprGeoPointValueTest {
     assertTrue(geoPointValue.equal(new OpenSearchExprGeoPointValue(1.0, 1.0)));
   }
 
+  @Test
+  void write_read() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ExprValueCodec.write(geoPointValue, new DataOutputStream(bytes));
+    assertEquals(
+        geoPointValue,
+        ExprValueCodec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+  }
+
   @Test
   void testHashCode() {
     assertNotNull(geoPointValue.hashCode());
@@ -7,15 +7,23 @@ package org.opensearch.sql.opensearch.data.value;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
+import com.google.common.collect.ImmutableList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
+import org.opensearch.sql.planner.physical.spill.ExternalSorter;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 class OpenSearchExprTextValueTest {
@@ -24,6 +32,21 @@ class OpenSearchExprTextValueTest {
     assertEquals(OpenSearchTextType.of(), new OpenSearchExprTextValue("A").type());
   }
 
+  @Test
+  void text_values_are_the_same_after_spill() {
+    List<ExprValue> input =
+        IntStream.range(0, 1000)
+            .mapToObj(i -> new OpenSearchExprTextValue(String.format("text %04d", 999 - i)))
+            .collect(Collectors.toList());
+    try (ExternalSorter sorter = new ExternalSorter(Comparator.naturalOrder(), 2048)) {
+      input.forEach(sorter::add);
+      assertTrue(sorter.getSpilledRuns() > 0);
+      List<ExprValue> sorted = ImmutableList.copyOf(sorter.sorted());
+      assertEquals(ImmutableList.copyOf(input).reverse(), sorted);
+      sorted.forEach(value -> assertEquals(OpenSearchExprTextValue.class, value.getClass()));
+    }
+  }
+
   @Test
   public void getFields() {
     var fields =
@@ -8,6 +8,7 @@ package org.opensearch.sql.opensearch.data.value;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.data.model.ExprValueUtils.booleanValue;
@@ -37,6 +38,8 @@ import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -47,6 +50,11 @@ import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.junit.jupiter.api.Test;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprTimeValue;
@@ -753,6 +761,140 @@ class OpenSearchExprValueFactoryTest {
     assertEquals("invalid json: {\"invalid_json:1}.", exception.getMessage());
   }
 
+  @Test
+  public void constructFromSourceBytes() {
+    String source =
+        "{\"intV\":1,\"stringV\":\"text\",\"not_exist\":{\"a\":[1,{\"b\":2}]},"
+            + "\"structV\":{\"id\":1,\"state\":\"WA\",\"not_exist\":[3]},"
+            + "\"arrayV\":[{\"info\":\"Book\",\"author\":\"Jack\"}],"
+            + "\"geoV\":{\"lat\":42.6,\"lon\":-97.2},\"timeV\":null}";
+    byte[] bytes = ("{\"pad\":0}" + source).getBytes(StandardCharsets.UTF_8);
+    ExprValue expected = exprValueFactory.construct(source, false);
+
+    assertEquals(
+        expected,
+        exprValueFactory.constructFromSource(new BytesArray(bytes, 9, source.length()), false));
+    assertEquals(nullValue(), expected.tupleValue().get("not_exist"));
+    assertEquals(
+        Map.of("id", integerValue(1), "state", stringValue("WA"), "not_exist", nullValue()),
+        expected.tupleValue().get("structV").tupleValue());
+  }
+
+  @Test
+  public void constructFromDocValues() {
+    OpenSearchExprValueFactory factory =
+        new OpenSearchExprValueFactory(
+            new ImmutableMap.Builder<String, OpenSearchDataType>()
+                .put("keywordV", OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword))
+                .put("intV", OpenSearchDataType.of(OpenSearchDataType.MappingType.Integer))
+                .put("timestampV", OpenSearchDateType.of(TIMESTAMP))
+                .put("dateV", OpenSearchDateType.of(DATE))
+                .build());
+    Map<String, DocumentField> fields =
+        new ImmutableMap.Builder<String, DocumentField>()
+            .put("keywordV", new DocumentField("keywordV", List.of("a", "b")))
+            .put("intV", new DocumentField("intV", List.of(1L)))
+            .put(
+                "timestampV",
+                new DocumentField("timestampV", List.of("2015-01-01T12:10:30.123456789Z")))
+            .put("dateV", new DocumentField("dateV", List.of("2015-01-01T00:00:00.000Z")))
+            .put("emptyV", new DocumentField("emptyV", List.of()))
+            .build();
+
+    assertEquals(
+        new ImmutableMap.Builder<String, ExprValue>()
+            .put("keywordV", stringValue("a"))
+            .put("intV", integerValue(1))
+            .put(
+                "timestampV",
+                new ExprTimestampValue(Instant.parse("2015-01-01T12:10:30.123456789Z")))
+            .put("dateV", new ExprDateValue(LocalDate.of(2015, 1, 1)))
+            .build(),
+        factory.constructFromDocValues(fields).tupleValue());
+  }
+
+  @Test
+  public void docValueFieldsOfTopLevelFieldsWithSameValueAsSource() {
+    OpenSearchExprValueFactory factory =
+        new OpenSearchExprValueFactory(
+            new ImmutableMap.Builder<String, OpenSearchDataType>()
+                .put("keywordV", OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword))
+                .put("doubleV", OpenSearchDataType.of(OpenSearchDataType.MappingType.Double))
+                .put("dateV", OpenSearchDateType.of(DATE))
+                .put("textV", OpenSearchTextType.of())
+                .put("scaledV", OpenSearchDataType.of(OpenSearchDataType.MappingType.ScaledFloat))
+                .put(
+                    "structV",
+                    OpenSearchDataType.of(
+                        OpenSearchDataType.MappingType.Object,
+                        Map.of("properties", Map.of("id", Map.of("type", "integer")))))
+                .build());
+
+    assertAll(
+        () -> assertTrue(factory.isDocValueField("keywordV")),
+        () -> assertTrue(factory.isDocValueField("doubleV")),
+        () -> assertTrue(factory.isDocValueField("dateV")),
+        () -> assertFalse(factory.isDocValueField("textV")),
+        () -> assertFalse(factory.isDocValueField("scaledV")),
+        () -> assertFalse(factory.isDocValueField("structV")),
+        () -> assertFalse(factory.isDocValueField("structV.id")),
+        () -> assertFalse(factory.isDocValueField("not_exist")),
+        () ->
+            assertEquals(
+                OpenSearchExprValueFactory.DOC_VALUE_DATE_FORMAT, factory.docValueFormat("dateV")),
+        () -> assertNull(factory.docValueFormat("keywordV")));
+  }
+
+  @Test
+  public void constructFromInvalidSourceBytesThrowException() {
+    IllegalStateException exception =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                exprValueFactory.constructFromSource(
+                    new BytesArray("{\"invalid_json:1}"), false));
+    assertEquals("invalid json: {\"invalid_json:1}.", exception.getMessage());
+  }
+
+  @Test
+  public void constructFromSmileSourceBytes() throws IOException {
+    XContentBuilder source =
+        XContentFactory.smileBuilder()
+            .startObject()
+            .field("intV", 1)
+            .startObject("structV")
+            .field("id", 1)
+            .field("state", "WA")
+            .endObject()
+            .endObject();
+
+    assertEquals(
+        tupleValue("{\"intV\":1,\"structV\":{\"id\":1,\"state\":\"WA\"}}"),
+        exprValueFactory.constructFromSource(BytesReference.bytes(source), false).tupleValue());
+  }
+
+  @Test
+  public void constructFromInvalidSmileSourceBytesThrowException() throws IOException {
+    BytesReference source =
+        BytesReference.bytes(
+            XContentFactory.smileBuilder().startObject().field("intV", 1).endObject());
+    BytesReference truncated = source.slice(0, source.length() - 1);
+    IllegalStateException exception =
+        assertThrows(
+            IllegalStateException.class,
+            () -> exprValueFactory.constructFromSource(truncated, false));
+    assertEquals("invalid smile source.", exception.getMessage());
+  }
+
+  @Test
+  public void constructFromUnknownSourceBytesThrowException() {
+    IllegalStateException exception =
+        assertThrows(
+            IllegalStateException.class,
+            () -> exprValueFactory.constructFromSource(new BytesArray("invalid"), false));
+    assertEquals("invalid json: invalid.", exception.getMessage());
+  }
+
   @Test
   public void noTypeFoundForMapping() {
     assertEquals(nullValue(), tupleValue("{\"not_exist\":[]}").get("not_exist"));
@@ -12,7 +12,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,6 +28,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
@@ -40,10 +43,13 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ChunkedResponseListener;
 import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
@@ -141,6 +147,52 @@ class OpenSearchExecutionEngineTest {
     assertEquals(expected, actual);
   }
 
+  @Test
+  void execute_with_chunked_listener() {
+    List<ExprValue> expected = new ArrayList<>();
+    for (int i = 0; i < 2500; i++) {
+      expected.add(tupleValue(of("id", i)));
+    }
+    FakePhysicalPlan plan = new FakePhysicalPlan(expected.iterator());
+    when(protector.protect(plan)).thenReturn(plan);
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    List<Integer> chunkSizes = new ArrayList<>();
+    List<ExprValue> actual = new ArrayList<>();
+    AtomicReference<Cursor> cursor = new AtomicReference<>();
+    executor.execute(
+        plan,
+        new ChunkedResponseListener() {
+          @Override
+          public void onSchema(ExecutionEngine.Schema actualSchema) {
+            assertEquals(schema, actualSchema);
+            assertTrue(actual.isEmpty());
+          }
+
+          @Override
+          public void onChunk(List<ExprValue> rows) {
+            chunkSizes.add(rows.size());
+            actual.addAll(rows);
+          }
+
+          @Override
+          public void onComplete(Cursor c) {
+            cursor.set(c);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+
+    assertEquals(List.of(1000, 1000, 500), chunkSizes);
+    assertEquals(expected, actual);
+    assertNotNull(cursor.get());
+    assertTrue(plan.hasClosed);
+  }
+
   @Test
   void execute_with_failure() {
     PhysicalPlan plan = mock(PhysicalPlan.class);
@@ -230,6 +282,66 @@ class OpenSearchExecutionEngineTest {
     assertNotNull(result.get());
   }
 
+  @Test
+  void profile_successfully() {
+    List<ExprValue> rows =
+        Arrays.asList(
+            tupleValue(of("name", "John", "age", 20)), tupleValue(of("name", "Allen", "age", 30)));
+    FakePhysicalPlan plan = new FakePhysicalPlan(rows.iterator());
+    when(protector.protect(same(plan), any()))
+        .thenAnswer(invocation -> invocation.<QueryProfile>getArgument(1).profile(plan));
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    AtomicReference<ExplainResponse> result = new AtomicReference<>();
+    executor.profile(
+        plan,
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExplainResponse response) {
+            result.set(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail(e);
+          }
+        });
+
+    Map<String, Object> description = result.get().getRoot().getDescription();
+    assertEquals("explain", description.get("request"));
+    assertEquals(2L, ((Map<?, ?>) description.get("profile")).get("rowsOut"));
+    assertTrue(plan.hasOpen);
+    assertTrue(plan.hasClosed);
+  }
+
+  @Test
+  void profile_with_failure() {
+    PhysicalPlan plan = mock(PhysicalPlan.class);
+    when(protector.protect(same(plan), any())).thenReturn(plan);
+    doThrow(IllegalStateException.class).when(plan).open();
+
+    OpenSearchExecutionEngine executor =
+        new OpenSearchExecutionEngine(client, protector, new PlanSerializer(null));
+    AtomicReference<Exception> result = new AtomicReference<>();
+    executor.profile(
+        plan,
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(ExplainResponse response) {
+            fail("Should fail as expected");
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            result.set(e);
+          }
+        });
+
+    assertTrue(result.get() instanceof IllegalStateException);
+    verify(plan).close();
+  }
+
   @Test
   void call_add_split_and_open_in_order() {
     List<ExprValue> expected =
@@ -8,6 +8,8 @@
 
 package org.opensearch.sql.opensearch.executor;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
@@ -15,6 +17,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -22,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.common.utils.QueryContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryId;
 import org.opensearch.sql.executor.QueryService;
@@ -67,4 +71,34 @@ class OpenSearchQueryManagerTest {
 
     assertTrue(isRun.get());
   }
+
+  @Test
+  public void clearQueryLanguageAfterQueryRun() {
+    NodeClient nodeClient = mock(NodeClient.class);
+    ThreadPool threadPool = mock(ThreadPool.class);
+    when(nodeClient.threadPool()).thenReturn(threadPool);
+
+    AtomicReference<String> language = new AtomicReference<>();
+    AbstractPlan queryPlan =
+        new QueryPlan(queryId, plan, queryService, listener) {
+          @Override
+          public void execute() {
+            language.set(QueryContext.getQueryLanguage());
+          }
+        };
+
+    doAnswer(
+            invocation -> {
+              Runnable task = invocation.getArgument(0);
+              task.run();
+              return null;
+            })
+        .when(threadPool)
+        .schedule(any(), any(), any());
+    QueryContext.setQueryLanguage("sql");
+    new OpenSearchQueryManager(nodeClient).submit(queryPlan);
+
+    assertEquals("sql", language.get());
+    assertNull(QueryContext.getQueryLanguage());
+  }
 }
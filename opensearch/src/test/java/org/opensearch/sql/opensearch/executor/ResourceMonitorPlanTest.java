@@ -8,21 +8,25 @@ package org.opensearch.sql.opensearch.executor;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
+import java.util.Collections;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.executor.protector.ResourceMonitorPlan;
 import org.opensearch.sql.planner.SerializablePlan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.RowBatch;
 
 @ExtendWith(MockitoExtension.class)
 class ResourceMonitorPlanTest {
@@ -82,6 +86,43 @@ class ResourceMonitorPlanTest {
     assertEquals("resource is not enough to load next row, quit.", exception.getMessage());
   }
 
+  @Test
+  void nextBatchSuccess() {
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+    RowBatch batch = batchOf(600);
+    when(plan.nextBatch()).thenReturn(batch);
+
+    assertEquals(batch, monitorPlan.nextBatch());
+    verify(resourceMonitor, never()).isHealthy();
+    assertEquals(batch, monitorPlan.nextBatch());
+    verify(resourceMonitor, times(1)).isHealthy();
+    assertEquals(batch, monitorPlan.nextBatch());
+    verify(resourceMonitor, times(1)).isHealthy();
+  }
+
+  @Test
+  void nextBatchCountedWithNext() {
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+    when(plan.nextBatch()).thenReturn(batchOf(1), RowBatch.empty());
+
+    for (int i = 1; i < 1000; i++) {
+      monitorPlan.next();
+    }
+    monitorPlan.nextBatch();
+    monitorPlan.nextBatch();
+    verify(resourceMonitor, times(1)).isHealthy();
+  }
+
+  @Test
+  void nextBatchExceedResourceLimit() {
+    when(resourceMonitor.isHealthy()).thenReturn(false);
+    when(plan.nextBatch()).thenReturn(batchOf(1000));
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> monitorPlan.nextBatch());
+    assertEquals("resource is not enough to load next batch, quit.", exception.getMessage());
+  }
+
   @Test
   void hasNextSuccess() {
     monitorPlan.hasNext();
@@ -119,4 +160,8 @@ class ResourceMonitorPlanTest {
     assertThrows(UnsupportedOperationException.class, () -> monitorPlan.writeExternal(null));
     assertThrows(UnsupportedOperationException.class, () -> monitorPlan.readExternal(null));
   }
+
+  private static RowBatch batchOf(int size) {
+    return RowBatch.of(Collections.nCopies(size, ExprValueUtils.integerValue(1)));
+  }
 }
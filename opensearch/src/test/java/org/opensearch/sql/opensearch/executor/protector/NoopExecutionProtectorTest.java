@@ -6,11 +6,15 @@
 package org.opensearch.sql.opensearch.executor.protector;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.executor.profile.ProfilePlan;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,4 +29,14 @@ class NoopExecutionProtectorTest {
 
     assertEquals(plan, protectedPlan);
   }
+
+  @Test
+  void protect_and_profile_plan_as_a_whole() {
+    QueryProfile profile = new QueryProfile();
+    PhysicalPlan values = values();
+    PhysicalPlan protectedPlan = new NoopExecutionProtector().protect(values, profile);
+
+    assertTrue(protectedPlan instanceof ProfilePlan);
+    assertEquals(0L, profile.metrics(values).get("rowsOut"));
+  }
 }
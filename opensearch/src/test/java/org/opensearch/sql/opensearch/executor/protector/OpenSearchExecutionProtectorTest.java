@@ -8,9 +8,11 @@ package org.opensearch.sql.opensearch.executor.protector;
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -20,6 +22,7 @@ import static org.opensearch.sql.expression.DSL.named;
 import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.filter;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.takeOrdered;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.window;
 
@@ -39,6 +42,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.sql.ast.expression.DataType;
 import org.opensearch.sql.ast.expression.Literal;
 import org.opensearch.sql.ast.tree.RareTopN.CommandType;
@@ -54,6 +58,8 @@ import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
 import org.opensearch.sql.expression.window.ranking.RankFunction;
+import org.opensearch.sql.executor.profile.ProfilePlan;
+import org.opensearch.sql.executor.profile.QueryProfile;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
@@ -64,10 +70,13 @@ import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.CursorCloseOperator;
+import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
+import org.opensearch.sql.planner.physical.SortOperator;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -191,6 +200,57 @@ class OpenSearchExecutionProtectorTest {
             window(sort(values(emptyList()), sortItem), rank, windowDefinition)));
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  void test_protect_sort_with_memory_limit() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SORT_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(1024));
+    Pair<Sort.SortOption, Expression> sortItem =
+        ImmutablePair.of(DEFAULT_ASC, DSL.ref("age", INTEGER));
+
+    assertEquals(
+        resourceMonitor(new SortOperator(values(emptyList()), List.of(sortItem), 1024L)),
+        new OpenSearchExecutionProtector(resourceMonitor, settings)
+            .protect(sort(values(emptyList()), sortItem)));
+  }
+
+  @Test
+  void test_protect_dedupe_with_memory_limit() {
+    when(settings.getSettingValue(Settings.Key.QUERY_DEDUP_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(1024));
+    List<Expression> dedupeList = List.of(ref("name", STRING));
+
+    assertEquals(
+        new DedupeOperator(values(emptyList()), dedupeList, 1, false, false, 1024L),
+        new OpenSearchExecutionProtector(resourceMonitor, settings)
+            .protect(PhysicalPlanDSL.dedupe(values(emptyList()), ref("name", STRING))));
+  }
+
+  @Test
+  void test_protect_aggregation_with_memory_limit() {
+    when(settings.getSettingValue(Settings.Key.QUERY_AGGREGATION_MEMORY_LIMIT))
+        .thenReturn(new ByteSizeValue(1024));
+    List<NamedAggregator> aggregators =
+        List.of(named("avg(age)", new AvgAggregator(List.of(ref("age", INTEGER)), DOUBLE)));
+    List<NamedExpression> groupByExprs = List.of(named("name", ref("name", STRING)));
+
+    assertEquals(
+        new AggregationOperator(values(emptyList()), aggregators, groupByExprs, 1024L),
+        new OpenSearchExecutionProtector(resourceMonitor, settings)
+            .protect(PhysicalPlanDSL.agg(values(emptyList()), aggregators, groupByExprs)));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void test_protect_takeOrdered() {
+    Pair<Sort.SortOption, Expression> sortItem =
+        ImmutablePair.of(DEFAULT_ASC, DSL.ref("age", INTEGER));
+
+    assertEquals(
+        resourceMonitor(takeOrdered(values(emptyList()), 10, 5, sortItem)),
+        executionProtector.protect(takeOrdered(values(emptyList()), 10, 5, sortItem)));
+  }
+
   @Test
   void test_protect_windowOperator_input() {
     NamedExpression avg = named(mock(AggregateWindowFunction.class));
@@ -216,6 +276,28 @@ class OpenSearchExecutionProtectorTest {
             window(sort(values(emptyList()), sortItem), avg, windowDefinition)));
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  void test_protect_and_profile_every_operator() {
+    Pair<Sort.SortOption, Expression> sortItem =
+        ImmutablePair.of(DEFAULT_ASC, DSL.ref("age", INTEGER));
+    Expression filterExpr = literal(ExprBooleanValue.of(true));
+    QueryProfile profile = new QueryProfile();
+
+    PhysicalPlan plan =
+        executionProtector.protect(
+            filter(sort(values(emptyList()), sortItem), filterExpr), profile);
+    PhysicalPlan sortPlan = plan.getChild().get(0);
+    PhysicalPlan valuesPlan = sortPlan.getChild().get(0);
+
+    assertTrue(plan instanceof ProfilePlan);
+    assertTrue(sortPlan instanceof ProfilePlan);
+    assertTrue(valuesPlan instanceof ProfilePlan);
+    assertEquals(0L, profile.metrics(plan).get("rowsIn"));
+    assertEquals(0L, profile.metrics(sortPlan).get("rowsIn"));
+    assertEquals(0L, profile.metrics(valuesPlan).get("rowsOut"));
+  }
+
   @Test
   void test_without_protection() {
     Expression filterExpr = literal(ExprBooleanValue.of(true));
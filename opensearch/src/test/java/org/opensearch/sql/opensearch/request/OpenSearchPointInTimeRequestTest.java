@@ -0,0 +1,238 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
+import static org.opensearch.search.sort.SortOrder.ASC;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.SneakyThrows;
+import org.apache.lucene.search.TotalHits;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OpenSearchPointInTimeRequestTest {
+
+  private static final OpenSearchRequest.IndexName INDEX_NAME =
+      new OpenSearchRequest.IndexName("test");
+
+  private static final TimeValue KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+
+  @Mock private OpenSearchExprValueFactory factory;
+
+  @Mock private SearchResponse searchResponse;
+
+  private final SearchSourceBuilder sourceBuilder =
+      new SearchSourceBuilder().from(10).size(5).query(QueryBuilders.termQuery("name", "John"));
+
+  private final OpenSearchPointInTimeRequest request =
+      new OpenSearchPointInTimeRequest(INDEX_NAME, KEEP_ALIVE, sourceBuilder, factory, List.of());
+
+  @Test
+  void create_pit_once() {
+    AtomicReference<CreatePitRequest> createRequest = new AtomicReference<>();
+    request.createPit(
+        req -> {
+          createRequest.set(req);
+          return "pit1";
+        });
+    request.createPit(req -> fail("point in time is created again"));
+
+    assertEquals("pit1", request.getPitId());
+    assertArrayEquals(new String[] {"test"}, createRequest.get().indices());
+    assertEquals(KEEP_ALIVE, createRequest.get().getKeepAlive());
+  }
+
+  @Test
+  void search_without_pit_should_throw() {
+    assertThrows(
+        IllegalStateException.class, () -> request.search(sr -> fail("search"), sr -> fail()));
+  }
+
+  @Test
+  void search_pages_after_last_hit() {
+    request.setPitId("pit1");
+    when(searchResponse.getHits()).thenReturn(hits(hit(1L, "a"), hit(2L, "b")));
+    when(searchResponse.pointInTimeId()).thenReturn("pit2");
+
+    request.search(
+        searchRequest -> {
+          assertEquals(
+              new SearchRequest()
+                  .source(
+                      new SearchSourceBuilder()
+                          .from(10)
+                          .size(5)
+                          .query(QueryBuilders.termQuery("name", "John"))
+                          .pointInTimeBuilder(
+                              new PointInTimeBuilder("pit1").setKeepAlive(KEEP_ALIVE))),
+              searchRequest);
+          return searchResponse;
+        },
+        scrollRequest -> fail("scroll"));
+
+    assertEquals("pit2", request.getPitId());
+    assertArrayEquals(new Object[] {2L, "b"}, request.getSearchAfter());
+    assertTrue(request.hasAnotherBatch());
+    assertEquals(
+        new SearchSourceBuilder()
+            .from(0)
+            .size(5)
+            .query(QueryBuilders.termQuery("name", "John"))
+            .pointInTimeBuilder(new PointInTimeBuilder("pit2").setKeepAlive(KEEP_ALIVE))
+            .searchAfter(new Object[] {2L, "b"}),
+        request.searchRequest().source());
+  }
+
+  @Test
+  void search_after_tie_on_doc_at_page_boundary_by_id() {
+    // _doc 7 of two shards tie at the end of the first page, so only _id tells them apart
+    SearchSourceBuilder sorted =
+        new SearchSourceBuilder()
+            .size(2)
+            .sort(DOC_FIELD_NAME, ASC)
+            .sort(OpenSearchIndex.METADATA_FIELD_ID, ASC);
+    OpenSearchPointInTimeRequest pitRequest =
+        new OpenSearchPointInTimeRequest(INDEX_NAME, KEEP_ALIVE, sorted, factory, List.of());
+    pitRequest.setPitId("pit1");
+    when(searchResponse.getHits()).thenReturn(hits(hit(3L, "a"), hit(7L, "b")));
+
+    pitRequest.search(searchRequest -> searchResponse, scrollRequest -> fail("scroll"));
+
+    assertArrayEquals(new Object[] {7L, "b"}, pitRequest.getSearchAfter());
+    assertArrayEquals(new Object[] {7L, "b"}, pitRequest.searchRequest().source().searchAfter());
+    assertEquals(sorted.sorts(), pitRequest.searchRequest().source().sorts());
+  }
+
+  @Test
+  void keep_pit_id_if_not_in_response() {
+    request.setPitId("pit1");
+    when(searchResponse.getHits()).thenReturn(hits(hit(1L, "a")));
+
+    request.search(searchRequest -> searchResponse, scrollRequest -> fail("scroll"));
+    assertEquals("pit1", request.getPitId());
+  }
+
+  @Test
+  void clean_on_empty_response() {
+    request.setPitId("pit1");
+    when(searchResponse.getHits()).thenReturn(hits());
+
+    assertTrue(request.search(searchRequest -> searchResponse, null).isEmpty());
+    assertFalse(request.hasAnotherBatch());
+
+    AtomicReference<String> cleaned = new AtomicReference<>();
+    request.clean(cleaned::set);
+    assertEquals("pit1", cleaned.get());
+    assertNull(request.getPitId());
+  }
+
+  @Test
+  void no_clean_on_non_empty_response() {
+    request.setPitId("pit1");
+    when(searchResponse.getHits()).thenReturn(hits(hit(1L, "a")));
+
+    request.search(searchRequest -> searchResponse, null);
+    request.clean(pitId -> fail("point in time is deleted"));
+    assertNull(request.getPitId());
+    assertNull(request.getSearchAfter());
+    assertFalse(request.hasAnotherBatch());
+  }
+
+  @Test
+  void no_clean_without_pit() {
+    request.clean(pitId -> fail("point in time is deleted"));
+    assertFalse(request.hasAnotherBatch());
+  }
+
+  @Test
+  @SneakyThrows
+  void serialize_deserialize() {
+    request.setPitId("pit1");
+    request.setSearchAfter(new Object[] {2L, "b"});
+
+    var stream = new BytesStreamOutput();
+    request.writeTo(stream);
+    stream.flush();
+
+    var inStream = new BytesStreamInput(stream.bytes().toBytesRef().bytes);
+    var engine = mock(OpenSearchStorageEngine.class);
+    var client = mock(OpenSearchClient.class);
+    when(engine.getClient()).thenReturn(client);
+    when(client.getNamedWriteableRegistry())
+        .thenReturn(
+            new NamedWriteableRegistry(
+                new SearchModule(Settings.EMPTY, List.of()).getNamedWriteables()));
+    when(engine.getTable(any(), any())).thenReturn(mock(OpenSearchIndex.class));
+    assertEquals(request, new OpenSearchPointInTimeRequest(inStream, engine));
+  }
+
+  @Test
+  @SneakyThrows
+  void deserialize_query_by_registry_of_client() {
+    var stream = new BytesStreamOutput();
+    request.setPitId("pit1");
+    request.writeTo(stream);
+    stream.flush();
+
+    var inStream = new BytesStreamInput(stream.bytes().toBytesRef().bytes);
+    var engine = mock(OpenSearchStorageEngine.class);
+    var client = mock(OpenSearchClient.class);
+    when(engine.getClient()).thenReturn(client);
+    when(client.getNamedWriteableRegistry()).thenReturn(new NamedWriteableRegistry(List.of()));
+    assertThrows(
+        IllegalArgumentException.class, () -> new OpenSearchPointInTimeRequest(inStream, engine));
+  }
+
+  private static SearchHit hit(Object... sortValues) {
+    SearchHit hit = new SearchHit(1);
+    DocValueFormat[] formats = new DocValueFormat[sortValues.length];
+    Arrays.fill(formats, DocValueFormat.RAW);
+    hit.sortValues(sortValues, formats);
+    return hit;
+  }
+
+  private static SearchHits hits(SearchHit... hits) {
+    return new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1F);
+  }
+}
@@ -7,6 +7,8 @@ package org.opensearch.sql.opensearch.request;
 
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -16,6 +18,7 @@ import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
 import static org.opensearch.search.sort.SortOrder.ASC;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIELD_ID;
 
 import java.util.Collections;
 import java.util.List;
@@ -46,7 +49,10 @@ import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.fetch.subphase.FieldAndFormat;
+import org.opensearch.search.slice.SliceBuilder;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.ScoreSortBuilder;
 import org.opensearch.search.sort.SortBuilders;
@@ -122,6 +128,140 @@ class OpenSearchRequestBuilderTest {
         requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT));
   }
 
+  @Test
+  void build_sliced_scroll_request() {
+    requestBuilder.pushDownLimit(800, 0);
+
+    assertEquals(
+        new OpenSearchSlicedScrollRequest(
+            List.of(
+                new OpenSearchScrollRequest(
+                    new OpenSearchRequest.IndexName("test"),
+                    TimeValue.timeValueMinutes(1),
+                    new SearchSourceBuilder()
+                        .from(0)
+                        .size(MAX_RESULT_WINDOW)
+                        .timeout(DEFAULT_QUERY_TIMEOUT)
+                        .slice(new SliceBuilder(0, 2)),
+                    exprValueFactory,
+                    List.of()),
+                new OpenSearchScrollRequest(
+                    new OpenSearchRequest.IndexName("test"),
+                    TimeValue.timeValueMinutes(1),
+                    new SearchSourceBuilder()
+                        .from(0)
+                        .size(MAX_RESULT_WINDOW)
+                        .timeout(DEFAULT_QUERY_TIMEOUT)
+                        .slice(new SliceBuilder(1, 2)),
+                    exprValueFactory,
+                    List.of()))),
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 2, false));
+  }
+
+  @Test
+  void build_sliced_scroll_request_if_sort_by_doc_only() {
+    requestBuilder.pushDownLimit(800, 0);
+    // Sort by _doc is added by filter push down
+    requestBuilder.pushDownFilter(QueryBuilders.termQuery("intA", 1));
+
+    assertInstanceOf(
+        OpenSearchSlicedScrollRequest.class,
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 2, false));
+  }
+
+  @Test
+  void build_scroll_request_without_slice_if_sorted_or_offset() {
+    OpenSearchRequestBuilder sorted = new OpenSearchRequestBuilder(800, exprValueFactory);
+    sorted.pushDownSort(List.of(SortBuilders.fieldSort("intA")));
+    assertInstanceOf(
+        OpenSearchScrollRequest.class,
+        sorted.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 2, false));
+
+    OpenSearchRequestBuilder offset = new OpenSearchRequestBuilder(800, exprValueFactory);
+    offset.pushDownLimit(800, 10);
+    assertInstanceOf(
+        OpenSearchScrollRequest.class,
+        offset.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 2, false));
+  }
+
+  @Test
+  void build_point_in_time_request_sorted_by_unique_key() {
+    requestBuilder.pushDownLimit(800, 10);
+
+    assertEquals(
+        new OpenSearchPointInTimeRequest(
+            new OpenSearchRequest.IndexName("test"),
+            TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder()
+                .from(10)
+                .size(MAX_RESULT_WINDOW - 10)
+                .timeout(DEFAULT_QUERY_TIMEOUT)
+                .sort(DOC_FIELD_NAME, ASC)
+                .sort(METADATA_FIELD_ID, ASC),
+            exprValueFactory,
+            List.of()),
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 1, true));
+  }
+
+  @Test
+  void build_point_in_time_request_with_page_size_and_sort() {
+    requestBuilder.pushDownPageSize(10);
+    requestBuilder.pushDownSort(List.of(SortBuilders.fieldSort("intA")));
+
+    assertEquals(
+        new OpenSearchPointInTimeRequest(
+            new OpenSearchRequest.IndexName("test"),
+            TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder()
+                .from(DEFAULT_OFFSET)
+                .size(10)
+                .timeout(DEFAULT_QUERY_TIMEOUT)
+                .sort(SortBuilders.fieldSort("intA"))
+                .sort(METADATA_FIELD_ID, ASC),
+            exprValueFactory,
+            List.of()),
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 2, true));
+  }
+
+  @Test
+  void build_point_in_time_request_sorted_by_doc() {
+    requestBuilder.pushDownPageSize(10);
+    requestBuilder.pushDownSort(List.of(SortBuilders.fieldSort(DOC_FIELD_NAME)));
+
+    assertEquals(
+        new OpenSearchPointInTimeRequest(
+            new OpenSearchRequest.IndexName("test"),
+            TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder()
+                .from(DEFAULT_OFFSET)
+                .size(10)
+                .timeout(DEFAULT_QUERY_TIMEOUT)
+                .sort(DOC_FIELD_NAME, ASC)
+                .sort(METADATA_FIELD_ID, ASC),
+            exprValueFactory,
+            List.of()),
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 2, true));
+  }
+
+  @Test
+  void build_point_in_time_request_sorted_by_id() {
+    requestBuilder.pushDownPageSize(10);
+    requestBuilder.pushDownSort(List.of(SortBuilders.fieldSort(METADATA_FIELD_ID)));
+
+    assertEquals(
+        new OpenSearchPointInTimeRequest(
+            new OpenSearchRequest.IndexName("test"),
+            TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder()
+                .from(DEFAULT_OFFSET)
+                .size(10)
+                .timeout(DEFAULT_QUERY_TIMEOUT)
+                .sort(METADATA_FIELD_ID, ASC),
+            exprValueFactory,
+            List.of()),
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 2, true));
+  }
+
   @Test
   void test_push_down_query() {
     QueryBuilder query = QueryBuilders.termQuery("intA", 1);
@@ -203,6 +343,41 @@ class OpenSearchRequestBuilderTest {
         requestBuilder);
   }
 
+  @Test
+  void test_push_down_collapse() {
+    requestBuilder.pushDownCollapse("name");
+
+    assertSearchSourceBuilder(
+        new SearchSourceBuilder()
+            .from(DEFAULT_OFFSET)
+            .size(DEFAULT_LIMIT)
+            .timeout(DEFAULT_QUERY_TIMEOUT)
+            .query(QueryBuilders.existsQuery("name"))
+            .sort(DOC_FIELD_NAME, ASC)
+            .collapse(new CollapseBuilder("name")),
+        requestBuilder);
+  }
+
+  @Test
+  void build_query_request_within_max_result_window_if_collapsed() {
+    requestBuilder.pushDownLimit(800, 10);
+    requestBuilder.pushDownCollapse("name");
+
+    assertEquals(
+        new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName("test"),
+            new SearchSourceBuilder()
+                .from(10)
+                .size(MAX_RESULT_WINDOW - 10)
+                .timeout(DEFAULT_QUERY_TIMEOUT)
+                .query(QueryBuilders.existsQuery("name"))
+                .sort(DOC_FIELD_NAME, ASC)
+                .collapse(new CollapseBuilder("name")),
+            exprValueFactory,
+            List.of()),
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 2, true));
+  }
+
   void assertSearchSourceBuilder(
       SearchSourceBuilder expected, OpenSearchRequestBuilder requestBuilder)
       throws UnsupportedOperationException {
@@ -353,6 +528,48 @@ class OpenSearchRequestBuilderTest {
         requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT));
   }
 
+  @Test
+  void push_down_project_as_doc_value_fields() {
+    requestBuilder = new OpenSearchRequestBuilder(DEFAULT_LIMIT, exprValueFactory, true);
+    when(exprValueFactory.isDocValueField("intA")).thenReturn(true);
+    when(exprValueFactory.docValueFormat("intA")).thenReturn(null);
+    requestBuilder.pushDownProjects(Set.of(DSL.ref("intA", INTEGER), DSL.ref("_id", STRING)));
+
+    SearchSourceBuilder sourceBuilder = requestBuilder.getSourceBuilder();
+    assertFalse(sourceBuilder.fetchSource().fetchSource());
+    assertEquals(Set.of("intA", "_id"), Set.of(sourceBuilder.fetchSource().includes()));
+    assertEquals(List.of(new FieldAndFormat("intA", null)), sourceBuilder.docValueFields());
+  }
+
+  @Test
+  void push_down_project_as_source_if_any_field_has_no_doc_value() {
+    requestBuilder = new OpenSearchRequestBuilder(DEFAULT_LIMIT, exprValueFactory, true);
+    when(exprValueFactory.isDocValueField("textA")).thenReturn(false);
+    requestBuilder.pushDownProjects(Set.of(DSL.ref("textA", STRING)));
+
+    assertSearchSourceBuilder(
+        new SearchSourceBuilder()
+            .from(DEFAULT_OFFSET)
+            .size(DEFAULT_LIMIT)
+            .timeout(DEFAULT_QUERY_TIMEOUT)
+            .fetchSource(new String[] {"textA"}, new String[0]),
+        requestBuilder);
+  }
+
+  @Test
+  void push_down_project_of_metadata_fields_only_as_source() {
+    requestBuilder = new OpenSearchRequestBuilder(DEFAULT_LIMIT, exprValueFactory, true);
+    requestBuilder.pushDownProjects(Set.of(DSL.ref("_id", STRING)));
+
+    assertSearchSourceBuilder(
+        new SearchSourceBuilder()
+            .from(DEFAULT_OFFSET)
+            .size(DEFAULT_LIMIT)
+            .timeout(DEFAULT_QUERY_TIMEOUT)
+            .fetchSource(new String[] {"_id"}, new String[0]),
+        requestBuilder);
+  }
+
   @Test
   void test_push_down_nested() {
     List<Map<String, ReferenceExpression>> args =
@@ -19,6 +19,7 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.sql.opensearch.request.OpenSearchScrollRequest.NO_SCROLL_ID;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.reflect.FieldUtils;
@@ -32,6 +33,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.common.document.DocumentField;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.BytesStreamInput;
@@ -39,6 +41,8 @@ import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
@@ -311,4 +315,51 @@ class OpenSearchScrollRequestTest {
     request.setScrollId("test");
     assertEquals("test", request.getScrollId());
   }
+
+  @Test
+  void search_with_doc_value_fields() {
+    var request =
+        new OpenSearchScrollRequest(
+            INDEX_NAME,
+            SCROLL_TIMEOUT,
+            new SearchSourceBuilder().docValueField("id"),
+            factory,
+            List.of());
+    Map<String, DocumentField> fields = Map.of("id", new DocumentField("id", List.of(1)));
+    var row = ExprTupleValue.fromExprValueMap(Map.of("id", ExprValueUtils.integerValue(1)));
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit}, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1F));
+    when(searchHit.getDocumentFields()).thenReturn(fields);
+    when(factory.constructFromDocValues(fields)).thenReturn(row);
+
+    OpenSearchResponse response = request.search(searchRequest -> searchResponse, null);
+    assertEquals(row, response.iterator().next());
+  }
+
+  @Test
+  @SneakyThrows
+  void search_deserialized_request_by_scroll_id() {
+    request.setScrollId("scroll1");
+    FieldUtils.writeField(request, "needClean", false, true);
+    var stream = new BytesStreamOutput();
+    request.writeTo(stream);
+    stream.flush();
+    var inStream = new BytesStreamInput(stream.bytes().toBytesRef().bytes);
+    var engine = mock(OpenSearchStorageEngine.class);
+    when(engine.getTable(any(), any())).thenReturn(mock(OpenSearchIndex.class));
+    var newRequest = new OpenSearchScrollRequest(inStream, engine);
+
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit}, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1F));
+    when(searchResponse.getScrollId()).thenReturn("scroll2");
+    OpenSearchResponse response =
+        newRequest.search(searchRequest -> fail("search"), scrollRequest -> searchResponse);
+    assertAll(
+        () -> assertFalse(response.isEmpty()),
+        () -> assertEquals("scroll2", newRequest.getScrollId()));
+  }
 }
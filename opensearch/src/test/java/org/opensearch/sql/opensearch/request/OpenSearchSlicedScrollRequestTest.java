@@ -0,0 +1,147 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.SneakyThrows;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.BytesStreamInput;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
+import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OpenSearchSlicedScrollRequestTest {
+
+  @Mock private OpenSearchScrollRequest slice1;
+
+  @Mock private OpenSearchScrollRequest slice2;
+
+  @Test
+  void clean_all_slices() {
+    Consumer<String> cleanAction = scrollId -> {};
+    new OpenSearchSlicedScrollRequest(List.of(slice1, slice2)).clean(cleanAction);
+
+    verify(slice1).clean(cleanAction);
+    verify(slice2).clean(cleanAction);
+  }
+
+  @Test
+  void has_another_batch_if_any_slice_has() {
+    var request = new OpenSearchSlicedScrollRequest(List.of(slice1, slice2));
+    when(slice1.hasAnotherBatch()).thenReturn(false);
+    when(slice2.hasAnotherBatch()).thenReturn(true, false);
+
+    assertTrue(request.hasAnotherBatch());
+    assertFalse(request.hasAnotherBatch());
+  }
+
+  @Test
+  void expr_value_factory_of_slices() {
+    var factory = mock(OpenSearchExprValueFactory.class);
+    when(slice1.getExprValueFactory()).thenReturn(factory);
+
+    assertSame(
+        factory, new OpenSearchSlicedScrollRequest(List.of(slice1, slice2)).getExprValueFactory());
+  }
+
+  @Test
+  void search_slices_in_turn() {
+    Function<SearchRequest, SearchResponse> searchAction = searchRequest -> null;
+    Function<SearchScrollRequest, SearchResponse> scrollAction = scrollRequest -> null;
+    var page1 = response(false);
+    var page2 = response(false);
+    var empty1 = response(true);
+    var empty2 = response(true);
+    when(slice1.search(searchAction, scrollAction)).thenReturn(page1, empty1);
+    when(slice2.search(searchAction, scrollAction)).thenReturn(page2, empty2);
+    var request = new OpenSearchSlicedScrollRequest(List.of(slice1, slice2));
+
+    assertSame(page1, request.search(searchAction, scrollAction));
+    assertSame(page2, request.search(searchAction, scrollAction));
+    assertSame(empty2, request.search(searchAction, scrollAction));
+  }
+
+  @SneakyThrows
+  @Test
+  void serialize_and_deserialize_all_slices() {
+    var request = new OpenSearchSlicedScrollRequest(List.of(slice("scroll1"), slice("scroll2")));
+    // Move on to the second slice by setting a private field.
+    FieldUtils.writeField(request, "current", 1, true);
+    var output = new BytesStreamOutput();
+    request.writeTo(output);
+    output.flush();
+
+    var engine = mock(OpenSearchStorageEngine.class);
+    when(engine.getTable(any(), any())).thenReturn(mock(OpenSearchIndex.class));
+    var input = new BytesStreamInput(output.bytes().toBytesRef().bytes);
+    var newRequest = new OpenSearchSlicedScrollRequest(input, engine);
+    assertEquals(
+        List.of("scroll1", "scroll2"),
+        newRequest.getSlices().stream()
+            .map(OpenSearchScrollRequest::getScrollId)
+            .collect(Collectors.toList()));
+
+    // Deserialized request searches on from the second slice
+    var emptyPage = mock(SearchResponse.class);
+    when(emptyPage.getHits()).thenReturn(SearchHits.empty());
+    List<String> scrollIds = new ArrayList<>();
+    newRequest.search(
+        searchRequest -> fail("search"),
+        scrollRequest -> {
+          scrollIds.add(scrollRequest.scrollId());
+          return emptyPage;
+        });
+    assertEquals(List.of("scroll2"), scrollIds);
+  }
+
+  private static OpenSearchResponse response(boolean isEmpty) {
+    var response = mock(OpenSearchResponse.class);
+    when(response.isEmpty()).thenReturn(isEmpty);
+    return response;
+  }
+
+  private static OpenSearchScrollRequest slice(String scrollId) {
+    var slice =
+        new OpenSearchScrollRequest(
+            new OpenSearchRequest.IndexName("test"),
+            TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder(),
+            mock(OpenSearchExprValueFactory.class),
+            List.of());
+    slice.setScrollId(scrollId);
+    return slice;
+  }
+}
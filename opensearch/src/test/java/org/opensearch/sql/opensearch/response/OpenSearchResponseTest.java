@@ -8,16 +8,20 @@ package org.opensearch.sql.opensearch.response;
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -27,6 +31,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.text.Text;
 import org.opensearch.core.index.shard.ShardId;
@@ -98,6 +104,31 @@ class OpenSearchResponseTest {
     assertFalse(response.isEmpty());
   }
 
+  @Test
+  void took_and_source_bytes() {
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit1, searchHit2},
+                new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
+                1.0F));
+    when(searchResponse.getTook()).thenReturn(TimeValue.timeValueMillis(12));
+    when(searchHit1.getSourceRef()).thenReturn(new BytesArray("{\"id1\": 1}"));
+    when(searchHit2.getSourceRef()).thenReturn(null);
+
+    var response = new OpenSearchResponse(searchResponse, factory, includes);
+    assertEquals(12L, response.getTookMillis());
+    assertEquals(10L, response.getSourceBytes());
+
+    response =
+        new OpenSearchResponse(
+            new SearchHits(null, new TotalHits(0, TotalHits.Relation.EQUAL_TO), 0),
+            factory,
+            includes);
+    assertEquals(0L, response.getTookMillis());
+    assertEquals(0L, response.getSourceBytes());
+  }
+
   @Test
   void iterator() {
     when(searchResponse.getHits())
@@ -107,11 +138,11 @@ class OpenSearchResponseTest {
                 new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
                 1.0F));
 
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
-    when(searchHit2.getSourceAsString()).thenReturn("{\"id1\", 2}");
+    when(searchHit1.getSourceRef()).thenReturn(new BytesArray("{\"id1\", 1}"));
+    when(searchHit2.getSourceRef()).thenReturn(new BytesArray("{\"id1\", 2}"));
     when(searchHit1.getInnerHits()).thenReturn(null);
     when(searchHit2.getInnerHits()).thenReturn(null);
-    when(factory.construct(any(), anyBoolean()))
+    when(factory.constructFromSource(any(), anyBoolean()))
         .thenReturn(exprTupleValue1)
         .thenReturn(exprTupleValue2);
 
@@ -144,14 +175,14 @@ class OpenSearchResponseTest {
     ShardId shardId = new ShardId("index", "indexUUID", 42);
     SearchShardTarget shardTarget = new SearchShardTarget("node", shardId, null, null);
 
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
+    when(searchHit1.getSourceRef()).thenReturn(new BytesArray("{\"id1\", 1}"));
     when(searchHit1.getId()).thenReturn("testId");
     when(searchHit1.getIndex()).thenReturn("testIndex");
     when(searchHit1.getShard()).thenReturn(shardTarget);
     when(searchHit1.getScore()).thenReturn(3.75F);
     when(searchHit1.getSeqNo()).thenReturn(123456L);
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleHit);
+    when(factory.constructFromSource(any(), anyBoolean())).thenReturn(exprTupleHit);
 
     ExprTupleValue exprTupleResponse =
         ExprTupleValue.fromExprValueMap(
@@ -188,9 +219,9 @@ class OpenSearchResponseTest {
                 new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
                 3.75F));
 
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
+    when(searchHit1.getSourceRef()).thenReturn(new BytesArray("{\"id1\", 1}"));
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleHit);
+    when(factory.constructFromSource(any(), anyBoolean())).thenReturn(exprTupleHit);
 
     List includes = List.of("id1");
     ExprTupleValue exprTupleResponse =
@@ -219,13 +250,13 @@ class OpenSearchResponseTest {
                 new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
                 Float.NaN));
 
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
+    when(searchHit1.getSourceRef()).thenReturn(new BytesArray("{\"id1\", 1}"));
     when(searchHit1.getId()).thenReturn("testId");
     when(searchHit1.getIndex()).thenReturn("testIndex");
     when(searchHit1.getScore()).thenReturn(Float.NaN);
     when(searchHit1.getSeqNo()).thenReturn(123456L);
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleHit);
+    when(factory.constructFromSource(any(), anyBoolean())).thenReturn(exprTupleHit);
 
     List includes = List.of("id1", "_index", "_id", "_sort", "_score", "_maxscore");
     ExprTupleValue exprTupleResponse =
@@ -246,6 +277,28 @@ class OpenSearchResponseTest {
     }
   }
 
+  @Test
+  void iterator_metafield_same_as_source_field() {
+    ExprTupleValue exprTupleHit =
+        ExprTupleValue.fromExprValueMap(ImmutableMap.of("_id", new ExprStringValue("sourceId")));
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit1},
+                new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
+                1.0F));
+    when(searchHit1.getId()).thenReturn("testId");
+    when(factory.constructFromSource(any(), anyBoolean())).thenReturn(exprTupleHit);
+
+    Iterator<ExprValue> iterator =
+        new OpenSearchResponse(searchResponse, factory, List.of("_id")).iterator();
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, iterator::next);
+    assertEquals(
+        "Multiple entries with same key: _id=\"testId\" and _id=\"sourceId\"",
+        exception.getMessage());
+  }
+
   @Test
   void iterator_with_inner_hits() {
     when(searchResponse.getHits())
@@ -263,11 +316,44 @@ class OpenSearchResponseTest {
                     new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
                     1.0F)));
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleValue1);
+    when(factory.constructFromSource(any(), anyBoolean())).thenReturn(exprTupleValue1);
+
+    for (ExprValue hit : new OpenSearchResponse(searchResponse, factory, includes)) {
+      assertEquals(exprTupleValue1, hit);
+    }
+  }
+
+  @Test
+  void iterator_with_doc_value_fields() {
+    Map<String, DocumentField> fields = Map.of("id1", new DocumentField("id1", List.of(1)));
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit1},
+                new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
+                1.0F));
+    when(searchHit1.getDocumentFields()).thenReturn(fields);
+    when(factory.constructFromDocValues(fields)).thenReturn(exprTupleValue1);
+
+    for (ExprValue hit : new OpenSearchResponse(searchResponse, factory, includes, true)) {
+      assertEquals(exprTupleValue1, hit);
+    }
+  }
+
+  @Test
+  void iterator_without_source_parsed_from_source_if_no_doc_value_fields_requested() {
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit1},
+                new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
+                1.0F));
+    when(factory.constructFromSource(null, false)).thenReturn(exprTupleValue1);
 
     for (ExprValue hit : new OpenSearchResponse(searchResponse, factory, includes)) {
       assertEquals(exprTupleValue1, hit);
     }
+    verify(factory, never()).constructFromDocValues(any());
   }
 
   @Test
@@ -329,7 +415,7 @@ class OpenSearchResponseTest {
                 1.0F));
 
     when(searchHit1.getHighlightFields()).thenReturn(highlightMap);
-    when(factory.construct(any(), anyBoolean())).thenReturn(resultTuple);
+    when(factory.constructFromSource(any(), anyBoolean())).thenReturn(resultTuple);
 
     for (ExprValue resultHit : new OpenSearchResponse(searchResponse, factory, includes)) {
       var expected =
@@ -9,6 +9,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.AdditionalMatchers.not;
 import static org.mockito.AdditionalMatchers.or;
 import static org.mockito.ArgumentMatchers.eq;
@@ -19,6 +20,7 @@ import static org.opensearch.sql.opensearch.setting.OpenSearchSettings.METRICS_R
 import static org.opensearch.sql.opensearch.setting.OpenSearchSettings.METRICS_ROLLING_WINDOW_SETTING;
 import static org.opensearch.sql.opensearch.setting.OpenSearchSettings.PPL_ENABLED_SETTING;
 import static org.opensearch.sql.opensearch.setting.OpenSearchSettings.QUERY_MEMORY_LIMIT_SETTING;
+import static org.opensearch.sql.opensearch.setting.OpenSearchSettings.QUERY_SCRIPT_SERIALIZATION_FORMAT_SETTING;
 import static org.opensearch.sql.opensearch.setting.OpenSearchSettings.QUERY_SIZE_LIMIT_SETTING;
 import static org.opensearch.sql.opensearch.setting.OpenSearchSettings.SPARK_EXECUTION_ENGINE_CONFIG;
 import static org.opensearch.sql.opensearch.setting.OpenSearchSettings.SQL_CURSOR_KEEP_ALIVE_SETTING;
@@ -195,4 +197,27 @@ class OpenSearchSettingsTest {
                 .put(SPARK_EXECUTION_ENGINE_CONFIG.getKey(), sparkConfig)
                 .build()));
   }
+
+  @Test
+  void getScriptSerializationFormatSetting() {
+    // Default is java serialization
+    assertEquals(
+        "java",
+        QUERY_SCRIPT_SERIALIZATION_FORMAT_SETTING.get(
+            org.opensearch.common.settings.Settings.builder().build()));
+
+    assertEquals(
+        "compact",
+        QUERY_SCRIPT_SERIALIZATION_FORMAT_SETTING.get(
+            org.opensearch.common.settings.Settings.builder()
+                .put(QUERY_SCRIPT_SERIALIZATION_FORMAT_SETTING.getKey(), "compact")
+                .build()));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            QUERY_SCRIPT_SERIALIZATION_FORMAT_SETTING.get(
+                org.opensearch.common.settings.Settings.builder()
+                    .put(QUERY_SCRIPT_SERIALIZATION_FORMAT_SETTING.getKey(), "json")
+                    .build()));
+  }
 }
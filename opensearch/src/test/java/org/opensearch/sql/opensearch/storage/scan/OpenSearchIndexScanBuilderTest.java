@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+import org.opensearch.sql.planner.logical.LogicalAggregation;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
+import org.opensearch.sql.planner.logical.LogicalLimit;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchIndexScanBuilderTest {
+
+  @Mock private PushDownQueryBuilder delegate;
+
+  @Mock private LogicalLimit limit;
+
+  @Mock private LogicalDedupe dedupe;
+
+  @Mock private LogicalAggregation aggregation;
+
+  private OpenSearchIndexScanBuilder scanBuilder;
+
+  @BeforeEach
+  void setUp() {
+    scanBuilder =
+        new OpenSearchIndexScanBuilder(
+            delegate, new DefaultExpressionSerializer(), requestBuilder -> null);
+  }
+
+  @Test
+  void dedupe_is_pushed_down_after_limit_not_pushed_down() {
+    when(delegate.pushDownLimit(limit)).thenReturn(false);
+    when(delegate.pushDownDedupe(dedupe)).thenReturn(true);
+
+    assertFalse(scanBuilder.pushDownLimit(limit));
+    assertTrue(scanBuilder.pushDownDedupe(dedupe));
+  }
+
+  @Test
+  void dedupe_is_not_pushed_down_after_limit_pushed_down() {
+    when(delegate.pushDownLimit(limit)).thenReturn(true);
+
+    assertTrue(scanBuilder.pushDownLimit(limit));
+    assertFalse(scanBuilder.pushDownDedupe(dedupe));
+    assertFalse(scanBuilder.pushDownAggregation(aggregation));
+  }
+}
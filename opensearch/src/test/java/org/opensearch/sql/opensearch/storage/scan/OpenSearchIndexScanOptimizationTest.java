@@ -6,7 +6,9 @@
 package org.opensearch.sql.opensearch.storage.scan;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -14,12 +16,14 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_FIRST;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.ASC;
 import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.DSL.literal;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.aggregation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.dedupe;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.highlight;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.limit;
@@ -29,6 +33,7 @@ import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_AGGREGATION;
+import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_DEDUPE;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_FILTER;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_HIGHLIGHT;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_LIMIT;
@@ -68,17 +73,21 @@ import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.FunctionExpression;
 import org.opensearch.sql.expression.HighlightExpression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.function.OpenSearchFunctions;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType.MappingType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
 import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
+import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalNested;
 import org.opensearch.sql.planner.logical.LogicalPlan;
@@ -327,6 +336,165 @@ class OpenSearchIndexScanOptimizationTest {
             limit(relation("schema", table), 1, 1), DSL.named("intV", DSL.ref("intV", INTEGER))));
   }
 
+  @Test
+  void test_dedupe_push_down() {
+    assertEqualsAfterOptimization(
+        project(
+            indexScanBuilder(withCollapsePushedDown("stringV")),
+            DSL.named("intV", DSL.ref("intV", INTEGER))),
+        project(
+            dedupe(relation("schema", table), DSL.ref("stringV", STRING)),
+            DSL.named("intV", DSL.ref("intV", INTEGER))));
+  }
+
+  @Test
+  void test_dedupe_numeric_field_push_down() {
+    assertEqualsAfterOptimization(
+        indexScanBuilder(withCollapsePushedDown("intV")),
+        dedupe(relation("schema", table), DSL.ref("intV", INTEGER)));
+  }
+
+  @Test
+  void test_dedupe_text_field_push_down_by_keyword() {
+    ReferenceExpression textV =
+        DSL.ref(
+            "textV",
+            OpenSearchTextType.of(Map.of("keyword", OpenSearchDataType.of(MappingType.Keyword))));
+    assertEqualsAfterOptimization(
+        indexScanBuilder(withCollapsePushedDown("textV.keyword")),
+        dedupe(relation("schema", table), textV));
+  }
+
+  /** Sort - Dedupe - Relation --> IndexScan, the first document of each value is kept. */
+  @Test
+  void test_sort_dedupe_push_down() {
+    assertEqualsAfterOptimization(
+        indexScanBuilder(
+            withSortPushedDown(
+                SortBuilders.fieldSort("intV").order(SortOrder.ASC).missing("_first")),
+            withCollapsePushedDown("stringV")),
+        dedupe(
+            sort(
+                relation("schema", table),
+                Pair.of(SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER))),
+            DSL.ref("stringV", STRING)));
+  }
+
+  @Test
+  void dedupe_not_collapsible_should_not_be_pushed_down() {
+    assertDedupeNotPushedDown(2, false, false, DSL.ref("stringV", STRING));
+    assertDedupeNotPushedDown(1, true, false, DSL.ref("stringV", STRING));
+    assertDedupeNotPushedDown(1, false, true, DSL.ref("stringV", STRING));
+    assertDedupeNotPushedDown(
+        1, false, false, DSL.ref("stringV", STRING), DSL.ref("intV", INTEGER));
+    assertDedupeNotPushedDown(1, false, false, DSL.abs(DSL.ref("intV", INTEGER)));
+    assertDedupeNotPushedDown(1, false, false, DSL.ref("boolV", BOOLEAN));
+    assertDedupeNotPushedDown(1, false, false, DSL.ref("textV", OpenSearchTextType.of()));
+  }
+
+  /** Collapsed hits beyond max result window cannot be returned. */
+  @Test
+  void dedupe_cant_merge_index_scan_if_size_exceeds_max_result_window() {
+    when(requestBuilder.getRequestedTotalSize()).thenReturn(10001);
+    assertEqualsAfterOptimization(
+        dedupe(indexScanBuilder(withoutCollapsePushedDown()), DSL.ref("stringV", STRING)),
+        dedupe(relation("schema", table), DSL.ref("stringV", STRING)));
+  }
+
+  @Test
+  void test_dedupe_limit_push_down() {
+    assertEqualsAfterOptimization(
+        indexScanBuilder(withCollapsePushedDown("stringV"), withLimitPushedDown(10, 20)),
+        limit(dedupe(relation("schema", table), DSL.ref("stringV", STRING)), 10, 20));
+  }
+
+  /** Limit beyond max result window is applied on top of collapsed hits. */
+  @Test
+  void limit_beyond_max_result_window_cant_merge_index_scan_with_dedupe() {
+    assertEqualsAfterOptimization(
+        limit(
+            indexScanBuilder(withCollapsePushedDown("stringV"), withoutLimitPushedDown()),
+            10,
+            20000),
+        limit(dedupe(relation("schema", table), DSL.ref("stringV", STRING)), 10, 20000));
+  }
+
+  @Test
+  void dedupe_cant_merge_index_scan_with_limit() {
+    assertEqualsAfterOptimization(
+        dedupe(indexScanBuilder(withLimitPushedDown(10, 0)), DSL.ref("stringV", STRING)),
+        dedupe(limit(relation("schema", table), 10, 0), DSL.ref("stringV", STRING)));
+  }
+
+  @Test
+  void dedupe_cant_merge_index_scan_with_dedupe() {
+    assertEqualsAfterOptimization(
+        dedupe(indexScanBuilder(withCollapsePushedDown("stringV")), DSL.ref("intV", INTEGER)),
+        dedupe(
+            dedupe(relation("schema", table), DSL.ref("stringV", STRING)),
+            DSL.ref("intV", INTEGER)));
+  }
+
+  @Test
+  void dedupe_cant_merge_index_scan_with_aggregation() {
+    assertEqualsAfterOptimization(
+        dedupe(
+            indexScanAggBuilder(
+                withAggregationPushedDown(
+                    aggregate("AVG(intV)")
+                        .aggregateBy("intV")
+                        .groupBy("stringV")
+                        .resultTypes(
+                            Map.of(
+                                "AVG(intV)", DOUBLE,
+                                "stringV", STRING)))),
+            DSL.ref("AVG(intV)", DOUBLE)),
+        dedupe(
+            aggregation(
+                relation("schema", table),
+                ImmutableList.of(DSL.named("AVG(intV)", DSL.avg(DSL.ref("intV", INTEGER)))),
+                ImmutableList.of(DSL.named("stringV", DSL.ref("stringV", STRING)))),
+            DSL.ref("AVG(intV)", DOUBLE)));
+  }
+
+  /** Filter after dedupe cannot be done before collapsing. */
+  @Test
+  void filter_cant_merge_index_scan_with_dedupe() {
+    assertEqualsAfterOptimization(
+        filter(
+            indexScanBuilder(withCollapsePushedDown("stringV")),
+            DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))),
+        filter(
+            dedupe(relation("schema", table), DSL.ref("stringV", STRING)),
+            DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))));
+  }
+
+  /** Aggregation is computed over all hits instead of collapsed hits. */
+  @Test
+  void aggregation_cant_merge_index_scan_with_dedupe() {
+    assertEqualsAfterOptimization(
+        aggregation(
+            indexScanBuilder(withCollapsePushedDown("stringV")),
+            ImmutableList.of(DSL.named("AVG(intV)", DSL.avg(DSL.ref("intV", INTEGER)))),
+            ImmutableList.of()),
+        aggregation(
+            dedupe(relation("schema", table), DSL.ref("stringV", STRING)),
+            ImmutableList.of(DSL.named("AVG(intV)", DSL.avg(DSL.ref("intV", INTEGER)))),
+            ImmutableList.of()));
+  }
+
+  /** Sort after dedupe would change which document of each value is kept by collapsing. */
+  @Test
+  void sort_cant_merge_index_scan_with_dedupe() {
+    assertEqualsAfterOptimization(
+        sort(
+            indexScanBuilder(withCollapsePushedDown("stringV"), withoutSortPushedDown()),
+            Pair.of(SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER))),
+        sort(
+            dedupe(relation("schema", table), DSL.ref("stringV", STRING)),
+            Pair.of(SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER))));
+  }
+
   @Test
   void test_highlight_push_down() {
     assertEqualsAfterOptimization(
@@ -602,17 +770,32 @@ class OpenSearchIndexScanOptimizationTest {
         optimize(project(relation("schema", table), DSL.named("i", DSL.literal("str")))));
   }
 
+  private void assertDedupeNotPushedDown(
+      int allowedDuplication, boolean keepEmpty, boolean consecutive, Expression... fields) {
+    assertEqualsAfterOptimization(
+        dedupe(
+            indexScanBuilder(withoutCollapsePushedDown()),
+            allowedDuplication,
+            keepEmpty,
+            consecutive,
+            fields),
+        dedupe(relation("schema", table), allowedDuplication, keepEmpty, consecutive, fields));
+  }
+
   private OpenSearchIndexScanBuilder indexScanBuilder(Runnable... verifyPushDownCalls) {
     this.verifyPushDownCalls = verifyPushDownCalls;
     return new OpenSearchIndexScanBuilder(
-        new OpenSearchIndexScanQueryBuilder(requestBuilder), requestBuilder -> indexScan);
+        new OpenSearchIndexScanQueryBuilder(requestBuilder),
+        new DefaultExpressionSerializer(),
+        requestBuilder -> indexScan);
   }
 
   private OpenSearchIndexScanBuilder indexScanAggBuilder(Runnable... verifyPushDownCalls) {
     this.verifyPushDownCalls = verifyPushDownCalls;
     var aggregationBuilder =
         new OpenSearchIndexScanAggregationBuilder(requestBuilder, mock(LogicalAggregation.class));
-    return new OpenSearchIndexScanBuilder(aggregationBuilder, builder -> indexScan);
+    return new OpenSearchIndexScanBuilder(
+        aggregationBuilder, new DefaultExpressionSerializer(), builder -> indexScan);
   }
 
   private void assertEqualsAfterOptimization(LogicalPlan expected, LogicalPlan actual) {
@@ -671,10 +854,18 @@ class OpenSearchIndexScanOptimizationTest {
     return () -> verify(requestBuilder, times(1)).pushDownSort(Arrays.asList(sorts));
   }
 
+  private Runnable withoutSortPushedDown() {
+    return () -> verify(requestBuilder, never()).pushDownSort(any());
+  }
+
   private Runnable withLimitPushedDown(int size, int offset) {
     return () -> verify(requestBuilder, times(1)).pushDownLimit(size, offset);
   }
 
+  private Runnable withoutLimitPushedDown() {
+    return () -> verify(requestBuilder, never()).pushDownLimit(any(), any());
+  }
+
   private Runnable withProjectPushedDown(ReferenceExpression... references) {
     return () ->
         verify(requestBuilder, times(1)).pushDownProjects(new HashSet<>(Arrays.asList(references)));
@@ -684,6 +875,14 @@ class OpenSearchIndexScanOptimizationTest {
     return () -> verify(requestBuilder, times(1)).pushDownHighlight(field, arguments);
   }
 
+  private Runnable withCollapsePushedDown(String field) {
+    return () -> verify(requestBuilder, times(1)).pushDownCollapse(field);
+  }
+
+  private Runnable withoutCollapsePushedDown() {
+    return () -> verify(requestBuilder, never()).pushDownCollapse(any());
+  }
+
   private Runnable withNestedPushedDown(List<Map<String, ReferenceExpression>> fields) {
     return () -> verify(requestBuilder, times(1)).pushDownNested(fields);
   }
@@ -728,6 +927,7 @@ class OpenSearchIndexScanOptimizationTest {
                 PUSH_DOWN_AGGREGATION,
                 PUSH_DOWN_SORT,
                 PUSH_DOWN_LIMIT,
+                PUSH_DOWN_DEDUPE,
                 PUSH_DOWN_HIGHLIGHT,
                 PUSH_DOWN_NESTED,
                 PUSH_DOWN_PROJECT));
@@ -12,12 +12,15 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
 import static org.opensearch.search.sort.SortOrder.ASC;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
+import com.google.common.collect.ImmutableList;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -30,6 +33,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.SneakyThrows;
+import org.apache.commons.lang3.reflect.FieldUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -59,10 +63,12 @@ import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.request.OpenSearchPointInTimeRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchQueryRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
+import org.opensearch.sql.opensearch.request.OpenSearchSlicedScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
@@ -144,6 +150,32 @@ class OpenSearchIndexScanTest {
     }
   }
 
+  @SneakyThrows
+  @Test
+  void serialize_point_in_time_request() {
+    var engine = mock(OpenSearchStorageEngine.class);
+    when(engine.getClient()).thenReturn(client);
+    when(engine.getTable(any(), any())).thenReturn(mock(OpenSearchIndex.class));
+    var request =
+        new OpenSearchPointInTimeRequest(
+            INDEX_NAME,
+            CURSOR_KEEP_ALIVE,
+            new SearchSourceBuilder().size(4),
+            mock(OpenSearchExprValueFactory.class),
+            List.of("name"));
+    request.setPitId("pit1");
+    request.setSearchAfter(new Object[] {4L});
+    // Enforce next page by setting a private field.
+    FieldUtils.writeField(request, "needClean", false, true);
+
+    try (var indexScan = new OpenSearchIndexScan(client, QUERY_SIZE, request)) {
+      var planSerializer = new PlanSerializer(engine);
+      var cursor = planSerializer.convertToCursor(indexScan);
+      var newPlan = planSerializer.convertToPlan(cursor.toString());
+      assertEquals(indexScan, newPlan);
+    }
+  }
+
   @SneakyThrows
   @Test
   void throws_io_exception_if_too_short() {
@@ -236,6 +268,32 @@ class OpenSearchIndexScanTest {
     verify(client).cleanup(any());
   }
 
+  @Test
+  void query_results_by_batch() {
+    mockResponse(
+        client,
+        new ExprValue[] {employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[] {employee(3, "Allen", "IT"), employee(4, "Bob", "HR")});
+
+    final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE, exprValueFactory);
+    try (OpenSearchIndexScan indexScan =
+        new OpenSearchIndexScan(
+            client, 3, requestBuilder.build(INDEX_NAME, 10000, CURSOR_KEEP_ALIVE))) {
+      indexScan.open();
+
+      assertAll(
+          () ->
+              assertEquals(
+                  List.of(employee(1, "John", "IT"), employee(2, "Smith", "HR")),
+                  ImmutableList.copyOf(indexScan.nextBatch())),
+          () ->
+              assertEquals(
+                  List.of(employee(3, "Allen", "IT")), ImmutableList.copyOf(indexScan.nextBatch())),
+          () -> assertTrue(indexScan.nextBatch().isEmpty()));
+    }
+    verify(client).cleanup(any());
+  }
+
   @Test
   void query_some_results_with_query() {
     mockResponse(
@@ -324,6 +382,164 @@ class OpenSearchIndexScanTest {
     verify(client).cleanup(any());
   }
 
+  @Test
+  void query_all_results_with_prefetch() {
+    mockResponse(
+        client,
+        new ExprValue[] {employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[] {employee(3, "Allen", "IT")});
+    when(client.getPrefetchExecutor()).thenReturn(Runnable::run);
+    var request = mock(OpenSearchRequest.class);
+    when(request.hasAnotherBatch()).thenReturn(true);
+
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client, 10, request, 2)) {
+      indexScan.open();
+
+      assertAll(
+          () -> assertTrue(indexScan.hasNext()),
+          () -> assertEquals(employee(1, "John", "IT"), indexScan.next()),
+          () -> assertTrue(indexScan.hasNext()),
+          () -> assertEquals(employee(2, "Smith", "HR"), indexScan.next()),
+          () -> assertTrue(indexScan.hasNext()),
+          () -> assertEquals(employee(3, "Allen", "IT"), indexScan.next()),
+          () -> assertFalse(indexScan.hasNext()));
+      assertEquals(3L, indexScan.profileMetrics().get("pages"));
+    }
+    verify(client, times(3)).search(request);
+    verify(client).cleanup(request);
+  }
+
+  @Test
+  void prefetch_stops_at_max_response_size() {
+    mockTwoPageResponse(client);
+    when(client.getPrefetchExecutor()).thenReturn(Runnable::run);
+    var request = mock(OpenSearchRequest.class);
+    when(request.hasAnotherBatch()).thenReturn(true);
+
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client, 2, request, 3)) {
+      indexScan.open();
+
+      assertAll(
+          () -> assertEquals(employee(1, "John", "IT"), indexScan.next()),
+          () -> assertEquals(employee(2, "Smith", "HR"), indexScan.next()),
+          () -> assertFalse(indexScan.hasNext()));
+    }
+    // Second page must not be fetched, otherwise the cursor would skip it
+    verify(client, times(1)).search(request);
+  }
+
+  @Test
+  void prefetch_stops_when_no_more_batch() {
+    mockTwoPageResponse(client);
+    when(client.getPrefetchExecutor()).thenReturn(Runnable::run);
+    var request = mock(OpenSearchRequest.class);
+    when(request.hasAnotherBatch()).thenReturn(false);
+
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client, 10, request, 3)) {
+      indexScan.open();
+
+      assertAll(
+          () -> assertEquals(employee(1, "John", "IT"), indexScan.next()),
+          () -> assertEquals(employee(2, "Smith", "HR"), indexScan.next()),
+          () -> assertFalse(indexScan.hasNext()));
+    }
+    verify(client, times(1)).search(request);
+  }
+
+  @Test
+  void prefetch_failure_is_thrown_to_consumer() {
+    when(client.getPrefetchExecutor()).thenReturn(Runnable::run);
+    var request = mock(OpenSearchRequest.class);
+    when(client.search(request)).thenThrow(new IllegalStateException("search failed"));
+
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client, 10, request, 2)) {
+      IllegalStateException e = assertThrows(IllegalStateException.class, indexScan::open);
+      assertEquals("search failed", e.getMessage());
+    }
+  }
+
+  @Test
+  void query_all_results_with_point_in_time() {
+    mockResponse(client, new ExprValue[] {employee(1, "John", "IT")});
+    when(client.createPit(any())).thenReturn("pit1");
+    var request =
+        new OpenSearchPointInTimeRequest(
+            INDEX_NAME, CURSOR_KEEP_ALIVE, new SearchSourceBuilder(), exprValueFactory, List.of());
+
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client, 10, request)) {
+      indexScan.open();
+
+      assertAll(
+          () -> assertEquals("pit1", request.getPitId()),
+          () -> assertEquals(employee(1, "John", "IT"), indexScan.next()),
+          () -> assertFalse(indexScan.hasNext()));
+      assertEquals(2L, indexScan.profileMetrics().get("pages"));
+    }
+    verify(client).cleanup(request);
+  }
+
+  @Test
+  void query_all_results_with_sliced_scroll() {
+    when(client.getPrefetchExecutor()).thenReturn(Runnable::run);
+    var slice1 = mock(OpenSearchScrollRequest.class);
+    var slice2 = mock(OpenSearchScrollRequest.class);
+    when(slice1.hasAnotherBatch()).thenReturn(true);
+    when(slice2.hasAnotherBatch()).thenReturn(true);
+    when(client.search(slice1)).thenReturn(response(employee(1, "John", "IT")), response());
+    when(client.search(slice2))
+        .thenReturn(
+            response(employee(2, "Smith", "HR")), response(employee(3, "Allen", "IT")), response());
+    var request = new OpenSearchSlicedScrollRequest(List.of(slice1, slice2));
+
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client, 10, request, 0)) {
+      indexScan.open();
+
+      // Batches are taken from the slices in turn
+      assertAll(
+          () -> assertEquals(employee(1, "John", "IT"), indexScan.next()),
+          () -> assertEquals(employee(2, "Smith", "HR"), indexScan.next()),
+          () -> assertTrue(indexScan.hasNext()),
+          () -> assertEquals(employee(3, "Allen", "IT"), indexScan.next()),
+          () -> assertFalse(indexScan.hasNext()));
+      assertEquals(5L, indexScan.profileMetrics().get("pages"));
+    }
+    verify(client, times(2)).search(slice1);
+    verify(client, times(3)).search(slice2);
+    verify(client).cleanup(request);
+  }
+
+  @Test
+  void query_results_up_to_max_response_size_across_slices() {
+    when(client.getPrefetchExecutor()).thenReturn(Runnable::run);
+    var slice1 = mock(OpenSearchScrollRequest.class);
+    var slice2 = mock(OpenSearchScrollRequest.class);
+    when(client.search(slice1))
+        .thenReturn(response(employee(1, "John", "IT"), employee(2, "Smith", "HR")));
+    var request = new OpenSearchSlicedScrollRequest(List.of(slice1, slice2));
+
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client, 2, request, 0)) {
+      indexScan.open();
+
+      assertAll(
+          () -> assertEquals(employee(1, "John", "IT"), indexScan.next()),
+          () -> assertEquals(employee(2, "Smith", "HR"), indexScan.next()),
+          () -> assertFalse(indexScan.hasNext()));
+    }
+    // The first slice used up the response size shared by all slices
+    verify(client).search(slice1);
+    verify(client, never()).search(slice2);
+    verify(client).cleanup(request);
+  }
+
+  private static OpenSearchResponse response(ExprValue... hits) {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.isEmpty()).thenReturn(hits.length == 0);
+    if (hits.length > 0) {
+      when(response.iterator()).thenReturn(Arrays.asList(hits).iterator());
+    }
+    return response;
+  }
+
   @Test
   void push_down_filters() {
     assertThat()
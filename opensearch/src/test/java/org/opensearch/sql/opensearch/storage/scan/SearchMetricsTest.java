@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.scan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SearchMetricsTest {
+
+  @Mock private OpenSearchResponse response1;
+
+  @Mock private OpenSearchResponse response2;
+
+  @Test
+  void no_response_recorded() {
+    assertEquals(
+        ImmutableMap.of("pages", 0L, "tookMillis", 0L, "maxTookMillis", 0L, "sourceBytes", 0L),
+        new SearchMetrics().toMap());
+  }
+
+  @Test
+  void record_responses() {
+    when(response1.getTookMillis()).thenReturn(12L);
+    when(response1.getSourceBytes()).thenReturn(100L);
+    when(response2.getTookMillis()).thenReturn(5L);
+    when(response2.getSourceBytes()).thenReturn(0L);
+
+    SearchMetrics metrics = new SearchMetrics();
+    metrics.record(response1);
+    metrics.record(response2);
+
+    assertEquals(
+        ImmutableMap.of("pages", 2L, "tookMillis", 17L, "maxTookMillis", 12L, "sourceBytes", 100L),
+        metrics.toMap());
+  }
+}
@@ -11,6 +11,8 @@ import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +28,8 @@ import org.opensearch.script.ScriptContext;
 import org.opensearch.script.ScriptEngine;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.aggregation.ExpressionAggregationScriptFactory;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 import org.opensearch.sql.opensearch.storage.script.filter.ExpressionFilterScriptFactory;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
@@ -59,7 +63,40 @@ class ExpressionScriptEngineTest {
 
     Object actualFactory =
         scriptEngine.compile("test", "test code", FilterScript.CONTEXT, emptyMap());
-    assertEquals(new ExpressionFilterScriptFactory(expression), actualFactory);
+    assertEquals(
+        new ExpressionFilterScriptFactory(new ExpressionScript(expression)), actualFactory);
+  }
+
+  @Test
+  void can_reuse_expression_deserialized_for_same_script_code() {
+    when(serializer.deserialize("test code")).thenReturn(expression);
+
+    Object filterFactory =
+        scriptEngine.compile("test", "test code", FilterScript.CONTEXT, emptyMap());
+    Object aggregationFactory =
+        scriptEngine.compile("test", "test code", AggregationScript.CONTEXT, emptyMap());
+
+    assertEquals(
+        new ExpressionFilterScriptFactory(new ExpressionScript(expression)), filterFactory);
+    assertEquals(
+        new ExpressionAggregationScriptFactory(new ExpressionScript(expression)),
+        aggregationFactory);
+    verify(serializer, times(1)).deserialize("test code");
+
+    ExpressionScriptEngine engine = (ExpressionScriptEngine) scriptEngine;
+    assertEquals(1, engine.getCacheStats().hitCount());
+    assertEquals(1, engine.getCacheStats().missCount());
+  }
+
+  @Test
+  void should_not_cache_script_code_longer_than_cache_limit() {
+    when(serializer.deserialize("test code")).thenReturn(expression);
+    scriptEngine = new ExpressionScriptEngine(serializer, 4);
+
+    scriptEngine.compile("test", "test code", FilterScript.CONTEXT, emptyMap());
+    scriptEngine.compile("test", "test code", FilterScript.CONTEXT, emptyMap());
+
+    verify(serializer, times(2)).deserialize("test code");
   }
 
   @Test
@@ -25,6 +25,7 @@ import org.opensearch.search.lookup.LeafSearchLookup;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @ExtendWith(MockitoExtension.class)
@@ -41,7 +42,7 @@ class ExpressionAggregationScriptFactoryTest {
   private final Map<String, Object> params = Collections.emptyMap();
 
   private final AggregationScript.Factory factory =
-      new ExpressionAggregationScriptFactory(expression);
+      new ExpressionAggregationScriptFactory(new ExpressionScript(expression));
 
   @Test
   void should_return_deterministic_result() {
@@ -58,7 +59,8 @@ class ExpressionAggregationScriptFactoryTest {
     AggregationScript actualScript = leafFactory.newInstance(leafReaderContext);
 
     assertEquals(
-        new ExpressionAggregationScript(expression, searchLookup, leafReaderContext, params),
+        new ExpressionAggregationScript(
+            new ExpressionScript(expression), searchLookup, leafReaderContext, params),
         actualScript);
   }
 }
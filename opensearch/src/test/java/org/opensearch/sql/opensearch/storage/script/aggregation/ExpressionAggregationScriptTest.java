@@ -39,6 +39,7 @@ import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @ExtendWith(MockitoExtension.class)
@@ -174,7 +175,7 @@ class ExpressionAggregationScriptTest {
 
     ExprScriptAssertion evaluate(Expression expr) {
       ExpressionAggregationScript script =
-          new ExpressionAggregationScript(expr, lookup, context, emptyMap());
+          new ExpressionAggregationScript(new ExpressionScript(expr), lookup, context, emptyMap());
       actual = script.execute();
       return this;
     }
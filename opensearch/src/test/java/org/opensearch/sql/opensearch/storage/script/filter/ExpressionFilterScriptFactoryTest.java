@@ -24,6 +24,7 @@ import org.opensearch.search.lookup.LeafSearchLookup;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @ExtendWith(MockitoExtension.class)
@@ -39,7 +40,8 @@ class ExpressionFilterScriptFactoryTest {
 
   private final Map<String, Object> params = Collections.emptyMap();
 
-  private final FilterScript.Factory factory = new ExpressionFilterScriptFactory(expression);
+  private final FilterScript.Factory factory =
+      new ExpressionFilterScriptFactory(new ExpressionScript(expression));
 
   @Test
   void should_return_deterministic_result() {
@@ -54,7 +56,8 @@ class ExpressionFilterScriptFactoryTest {
     FilterScript actualFilterScript = leafFactory.newInstance(leafReaderContext);
 
     assertEquals(
-        new ExpressionFilterScript(expression, searchLookup, leafReaderContext, params),
+        new ExpressionFilterScript(
+            new ExpressionScript(expression), searchLookup, leafReaderContext, params),
         actualFilterScript);
   }
 }
@@ -48,6 +48,7 @@ import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @ExtendWith(MockitoExtension.class)
@@ -212,7 +213,8 @@ class ExpressionFilterScriptTest {
     }
 
     ExprScriptAssertion filterBy(Expression expr) {
-      ExpressionFilterScript script = new ExpressionFilterScript(expr, lookup, context, emptyMap());
+      ExpressionFilterScript script =
+          new ExpressionFilterScript(new ExpressionScript(expr), lookup, context, emptyMap());
       isMatched = script.execute();
       return this;
     }
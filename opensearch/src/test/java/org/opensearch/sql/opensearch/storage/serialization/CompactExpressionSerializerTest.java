@@ -0,0 +1,209 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.FunctionExpressionWithProperties;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CompactExpressionSerializerTest {
+
+  private final ExpressionSerializer serializer = new CompactExpressionSerializer();
+
+  @Test
+  public void can_serialize_and_deserialize_literals() {
+    assertRoundTrip(literal(10));
+    assertRoundTrip(literal("hello"));
+    assertRoundTrip(literal(new ExprDateValue(LocalDate.of(2023, 1, 1))));
+    assertRoundTrip(DSL.literal(ExprValueUtils.nullValue()));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_references() {
+    assertRoundTrip(ref("name", STRING));
+    assertRoundTrip(
+        new ReferenceExpression("address.city", Arrays.asList("address", "city"), STRING));
+    assertRoundTrip(ref("text", OpenSearchTextType.of()));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_predicates() {
+    assertRoundTrip(DSL.or(literal(true), DSL.less(ref("age", INTEGER), literal(2))));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_functions() {
+    assertRoundTrip(DSL.abs(literal(30.0)));
+    assertRoundTrip(DSL.add(DSL.multiply(ref("balance", DOUBLE), literal(2.0)), literal(1.0)));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_functions_with_properties() {
+    FunctionProperties properties =
+        new FunctionProperties(Instant.parse("2023-01-01T10:20:30.123Z"), ZoneId.of("UTC"));
+    FunctionExpression original = DSL.now(properties);
+
+    FunctionExpression actual =
+        (FunctionExpression) serializer.deserialize(serializer.serialize(original));
+    assertEquals(original, actual);
+    assertEquals(properties, ((FunctionExpressionWithProperties) actual).getFunctionProperties());
+    assertEquals(original.valueOf(), actual.valueOf());
+
+    FunctionExpression withoutProperties = DSL.now(FunctionProperties.None);
+    assertEquals(
+        FunctionProperties.None,
+        ((FunctionExpressionWithProperties)
+                serializer.deserialize(serializer.serialize(withoutProperties)))
+            .getFunctionProperties());
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_other_expressions_by_java_serialization() {
+    assertRoundTrip(
+        DSL.cases(
+            literal("default"),
+            DSL.when(DSL.equal(ref("age", INTEGER), literal(30)), literal("30"))));
+    assertRoundTrip(DSL.named("age", ref("age", INTEGER)));
+  }
+
+  @Test
+  public void can_serialize_and_deserialize_functions_not_built_again_by_java_serialization() {
+    // Built again by repository into another class
+    Expression otherClass = new CustomFunction("abs", literal(30.0));
+    Expression actual = serializer.deserialize(serializer.serialize(otherClass));
+    assertEquals(CustomFunction.class, actual.getClass());
+    assertEquals(otherClass, actual);
+
+    // Built again by repository with arguments cast
+    Expression otherArguments = new CustomFunction("add", literal(1), literal(2L));
+    assertNotEquals(otherArguments, DSL.add(literal(1), literal(2L)));
+    assertRoundTrip(otherArguments);
+
+    // Not found in repository
+    assertRoundTrip(new CustomFunction("custom", literal(1)));
+  }
+
+  @Test
+  public void compact_format_is_smaller_than_java_serialization() {
+    Expression expression =
+        DSL.and(
+            DSL.greater(ref("age", INTEGER), literal(30)),
+            DSL.less(DSL.abs(ref("balance", DOUBLE)), literal(1000.0)));
+
+    assertTrue(
+        serializer.serialize(expression).length()
+            < new DefaultExpressionSerializer().serialize(expression).length());
+  }
+
+  @Test
+  public void can_deserialize_java_serialization() {
+    Expression original = DSL.or(literal(true), DSL.less(literal(1), literal(2)));
+    Expression actual =
+        serializer.deserialize(new DefaultExpressionSerializer().serialize(original));
+    assertEquals(original, actual);
+  }
+
+  @Test
+  public void cannot_serialize_illegal_expression() {
+    Expression illegalExpr =
+        new Expression() {
+          private final Object object = new Object(); // non-serializable
+
+          @Override
+          public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+            return null;
+          }
+
+          @Override
+          public ExprType type() {
+            return null;
+          }
+
+          @Override
+          public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
+            return null;
+          }
+        };
+    assertThrows(IllegalStateException.class, () -> serializer.serialize(illegalExpr));
+  }
+
+  @Test
+  public void cannot_deserialize_illegal_expression_code() {
+    assertThrows(IllegalStateException.class, () -> serializer.deserialize("hello world"));
+    assertThrows(IllegalStateException.class, () -> serializer.deserialize(encode('O', 'S', 'X')));
+    assertThrows(IllegalStateException.class, () -> serializer.deserialize(encode('O', 'S', 0, 1)));
+    assertThrows(
+        IllegalStateException.class, () -> serializer.deserialize(encode('O', 'S', 'X', 1)));
+  }
+
+  @Test
+  public void cannot_deserialize_unknown_version_or_tag() {
+    IllegalStateException exception =
+        assertThrows(
+            IllegalStateException.class, () -> serializer.deserialize(encode('O', 'S', 'X', 2, 1)));
+    assertTrue(exception.getMessage().contains("unknown version 2"));
+    assertThrows(
+        IllegalStateException.class, () -> serializer.deserialize(encode('O', 'S', 'X', 1, 9)));
+  }
+
+  private void assertRoundTrip(Expression original) {
+    assertEquals(original, serializer.deserialize(serializer.serialize(original)));
+  }
+
+  private static String encode(int... values) {
+    byte[] bytes = new byte[values.length];
+    for (int i = 0; i < values.length; i++) {
+      bytes[i] = (byte) values[i];
+    }
+    return Base64.getEncoder().encodeToString(bytes);
+  }
+
+  private static class CustomFunction extends FunctionExpression {
+    CustomFunction(String name, Expression... arguments) {
+      super(FunctionName.of(name), Arrays.asList(arguments));
+    }
+
+    @Override
+    public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+      return ExprValueUtils.nullValue();
+    }
+
+    @Override
+    public ExprType type() {
+      return INTEGER;
+    }
+  }
+}
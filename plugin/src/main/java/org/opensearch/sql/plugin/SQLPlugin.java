@@ -52,6 +52,7 @@ import org.opensearch.rest.RestHandler;
 import org.opensearch.script.ScriptContext;
 import org.opensearch.script.ScriptEngine;
 import org.opensearch.script.ScriptService;
+import org.opensearch.sql.common.utils.QueryPhaseTimer;
 import org.opensearch.sql.datasource.DataSourceService;
 import org.opensearch.sql.datasources.auth.DataSourceUserAuthorizationHelper;
 import org.opensearch.sql.datasources.auth.DataSourceUserAuthorizationHelperImpl;
@@ -69,15 +70,17 @@ import org.opensearch.sql.datasources.transport.TransportPatchDataSourceAction;
 import org.opensearch.sql.datasources.transport.TransportUpdateDataSourceAction;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.executor.AsyncRestExecutor;
+import org.opensearch.sql.legacy.metrics.GaugeMetric;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.legacy.plugin.RestSqlAction;
 import org.opensearch.sql.legacy.plugin.RestSqlStatsAction;
+import org.opensearch.sql.legacy.utils.MetricUtils;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
 import org.opensearch.sql.opensearch.setting.LegacyOpenDistroSettings;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.OpenSearchDataSourceFactory;
 import org.opensearch.sql.opensearch.storage.script.ExpressionScriptEngine;
-import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+import org.opensearch.sql.opensearch.storage.serialization.CompactExpressionSerializer;
 import org.opensearch.sql.plugin.config.OpenSearchPluginModule;
 import org.opensearch.sql.plugin.rest.RestPPLQueryAction;
 import org.opensearch.sql.plugin.rest.RestPPLStatsAction;
@@ -139,6 +142,7 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin, Sys
     Objects.requireNonNull(pluginSettings, "Cluster settings is required");
 
     Metrics.getInstance().registerDefaultMetrics();
+    QueryPhaseTimer.setRecorder(MetricUtils::recordLatency);
 
     return Arrays.asList(
         new RestPPLQueryAction(),
@@ -265,7 +269,17 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin, Sys
 
   @Override
   public ScriptEngine getScriptEngine(Settings settings, Collection<ScriptContext<?>> contexts) {
-    return new ExpressionScriptEngine(new DefaultExpressionSerializer());
+    ExpressionScriptEngine scriptEngine =
+        new ExpressionScriptEngine(new CompactExpressionSerializer());
+    Metrics.getInstance()
+        .registerMetric(
+            new GaugeMetric<>(
+                "script_cache_hit_count", () -> scriptEngine.getCacheStats().hitCount()));
+    Metrics.getInstance()
+        .registerMetric(
+            new GaugeMetric<>(
+                "script_cache_miss_count", () -> scriptEngine.getCacheStats().missCount()));
+    return scriptEngine;
   }
 
   private DataSourceServiceImpl createDataSourceService() {
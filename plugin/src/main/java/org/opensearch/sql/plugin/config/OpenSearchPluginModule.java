@@ -69,8 +69,8 @@ public class OpenSearchPluginModule extends AbstractModule {
   }
 
   @Provides
-  public ExecutionProtector protector(ResourceMonitor resourceMonitor) {
-    return new OpenSearchExecutionProtector(resourceMonitor);
+  public ExecutionProtector protector(ResourceMonitor resourceMonitor, Settings settings) {
+    return new OpenSearchExecutionProtector(resourceMonitor, settings);
   }
 
   @Provides
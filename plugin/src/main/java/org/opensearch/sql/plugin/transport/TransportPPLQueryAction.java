@@ -34,6 +34,8 @@ import org.opensearch.sql.plugin.config.OpenSearchPluginModule;
 import org.opensearch.sql.ppl.PPLService;
 import org.opensearch.sql.ppl.domain.PPLQueryRequest;
 import org.opensearch.sql.protocol.response.QueryResult;
+import org.opensearch.sql.protocol.response.format.ChunkedFormattingListener;
+import org.opensearch.sql.protocol.response.format.ChunkedResponseFormatter;
 import org.opensearch.sql.protocol.response.format.CsvResponseFormatter;
 import org.opensearch.sql.protocol.response.format.Format;
 import org.opensearch.sql.protocol.response.format.JsonResponseFormatter;
@@ -155,6 +157,21 @@ public class TransportPPLQueryAction
       formatter = new SimpleJsonResponseFormatter(JsonResponseFormatter.Style.PRETTY);
     }
 
+    if (formatter instanceof ChunkedResponseFormatter) {
+      return new ChunkedFormattingListener(
+          (ChunkedResponseFormatter) formatter,
+          new ResponseListener<String>() {
+            @Override
+            public void onResponse(String responseContent) {
+              listener.onResponse(new TransportPPLQueryResponse(responseContent));
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+              listener.onFailure(e);
+            }
+          });
+    }
     return new ResponseListener<ExecutionEngine.QueryResponse>() {
       @Override
       public void onResponse(ExecutionEngine.QueryResponse response) {
@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.ppl;
 
+import static org.opensearch.sql.common.utils.QueryPhase.PARSE;
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 
 import java.util.Optional;
@@ -15,6 +16,7 @@ import org.apache.logging.log4j.Logger;
 import org.opensearch.sql.ast.statement.Statement;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.utils.QueryContext;
+import org.opensearch.sql.common.utils.QueryPhaseTimer;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.execution.AbstractPlan;
@@ -39,6 +41,9 @@ public class PPLService {
 
   private static final Logger LOG = LogManager.getLogger();
 
+  /** Query language recorded in {@link QueryContext} for metrics. */
+  private static final String QUERY_LANGUAGE = "ppl";
+
   /**
    * Execute the {@link PPLQueryRequest}, using {@link ResponseListener} to get response.
    *
@@ -46,10 +51,14 @@ public class PPLService {
    * @param listener {@link ResponseListener}
    */
   public void execute(PPLQueryRequest request, ResponseListener<QueryResponse> listener) {
+    // Only phases of executed queries are timed, explain is not recorded into the same metrics
+    QueryContext.setQueryLanguage(QUERY_LANGUAGE);
     try {
       queryManager.submit(plan(request, Optional.of(listener), Optional.empty()));
     } catch (Exception e) {
       listener.onFailure(e);
+    } finally {
+      QueryContext.clearQueryLanguage();
     }
   }
 
@@ -73,14 +82,7 @@ public class PPLService {
       Optional<ResponseListener<QueryResponse>> queryListener,
       Optional<ResponseListener<ExplainResponse>> explainListener) {
     // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST)
-    ParseTree cst = parser.parse(request.getRequest());
-    Statement statement =
-        cst.accept(
-            new AstStatementBuilder(
-                new AstBuilder(new AstExpressionBuilder(), request.getRequest()),
-                AstStatementBuilder.StatementBuilderContext.builder()
-                    .isExplain(request.isExplainRequest())
-                    .build()));
+    Statement statement = QueryPhaseTimer.time(PARSE, () -> parse(request));
 
     LOG.info(
         "[{}] Incoming request {}",
@@ -89,4 +91,15 @@ public class PPLService {
 
     return queryExecutionFactory.create(statement, queryListener, explainListener);
   }
+
+  private Statement parse(PPLQueryRequest request) {
+    ParseTree cst = parser.parse(request.getRequest());
+    return cst.accept(
+        new AstStatementBuilder(
+            new AstBuilder(new AstExpressionBuilder(), request.getRequest()),
+            AstStatementBuilder.StatementBuilderContext.builder()
+                .isExplain(request.isExplainRequest())
+                .isProfile(request.isProfileRequest())
+                .build()));
+  }
 }
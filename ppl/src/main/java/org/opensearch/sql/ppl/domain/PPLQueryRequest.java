@@ -18,6 +18,8 @@ public class PPLQueryRequest {
 
   private static final String DEFAULT_PPL_PATH = "/_plugins/_ppl";
 
+  private static final String QUERY_FIELD_PROFILE = "profile";
+
   public static final PPLQueryRequest NULL = new PPLQueryRequest("", null, DEFAULT_PPL_PATH, "");
 
   private final String pplQuery;
@@ -60,6 +62,15 @@ public class PPLQueryRequest {
     return path.endsWith("/_explain");
   }
 
+  /**
+   * Check if explain request is to execute the query and explain it with runtime metrics.
+   *
+   * @return true if profile is enabled in request payload
+   */
+  public boolean isProfileRequest() {
+    return jsonContent != null && jsonContent.optBoolean(QUERY_FIELD_PROFILE);
+  }
+
   /** Decide on the formatter by the requested format. */
   public Format format() {
     Optional<Format> optionalFormat = Format.of(format);
@@ -8,7 +8,9 @@ package org.opensearch.sql.ppl;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import org.junit.After;
 import org.junit.Assert;
@@ -18,6 +20,8 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.common.utils.QueryContext;
+import org.opensearch.sql.common.utils.QueryPhaseTimer;
 import org.opensearch.sql.executor.DefaultQueryManager;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
@@ -130,6 +134,41 @@ public class PPLServiceTest {
         });
   }
 
+  @Test
+  public void testOnlyPhasesOfExecutedQueryRecorded() {
+    List<String> records = new ArrayList<>();
+    QueryPhaseTimer.setRecorder((language, phase, nanos) -> records.add(language + ":" + phase));
+    try {
+      pplService.explain(
+          new PPLQueryRequest("search source=t a=1", null, EXPLAIN),
+          new ResponseListener<ExplainResponse>() {
+            @Override
+            public void onResponse(ExplainResponse pplQueryResponse) {}
+
+            @Override
+            public void onFailure(Exception e) {
+              Assert.fail();
+            }
+          });
+      pplService.execute(
+          new PPLQueryRequest("search source=t a=1", null, QUERY),
+          new ResponseListener<QueryResponse>() {
+            @Override
+            public void onResponse(QueryResponse pplQueryResponse) {}
+
+            @Override
+            public void onFailure(Exception e) {
+              Assert.fail();
+            }
+          });
+    } finally {
+      QueryPhaseTimer.setRecorder(null);
+    }
+
+    Assert.assertEquals(List.of("ppl:PARSE"), records);
+    Assert.assertNull(QueryContext.getQueryLanguage());
+  }
+
   @Test
   public void testExecuteWithIllegalQueryShouldBeCaughtByHandler() {
     pplService.execute(
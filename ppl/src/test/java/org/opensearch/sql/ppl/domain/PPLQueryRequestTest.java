@@ -6,8 +6,10 @@
 package org.opensearch.sql.ppl.domain;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import org.json.JSONObject;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -29,6 +31,17 @@ public class PPLQueryRequestTest {
     assertTrue(request.isExplainRequest());
   }
 
+  @Test
+  public void testProfileRequest() {
+    PPLQueryRequest request =
+        new PPLQueryRequest(
+            "source=t a=1",
+            new JSONObject("{\"query\": \"source=t a=1\", \"profile\": true}"),
+            "/_plugins/_ppl/_explain");
+    assertTrue(request.isProfileRequest());
+    assertFalse(new PPLQueryRequest("source=t a=1", null, "/_plugins/_ppl").isProfileRequest());
+  }
+
   @Test
   public void testDefaultFormat() {
     PPLQueryRequest request = new PPLQueryRequest("source=test", null, "/_plugins/_ppl");
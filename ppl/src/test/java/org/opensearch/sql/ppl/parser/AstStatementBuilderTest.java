@@ -52,6 +52,20 @@ public class AstStatementBuilderTest {
                 0)));
   }
 
+  @Test
+  public void buildExplainStatementWithProfile() {
+    Node actualPlan =
+        new AstStatementBuilder(
+                new AstBuilder(new AstExpressionBuilder(), "search source=t"),
+                AstStatementBuilder.StatementBuilderContext.builder()
+                    .isExplain(true)
+                    .isProfile(true)
+                    .build())
+            .visit(parser.parse("search source=t"));
+    assertEquals(
+        new Explain(new Query(project(relation("t"), AllFields.of()), 0), true), actualPlan);
+  }
+
   private void assertEqual(String query, Statement expectedStatement) {
     Node actualPlan = plan(query, false);
     assertEquals(expectedStatement, actualPlan);
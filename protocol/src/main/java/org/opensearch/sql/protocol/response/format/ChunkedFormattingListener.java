@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ChunkedResponseListener;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.protocol.response.QueryResult;
+
+/**
+ * Chunked query response listener that formats each chunk of rows as soon as it arrives, and
+ * hands over the whole formatted content to the next listener at the end.
+ */
+@RequiredArgsConstructor
+public class ChunkedFormattingListener implements ChunkedResponseListener {
+
+  private final ChunkedResponseFormatter formatter;
+
+  /** Listener of the formatted content. */
+  private final ResponseListener<String> next;
+
+  private Schema schema;
+
+  private ChunkedResponseFormatter.ChunkWriter writer;
+
+  @Override
+  public void onSchema(Schema schema) {
+    this.schema = schema;
+    this.writer = formatter.createWriter(schema);
+  }
+
+  @Override
+  public void onChunk(List<ExprValue> rows) {
+    writer.write(new QueryResult(schema, rows));
+  }
+
+  @Override
+  public void onComplete(Cursor cursor) {
+    String content = writer.finish(cursor);
+    writer = null;
+    next.onResponse(content);
+  }
+
+  @Override
+  public void onFailure(Exception e) {
+    writer = null;
+    next.onFailure(e);
+  }
+}
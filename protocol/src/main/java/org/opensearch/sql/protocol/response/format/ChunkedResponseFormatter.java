@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.protocol.response.QueryResult;
+
+/**
+ * Response formatter which is able to format query result chunk by chunk as rows are produced, so
+ * that the rows of a chunk can be released once formatted rather than held until the last one.
+ */
+public interface ChunkedResponseFormatter extends ResponseFormatter<QueryResult> {
+
+  /**
+   * Create a writer to format one query result.
+   *
+   * @param schema schema of the query result
+   * @return chunk writer
+   */
+  ChunkWriter createWriter(ExecutionEngine.Schema schema);
+
+  /** Writer that accumulates formatted chunks of one query result. */
+  interface ChunkWriter {
+
+    /**
+     * Format a chunk of result rows.
+     *
+     * @param chunk query result with rows of current chunk
+     */
+    void write(QueryResult chunk);
+
+    /**
+     * Finish formatting.
+     *
+     * @param cursor cursor of the query result
+     * @return whole formatted content
+     */
+    String finish(Cursor cursor);
+  }
+}
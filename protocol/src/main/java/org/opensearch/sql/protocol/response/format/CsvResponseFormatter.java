@@ -5,10 +5,11 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 /** Response formatter to format response to csv format. */
-public class CsvResponseFormatter implements ResponseFormatter<QueryResult> {
+public class CsvResponseFormatter implements ChunkedResponseFormatter {
   public static final String CONTENT_TYPE = "plain/text; charset=UTF-8";
   private final String separator;
   private final boolean sanitize;
@@ -37,6 +38,15 @@ public class CsvResponseFormatter implements ResponseFormatter<QueryResult> {
     return flatResponse.format();
   }
 
+  @Override
+  public ChunkWriter createWriter(ExecutionEngine.Schema schema) {
+    if (sanitize) {
+      return new FlatChunkWriter(schema, chunk -> new FlatResponseWithSanitizer(chunk, separator));
+    } else {
+      return new FlatChunkWriter(schema, chunk -> new FlatResponseBase(chunk, separator));
+    }
+  }
+
   @Override
   public String format(Throwable t) {
     return ErrorFormatter.prettyFormat(t);
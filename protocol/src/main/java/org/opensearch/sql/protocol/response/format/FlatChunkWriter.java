@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import java.util.List;
+import java.util.function.Function;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.pagination.Cursor;
+import org.opensearch.sql.protocol.response.QueryResult;
+
+/**
+ * Chunk writer for flat response formats. Each chunk is formatted into lines right away and the
+ * lines are joined exactly the same way as {@link FlatResponseBase#format()}.
+ */
+class FlatChunkWriter implements ChunkedResponseFormatter.ChunkWriter {
+
+  /** Creates flat response of given format for a chunk. */
+  private final Function<QueryResult, FlatResponseBase> flatResponseFactory;
+
+  /** Formatted content so far. */
+  private final StringBuilder content;
+
+  FlatChunkWriter(
+      ExecutionEngine.Schema schema, Function<QueryResult, FlatResponseBase> flatResponseFactory) {
+    this.flatResponseFactory = flatResponseFactory;
+    FlatResponseBase header = flatResponseFactory.apply(new QueryResult(schema, List.of()));
+    this.content = new StringBuilder(header.getHeaderLine());
+  }
+
+  @Override
+  public void write(QueryResult chunk) {
+    for (String line : flatResponseFactory.apply(chunk).getDataLines()) {
+      content.append(FlatResponseBase.INTERLINE_SEPARATOR).append(line);
+    }
+  }
+
+  @Override
+  public String finish(Cursor cursor) {
+    return content.toString();
+  }
+}
@@ -30,6 +30,14 @@ public class FlatResponseBase {
     this.data = getOriginalData(response);
   }
 
+  /** Constructor with headers and data lines already formatted, for example chunk by chunk. */
+  FlatResponseBase(List<String> headers, List<List<String>> data, String separator) {
+    this.response = null;
+    this.separator = separator;
+    this.headers = headers;
+    this.data = data;
+  }
+
   public String format() {
     List<String> headersAndData = new ArrayList<>();
     headersAndData.add(getHeaderLine());
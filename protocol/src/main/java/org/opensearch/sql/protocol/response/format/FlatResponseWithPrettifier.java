@@ -5,9 +5,12 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 public class FlatResponseWithPrettifier extends FlatResponseBase {
@@ -18,6 +21,12 @@ public class FlatResponseWithPrettifier extends FlatResponseBase {
     calculateMaxWidths();
   }
 
+  FlatResponseWithPrettifier(
+      List<String> headers, List<List<String>> data, String inlineSeparator) {
+    super(headers, data, inlineSeparator);
+    calculateMaxWidths();
+  }
+
   private void calculateMaxWidths() {
     int columns = getHeaders().size();
     maxWidths = new int[columns];
@@ -50,4 +59,30 @@ public class FlatResponseWithPrettifier extends FlatResponseBase {
   private String padRight(String s, int n) {
     return String.format("%-" + n + "s", s);
   }
+
+  /**
+   * Chunk writer for pretty format. Column widths are only known after the last chunk, so the
+   * cells of each chunk are kept as strings and padded on finish.
+   */
+  static class ChunkWriter implements ChunkedResponseFormatter.ChunkWriter {
+    private final String separator;
+    private final List<String> headers;
+    private final List<List<String>> data = new ArrayList<>();
+
+    ChunkWriter(ExecutionEngine.Schema schema, String separator) {
+      this.separator = separator;
+      this.headers =
+          new FlatResponseBase(new QueryResult(schema, List.of()), separator).getHeaders();
+    }
+
+    @Override
+    public void write(QueryResult chunk) {
+      data.addAll(new FlatResponseBase(chunk, separator).getData());
+    }
+
+    @Override
+    public String finish(Cursor cursor) {
+      return new FlatResponseWithPrettifier(headers, data, separator).format();
+    }
+  }
 }
@@ -5,6 +5,7 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import java.util.ArrayList;
 import java.util.List;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,7 +25,8 @@ import org.opensearch.sql.protocol.response.QueryResult;
  * avoid impact on client side. The only difference is a new "version" that indicates the response
  * was produced by new query engine.
  */
-public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult> {
+public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult>
+    implements ChunkedResponseFormatter {
 
   public JdbcResponseFormatter(Style style) {
     super(style);
@@ -32,21 +34,46 @@ public class JdbcResponseFormatter extends JsonResponseFormatter<QueryResult> {
 
   @Override
   protected Object buildJsonObject(QueryResult response) {
+    return buildJsonObject(response.getSchema(), fetchDataRows(response), response.getCursor());
+  }
+
+  private Object buildJsonObject(Schema schema, Object[][] dataRows, Cursor cursor) {
     JdbcResponse.JdbcResponseBuilder json = JdbcResponse.builder();
 
     // Fetch schema and data rows
-    response.getSchema().getColumns().forEach(col -> json.column(fetchColumn(col)));
-    json.datarows(fetchDataRows(response));
+    schema.getColumns().forEach(col -> json.column(fetchColumn(col)));
+    json.datarows(dataRows);
 
     // Populate other fields
-    json.total(response.size()).size(response.size()).status(200);
-    if (!response.getCursor().equals(Cursor.None)) {
-      json.cursor(response.getCursor().toString());
+    json.total(dataRows.length).size(dataRows.length).status(200);
+    if (!cursor.equals(Cursor.None)) {
+      json.cursor(cursor.toString());
     }
 
     return json.build();
   }
 
+  /**
+   * Convert each chunk to data rows right away. JSON has to be generated at once on finish, but
+   * data rows are much more compact than the result rows they are converted from.
+   */
+  @Override
+  public ChunkWriter createWriter(Schema schema) {
+    return new ChunkWriter() {
+      private final List<Object[]> dataRows = new ArrayList<>();
+
+      @Override
+      public void write(QueryResult chunk) {
+        chunk.forEach(dataRows::add);
+      }
+
+      @Override
+      public String finish(Cursor cursor) {
+        return jsonify(buildJsonObject(schema, dataRows.toArray(new Object[0][]), cursor));
+      }
+    };
+  }
+
   @Override
   public String format(Throwable t) {
     int status = getStatus(t);
@@ -5,10 +5,11 @@
 
 package org.opensearch.sql.protocol.response.format;
 
+import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 /** Response formatter to format response to raw format. */
-public class RawResponseFormatter implements ResponseFormatter<QueryResult> {
+public class RawResponseFormatter implements ChunkedResponseFormatter {
   public static final String CONTENT_TYPE = "plain/text; charset=UTF-8";
   private final String separator;
   private final boolean pretty;
@@ -43,6 +44,15 @@ public class RawResponseFormatter implements ResponseFormatter<QueryResult> {
     return flatResponse.format();
   }
 
+  @Override
+  public ChunkWriter createWriter(ExecutionEngine.Schema schema) {
+    if (pretty) {
+      return new FlatResponseWithPrettifier.ChunkWriter(schema, separator);
+    } else {
+      return new FlatChunkWriter(schema, chunk -> new FlatResponseBase(chunk, separator));
+    }
+  }
+
   @Override
   public String format(Throwable t) {
     return ErrorFormatter.prettyFormat(t);
@@ -18,9 +18,11 @@ import static org.opensearch.sql.protocol.response.format.CsvResponseFormatter.C
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 /** Unit test for {@link CsvResponseFormatter}. */
@@ -45,6 +47,34 @@ public class CsvResponseFormatterTest {
     assertEquals(format(expected), formatter.format(response));
   }
 
+  @Test
+  void formatResponseInChunks() {
+    ExecutionEngine.Schema schema =
+        new ExecutionEngine.Schema(
+            ImmutableList.of(
+                new ExecutionEngine.Schema.Column("name", "name", STRING),
+                new ExecutionEngine.Schema.Column("age", "age", INTEGER)));
+    ChunkedResponseFormatter.ChunkWriter writer = formatter.createWriter(schema);
+    writer.write(
+        new QueryResult(schema, List.of(tupleValue(ImmutableMap.of("name", "John", "age", 20)))));
+    writer.write(
+        new QueryResult(
+            schema,
+            List.of(
+                tupleValue(ImmutableMap.of("name", "Smith", "age", 30)),
+                tupleValue(ImmutableMap.of("name", "=Jane", "age", 40)))));
+    String expected = "name,age%nJohn,20%nSmith,30%n'=Jane,40";
+    assertEquals(format(expected), writer.finish(Cursor.None));
+  }
+
+  @Test
+  void formatEmptyResponseInChunks() {
+    ExecutionEngine.Schema schema =
+        new ExecutionEngine.Schema(
+            ImmutableList.of(new ExecutionEngine.Schema.Column("name", "name", STRING)));
+    assertEquals("name", formatter.createWriter(schema).finish(Cursor.None));
+  }
+
   @Test
   void sanitizeHeaders() {
     ExecutionEngine.Schema schema =
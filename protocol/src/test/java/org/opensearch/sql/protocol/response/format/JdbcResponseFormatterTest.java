@@ -93,6 +93,34 @@ class JdbcResponseFormatterTest {
         formatter.format(response));
   }
 
+  @Test
+  void format_response_in_chunks() {
+    Schema schema =
+        new Schema(
+            ImmutableList.of(
+                new Column("name", "name", STRING), new Column("age", "age", INTEGER)));
+    ChunkedResponseFormatter.ChunkWriter writer = formatter.createWriter(schema);
+    writer.write(
+        new QueryResult(
+            schema, ImmutableList.of(tupleValue(ImmutableMap.of("name", "John", "age", 20)))));
+    writer.write(
+        new QueryResult(
+            schema, ImmutableList.of(tupleValue(ImmutableMap.of("name", "Smith", "age", 30)))));
+
+    assertJsonEquals(
+        "{"
+            + "\"schema\":["
+            + "{\"name\":\"name\",\"alias\":\"name\",\"type\":\"keyword\"},"
+            + "{\"name\":\"age\",\"alias\":\"age\",\"type\":\"integer\"}"
+            + "],"
+            + "\"datarows\":[[\"John\",20],[\"Smith\",30]],"
+            + "\"total\":2,"
+            + "\"size\":2,"
+            + "\"cursor\":\"test_cursor\","
+            + "\"status\":200}",
+        writer.finish(new Cursor("test_cursor")));
+  }
+
   @Test
   void format_response_with_cursor() {
     QueryResult response =
@@ -18,9 +18,11 @@ import static org.opensearch.sql.protocol.response.format.RawResponseFormatter.C
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.protocol.response.QueryResult;
 
 /** Unit test for {@link RawResponseFormatter}. */
@@ -45,6 +47,32 @@ public class RawResponseFormatterTest {
     assertEquals(format(expectedPretty), getRawFormatterPretty().format(response));
   }
 
+  @Test
+  void formatResponseInChunks() {
+    ExecutionEngine.Schema schema =
+        new ExecutionEngine.Schema(
+            ImmutableList.of(
+                new ExecutionEngine.Schema.Column("name", "name", STRING),
+                new ExecutionEngine.Schema.Column("age", "age", INTEGER)));
+    QueryResult firstChunk =
+        new QueryResult(schema, List.of(tupleValue(ImmutableMap.of("name", "John", "age", 20))));
+    QueryResult secondChunk =
+        new QueryResult(schema, List.of(tupleValue(ImmutableMap.of("name", "Smith", "age", 30))));
+
+    ChunkedResponseFormatter.ChunkWriter writer = getRawFormatter().createWriter(schema);
+    writer.write(firstChunk);
+    writer.write(secondChunk);
+    String expected = "name|age%n" + "John|20%n" + "Smith|30";
+    assertEquals(format(expected), writer.finish(Cursor.None));
+
+    ChunkedResponseFormatter.ChunkWriter prettyWriter =
+        getRawFormatterPretty().createWriter(schema);
+    prettyWriter.write(firstChunk);
+    prettyWriter.write(secondChunk);
+    String expectedPretty = "name |age%n" + "John |20 %n" + "Smith|30 ";
+    assertEquals(format(expectedPretty), prettyWriter.finish(Cursor.None));
+  }
+
   @Test
   void sanitizeHeaders() {
     ExecutionEngine.Schema schema =
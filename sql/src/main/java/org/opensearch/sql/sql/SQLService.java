@@ -5,11 +5,15 @@
 
 package org.opensearch.sql.sql;
 
+import static org.opensearch.sql.common.utils.QueryPhase.PARSE;
+
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.opensearch.sql.ast.statement.Statement;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.common.utils.QueryContext;
+import org.opensearch.sql.common.utils.QueryPhaseTimer;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 import org.opensearch.sql.executor.QueryManager;
@@ -24,6 +28,9 @@ import org.opensearch.sql.sql.parser.AstStatementBuilder;
 @RequiredArgsConstructor
 public class SQLService {
 
+  /** Query language recorded in {@link QueryContext} for metrics. */
+  private static final String QUERY_LANGUAGE = "sql";
+
   private final SQLSyntaxParser parser;
 
   private final QueryManager queryManager;
@@ -37,10 +44,14 @@ public class SQLService {
    * @param listener callback listener
    */
   public void execute(SQLQueryRequest request, ResponseListener<QueryResponse> listener) {
+    // Only phases of executed queries are timed, explain is not recorded into the same metrics
+    QueryContext.setQueryLanguage(QUERY_LANGUAGE);
     try {
       queryManager.submit(plan(request, Optional.of(listener), Optional.empty()));
     } catch (Exception e) {
       listener.onFailure(e);
+    } finally {
+      QueryContext.clearQueryLanguage();
     }
   }
 
@@ -81,17 +92,21 @@ public class SQLService {
           explainListener.orElse(null));
     } else {
       // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST)
-      ParseTree cst = parser.parse(request.getQuery());
-      Statement statement =
-          cst.accept(
-              new AstStatementBuilder(
-                  new AstBuilder(request.getQuery()),
-                  AstStatementBuilder.StatementBuilderContext.builder()
-                      .isExplain(isExplainRequest)
-                      .fetchSize(request.getFetchSize())
-                      .build()));
+      Statement statement = QueryPhaseTimer.time(PARSE, () -> parse(request));
 
       return queryExecutionFactory.create(statement, queryListener, explainListener);
     }
   }
+
+  private Statement parse(SQLQueryRequest request) {
+    ParseTree cst = parser.parse(request.getQuery());
+    return cst.accept(
+        new AstStatementBuilder(
+            new AstBuilder(request.getQuery()),
+            AstStatementBuilder.StatementBuilderContext.builder()
+                .isExplain(request.isExplainRequest())
+                .isProfile(request.isProfileRequest())
+                .fetchSize(request.getFetchSize())
+                .build()));
+  }
 }
@@ -7,11 +7,14 @@ package org.opensearch.sql.sql;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.json.JSONObject;
@@ -24,6 +27,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.common.utils.QueryContext;
+import org.opensearch.sql.common.utils.QueryPhaseTimer;
 import org.opensearch.sql.executor.DefaultQueryManager;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
@@ -192,6 +197,41 @@ class SQLServiceTest {
         });
   }
 
+  @Test
+  public void only_phases_of_executed_query_recorded() {
+    List<String> records = new ArrayList<>();
+    QueryPhaseTimer.setRecorder((language, phase, nanos) -> records.add(language + ":" + phase));
+    try {
+      sqlService.explain(
+          new SQLQueryRequest(new JSONObject(), "SELECT 123", EXPLAIN, "jdbc"),
+          new ResponseListener<ExplainResponse>() {
+            @Override
+            public void onResponse(ExplainResponse response) {}
+
+            @Override
+            public void onFailure(Exception e) {
+              fail(e);
+            }
+          });
+      sqlService.execute(
+          new SQLQueryRequest(new JSONObject(), "SELECT 123", QUERY, "jdbc"),
+          new ResponseListener<>() {
+            @Override
+            public void onResponse(QueryResponse response) {}
+
+            @Override
+            public void onFailure(Exception e) {
+              fail(e);
+            }
+          });
+    } finally {
+      QueryPhaseTimer.setRecorder(null);
+    }
+
+    assertEquals(List.of("sql:PARSE"), records);
+    assertNull(QueryContext.getQueryLanguage());
+  }
+
   @Test
   public void cannot_explain_cursor_query() {
     sqlService.explain(